@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.internal.serialization.impl.compact.SchemaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SerializationServiceV1#toData(Object)} and
+ * {@link SerializationServiceV1#toObject(Object)} for the value types that
+ * dominate IMap traffic.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationServiceBenchmark {
+
+    private static final int BYTE_ARRAY_LENGTH = 256;
+    private static final int MAP_SIZE = 16;
+
+    @Param({"string", "long", "bytes", "hashMap", "compact"})
+    String type;
+
+    private InternalSerializationService serializationService;
+    private Object object;
+    private Data data;
+
+    @Setup
+    public void setup() {
+        serializationService = new DefaultSerializationServiceBuilder()
+                .setSchemaService(new InMemorySchemaService())
+                .build();
+        object = createObject(type);
+        data = serializationService.toData(object);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializationService.dispose();
+    }
+
+    @Benchmark
+    public Data toData() {
+        return serializationService.toData(object);
+    }
+
+    @Benchmark
+    public Object toObject() {
+        return serializationService.toObject(data);
+    }
+
+    private static Object createObject(String type) {
+        switch (type) {
+            case "string":
+                return "some-moderately-long-string-value-0123456789";
+            case "long":
+                return Long.MAX_VALUE;
+            case "bytes":
+                return new byte[BYTE_ARRAY_LENGTH];
+            case "hashMap":
+                Map<String, Integer> map = new HashMap<>();
+                for (int i = 0; i < MAP_SIZE; i++) {
+                    map.put("key-" + i, i);
+                }
+                return map;
+            case "compact":
+                return new Employee("John Doe", Integer.MAX_VALUE, Double.MAX_VALUE);
+            default:
+                throw new IllegalArgumentException("Unknown type: " + type);
+        }
+    }
+
+    /**
+     * Serialized with zero-config Compact serialization.
+     */
+    public static class Employee {
+        private String name;
+        private int age;
+        private double salary;
+
+        public Employee() {
+        }
+
+        Employee(String name, int age, double salary) {
+            this.name = name;
+            this.age = age;
+            this.salary = salary;
+        }
+    }
+
+    /**
+     * Member-local schema registry, there is no cluster to replicate schemas to.
+     */
+    private static final class InMemorySchemaService implements SchemaService {
+        private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+
+        @Override
+        public Schema get(long schemaId) {
+            return schemas.get(schemaId);
+        }
+
+        @Override
+        public void put(Schema schema) {
+            putLocal(schema);
+        }
+
+        @Override
+        public void putLocal(Schema schema) {
+            schemas.putIfAbsent(schema.getSchemaId(), schema);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketIOHelper;
+import com.hazelcast.internal.util.counters.SwCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the member-to-member framing done by {@link PacketEncoder} and
+ * {@link PacketDecoder}, without any socket involved: the encoder writes
+ * {@link #BATCH} packets into a socket-sized buffer and the decoder reads
+ * them back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketFramingBenchmark {
+
+    private static final int BATCH = 64;
+    private static final int BUFFER_SIZE = 1 << 21;
+
+    @Param({"64", "1024", "16384"})
+    int payloadSize;
+
+    private PacketEncoder encoder;
+    private PacketDecoder decoder;
+    private PacketBatchSupplier packetSupplier;
+    private ByteBuffer encoded;
+    private ByteBuffer decoderSrc;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        Packet packet = new Packet(new byte[payloadSize], 1);
+
+        packetSupplier = new PacketBatchSupplier(packet);
+        encoder = new PacketEncoder();
+        encoder.src(packetSupplier);
+        ByteBuffer dst = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        dst.flip();
+        encoder.dst(dst);
+
+        decoder = new PacketDecoder(null, this::consume);
+        decoder.setNormalPacketsRead(SwCounter.newSwCounter());
+        decoder.setPriorityPacketsRead(SwCounter.newSwCounter());
+        decoderSrc = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        decoder.src(decoderSrc);
+
+        encoded = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        PacketIOHelper writer = new PacketIOHelper();
+        for (int i = 0; i < BATCH; i++) {
+            if (!writer.writeTo(packet, encoded)) {
+                throw new IllegalStateException("Buffer too small for " + BATCH + " packets");
+            }
+        }
+        encoded.flip();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object encode() {
+        // pretend the socket consumed everything written by the previous invocation
+        ByteBuffer dst = encoder.dst();
+        dst.position(dst.limit());
+        packetSupplier.remaining = BATCH;
+        return encoder.onWrite();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object decode() throws Exception {
+        decoderSrc.put(encoded.duplicate());
+        return decoder.onRead();
+    }
+
+    private void consume(Packet packet) {
+        blackhole.consume(packet);
+    }
+
+    private static final class PacketBatchSupplier implements Supplier<Packet> {
+        private final Packet packet;
+        private int remaining;
+
+        PacketBatchSupplier(Packet packet) {
+            this.packet = packet;
+        }
+
+        @Override
+        public Packet get() {
+            if (remaining == 0) {
+                return null;
+            }
+            remaining--;
+            return packet;
+        }
+    }
+}
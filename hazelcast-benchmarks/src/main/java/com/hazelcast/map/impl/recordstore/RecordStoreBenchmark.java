@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceProxy;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.map.impl.record.Record.UNSET;
+
+/**
+ * Measures {@link DefaultRecordStore} get/put/evict directly, bypassing
+ * the invocation and operation layers.
+ * <p>
+ * A record store must only be accessed by its partition thread. The map
+ * used here has no expiration, eviction or MapStore configured, so no
+ * background task touches it and the benchmark thread can safely play
+ * the role of the partition thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class RecordStoreBenchmark {
+
+    private static final String MAP_NAME = "benchmark";
+    private static final int VALUE_SIZE = 100;
+
+    @Param({"100000"})
+    int entryCount;
+
+    @Param({"BINARY", "OBJECT"})
+    InMemoryFormat inMemoryFormat;
+
+    private HazelcastInstance instance;
+    private RecordStore recordStore;
+    private Data[] keys;
+    private Data[] values;
+
+    @Setup
+    public void setup() {
+        Config config = new Config();
+        config.setProperty("hazelcast.phone.home.enabled", "false");
+        config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getMapConfig(MAP_NAME).setInMemoryFormat(inMemoryFormat);
+        instance = Hazelcast.newHazelcastInstance(config);
+
+        NodeEngineImpl nodeEngine = ((HazelcastInstanceProxy) instance).getOriginal().node.getNodeEngine();
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        recordStore = mapService.getMapServiceContext().getRecordStore(0, MAP_NAME);
+
+        InternalSerializationService ss = (InternalSerializationService) nodeEngine.getSerializationService();
+        keys = new Data[entryCount];
+        values = new Data[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            keys[i] = ss.toData("key-" + i);
+            values[i] = ss.toData(new byte[VALUE_SIZE]);
+            recordStore.put(keys[i], values[i], UNSET, UNSET);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public Object get() {
+        return recordStore.get(randomKey(), false, null);
+    }
+
+    @Benchmark
+    public Object put() {
+        int index = randomIndex();
+        return recordStore.put(keys[index], values[index], UNSET, UNSET);
+    }
+
+    @Benchmark
+    public Object evictAndPut() {
+        int index = randomIndex();
+        Object evicted = recordStore.evict(keys[index], false);
+        recordStore.put(keys[index], values[index], UNSET, UNSET);
+        return evicted;
+    }
+
+    private Data randomKey() {
+        return keys[randomIndex()];
+    }
+
+    private int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(entryCount);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.internal.monitor.impl.PerIndexStats;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.query.impl.getters.Extractors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.query.QueryConstants.THIS_ATTRIBUTE_NAME;
+
+/**
+ * Measures lookups on a global {@link IndexImpl}, i.e. on the
+ * {@link OrderedIndexStore} for sorted indexes and the
+ * {@link UnorderedIndexStore} for hash indexes.
+ * <p>
+ * Values are integers in {@code [0, distinctValues)}, so every value maps
+ * to {@code entryCount / distinctValues} entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+
+    private static final int PARTITION_COUNT = 271;
+
+    @Param({"1000000"})
+    int entryCount;
+
+    @Param({"100000"})
+    int distinctValues;
+
+    @Param({"SORTED", "HASH"})
+    IndexType indexType;
+
+    @Param({"10"})
+    int rangeWidth;
+
+    private InternalSerializationService ss;
+    private IndexImpl index;
+
+    @Setup
+    public void setup() {
+        ss = new DefaultSerializationServiceBuilder().build();
+        Extractors extractors = Extractors.newBuilder(ss).build();
+        IndexConfig config = IndexUtils.createTestIndexConfig(indexType, THIS_ATTRIBUTE_NAME.value());
+        index = new IndexImpl(null, config, ss, extractors, IndexCopyBehavior.NEVER, PerIndexStats.EMPTY,
+                PARTITION_COUNT, "benchmark");
+
+        for (int i = 0; i < entryCount; i++) {
+            CachedQueryEntry<?, ?> entry = new CachedQueryEntry<>(ss, ss.toData(i), i % distinctValues, extractors);
+            index.putEntry(entry, null, entry, Index.OperationSource.USER);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        index.destroy();
+        ss.dispose();
+    }
+
+    @Benchmark
+    public Set<QueryableEntry> equality() {
+        return index.getRecords(randomValue());
+    }
+
+    @Benchmark
+    public Set<QueryableEntry> range() {
+        int from = randomValue();
+        return index.getRecords(from, true, from + rangeWidth, false);
+    }
+
+    /**
+     * The batched iterator used by SQL index scans, only sorted indexes
+     * support it.
+     */
+    @Benchmark
+    public void sqlIteratorBatch(Blackhole blackhole) {
+        if (!index.isOrdered()) {
+            blackhole.consume(index.getRecords(randomValue()));
+            return;
+        }
+        Iterator<IndexKeyEntries> iterator = index.getSqlRecordIteratorBatch(randomValue(), false);
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    private int randomValue() {
+        return ThreadLocalRandom.current().nextInt(distinctValues);
+    }
+}
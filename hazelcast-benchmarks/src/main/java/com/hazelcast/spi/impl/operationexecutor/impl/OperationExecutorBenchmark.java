@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceProxy;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.impl.operationexecutor.OperationExecutor;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the cost of handing a task to a partition thread through
+ * {@link OperationExecutorImpl}: offering to the partition queue, waking
+ * up the partition thread and running the task.
+ * <p>
+ * Each invocation dispatches {@link #BATCH} tasks spread over all
+ * partitions and waits until all of them have run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationExecutorBenchmark {
+
+    private static final int BATCH = 1000;
+
+    private HazelcastInstance instance;
+    private OperationExecutor executor;
+    private int partitionCount;
+
+    @Setup
+    public void setup() {
+        Config config = new Config();
+        config.setProperty("hazelcast.phone.home.enabled", "false");
+        config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        instance = Hazelcast.newHazelcastInstance(config);
+
+        OperationServiceImpl operationService = ((HazelcastInstanceProxy) instance).getOriginal()
+                .node.getNodeEngine().getOperationService();
+        executor = operationService.getOperationExecutor();
+        partitionCount = instance.getPartitionService().getPartitions().size();
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int dispatch() {
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < BATCH; i++) {
+            executor.execute(new CountingTask(i % partitionCount, completed));
+        }
+        while (completed.get() != BATCH) {
+            Thread.onSpinWait();
+        }
+        return completed.get();
+    }
+
+    private static final class CountingTask implements PartitionSpecificRunnable {
+        private final int partitionId;
+        private final AtomicInteger completed;
+
+        CountingTask(int partitionId, AtomicInteger completed) {
+            this.partitionId = partitionId;
+            this.completed = completed;
+        }
+
+        @Override
+        public int getPartitionId() {
+            return partitionId;
+        }
+
+        @Override
+        public void run() {
+            completed.incrementAndGet();
+        }
+    }
+}
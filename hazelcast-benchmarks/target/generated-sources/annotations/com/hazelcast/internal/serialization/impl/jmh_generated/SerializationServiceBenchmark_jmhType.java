@@ -0,0 +1,4 @@
+package com.hazelcast.internal.serialization.impl.jmh_generated;
+public class SerializationServiceBenchmark_jmhType extends SerializationServiceBenchmark_jmhType_B3 {
+}
+
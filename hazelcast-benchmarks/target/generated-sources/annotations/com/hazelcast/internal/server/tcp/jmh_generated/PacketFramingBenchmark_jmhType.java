@@ -0,0 +1,4 @@
+package com.hazelcast.internal.server.tcp.jmh_generated;
+public class PacketFramingBenchmark_jmhType extends PacketFramingBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.hazelcast.map.impl.recordstore.jmh_generated;
+public class RecordStoreBenchmark_jmhType extends RecordStoreBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.hazelcast.query.impl.jmh_generated;
+public class IndexBenchmark_jmhType extends IndexBenchmark_jmhType_B3 {
+}
+
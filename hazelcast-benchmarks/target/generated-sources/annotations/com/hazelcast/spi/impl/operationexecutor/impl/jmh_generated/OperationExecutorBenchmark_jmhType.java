@@ -0,0 +1,4 @@
+package com.hazelcast.spi.impl.operationexecutor.impl.jmh_generated;
+public class OperationExecutorBenchmark_jmhType extends OperationExecutorBenchmark_jmhType_B3 {
+}
+
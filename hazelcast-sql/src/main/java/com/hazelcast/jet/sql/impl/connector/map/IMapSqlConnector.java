@@ -62,7 +62,6 @@ import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.schema.BadTable;
-import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
 import com.hazelcast.sql.impl.schema.MappingField;
 import com.hazelcast.sql.impl.schema.Table;
 import com.hazelcast.sql.impl.schema.TableField;
@@ -91,6 +90,7 @@ import static com.hazelcast.spi.properties.ClusterProperty.SQL_TSTORE_ENABLED;
 import static com.hazelcast.sql.impl.QueryUtils.getMapContainer;
 import static com.hazelcast.sql.impl.QueryUtils.quoteCompoundIdentifier;
 import static com.hazelcast.sql.impl.schema.map.MapTableUtils.estimatePartitionedMapRowCount;
+import static com.hazelcast.sql.impl.schema.map.MapTableUtils.getPartitionedMapStatistics;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -190,7 +190,7 @@ public class IMapSqlConnector implements SqlConnector {
                 mappingName,
                 mapName,
                 fields,
-                new ConstantTableStatistics(estimatedRowCount),
+                getPartitionedMapStatistics(container, fields, estimatedRowCount),
                 keyMetadata.getQueryTargetDescriptor(),
                 valueMetadata.getQueryTargetDescriptor(),
                 keyMetadata.getUpsertTargetDescriptor(),
@@ -17,24 +17,27 @@
 package com.hazelcast.jet.sql.impl.connector.map;
 
 import com.hazelcast.cluster.Address;
-import com.hazelcast.function.FunctionEx;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Inbox;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.core.ProcessorSupplier;
-import com.hazelcast.jet.impl.processor.TransformP;
+import com.hazelcast.jet.impl.util.Util;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
 import com.hazelcast.jet.sql.impl.JetJoinInfo;
+import com.hazelcast.jet.sql.impl.ObjectArrayKey;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
 import com.hazelcast.map.impl.proxy.MapProxyImpl;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
 import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.security.permission.MapPermission;
-import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.row.JetSqlRow;
@@ -46,14 +49,14 @@ import java.io.IOException;
 import java.security.Permission;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
 
-import static com.hazelcast.jet.Traversers.empty;
-import static com.hazelcast.jet.Traversers.singleton;
 import static com.hazelcast.jet.Traversers.traverseIterable;
 import static com.hazelcast.security.permission.ActionConstants.ACTION_CREATE;
 import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
@@ -65,6 +68,13 @@ import static java.util.Collections.singletonList;
 )
 final class JoinByEquiJoinProcessorSupplier implements ProcessorSupplier, DataSerializable {
 
+    /**
+     * The maximum number of left rows whose matching entries are fetched
+     * from the map with a single query.
+     */
+    public static final HazelcastProperty BATCH_SIZE_PROPERTY
+            = new HazelcastProperty("hazelcast.sql.join.lookup.batch.size", 128);
+
     private JetJoinInfo joinInfo;
     private String mapName;
     private int partitionCount;
@@ -74,6 +84,7 @@ final class JoinByEquiJoinProcessorSupplier implements ProcessorSupplier, DataSe
     private transient MapProxyImpl<Object, Object> map;
     private transient ExpressionEvalContext evalContext;
     private transient Extractors extractors;
+    private transient int batchSize;
 
     @SuppressWarnings("unused")
     private JoinByEquiJoinProcessorSupplier() {
@@ -100,6 +111,7 @@ final class JoinByEquiJoinProcessorSupplier implements ProcessorSupplier, DataSe
         map = (MapProxyImpl<Object, Object>) context.hazelcastInstance().getMap(mapName);
         evalContext = ExpressionEvalContext.from(context);
         extractors = Extractors.newBuilder(evalContext.getSerializationService()).build();
+        batchSize = Util.getNodeEngine(context.hazelcastInstance()).getProperties().getInteger(BATCH_SIZE_PROPERTY);
     }
 
     @Nonnull
@@ -112,72 +124,11 @@ final class JoinByEquiJoinProcessorSupplier implements ProcessorSupplier, DataSe
                     : new PartitionIdSet(partitionCount, this.partitions);
             QueryPath[] rightPaths = rightRowProjectorSupplier.paths();
             KvRowProjector rightProjector = rightRowProjectorSupplier.get(evalContext, extractors);
-            Processor processor = new TransformP<>(
-                    joinFn(joinInfo, map, partitions, rightPaths, rightProjector, evalContext)
-            ) {
-                @Override
-                public boolean isCooperative() {
-                    return false;
-                }
-            };
-            processors.add(processor);
+            processors.add(new JoinByEquiJoinP(joinInfo, map, partitions, rightPaths, rightProjector, evalContext, batchSize));
         }
         return processors;
     }
 
-    private static FunctionEx<JetSqlRow, Traverser<JetSqlRow>> joinFn(
-            JetJoinInfo joinInfo,
-            MapProxyImpl<Object, Object> map,
-            PartitionIdSet partitions,
-            QueryPath[] rightPaths,
-            KvRowProjector rightRowProjector,
-            ExpressionEvalContext evalContext
-    ) {
-        return left -> {
-            Predicate<Object, Object> predicate = QueryUtil.toPredicate(
-                    left,
-                    joinInfo.leftEquiJoinIndices(),
-                    joinInfo.rightEquiJoinIndices(),
-                    rightPaths
-            );
-            if (predicate == null) {
-                return joinInfo.isInner()
-                        ? empty()
-                        : singleton(left.extendedRow(rightRowProjector.getColumnCount()));
-            }
-
-            Set<Entry<Object, Object>> matchingRows = joinInfo.isInner()
-                    ? map.entrySet(predicate, partitions.copy())
-                    : map.entrySet(predicate);
-            List<JetSqlRow> joined = join(left, matchingRows, rightRowProjector, joinInfo.nonEquiCondition(), evalContext);
-            return joined.isEmpty() && joinInfo.isLeftOuter()
-                    ? singleton(left.extendedRow(rightRowProjector.getColumnCount()))
-                    : traverseIterable(joined);
-        };
-    }
-
-    private static List<JetSqlRow> join(
-            JetSqlRow left,
-            Set<Entry<Object, Object>> entries,
-            KvRowProjector rightRowProjector,
-            Expression<Boolean> condition,
-            ExpressionEvalContext evalContext
-    ) {
-        List<JetSqlRow> rows = new ArrayList<>();
-        for (Entry<Object, Object> entry : entries) {
-            JetSqlRow right = rightRowProjector.project(entry.getKey(), entry.getValue());
-            if (right == null) {
-                continue;
-            }
-
-            JetSqlRow joined = ExpressionUtil.join(left, right, condition, evalContext);
-            if (joined != null) {
-                rows.add(joined);
-            }
-        }
-        return rows;
-    }
-
     @Override
     public List<Permission> permissions() {
         return singletonList(new MapPermission(mapName, ACTION_CREATE, ACTION_READ));
@@ -290,4 +241,174 @@ final class JoinByEquiJoinProcessorSupplier implements ProcessorSupplier, DataSe
             rightRowProjectorSupplier = in.readObject();
         }
     }
+
+    /**
+     * Joins the left rows with the matching map entries. The left rows
+     * available in the inbox are taken in batches of up to {@code
+     * batchSize} rows and the entries matching any of them are fetched
+     * with a single query, a disjunction of the equi-join conditions of
+     * the distinct join keys in the batch. The disjunction is evaluated
+     * using the map indexes on the joined attributes, if there are any,
+     * so that large joins neither scan the map per left row nor build a
+     * hash table of the right side.
+     * <p>
+     * The fetched entries are matched to the left rows by the serialized
+     * join key values, same as in the hash join, and the joined rows are
+     * emitted in the order of the left rows.
+     */
+    private static final class JoinByEquiJoinP extends AbstractProcessor {
+
+        private final JetJoinInfo joinInfo;
+        private final MapProxyImpl<Object, Object> map;
+        private final PartitionIdSet partitions;
+        private final QueryPath[] rightPaths;
+        private final KvRowProjector rightRowProjector;
+        private final ExpressionEvalContext evalContext;
+        private final int batchSize;
+        private final int[] rightKeyIndices;
+        private final List<JetSqlRow> batch;
+
+        private Traverser<JetSqlRow> pending;
+
+        private JoinByEquiJoinP(
+                JetJoinInfo joinInfo,
+                MapProxyImpl<Object, Object> map,
+                PartitionIdSet partitions,
+                QueryPath[] rightPaths,
+                KvRowProjector rightRowProjector,
+                ExpressionEvalContext evalContext,
+                int batchSize
+        ) {
+            this.joinInfo = joinInfo;
+            this.map = map;
+            this.partitions = partitions;
+            this.rightPaths = rightPaths;
+            this.rightRowProjector = rightRowProjector;
+            this.evalContext = evalContext;
+            this.batchSize = Math.max(1, batchSize);
+            this.batch = new ArrayList<>(this.batchSize);
+            this.rightKeyIndices = new int[joinInfo.rightEquiJoinIndices().length];
+            for (int i = 0; i < rightKeyIndices.length; i++) {
+                rightKeyIndices[i] = i;
+            }
+        }
+
+        @Override
+        public boolean isCooperative() {
+            return false;
+        }
+
+        @Override
+        public void process(int ordinal, @Nonnull Inbox inbox) {
+            if (!emitPending()) {
+                return;
+            }
+            while (batch.size() < batchSize) {
+                JetSqlRow left = (JetSqlRow) inbox.poll();
+                if (left == null) {
+                    break;
+                }
+                batch.add(left);
+            }
+            pending = traverseIterable(joinBatch());
+            batch.clear();
+            emitPending();
+        }
+
+        @Override
+        public boolean complete() {
+            return emitPending();
+        }
+
+        private boolean emitPending() {
+            if (pending != null && !emitFromTraverser(pending)) {
+                return false;
+            }
+            pending = null;
+            return true;
+        }
+
+        private List<JetSqlRow> joinBatch() {
+            Map<ObjectArrayKey, List<Integer>> leftIndicesByKey = new HashMap<>();
+            List<Predicate<Object, Object>> predicates = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                JetSqlRow left = batch.get(i);
+                // might need a change when/if IS NOT DISTINCT FROM is supported
+                ObjectArrayKey key = ObjectArrayKey.project(left, joinInfo.leftEquiJoinIndices());
+                if (key.containsNull()) {
+                    continue;
+                }
+                List<Integer> leftIndices = leftIndicesByKey.get(key);
+                if (leftIndices == null) {
+                    leftIndices = new ArrayList<>(1);
+                    leftIndicesByKey.put(key, leftIndices);
+                    predicates.add(QueryUtil.toPredicate(
+                            left,
+                            joinInfo.leftEquiJoinIndices(),
+                            joinInfo.rightEquiJoinIndices(),
+                            rightPaths
+                    ));
+                }
+                leftIndices.add(i);
+            }
+
+            List<List<JetSqlRow>> joined = new ArrayList<>(Collections.nCopies(batch.size(), null));
+            if (!predicates.isEmpty()) {
+                for (Entry<Object, Object> entry : entries(predicates)) {
+                    join(entry, leftIndicesByKey, joined);
+                }
+            }
+
+            List<JetSqlRow> rows = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                List<JetSqlRow> leftJoined = joined.get(i);
+                if (leftJoined != null) {
+                    rows.addAll(leftJoined);
+                } else if (joinInfo.isLeftOuter()) {
+                    rows.add(batch.get(i).extendedRow(rightRowProjector.getColumnCount()));
+                }
+            }
+            return rows;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Set<Entry<Object, Object>> entries(List<Predicate<Object, Object>> predicates) {
+            Predicate<Object, Object> predicate = predicates.size() == 1
+                    ? predicates.get(0)
+                    : Predicates.or(predicates.toArray(new Predicate[0]));
+            return joinInfo.isInner()
+                    ? map.entrySet(predicate, partitions.copy())
+                    : map.entrySet(predicate);
+        }
+
+        private void join(Entry<Object, Object> entry, Map<ObjectArrayKey, List<Integer>> leftIndicesByKey,
+                          List<List<JetSqlRow>> joined) {
+            JetSqlRow right = rightRowProjector.project(entry.getKey(), entry.getValue());
+            if (right == null) {
+                return;
+            }
+
+            // the projector still points to the entry, extract its join key
+            int[] rightEquiJoinIndices = joinInfo.rightEquiJoinIndices();
+            Object[] rightKey = new Object[rightEquiJoinIndices.length];
+            for (int i = 0; i < rightEquiJoinIndices.length; i++) {
+                rightKey[i] = rightRowProjector.get(rightEquiJoinIndices[i]);
+            }
+            JetSqlRow rightKeyRow = new JetSqlRow(evalContext.getSerializationService(), rightKey);
+            List<Integer> leftIndices = leftIndicesByKey.get(ObjectArrayKey.project(rightKeyRow, rightKeyIndices));
+            if (leftIndices == null) {
+                return;
+            }
+
+            for (int leftIndex : leftIndices) {
+                JetSqlRow row = ExpressionUtil.join(batch.get(leftIndex), right, joinInfo.nonEquiCondition(), evalContext);
+                if (row != null) {
+                    if (joined.get(leftIndex) == null) {
+                        joined.set(leftIndex, new ArrayList<>());
+                    }
+                    joined.get(leftIndex).add(row);
+                }
+            }
+        }
+    }
 }
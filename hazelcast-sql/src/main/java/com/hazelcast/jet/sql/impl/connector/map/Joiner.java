@@ -66,7 +66,8 @@ final class Joiner {
             // This branch handles the case when there's an equi-join, but not for __key (that was handled above)
             // For example: SELECT * FROM left JOIN right ON left.field1=right.field1
             // In this case we'll construct a com.hazelcast.query.Predicate that will find matching rows using
-            // the `map.entrySet(predicate)` method.
+            // the `map.entrySet(predicate)` method. The left rows are looked up in batches, one query per batch,
+            // which can use the map indexes on the joined fields.
             assert joinInfo.isLeftOuter() || joinInfo.isInner();
             return new VertexWithInputConfig(
                     dag.newUniqueVertex(
@@ -0,0 +1,419 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.expression.codegen;
+
+import com.hazelcast.sql.impl.expression.BiExpression;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.UniExpression;
+import com.hazelcast.sql.impl.expression.VariExpression;
+import com.hazelcast.sql.impl.expression.math.MinusFunction;
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Generates the body of a {@link CompiledCalc} subclass for a filter and a
+ * list of projections.
+ * <p>
+ * Column and constant access, comparisons of numeric and VARCHAR values,
+ * {@code +}, {@code -} and {@code *} on INTEGER, BIGINT, REAL and DOUBLE
+ * values and the boolean connectives are translated to Java code working
+ * with primitive values. Every other expression is evaluated by calling the
+ * interpreter. The generated code follows the semantics of the interpreted
+ * expressions, including the order of evaluation and short-circuiting.
+ * <p>
+ * The generated code doesn't depend on the values of constants, hence equal
+ * sources can share the compiled class.
+ */
+final class CalcCodeGenerator {
+
+    private static final String BOOLEAN_TYPE = "java.lang.Boolean";
+
+    private static final Set<Class<?>> LOGICAL_EXPRESSIONS = new HashSet<>(asList(
+            AndPredicate.class,
+            OrPredicate.class,
+            NotPredicate.class,
+            IsNullPredicate.class,
+            IsNotNullPredicate.class
+    ));
+
+    private final StringBuilder code = new StringBuilder();
+    private final List<Expression<?>> expressions = new ArrayList<>();
+    private final List<Object> constants = new ArrayList<>();
+    private int indent;
+    private int variableCount;
+
+    /**
+     * Generates the class body.
+     *
+     * @param predicate   the filter, or {@code null} if there's no filter
+     * @param projections the projections
+     * @return the source of the class body
+     */
+    String generate(@Nullable Expression<Boolean> predicate, List<Expression<?>> projections) {
+        line("public Object[] calc(com.hazelcast.sql.impl.row.Row row, "
+                + "com.hazelcast.sql.impl.expression.ExpressionEvalContext context) {");
+        indent++;
+        if (predicate != null) {
+            Value filter = generateTop(predicate);
+            line("if (!" + BOOLEAN_TYPE + ".TRUE.equals(" + filter.asBoolean() + ")) {");
+            line("    return null;");
+            line("}");
+        }
+        line("Object[] result = new Object[" + projections.size() + "];");
+        for (int i = 0; i < projections.size(); i++) {
+            Value projection = generateTop(projections.get(i));
+            line("result[" + i + "] = " + projection.boxed() + ";");
+        }
+        line("return result;");
+        indent--;
+        line("}");
+        return code.toString();
+    }
+
+    /**
+     * Expressions evaluated by the interpreter, in the order they are referred
+     * to by the generated code.
+     */
+    Expression<?>[] expressions() {
+        return expressions.toArray(new Expression<?>[0]);
+    }
+
+    /**
+     * Constants in the order they are referred to by the generated code.
+     */
+    Object[] constants() {
+        return constants.toArray();
+    }
+
+    private Value generateTop(Expression<?> expression) {
+        if (isColumn(expression) || isCompiled(expression)) {
+            return generate(expression);
+        }
+        return interpreted(expression, "evalTop");
+    }
+
+    private Value generate(Expression<?> expression) {
+        if (isColumn(expression)) {
+            return object("row.get(" + ((ColumnExpression<?>) expression).getIndex() + ", false)");
+        } else if (expression instanceof ConstantExpression) {
+            constants.add(((ConstantExpression<?>) expression).getValue());
+            return object("constants[" + (constants.size() - 1) + "]");
+        } else if (isCompiledComparison(expression)) {
+            return comparison((ComparisonPredicate) expression);
+        } else if (isCompiledArithmetic(expression)) {
+            return arithmetic((BiExpression<?>) expression);
+        } else if (expression instanceof AndPredicate || expression instanceof OrPredicate) {
+            return connective(((VariExpression<?>) expression).operands(), expression instanceof AndPredicate);
+        } else if (LOGICAL_EXPRESSIONS.contains(expression.getClass())) {
+            return unary((UniExpression<?>) expression);
+        }
+        return interpreted(expression, "eval");
+    }
+
+    /**
+     * Generates NOT, IS NULL or IS NOT NULL.
+     */
+    private Value unary(UniExpression<?> expression) {
+        Value operand = generate(expression.getOperand());
+        if (expression instanceof NotPredicate) {
+            String operandValue = operand.asBoolean();
+            return bool(operandValue + " == null ? null : " + BOOLEAN_TYPE + ".valueOf(!" + operandValue + ".booleanValue())");
+        }
+        String negation = expression instanceof IsNotNullPredicate ? "!" : "";
+        return bool(BOOLEAN_TYPE + ".valueOf(" + negation + "(" + operand.isNull() + "))");
+    }
+
+    /**
+     * Columns of OBJECT type may hold lazily deserialized values, their
+     * access is left to the interpreter.
+     */
+    private static boolean isColumn(Expression<?> expression) {
+        return expression instanceof ColumnExpression && expression.getType().getTypeFamily() != QueryDataTypeFamily.OBJECT;
+    }
+
+    private static boolean isCompiled(Expression<?> expression) {
+        return isCompiledComparison(expression)
+                || isCompiledArithmetic(expression)
+                || LOGICAL_EXPRESSIONS.contains(expression.getClass());
+    }
+
+    private static boolean isCompiledComparison(Expression<?> expression) {
+        return expression instanceof ComparisonPredicate && comparisonKind((ComparisonPredicate) expression) != null;
+    }
+
+    private static boolean isCompiledArithmetic(Expression<?> expression) {
+        boolean arithmetic = expression instanceof PlusFunction
+                || expression instanceof MinusFunction
+                || expression instanceof MultiplyFunction;
+        return arithmetic && Kind.of(expression.getType().getTypeFamily()) != null;
+    }
+
+    /**
+     * Returns the kind used to compare the operands of the given comparison,
+     * {@link Kind#OBJECT} for VARCHAR operands or {@code null} if the
+     * comparison isn't compiled.
+     */
+    @Nullable
+    private static Kind comparisonKind(ComparisonPredicate comparison) {
+        QueryDataTypeFamily family = comparison.getOperand1().getType().getTypeFamily();
+        switch (family) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+                return Kind.LONG;
+            case REAL:
+            case DOUBLE:
+                return Kind.DOUBLE;
+            case VARCHAR:
+                return Kind.OBJECT;
+            default:
+                return null;
+        }
+    }
+
+    private Value comparison(ComparisonPredicate comparison) {
+        Kind kind = comparisonKind(comparison);
+        String result = declare(BOOLEAN_TYPE, "null");
+        Value left = generate(comparison.getOperand1());
+        open("if (!(" + left.isNull() + ")) {");
+        Value right = generate(comparison.getOperand2());
+        open("if (!(" + right.isNull() + ")) {");
+        String order;
+        if (kind == Kind.LONG) {
+            order = "java.lang.Long.compare(" + left.as(kind) + ", " + right.as(kind) + ")";
+        } else if (kind == Kind.DOUBLE) {
+            order = "java.lang.Double.compare(" + left.as(kind) + ", " + right.as(kind) + ")";
+        } else {
+            order = "((java.lang.String) " + left.name + ").compareTo((java.lang.String) " + right.name + ")";
+        }
+        line(result + " = " + BOOLEAN_TYPE + ".valueOf(" + order + " " + operator(comparison) + " 0);");
+        close();
+        close();
+        return new Value(Kind.BOOLEAN, result, null);
+    }
+
+    private static String operator(ComparisonPredicate comparison) {
+        switch (comparison.getMode()) {
+            case EQUALS:
+                return "==";
+            case NOT_EQUALS:
+                return "!=";
+            case GREATER_THAN:
+                return ">";
+            case GREATER_THAN_OR_EQUAL:
+                return ">=";
+            case LESS_THAN:
+                return "<";
+            case LESS_THAN_OR_EQUAL:
+                return "<=";
+            default:
+                throw new IllegalStateException("unexpected comparison mode: " + comparison.getMode());
+        }
+    }
+
+    private Value arithmetic(BiExpression<?> expression) {
+        Kind kind = Kind.of(expression.getType().getTypeFamily());
+        String isNull = declare("boolean", "true");
+        String result = declare(kind.javaType, "0");
+        Value left = generate(expression.getOperand1());
+        open("if (!(" + left.isNull() + ")) {");
+        Value right = generate(expression.getOperand2());
+        open("if (!(" + right.isNull() + ")) {");
+        line(isNull + " = false;");
+        String leftValue = left.as(kind);
+        String rightValue = right.as(kind);
+        if (kind == Kind.LONG) {
+            String method = expression instanceof PlusFunction ? "plusBigint"
+                    : expression instanceof MinusFunction ? "minusBigint" : "multiplyBigint";
+            line(result + " = " + method + "(" + leftValue + ", " + rightValue + ");");
+        } else {
+            String operator = expression instanceof PlusFunction ? " + "
+                    : expression instanceof MinusFunction ? " - " : " * ";
+            line(result + " = " + leftValue + operator + rightValue + ";");
+        }
+        close();
+        close();
+        return new Value(kind, result, isNull);
+    }
+
+    /**
+     * Generates AND or OR with the semantics of {@link
+     * com.hazelcast.sql.impl.expression.predicate.TernaryLogic}: operands are
+     * evaluated until the first one deciding the result.
+     */
+    private Value connective(Expression<?>[] operands, boolean and) {
+        String result = declare(BOOLEAN_TYPE, "null");
+        String seenUnknown = declare("boolean", "false");
+        String decisive = and ? "FALSE" : "TRUE";
+        for (Expression<?> operand : operands) {
+            String value = generate(operand).asBoolean();
+            line("if (" + BOOLEAN_TYPE + "." + decisive + ".equals(" + value + ")) {");
+            line("    " + result + " = " + BOOLEAN_TYPE + "." + decisive + ";");
+            open("} else {");
+            line("if (" + value + " == null) {");
+            line("    " + seenUnknown + " = true;");
+            line("}");
+        }
+        line(result + " = " + seenUnknown + " ? null : " + BOOLEAN_TYPE + "." + (and ? "TRUE" : "FALSE") + ";");
+        for (int i = 0; i < operands.length; i++) {
+            close();
+        }
+        return new Value(Kind.BOOLEAN, result, null);
+    }
+
+    private Value interpreted(Expression<?> expression, String method) {
+        expressions.add(expression);
+        return object("expressions[" + (expressions.size() - 1) + "]." + method + "(row, context)");
+    }
+
+    private Value object(String value) {
+        return new Value(Kind.OBJECT, declare("Object", value), null);
+    }
+
+    private Value bool(String value) {
+        return new Value(Kind.BOOLEAN, declare(BOOLEAN_TYPE, value), null);
+    }
+
+    private String declare(String javaType, String value) {
+        String name = "v" + variableCount++;
+        line(javaType + " " + name + " = " + value + ";");
+        return name;
+    }
+
+    private void open(String line) {
+        line(line);
+        indent++;
+    }
+
+    private void close() {
+        indent--;
+        line("}");
+    }
+
+    private void line(String line) {
+        for (int i = 0; i < indent; i++) {
+            code.append("    ");
+        }
+        code.append(line).append('\n');
+    }
+
+    /**
+     * Kinds of values in the generated code.
+     */
+    private enum Kind {
+        INT("int", "Integer"),
+        LONG("long", "Long"),
+        FLOAT("float", "Float"),
+        DOUBLE("double", "Double"),
+        BOOLEAN(BOOLEAN_TYPE, null),
+        OBJECT("Object", null);
+
+        private final String javaType;
+        private final String boxedType;
+
+        Kind(String javaType, String boxedType) {
+            this.javaType = javaType;
+            this.boxedType = boxedType;
+        }
+
+        /**
+         * Returns the primitive kind of values of the given type family or
+         * {@code null} if the values of the family aren't handled as
+         * primitives.
+         */
+        @Nullable
+        static Kind of(QueryDataTypeFamily family) {
+            switch (family) {
+                case INTEGER:
+                    return INT;
+                case BIGINT:
+                    return LONG;
+                case REAL:
+                    return FLOAT;
+                case DOUBLE:
+                    return DOUBLE;
+                default:
+                    return null;
+            }
+        }
+
+        boolean isPrimitive() {
+            return boxedType != null;
+        }
+    }
+
+    /**
+     * A value in the generated code. Primitive values have a separate
+     * variable holding their nullness, other values are {@code null} if SQL
+     * NULL.
+     */
+    private static final class Value {
+        private final Kind kind;
+        private final String name;
+        private final String nullName;
+
+        private Value(Kind kind, String name, String nullName) {
+            this.kind = kind;
+            this.name = name;
+            this.nullName = nullName;
+        }
+
+        String isNull() {
+            return kind.isPrimitive() ? nullName : name + " == null";
+        }
+
+        String asBoolean() {
+            return kind == Kind.BOOLEAN ? name : "((" + BOOLEAN_TYPE + ") " + name + ")";
+        }
+
+        /**
+         * Converts the value to the given primitive kind the same way as
+         * {@link Number#intValue()} and friends do.
+         */
+        String as(Kind target) {
+            if (kind.isPrimitive()) {
+                return "((" + target.javaType + ") " + name + ")";
+            }
+            return "((java.lang.Number) " + name + ")." + target.javaType + "Value()";
+        }
+
+        String boxed() {
+            if (kind.isPrimitive()) {
+                return "(" + nullName + " ? null : (Object) java.lang." + kind.boxedType + ".valueOf(" + name + "))";
+            }
+            return name;
+        }
+    }
+}
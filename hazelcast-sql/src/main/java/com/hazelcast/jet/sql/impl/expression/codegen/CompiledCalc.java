@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.expression.codegen;
+
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.Row;
+
+import javax.annotation.Nullable;
+
+/**
+ * Base class of the classes generated by {@link ExpressionCompiler}, which
+ * evaluate the filter and the projections of a calc in a single method.
+ * <p>
+ * The generated code refers to the expressions it can't compile and to the
+ * constants of the compiled expressions only by their position, so that the
+ * same generated class can be reused for plans of the same shape.
+ */
+public abstract class CompiledCalc {
+
+    /** Expressions evaluated by the generated code using the interpreter. */
+    protected Expression<?>[] expressions;
+
+    /** Values of the constants referred to by the generated code. */
+    protected Object[] constants;
+
+    void init(Expression<?>[] expressions, Object[] constants) {
+        this.expressions = expressions;
+        this.constants = constants;
+    }
+
+    /**
+     * Evaluates the filter and the projections on the given row.
+     *
+     * @return the projected values or {@code null} if the row is rejected
+     * by the filter
+     */
+    @Nullable
+    public abstract Object[] calc(Row row, ExpressionEvalContext context);
+
+    protected static long plusBigint(long left, long right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            throw overflow("+");
+        }
+    }
+
+    protected static long minusBigint(long left, long right) {
+        try {
+            return Math.subtractExact(left, right);
+        } catch (ArithmeticException e) {
+            throw overflow("-");
+        }
+    }
+
+    protected static long multiplyBigint(long left, long right) {
+        try {
+            return Math.multiplyExact(left, right);
+        } catch (ArithmeticException e) {
+            throw overflow("*");
+        }
+    }
+
+    private static QueryException overflow(String operator) {
+        return QueryException.dataException(
+                "BIGINT overflow in '" + operator + "' operator (consider adding explicit CAST to DECIMAL)");
+    }
+}
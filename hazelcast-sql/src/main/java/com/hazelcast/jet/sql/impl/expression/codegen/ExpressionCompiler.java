@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.expression.codegen;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.sql.impl.ExpressionUtil;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.spi.properties.HazelcastProperty;
+import com.hazelcast.sql.impl.expression.ConcurrentInitialSetCache;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import org.codehaus.commons.compiler.CompileException;
+import org.codehaus.janino.ClassBodyEvaluator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Compiles the filter and the projections of a calc into a single Java class
+ * using Janino, as an alternative to walking the expression trees for every
+ * row. See {@link CalcCodeGenerator} for the expressions that are compiled.
+ * <p>
+ * Generated classes are cached by their source, which depends only on the
+ * shape of the expressions, so that repeated executions of a plan, or of
+ * plans differing only in constants, compile once. If compilation fails,
+ * the interpreted functions from {@link ExpressionUtil} are used.
+ */
+public final class ExpressionCompiler {
+
+    /**
+     * Enables compilation of filters and projections of SQL calc operators
+     * into Java classes.
+     */
+    public static final HazelcastProperty SQL_EXPRESSION_COMPILATION_ENABLED
+            = new HazelcastProperty("hazelcast.sql.expression.compilation.enabled", false);
+
+    private static final int CACHE_CAPACITY = 256;
+    private static final String GENERATED_CLASS_NAME = ExpressionCompiler.class.getPackage().getName() + ".GeneratedCalc";
+
+    private static final ConcurrentInitialSetCache<String, Class<? extends CompiledCalc>> CACHE =
+            new ConcurrentInitialSetCache<>(CACHE_CAPACITY);
+
+    private static final ILogger LOGGER = Logger.getLogger(ExpressionCompiler.class);
+
+    private ExpressionCompiler() {
+    }
+
+    /**
+     * Compiled counterpart of {@link ExpressionUtil#calcFn} and {@link
+     * ExpressionUtil#projectionFn}.
+     *
+     * @param projections the projections
+     * @param predicate   the filter, or {@code null} if there's no filter
+     * @param context     the expression evaluation context
+     * @return function returning the projected row or {@code null} if the
+     * row is rejected by the filter
+     */
+    public static FunctionEx<JetSqlRow, JetSqlRow> calcFn(
+            @Nonnull List<Expression<?>> projections,
+            @Nullable Expression<Boolean> predicate,
+            @Nonnull ExpressionEvalContext context
+    ) {
+        CompiledCalc calc = compile(predicate, projections);
+        if (calc == null) {
+            return predicate == null
+                    ? ExpressionUtil.projectionFn(projections, context)
+                    : ExpressionUtil.calcFn(projections, predicate, context);
+        }
+        return row0 -> {
+            Object[] values = calc.calc(row0.getRow(), context);
+            return values == null ? null : new JetSqlRow(context.getSerializationService(), values);
+        };
+    }
+
+    /**
+     * Compiles the given filter and projections.
+     *
+     * @return the compiled calc or {@code null} if the compilation failed
+     */
+    @Nullable
+    static CompiledCalc compile(@Nullable Expression<Boolean> predicate, List<Expression<?>> projections) {
+        CalcCodeGenerator generator = new CalcCodeGenerator();
+        try {
+            String source = generator.generate(predicate, projections);
+            CompiledCalc calc = CACHE.computeIfAbsent(source, ExpressionCompiler::compileClass)
+                    .getDeclaredConstructor()
+                    .newInstance();
+            calc.init(generator.expressions(), generator.constants());
+            return calc;
+        } catch (Exception e) {
+            LOGGER.warning("Failed to compile SQL expressions, falling back to interpretation: " + e, e);
+            return null;
+        }
+    }
+
+    private static Class<? extends CompiledCalc> compileClass(String source) {
+        ClassBodyEvaluator evaluator = new ClassBodyEvaluator();
+        evaluator.setParentClassLoader(CompiledCalc.class.getClassLoader());
+        evaluator.setClassName(GENERATED_CLASS_NAME);
+        evaluator.setExtendedClass(CompiledCalc.class);
+        try {
+            evaluator.cook(source);
+        } catch (CompileException e) {
+            throw new IllegalStateException("Failed to compile generated code:\n" + source, e);
+        }
+        return evaluator.getClazz().asSubclass(CompiledCalc.class);
+    }
+}
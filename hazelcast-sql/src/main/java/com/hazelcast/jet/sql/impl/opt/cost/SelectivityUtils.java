@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.cost;
+
+import com.hazelcast.query.impl.IndexValueStatistics;
+import com.hazelcast.sql.impl.schema.Table;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.NlsString;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+
+/**
+ * Utility methods for selectivity estimation based on the {@link TableStatistics statistics} of a table.
+ * <p>
+ * A filter is split into conjunctions that are assumed to be independent. A comparison of a field with a literal or a
+ * parameter is estimated from the {@link TableStatistics#getFieldStatistics(int) statistics} of the field values if the
+ * table provides them: equality from the number of distinct values and ranges from the histogram. Other conjunctions
+ * fall back to the Calcite guesses.
+ */
+public final class SelectivityUtils {
+    private SelectivityUtils() {
+        // No-op.
+    }
+
+    /**
+     * Estimates the selectivity of a filter on a table.
+     *
+     * @param filter Filter that references the table fields by their ordinals, or {@code null}.
+     * @param table  Target table.
+     * @return Selectivity between 0 and 1.
+     */
+    public static double estimateSelectivity(@Nullable RexNode filter, Table table) {
+        if (filter == null) {
+            return 1.0d;
+        }
+
+        TableStatistics statistics = table.getStatistics();
+        double selectivity = 1.0d;
+
+        for (RexNode conjunction : RelOptUtil.conjunctions(filter)) {
+            Double conjunctionSelectivity = comparisonSelectivity(conjunction, statistics);
+
+            selectivity *= conjunctionSelectivity != null
+                    ? conjunctionSelectivity
+                    : RelMdUtil.guessSelectivity(conjunction);
+        }
+
+        return selectivity;
+    }
+
+    private static Double comparisonSelectivity(RexNode node, TableStatistics statistics) {
+        if (!(node instanceof RexCall) || ((RexCall) node).getOperands().size() != 2) {
+            return null;
+        }
+
+        RexCall call = (RexCall) node;
+        RexNode field = call.getOperands().get(0);
+        RexNode operand = call.getOperands().get(1);
+        SqlKind kind = call.getKind();
+
+        if (operand instanceof RexInputRef && !(field instanceof RexInputRef)) {
+            field = operand;
+            operand = call.getOperands().get(0);
+            kind = kind.reverse();
+        }
+
+        if (!(field instanceof RexInputRef) || !(operand instanceof RexLiteral || operand instanceof RexDynamicParam)) {
+            return null;
+        }
+
+        IndexValueStatistics fieldStatistics = statistics.getFieldStatistics(((RexInputRef) field).getIndex());
+
+        if (fieldStatistics == null) {
+            return null;
+        }
+
+        if (kind == SqlKind.EQUALS || kind == SqlKind.NOT_EQUALS) {
+            double equalsSelectivity = 1.0d / fieldStatistics.estimateDistinctCount(statistics.getRowCount());
+
+            return kind == SqlKind.EQUALS ? equalsSelectivity : 1.0d - equalsSelectivity;
+        }
+
+        return rangeSelectivity(kind, fieldStatistics, literalValue(operand));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Double rangeSelectivity(SqlKind kind, IndexValueStatistics fieldStatistics, Comparable value) {
+        if (value == null) {
+            return null;
+        }
+
+        switch (kind) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return fieldStatistics.estimateRangeSelectivity(null, false, value, kind == SqlKind.LESS_THAN_OR_EQUAL);
+
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return fieldStatistics.estimateRangeSelectivity(value, kind == SqlKind.GREATER_THAN_OR_EQUAL, null, false);
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Converts the operand of a range comparison to a value comparable with the indexed values. Values of parameters are
+     * not known during planning.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Comparable literalValue(RexNode operand) {
+        if (!(operand instanceof RexLiteral)) {
+            return null;
+        }
+
+        Comparable value = ((RexLiteral) operand).getValue();
+
+        if (value instanceof NlsString) {
+            return ((NlsString) value).getValue();
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+
+            return decimal.stripTrailingZeros().scale() <= 0 ? (Comparable) decimal.longValue() : decimal.doubleValue();
+        } else if (value instanceof Boolean) {
+            return value;
+        }
+
+        return null;
+    }
+}
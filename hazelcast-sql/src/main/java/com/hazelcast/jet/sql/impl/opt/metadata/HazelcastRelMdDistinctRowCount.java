@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.metadata;
+
+import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
+import com.hazelcast.query.impl.IndexValueStatistics;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.List;
+
+/**
+ * Metadata which provides the number of distinct values of table columns from the
+ * {@link TableStatistics#getFieldStatistics(int) field statistics} of the table.
+ */
+public final class HazelcastRelMdDistinctRowCount implements MetadataHandler<BuiltInMetadata.DistinctRowCount> {
+    /** Do not change the name (see {@code RelMetadataQueryBase} JavaDoc). */
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(
+            BuiltInMethod.DISTINCT_ROW_COUNT.method,
+            new HazelcastRelMdDistinctRowCount()
+    );
+
+    private HazelcastRelMdDistinctRowCount() {
+        // No-op.
+    }
+
+    @Override
+    public MetadataDef<BuiltInMetadata.DistinctRowCount> getDef() {
+        return BuiltInMetadata.DistinctRowCount.DEF;
+    }
+
+    /**
+     * Estimates the number of distinct values of the given columns of a scan as the product of the distinct values of
+     * every column, limited by the row count of the scan.
+     *
+     * @return Number of distinct values or {@code null} if some column has no statistics.
+     */
+    @SuppressWarnings("unused")
+    public Double getDistinctRowCount(TableScan rel, RelMetadataQuery mq, ImmutableBitSet groupKey, RexNode predicate) {
+        HazelcastTable table = rel.getTable().unwrap(HazelcastTable.class);
+
+        if (table == null || groupKey.isEmpty() || (predicate != null && !predicate.isAlwaysTrue())) {
+            return null;
+        }
+
+        TableStatistics statistics = table.getTarget().getStatistics();
+        List<RexNode> projects = table.getProjects();
+        double distinctRowCount = 1.0d;
+
+        for (int column : groupKey) {
+            RexNode project = projects.get(column);
+
+            if (!(project instanceof RexInputRef)) {
+                return null;
+            }
+
+            IndexValueStatistics fieldStatistics = statistics.getFieldStatistics(((RexInputRef) project).getIndex());
+
+            if (fieldStatistics == null) {
+                return null;
+            }
+
+            distinctRowCount *= fieldStatistics.estimateDistinctCount(statistics.getRowCount());
+        }
+
+        return Math.min(distinctRowCount, mq.getRowCount(rel));
+    }
+}
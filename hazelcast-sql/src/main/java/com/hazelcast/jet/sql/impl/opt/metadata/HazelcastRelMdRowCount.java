@@ -16,10 +16,15 @@
 
 package com.hazelcast.jet.sql.impl.opt.metadata;
 
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMdRowCount;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
 
 /**
  * Metadata which provides row count estimates.
@@ -33,6 +38,32 @@ public final class HazelcastRelMdRowCount extends RelMdRowCount {
         // No-op.
     }
 
-    // Empty at the moment, will be extended in the future.
-    // Now it serves as an example of how to wire up a metadata handler into Calcite.
+    /**
+     * Estimates the row count of an inner or left equi-join from the number of distinct values of the join keys, assuming
+     * that every key of the input with fewer distinct keys has a match in the other input. Falls back to the Calcite
+     * estimate if the distinct values are not known.
+     */
+    @Override
+    public Double getRowCount(Join rel, RelMetadataQuery mq) {
+        JoinInfo joinInfo = rel.analyzeCondition();
+        JoinRelType joinType = rel.getJoinType();
+
+        boolean supportedType = joinType == JoinRelType.INNER || joinType == JoinRelType.LEFT;
+        if (!supportedType || !joinInfo.isEqui() || joinInfo.leftKeys.isEmpty()) {
+            return super.getRowCount(rel, mq);
+        }
+
+        Double leftDistinctRowCount = mq.getDistinctRowCount(rel.getLeft(), ImmutableBitSet.of(joinInfo.leftKeys), null);
+        Double rightDistinctRowCount = mq.getDistinctRowCount(rel.getRight(), ImmutableBitSet.of(joinInfo.rightKeys), null);
+
+        if (leftDistinctRowCount == null || rightDistinctRowCount == null) {
+            return super.getRowCount(rel, mq);
+        }
+
+        double leftRowCount = mq.getRowCount(rel.getLeft());
+        double rightRowCount = mq.getRowCount(rel.getRight());
+        double rowCount = leftRowCount * rightRowCount / Math.max(1.0d, Math.max(leftDistinctRowCount, rightDistinctRowCount));
+
+        return joinType == JoinRelType.LEFT ? Math.max(rowCount, leftRowCount) : rowCount;
+    }
 }
@@ -39,6 +39,7 @@ import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
 import com.hazelcast.jet.core.processor.Processors;
 import com.hazelcast.jet.pipeline.ServiceFactories;
 import com.hazelcast.jet.sql.impl.ExpressionUtil;
+import com.hazelcast.jet.sql.impl.expression.codegen.ExpressionCompiler;
 import com.hazelcast.jet.sql.impl.HazelcastPhysicalScan;
 import com.hazelcast.jet.sql.impl.JetJoinInfo;
 import com.hazelcast.jet.sql.impl.ObjectArrayKey;
@@ -90,6 +91,7 @@ import static com.hazelcast.jet.core.processor.Processors.sortP;
 import static com.hazelcast.jet.core.processor.SourceProcessors.convenientSourceP;
 import static com.hazelcast.jet.sql.impl.connector.HazelcastRexNode.wrap;
 import static com.hazelcast.jet.sql.impl.connector.SqlConnectorUtil.getJetSqlConnector;
+import static com.hazelcast.jet.sql.impl.expression.codegen.ExpressionCompiler.SQL_EXPRESSION_COMPILATION_ENABLED;
 import static com.hazelcast.jet.sql.impl.processors.RootResultConsumerSink.rootResultConsumerSink;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
@@ -283,18 +285,21 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
 
         Vertex vertex;
         boolean projectionsCooperative = projection.stream().allMatch(Expression::isCooperative);
+        boolean compiled = nodeEngine.getProperties().getBoolean(SQL_EXPRESSION_COMPILATION_ENABLED);
         if (program.getCondition() != null) {
             Expression<Boolean> filterExpr = dagBuildContext.convertFilter(wrap(rel.filter()));
             assert filterExpr != null;
             vertex = dag.newUniqueVertex("Calc", mapUsingServiceP(
-                    ServiceFactories.nonSharedService(ctx ->
-                                    ExpressionUtil.calcFn(projection, filterExpr, ExpressionEvalContext.from(ctx)))
+                    ServiceFactories.nonSharedService(ctx -> compiled
+                                    ? ExpressionCompiler.calcFn(projection, filterExpr, ExpressionEvalContext.from(ctx))
+                                    : ExpressionUtil.calcFn(projection, filterExpr, ExpressionEvalContext.from(ctx)))
                             .setCooperative(projectionsCooperative && filterExpr.isCooperative()),
                     (Function<JetSqlRow, JetSqlRow> calcFn, JetSqlRow row) -> calcFn.apply(row)));
         } else {
             vertex = dag.newUniqueVertex("Project", mapUsingServiceP(
-                    ServiceFactories.nonSharedService(ctx ->
-                                    ExpressionUtil.projectionFn(projection, ExpressionEvalContext.from(ctx)))
+                    ServiceFactories.nonSharedService(ctx -> compiled
+                                    ? ExpressionCompiler.calcFn(projection, null, ExpressionEvalContext.from(ctx))
+                                    : ExpressionUtil.projectionFn(projection, ExpressionEvalContext.from(ctx)))
                             .setCooperative(projectionsCooperative),
                     (Function<JetSqlRow, JetSqlRow> projectionFn, JetSqlRow row) -> projectionFn.apply(row)
             ));
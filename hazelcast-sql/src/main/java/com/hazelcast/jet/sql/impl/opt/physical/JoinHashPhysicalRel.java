@@ -61,6 +61,8 @@ public class JoinHashPhysicalRel extends JoinPhysicalRel {
     @Override
     @Nullable
     public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
-        return super.computeSelfCost(planner, mq).multiplyBy(COST_FACTOR);
+        // the right input is the build side, it's fully buffered before the left input is processed
+        RelOptCost buildCost = planner.getCostFactory().makeCost(0, mq.getRowCount(getRight()), 0);
+        return super.computeSelfCost(planner, mq).multiplyBy(COST_FACTOR).plus(buildCost);
     }
 }
@@ -27,8 +27,16 @@ import org.apache.calcite.plan.RelRule;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexProgram;
+import org.apache.calcite.rex.RexShuttle;
 import org.immutables.value.Value;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.hazelcast.jet.sql.impl.opt.Conventions.LOGICAL;
 import static com.hazelcast.jet.sql.impl.opt.Conventions.PHYSICAL;
 
@@ -90,6 +98,11 @@ public final class JoinPhysicalRule extends RelRule<RelRule.Config> {
                     logicalJoin.getCondition(),
                     logicalJoin.getJoinType());
             call.transformTo(rel);
+
+            // the right input is the build side of the hash join, let the cost model choose the smaller input for it
+            if (joinType == JoinRelType.INNER) {
+                call.transformTo(swappedHashJoin(logicalJoin, leftInputConverted, rightInputConverted));
+            }
         }
 
         if (rightInput instanceof TableScan) {
@@ -113,6 +126,44 @@ public final class JoinPhysicalRule extends RelRule<RelRule.Config> {
         }
     }
 
+    /**
+     * Creates an inner hash join with swapped inputs, followed by a projection
+     * restoring the field order of the original join.
+     */
+    private static RelNode swappedHashJoin(JoinLogicalRel logicalJoin, RelNode left, RelNode right) {
+        RexBuilder rexBuilder = logicalJoin.getCluster().getRexBuilder();
+        int leftFieldCount = left.getRowType().getFieldCount();
+        int rightFieldCount = right.getRowType().getFieldCount();
+
+        RexNode condition = logicalJoin.getCondition().accept(new RexShuttle() {
+            @Override
+            public RexNode visitInputRef(RexInputRef inputRef) {
+                int index = inputRef.getIndex();
+                return rexBuilder.makeInputRef(
+                        inputRef.getType(),
+                        index < leftFieldCount ? index + rightFieldCount : index - leftFieldCount
+                );
+            }
+        });
+        RelNode join = new JoinHashPhysicalRel(
+                logicalJoin.getCluster(),
+                logicalJoin.getTraitSet().replace(PHYSICAL),
+                right,
+                left,
+                condition,
+                JoinRelType.INNER);
+
+        List<RexNode> projects = new ArrayList<>(leftFieldCount + rightFieldCount);
+        for (int i = 0; i < leftFieldCount; i++) {
+            projects.add(rexBuilder.makeInputRef(join, rightFieldCount + i));
+        }
+        for (int i = 0; i < rightFieldCount; i++) {
+            projects.add(rexBuilder.makeInputRef(join, i));
+        }
+        RexProgram program = RexProgram.create(join.getRowType(), projects, null, logicalJoin.getRowType(), rexBuilder);
+        return new CalcPhysicalRel(logicalJoin.getCluster(), join.getTraitSet(), join, program);
+    }
+
     private ShouldNotExecuteRel fail(RelNode node, String message) {
         return new ShouldNotExecuteRel(
                 node.getCluster(),
@@ -19,13 +19,13 @@ package com.hazelcast.jet.sql.impl.schema;
 import com.hazelcast.jet.sql.impl.opt.OptUtils;
 import com.hazelcast.jet.sql.impl.opt.common.CalcIntoScanRule;
 import com.hazelcast.jet.sql.impl.opt.cost.CostUtils;
+import com.hazelcast.jet.sql.impl.opt.cost.SelectivityUtils;
 import com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeFactory;
 import com.hazelcast.sql.impl.schema.Table;
 import com.hazelcast.sql.impl.schema.TableField;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelReferentialConstraint;
-import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
@@ -161,7 +161,7 @@ public class HazelcastTable extends AbstractTable {
         if (filter == null) {
             return statistic;
         } else {
-            Double selectivity = RelMdUtil.guessSelectivity(filter);
+            Double selectivity = SelectivityUtils.estimateSelectivity(filter, target);
             Double rowCount = CostUtils.adjustFilteredRowCount(statistic.getRowCount(), selectivity);
             return new AdjustedStatistic(rowCount);
         }
@@ -120,6 +120,10 @@ public final class ComparisonPredicate extends BiExpression<Boolean> {
         }
     }
 
+    public ComparisonMode getMode() {
+        return mode;
+    }
+
     @Override
     public QueryDataType getType() {
         return QueryDataType.BOOLEAN;
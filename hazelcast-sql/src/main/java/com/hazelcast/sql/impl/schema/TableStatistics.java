@@ -16,6 +16,8 @@
 
 package com.hazelcast.sql.impl.schema;
 
+import com.hazelcast.query.impl.IndexValueStatistics;
+
 /**
  * Statistics for the table. Must not invoke any distributed operations.
  */
@@ -28,4 +30,16 @@ public interface TableStatistics {
      * @return Estimated number of rows in the table. Never negative.
      */
     long getRowCount();
+
+    /**
+     * Gets the statistics of the values of the given field that are used during planning for selectivity and distinct count
+     * estimation. The statistics might be collected on a subset of the rows, e.g. on the partitions owned by the local
+     * member, in which case they must be extrapolated to the {@link #getRowCount() row count} of the whole table.
+     *
+     * @param fieldOrdinal Ordinal of the field in the table.
+     * @return Statistics of the field values or {@code null} if the underlying table doesn't provide them.
+     */
+    default IndexValueStatistics getFieldStatistics(int fieldOrdinal) {
+        return null;
+    }
 }
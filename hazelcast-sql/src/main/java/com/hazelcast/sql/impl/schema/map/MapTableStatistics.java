@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema.map;
+
+import com.hazelcast.query.impl.IndexValueStatistics;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
+
+import java.util.Map;
+
+/**
+ * Statistics of a partitioned map: the estimated number of rows and the statistics of the values of the indexed fields.
+ * <p>
+ * The field statistics are taken from the global indexes of the local member, see
+ * {@link InternalIndex#getValueStatistics()}. Hence, they cover only the partitions owned by the member and must be
+ * extrapolated to the whole table.
+ */
+public class MapTableStatistics extends ConstantTableStatistics {
+
+    /** Statistics of the indexed fields by their ordinals. */
+    private final Map<Integer, IndexValueStatistics> fieldStatistics;
+
+    public MapTableStatistics(long rowCount, Map<Integer, IndexValueStatistics> fieldStatistics) {
+        super(rowCount);
+
+        this.fieldStatistics = fieldStatistics;
+    }
+
+    @Override
+    public IndexValueStatistics getFieldStatistics(int fieldOrdinal) {
+        return fieldStatistics.get(fieldOrdinal);
+    }
+}
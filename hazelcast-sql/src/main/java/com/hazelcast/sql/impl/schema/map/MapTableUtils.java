@@ -26,11 +26,14 @@ import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.query.impl.CompositeConverter;
 import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.IndexValueStatistics;
 import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.TypeConverters;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
 import com.hazelcast.sql.impl.schema.TableField;
+import com.hazelcast.sql.impl.schema.TableStatistics;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.sql.impl.type.QueryDataTypeUtils;
 
@@ -72,6 +75,56 @@ public final class MapTableUtils {
         return entryCount * memberCount;
     }
 
+    /**
+     * Creates the statistics of a partitioned map from the estimated row count and the value statistics of its global
+     * single-attribute indexes on the local member.
+     *
+     * @param mapContainer Map container or {@code null} if the map doesn't exist on the local member.
+     * @param fields       Fields of the table.
+     * @param rowCount     Estimated row count.
+     * @return Statistics of the map.
+     */
+    public static TableStatistics getPartitionedMapStatistics(
+            MapContainer mapContainer,
+            List<TableField> fields,
+            long rowCount
+    ) {
+        if (mapContainer == null || !mapContainer.shouldUseGlobalIndex()) {
+            return new ConstantTableStatistics(rowCount);
+        }
+
+        InternalIndex[] indexes = mapContainer.getGlobalIndexRegistry().getIndexes();
+
+        if (indexes == null || indexes.length == 0) {
+            return new ConstantTableStatistics(rowCount);
+        }
+
+        Map<QueryPath, Integer> pathToOrdinalMap = mapPathsToOrdinals(fields);
+        Map<Integer, IndexValueStatistics> fieldStatistics = new HashMap<>();
+
+        for (InternalIndex index : indexes) {
+            List<String> indexAttributes = index.getConfig().getAttributes();
+
+            if (indexAttributes.size() != 1) {
+                // Statistics of composite indexes do not describe a single field.
+                continue;
+            }
+
+            Integer ordinal = pathToOrdinalMap.get(QueryPath.create(indexAttributes.get(0)));
+            IndexValueStatistics statistics = ordinal != null ? index.getValueStatistics() : null;
+
+            if (statistics == null) {
+                continue;
+            }
+
+            // Prefer the statistics with a histogram if the field has several indexes.
+            fieldStatistics.merge(ordinal, statistics,
+                    (existing, added) -> existing.getBucketCount() >= added.getBucketCount() ? existing : added);
+        }
+
+        return new MapTableStatistics(rowCount, fieldStatistics);
+    }
+
     public static List<MapTableIndex> getPartitionedMapIndexes(MapContainer mapContainer, List<TableField> fields) {
         Map<QueryPath, Integer> pathToOrdinalMap = mapPathsToOrdinals(fields);
 
@@ -135,6 +135,19 @@ public class JoinByEquiJoinProcessorTest extends SqlTestSupport {
                 asList(jetRow(1, null), jetRow(2, null)));
     }
 
+    @Test
+    public void when_batchOfLeftRows_then_joinedInLeftOrder() {
+        map.put(1, "value-1");
+        map.put(2, "value-2");
+        runTest(INNER, TRUE_PREDICATE, PROJECTION, TRUE_PREDICATE,
+                asList(jetRow(2), jetRow((Object) null), jetRow(3), jetRow(1), jetRow(2)),
+                asList(jetRow(2, "value-2"), jetRow(1, "value-1"), jetRow(2, "value-2")));
+        runTest(LEFT, TRUE_PREDICATE, PROJECTION, TRUE_PREDICATE,
+                asList(jetRow(2), jetRow((Object) null), jetRow(3), jetRow(1), jetRow(2)),
+                asList(jetRow(2, "value-2"), jetRow(null, null), jetRow(3, null), jetRow(1, "value-1"),
+                        jetRow(2, "value-2")));
+    }
+
     private void runTest(
             JoinRelType joinType,
             Expression<Boolean> rowProjectorCondition,
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.expression.codegen;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.jet.sql.impl.ExpressionUtil;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.FunctionalPredicateExpression;
+import com.hazelcast.sql.impl.expression.math.MinusFunction;
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.expression.string.UpperFunction;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static com.hazelcast.jet.core.JetTestSupport.TEST_SS;
+import static com.hazelcast.jet.sql.SqlTestSupport.createExpressionEvalContext;
+import static com.hazelcast.sql.impl.type.QueryDataType.BIGINT;
+import static com.hazelcast.sql.impl.type.QueryDataType.DOUBLE;
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static com.hazelcast.sql.impl.type.QueryDataType.VARCHAR;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ExpressionCompilerTest {
+
+    private static final List<Object[]> ROWS = asList(
+            new Object[]{0, "a", 10L, 1.5},
+            new Object[]{2, "x", 20L, -0.0},
+            new Object[]{3, null, null, Double.NaN},
+            new Object[]{null, "b", 30L, null},
+            new Object[]{5, "c", Long.MIN_VALUE, 2.0}
+    );
+
+    @Test
+    public void test_filterAndProjections_matchInterpreted() {
+        // a > 1 AND (b IS NULL OR NOT (b = 'x'))
+        Expression<Boolean> predicate = AndPredicate.create(
+                ComparisonPredicate.create(column(0, INT), ConstantExpression.create(1, INT), ComparisonMode.GREATER_THAN),
+                OrPredicate.create(
+                        IsNullPredicate.create(column(1, VARCHAR)),
+                        NotPredicate.create(ComparisonPredicate.create(
+                                column(1, VARCHAR), ConstantExpression.create("x", VARCHAR), ComparisonMode.EQUALS))));
+        List<Expression<?>> projections = asList(
+                PlusFunction.create(column(0, INT), ConstantExpression.create(10, INT), INT),
+                MinusFunction.create(column(2, BIGINT), ConstantExpression.create(1L, BIGINT), BIGINT),
+                MultiplyFunction.create(column(3, DOUBLE), ConstantExpression.create(2.0, DOUBLE), DOUBLE),
+                column(1, VARCHAR),
+                UpperFunction.create(column(1, VARCHAR))
+        );
+
+        assertMatchesInterpreted(predicate, projections);
+    }
+
+    @Test
+    public void test_comparisons_matchInterpreted() {
+        for (ComparisonMode mode : ComparisonMode.values()) {
+            assertMatchesInterpreted(null, asList(
+                    ComparisonPredicate.create(column(0, INT), ConstantExpression.create(2, INT), mode),
+                    ComparisonPredicate.create(column(3, DOUBLE), ConstantExpression.create(0.0, DOUBLE), mode),
+                    ComparisonPredicate.create(column(1, VARCHAR), ConstantExpression.create("b", VARCHAR), mode)
+            ));
+        }
+    }
+
+    @Test
+    public void test_interpretedPredicate() {
+        Expression<Boolean> predicate = new FunctionalPredicateExpression(row -> {
+            Integer value = row.get(0);
+            return value != null && value != 2;
+        });
+
+        assertMatchesInterpreted(predicate, singletonList(column(0, INT)));
+    }
+
+    @Test
+    public void test_bigintOverflow() {
+        Expression<?> projection = MinusFunction.create(column(2, BIGINT), ConstantExpression.create(1L, BIGINT), BIGINT);
+        FunctionEx<JetSqlRow, JetSqlRow> compiled =
+                ExpressionCompiler.calcFn(singletonList(projection), null, createExpressionEvalContext());
+
+        assertThatThrownBy(() -> compiled.apply(new JetSqlRow(TEST_SS, ROWS.get(4))))
+                .isInstanceOf(QueryException.class)
+                .hasMessageContaining("BIGINT overflow in '-' operator");
+    }
+
+    @Test
+    public void test_sameShape_reusesGeneratedClass() {
+        CompiledCalc calc1 = ExpressionCompiler.compile(null, singletonList(
+                PlusFunction.create(column(0, INT), ConstantExpression.create(1, INT), INT)));
+        CompiledCalc calc2 = ExpressionCompiler.compile(null, singletonList(
+                PlusFunction.create(column(0, INT), ConstantExpression.create(2, INT), INT)));
+
+        assertThat(calc1).isNotNull();
+        assertThat(calc2).isNotNull();
+        assertThat(calc1.getClass()).isSameAs(calc2.getClass());
+    }
+
+    private static void assertMatchesInterpreted(Expression<Boolean> predicate, List<Expression<?>> projections) {
+        ExpressionEvalContext context = createExpressionEvalContext();
+        assertThat(ExpressionCompiler.compile(predicate, projections)).isNotNull();
+        FunctionEx<JetSqlRow, JetSqlRow> compiled = ExpressionCompiler.calcFn(projections, predicate, context);
+        FunctionEx<JetSqlRow, JetSqlRow> interpreted = predicate == null
+                ? ExpressionUtil.projectionFn(projections, context)
+                : ExpressionUtil.calcFn(projections, predicate, context);
+
+        for (Object[] values : ROWS.subList(0, 4)) {
+            JetSqlRow expected = interpreted.apply(new JetSqlRow(TEST_SS, values));
+            JetSqlRow actual = compiled.apply(new JetSqlRow(TEST_SS, values));
+
+            assertThat(actual == null ? null : actual.getValues()).isEqualTo(expected == null ? null : expected.getValues());
+        }
+    }
+
+    private static Expression<?> column(int index, QueryDataType type) {
+        return ColumnExpression.create(index, type);
+    }
+}
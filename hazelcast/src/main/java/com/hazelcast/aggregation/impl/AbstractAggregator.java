@@ -55,10 +55,21 @@ public abstract class AbstractAggregator<I, E, R> implements Aggregator<I, R> {
         this.attributePath = attributePath;
     }
 
+    public String getAttributePath() {
+        return attributePath;
+    }
+
     @Override
     public final void accumulate(I entry) {
+        accumulateValue(entry, extract(entry));
+    }
 
-        E extractedValue = extract(entry);
+    /**
+     * Accumulates a value which has already been extracted from the given
+     * entry the same way {@link #accumulate(Object)} extracts it, so that
+     * callers which had to extract it anyway do not extract it twice.
+     */
+    public final void accumulateValue(I entry, E extractedValue) {
         if (extractedValue instanceof MultiResult) {
             boolean nullEmptyTargetSkipped = false;
             @SuppressWarnings("unchecked")
@@ -24,7 +24,8 @@ import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import java.io.IOException;
 import java.util.Objects;
 
-public final class CountAggregator<I> extends AbstractAggregator<I, Object, Long> implements IdentifiedDataSerializable {
+public final class CountAggregator<I> extends AbstractAggregator<I, Object, Long>
+        implements IdentifiedDataSerializable, NumericColumnAggregator.OfLong {
     private long count;
 
     public CountAggregator() {
@@ -40,6 +41,16 @@ public final class CountAggregator<I> extends AbstractAggregator<I, Object, Long
         count++;
     }
 
+    @Override
+    public boolean isColumnar(Class<?> valueClass) {
+        return Number.class.isAssignableFrom(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(Class<?> valueClass, long[] values, int count) {
+        this.count += count;
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         CountAggregator countAggregator = (CountAggregator) aggregator;
@@ -26,7 +26,7 @@ import java.io.IOException;
 import java.util.Objects;
 
 public final class DoubleAverageAggregator<I> extends AbstractAggregator<I, Number, Double>
-        implements IdentifiedDataSerializable {
+        implements IdentifiedDataSerializable, NumericColumnAggregator.OfDouble {
 
     private double sum;
 
@@ -46,6 +46,17 @@ public final class DoubleAverageAggregator<I> extends AbstractAggregator<I, Numb
         sum += Numbers.asDoubleExactly(value);
     }
 
+    @Override
+    public boolean isColumnar(Class<?> valueClass) {
+        return NumericColumns.isDoubleColumn(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(Class<?> valueClass, double[] values, int count) {
+        this.count += count;
+        sum += NumericColumns.sum(values, count);
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         DoubleAverageAggregator doubleAverageAggregator = (DoubleAverageAggregator) aggregator;
@@ -26,7 +26,7 @@ import java.io.IOException;
 import java.util.Objects;
 
 public final class DoubleSumAggregator<I> extends AbstractAggregator<I, Number, Double>
-        implements IdentifiedDataSerializable {
+        implements IdentifiedDataSerializable, NumericColumnAggregator.OfDouble {
 
     private double sum;
 
@@ -43,6 +43,16 @@ public final class DoubleSumAggregator<I> extends AbstractAggregator<I, Number,
         sum += Numbers.asDoubleExactly(value);
     }
 
+    @Override
+    public boolean isColumnar(Class<?> valueClass) {
+        return NumericColumns.isDoubleColumn(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(Class<?> valueClass, double[] values, int count) {
+        sum += NumericColumns.sum(values, count);
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         DoubleSumAggregator longSumAggregator = (DoubleSumAggregator) aggregator;
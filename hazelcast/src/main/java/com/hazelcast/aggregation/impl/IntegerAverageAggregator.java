@@ -26,7 +26,7 @@ import java.io.IOException;
 import java.util.Objects;
 
 public final class IntegerAverageAggregator<I> extends AbstractAggregator<I, Number, Double>
-        implements IdentifiedDataSerializable {
+        implements IdentifiedDataSerializable, NumericColumnAggregator.OfLong {
 
     private long sum;
 
@@ -46,6 +46,17 @@ public final class IntegerAverageAggregator<I> extends AbstractAggregator<I, Num
         sum += Numbers.asIntExactly(value);
     }
 
+    @Override
+    public boolean isColumnar(Class<?> valueClass) {
+        return NumericColumns.isIntColumn(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(Class<?> valueClass, long[] values, int count) {
+        this.count += count;
+        sum += NumericColumns.sum(values, count);
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         IntegerAverageAggregator integerAverageAggregator = (IntegerAverageAggregator) aggregator;
@@ -26,7 +26,7 @@ import java.io.IOException;
 import java.util.Objects;
 
 public final class IntegerSumAggregator<I> extends AbstractAggregator<I, Number, Long>
-        implements IdentifiedDataSerializable {
+        implements IdentifiedDataSerializable, NumericColumnAggregator.OfLong {
 
     private long sum;
 
@@ -43,6 +43,16 @@ public final class IntegerSumAggregator<I> extends AbstractAggregator<I, Number,
         sum += Numbers.asIntExactly(value);
     }
 
+    @Override
+    public boolean isColumnar(Class<?> valueClass) {
+        return NumericColumns.isIntColumn(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(Class<?> valueClass, long[] values, int count) {
+        sum += NumericColumns.sum(values, count);
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         IntegerSumAggregator integerSumAggregator = (IntegerSumAggregator) aggregator;
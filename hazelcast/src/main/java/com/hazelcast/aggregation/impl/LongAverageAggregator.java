@@ -25,7 +25,8 @@ import com.hazelcast.query.impl.Numbers;
 import java.io.IOException;
 import java.util.Objects;
 
-public final class LongAverageAggregator<I> extends AbstractAggregator<I, Number, Double> implements IdentifiedDataSerializable {
+public final class LongAverageAggregator<I> extends AbstractAggregator<I, Number, Double>
+        implements IdentifiedDataSerializable, NumericColumnAggregator.OfLong {
 
     private long sum;
 
@@ -45,6 +46,17 @@ public final class LongAverageAggregator<I> extends AbstractAggregator<I, Number
         sum += Numbers.asLongExactly(value);
     }
 
+    @Override
+    public boolean isColumnar(Class<?> valueClass) {
+        return NumericColumns.isLongColumn(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(Class<?> valueClass, long[] values, int count) {
+        this.count += count;
+        sum += NumericColumns.sum(values, count);
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         LongAverageAggregator longAverageAggregator = (LongAverageAggregator) aggregator;
@@ -25,7 +25,8 @@ import com.hazelcast.query.impl.Numbers;
 import java.io.IOException;
 import java.util.Objects;
 
-public final class LongSumAggregator<I> extends AbstractAggregator<I, Number, Long> implements IdentifiedDataSerializable {
+public final class LongSumAggregator<I> extends AbstractAggregator<I, Number, Long>
+        implements IdentifiedDataSerializable, NumericColumnAggregator.OfLong {
 
     private long sum;
 
@@ -42,6 +43,16 @@ public final class LongSumAggregator<I> extends AbstractAggregator<I, Number, Lo
         sum += Numbers.asLongExactly(value);
     }
 
+    @Override
+    public boolean isColumnar(Class<?> valueClass) {
+        return NumericColumns.isLongColumn(valueClass);
+    }
+
+    @Override
+    public void accumulateColumn(Class<?> valueClass, long[] values, int count) {
+        sum += NumericColumns.sum(values, count);
+    }
+
     @Override
     public void combine(Aggregator aggregator) {
         LongSumAggregator longSumAggregator = (LongSumAggregator) aggregator;
@@ -26,7 +26,7 @@ import java.io.IOException;
 import java.util.Objects;
 
 public final class MinAggregator<I, R extends Comparable> extends AbstractAggregator<I, R, R>
-        implements IdentifiedDataSerializable {
+        implements IdentifiedDataSerializable, NumericColumnAggregator.OfLong {
 
     private R min;
 
@@ -45,6 +45,17 @@ public final class MinAggregator<I, R extends Comparable> extends AbstractAggreg
         }
     }
 
+    @Override
+    public boolean isColumnar(Class<?> valueClass) {
+        return NumericColumns.isLongColumn(valueClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void accumulateColumn(Class<?> valueClass, long[] values, int count) {
+        accumulateExtracted(null, (R) NumericColumns.box(valueClass, NumericColumns.min(values, count)));
+    }
+
     private boolean isCurrentlyGreaterThan(R otherValue) {
         if (otherValue == null) {
             return false;
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.aggregation.impl;
+
+/**
+ * Aggregator over a numeric attribute which, besides accumulating one
+ * entry at a time, can accumulate batches of attribute values extracted
+ * into primitive arrays. Implementations extend {@link AbstractAggregator}
+ * and implement either {@link OfLong} or {@link OfDouble}.
+ * <p>
+ * A column only ever contains values of a single class for which
+ * {@link #isColumnar(Class)} returned {@code true}. Values of other
+ * classes, {@code null}s and multi-value results are still passed to
+ * {@link AbstractAggregator#accumulateValue(Object, Object)}.
+ */
+public interface NumericColumnAggregator {
+
+    /**
+     * @return the attribute path values are extracted from, {@code null}
+     * if the aggregator accumulates whole entries
+     */
+    String getAttributePath();
+
+    /**
+     * Returns {@code true} if values of the given class can be accumulated
+     * through a column, {@code false} if they need to be accumulated one
+     * by one.
+     */
+    boolean isColumnar(Class<?> valueClass);
+
+    /**
+     * Aggregator accumulating columns of values extracted with
+     * {@link Number#longValue()}.
+     */
+    interface OfLong extends NumericColumnAggregator {
+
+        /**
+         * Accumulates the first {@code count} values of a column.
+         *
+         * @param valueClass class of the values the column was extracted from
+         */
+        void accumulateColumn(Class<?> valueClass, long[] values, int count);
+    }
+
+    /**
+     * Aggregator accumulating columns of values extracted with
+     * {@link Number#doubleValue()}.
+     */
+    interface OfDouble extends NumericColumnAggregator {
+
+        /**
+         * Accumulates the first {@code count} values of a column.
+         *
+         * @param valueClass class of the values the column was extracted from
+         */
+        void accumulateColumn(Class<?> valueClass, double[] values, int count);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.aggregation.impl;
+
+/**
+ * Reductions over primitive columns used by {@link NumericColumnAggregator}s.
+ * <p>
+ * The loops are kept free of branches and calls so that the JIT compiler
+ * can unroll and vectorize them.
+ */
+final class NumericColumns {
+
+    private NumericColumns() {
+    }
+
+    /**
+     * Returns {@code true} for values for which {@link com.hazelcast.query.impl.Numbers#asLongExactly}
+     * is equal to {@link Number#longValue()}.
+     */
+    static boolean isLongColumn(Class<?> valueClass) {
+        return valueClass == Long.class || isIntColumn(valueClass);
+    }
+
+    /**
+     * Returns {@code true} for values for which {@link com.hazelcast.query.impl.Numbers#asIntExactly}
+     * is equal to {@link Number#longValue()}.
+     */
+    static boolean isIntColumn(Class<?> valueClass) {
+        return valueClass == Integer.class || valueClass == Short.class || valueClass == Byte.class;
+    }
+
+    /**
+     * Returns {@code true} for values for which {@link com.hazelcast.query.impl.Numbers#asDoubleExactly}
+     * is equal to {@link Number#doubleValue()}.
+     */
+    static boolean isDoubleColumn(Class<?> valueClass) {
+        return valueClass == Double.class || valueClass == Float.class;
+    }
+
+    static long sum(long[] values, int count) {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    static double sum(double[] values, int count) {
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    static long min(long[] values, int count) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    static long max(long[] values, int count) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Boxes a column value back to the class it was extracted from.
+     */
+    static Object box(Class<?> valueClass, long value) {
+        if (valueClass == Integer.class) {
+            return (int) value;
+        } else if (valueClass == Short.class) {
+            return (short) value;
+        } else if (valueClass == Byte.class) {
+            return (byte) value;
+        }
+        return value;
+    }
+}
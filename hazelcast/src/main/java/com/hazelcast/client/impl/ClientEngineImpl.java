@@ -26,6 +26,7 @@ import com.hazelcast.client.impl.protocol.MessageTaskFactory;
 import com.hazelcast.client.impl.protocol.task.AbstractMessageTask;
 import com.hazelcast.client.impl.protocol.task.AbstractPartitionMessageTask;
 import com.hazelcast.client.impl.protocol.task.AuthenticationBaseMessageTask;
+import com.hazelcast.client.impl.protocol.task.BatchMessageTask;
 import com.hazelcast.client.impl.protocol.task.BlockingMessageTask;
 import com.hazelcast.client.impl.protocol.task.MessageTask;
 import com.hazelcast.client.impl.protocol.task.TransactionalMessageTask;
@@ -257,7 +258,10 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
             abstractMessageTask.setResponseBufAllocator(responseBufAllocator);
         }
         OperationServiceImpl operationService = nodeEngine.getOperationService();
-        if (isUrgent(messageTask)) {
+        if (messageTask instanceof BatchMessageTask) {
+            // only dispatches the batched requests, in order with the messages read before and after it
+            messageTask.run();
+        } else if (isUrgent(messageTask)) {
             operationService.execute((UrgentMessageTask) messageTask);
         } else if (messageTask instanceof AbstractPartitionMessageTask task) {
             operationService.execute(task);
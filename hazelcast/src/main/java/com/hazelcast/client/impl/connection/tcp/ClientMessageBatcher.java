@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.ClientBatchCodec;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Groups the requests written to a connection within a short window into
+ * {@link ClientBatchCodec batch} messages.
+ * <p>
+ * A request is written right away if no request is waiting and the last
+ * write was at least a window ago. Otherwise it is queued, and the queue is
+ * written a window after the first request was queued, as a single batch.
+ * Since a request is only written right away if the requests before it are
+ * written already, the requests of a thread stay in the order it wrote
+ * them.
+ */
+final class ClientMessageBatcher implements Runnable {
+
+    static final int MAX_BATCH_SIZE = 1024;
+
+    private final Channel channel;
+    private final TaskScheduler scheduler;
+    private final long windowNanos;
+    private final Queue<ClientMessage> queue = new ConcurrentLinkedQueue<>();
+    // the queued requests and the ones being written by the flush
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    // only incremented by the flush, which is serialized
+    private final SwCounter batchesWritten = newSwCounter();
+    private final SwCounter batchedRequests = newSwCounter();
+    private volatile long lastWriteNanos;
+
+    ClientMessageBatcher(Channel channel, TaskScheduler scheduler, long windowNanos) {
+        this.channel = channel;
+        this.scheduler = scheduler;
+        this.windowNanos = windowNanos;
+        this.lastWriteNanos = System.nanoTime() - windowNanos;
+    }
+
+    boolean write(ClientMessage message) {
+        long now = System.nanoTime();
+        if (pending.get() == 0 && now - lastWriteNanos >= windowNanos) {
+            lastWriteNanos = now;
+            return channel.write(message);
+        }
+        if (channel.isClosed()) {
+            return false;
+        }
+        pending.incrementAndGet();
+        queue.add(message);
+        if (scheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this, windowNanos, NANOSECONDS);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the queued requests. If the channel is closed in the meantime,
+     * the requests are failed by the invocation service like all other
+     * requests sent to the connection.
+     */
+    @Override
+    public synchronized void run() {
+        // cleared before the queue is drained, so a request queued after the drain schedules another flush
+        scheduled.set(false);
+        List<ClientMessage> batch = new ArrayList<>();
+        for (ClientMessage message; (message = queue.poll()) != null; ) {
+            batch.add(message);
+            if (batch.size() == MAX_BATCH_SIZE) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+
+    private void writeBatch(List<ClientMessage> batch) {
+        if (batch.size() == 1) {
+            channel.write(batch.get(0));
+        } else {
+            channel.write(ClientBatchCodec.encodeRequest(batch));
+            batchesWritten.inc();
+            batchedRequests.inc(batch.size());
+        }
+        lastWriteNanos = System.nanoTime();
+        pending.addAndGet(-batch.size());
+    }
+
+    long batchesWritten() {
+        return batchesWritten.get();
+    }
+
+    long batchedRequests() {
+        return batchedRequests.get();
+    }
+}
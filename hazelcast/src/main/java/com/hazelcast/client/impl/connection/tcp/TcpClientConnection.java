@@ -30,6 +30,7 @@ import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -44,6 +45,8 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_CONNECTION_BATCHED_REQUESTS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_CONNECTION_BATCHES_WRITTEN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_CONNECTION_CLOSED_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_CONNECTION_CONNECTIONID;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_CONNECTION_EVENT_HANDLER_COUNT;
@@ -80,6 +83,7 @@ public class TcpClientConnection implements ClientConnection {
     private volatile UUID remoteUuid;
     private volatile UUID clusterUuid;
     private volatile Channel[] tpcChannels;
+    private volatile ClientMessageBatcher batcher;
 
     public TcpClientConnection(HazelcastClientInstance client, int connectionId, Channel channel) {
         this.client = client;
@@ -114,7 +118,8 @@ public class TcpClientConnection implements ClientConnection {
     public boolean write(OutboundFrame frame) {
         Channel[] tpcChannels = this.tpcChannels;
         if (tpcChannels == null) {
-            return channel.write(frame);
+            ClientMessageBatcher batcher = this.batcher;
+            return batcher == null ? channel.write(frame) : batcher.write((ClientMessage) frame);
         }
 
         ClientMessage clientMessage = (ClientMessage) frame;
@@ -127,6 +132,26 @@ public class TcpClientConnection implements ClientConnection {
         return tpcChannels[channelIndex].write(frame);
     }
 
+    /**
+     * Groups the requests written from now on into batch messages. Must only
+     * be called once the member is known to support them.
+     */
+    void enableBatching(TaskScheduler scheduler, long windowNanos) {
+        batcher = new ClientMessageBatcher(channel, scheduler, windowNanos);
+    }
+
+    @Probe(name = CLIENT_METRIC_CONNECTION_BATCHES_WRITTEN, level = DEBUG)
+    long batchesWritten() {
+        ClientMessageBatcher batcher = this.batcher;
+        return batcher == null ? 0 : batcher.batchesWritten();
+    }
+
+    @Probe(name = CLIENT_METRIC_CONNECTION_BATCHED_REQUESTS, level = DEBUG)
+    long batchedRequests() {
+        ClientMessageBatcher batcher = this.batcher;
+        return batcher == null ? 0 : batcher.batchedRequests();
+    }
+
     @Override
     public void setRemoteAddress(Address remoteAddress) {
         this.remoteAddress = remoteAddress;
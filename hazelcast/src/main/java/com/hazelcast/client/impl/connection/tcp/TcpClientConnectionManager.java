@@ -59,6 +59,7 @@ import com.hazelcast.core.HazelcastException;
 import com.hazelcast.core.LifecycleEvent.LifecycleState;
 import com.hazelcast.function.BiFunctionEx;
 import com.hazelcast.instance.BuildInfoProvider;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.ChannelErrorHandler;
 import com.hazelcast.internal.networking.ChannelInitializer;
@@ -83,6 +84,7 @@ import com.hazelcast.spi.exception.TargetDisconnectedException;
 import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.sql.impl.CoreQueryUtils;
+import com.hazelcast.version.MemberVersion;
 
 import javax.annotation.Nonnull;
 import java.io.EOFException;
@@ -119,6 +121,7 @@ import static com.hazelcast.client.impl.connection.tcp.AuthenticationKeyValuePai
 import static com.hazelcast.client.impl.management.ManagementCenterService.MC_CLIENT_MODE_PROP;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.NOT_ALLOWED_IN_CLUSTER;
 import static com.hazelcast.client.properties.ClientProperty.HEARTBEAT_TIMEOUT;
+import static com.hazelcast.client.properties.ClientProperty.INVOCATION_BATCH_WINDOW_MICROS;
 import static com.hazelcast.client.properties.ClientProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.IO_INPUT_THREAD_COUNT;
 import static com.hazelcast.client.properties.ClientProperty.IO_OUTPUT_THREAD_COUNT;
@@ -189,6 +192,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     private final LoadBalancer loadBalancer;
     private final RoutingMode routingMode;
     private final boolean isTpcAwareClient;
+    private final long batchWindowNanos;
     private final boolean skipMemberListDuringReconnection;
     private final ClientClusterService clientClusterService;
     private volatile Credentials currentCredentials;
@@ -267,6 +271,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         this.shuffleMemberList = properties.getBoolean(SHUFFLE_MEMBER_LIST);
         this.routingMode = decideRoutingMode(config);
         this.isTpcAwareClient = config.getTpcConfig().isEnabled();
+        this.batchWindowNanos = properties.getNanos(INVOCATION_BATCH_WINDOW_MICROS);
         this.asyncStart = config.getConnectionStrategyConfig().isAsyncStart();
         this.reconnectMode = config.getConnectionStrategyConfig().getReconnectMode();
         this.connectionProcessListenerRunner = new ClientConnectionProcessListenerRegistry(client);
@@ -1073,10 +1078,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
             }
             checkClientState(connection, switchingToNextCluster);
 
-            List<Integer> tpcPorts = response.getTpcPorts();
-            if (isTpcAwareClient && tpcPorts != null && !tpcPorts.isEmpty()) {
-                connectTpcPorts(connection, tpcPorts, response.getTpcToken());
-            }
+            connectTpcPortsOrEnableBatching(connection, response);
 
             boolean connectionsEmpty = activeConnections.isEmpty();
             activeConnections.put(response.getMemberUuid(), connection);
@@ -1374,6 +1376,20 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         }
     }
 
+    private void connectTpcPortsOrEnableBatching(TcpClientConnection connection, AuthenticationResponse response) {
+        List<Integer> tpcPorts = response.getTpcPorts();
+        if (isTpcAwareClient && tpcPorts != null && !tpcPorts.isEmpty()) {
+            connectTpcPorts(connection, tpcPorts, response.getTpcToken());
+        } else if (batchWindowNanos > 0 && supportsBatching(response)) {
+            connection.enableBatching(client.getTaskScheduler(), batchWindowNanos);
+        }
+    }
+
+    // batch messages were added in 6.0
+    private static boolean supportsBatching(AuthenticationResponse response) {
+        return MemberVersion.of(response.getServerHazelcastVersion()).asVersion().isGreaterOrEqual(Versions.V6_0);
+    }
+
     private void connectTpcPorts(TcpClientConnection connection, List<Integer> tpcPorts, byte[] tpcToken) {
         List<Integer> targetTpcPorts = getTargetTpcPorts(tpcPorts, client.getClientConfig().getTpcConfig());
 
@@ -31,6 +31,11 @@ public class ClientMessageWriter {
 
     public boolean writeTo(ByteBuffer dst, ClientMessage clientMessage) {
         if (currentFrame == null) {
+            if (dst.remaining() >= clientMessage.getBufferLength()) {
+                // the common case; the whole message fits, so there is no need to track partially written frames
+                writeFrames(dst, clientMessage);
+                return true;
+            }
             currentFrame = clientMessage.getStartFrame();
         }
         for (; ; ) {
@@ -96,4 +101,21 @@ public class ClientMessageWriter {
 
         return done;
     }
+
+    /**
+     * Writes all frames of the message. The caller needs to make sure the
+     * dst has enough remaining space.
+     */
+    private static void writeFrames(ByteBuffer dst, ClientMessage clientMessage) {
+        int position = dst.position();
+        for (ClientMessage.Frame frame = clientMessage.getStartFrame(); frame != null; frame = frame.next) {
+            int flags = frame.next == null ? frame.flags | IS_FINAL_FLAG : frame.flags;
+            Bits.writeIntL(dst, position, frame.content.length + SIZE_OF_FRAME_LENGTH_AND_FLAGS);
+            Bits.writeShortL(dst, position + Bits.INT_SIZE_IN_BYTES, (short) flags);
+            position += SIZE_OF_FRAME_LENGTH_AND_FLAGS;
+            dst.put(position, frame.content);
+            position += frame.content.length;
+        }
+        dst.position(position);
+    }
 }
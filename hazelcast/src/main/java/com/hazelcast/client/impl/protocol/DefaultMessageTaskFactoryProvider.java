@@ -56,6 +56,7 @@ import com.hazelcast.client.impl.protocol.codec.ClientAddDistributedObjectListen
 import com.hazelcast.client.impl.protocol.codec.ClientAddMigrationListenerCodec;
 import com.hazelcast.client.impl.protocol.codec.ClientAddPartitionLostListenerCodec;
 import com.hazelcast.client.impl.protocol.codec.ClientAuthenticationCodec;
+import com.hazelcast.client.impl.protocol.codec.ClientBatchCodec;
 import com.hazelcast.client.impl.protocol.codec.ClientAuthenticationCustomCodec;
 import com.hazelcast.client.impl.protocol.codec.ClientCreateProxiesCodec;
 import com.hazelcast.client.impl.protocol.codec.ClientCreateProxyCodec;
@@ -401,6 +402,7 @@ import com.hazelcast.client.impl.protocol.task.AddMigrationListenerMessageTask;
 import com.hazelcast.client.impl.protocol.task.AddPartitionLostListenerMessageTask;
 import com.hazelcast.client.impl.protocol.task.AuthenticationCustomCredentialsMessageTask;
 import com.hazelcast.client.impl.protocol.task.AuthenticationMessageTask;
+import com.hazelcast.client.impl.protocol.task.BatchMessageTask;
 import com.hazelcast.client.impl.protocol.task.ClientStatisticsMessageTask;
 import com.hazelcast.client.impl.protocol.task.ClientTpcAuthenticationMessageTask;
 import com.hazelcast.client.impl.protocol.task.CreateProxiesMessageTask;
@@ -1463,6 +1465,8 @@ public class DefaultMessageTaskFactoryProvider implements MessageTaskFactoryProv
                 (cm, con) -> new TriggerPartitionAssignmentMessageTask(cm, node, con));
         factories.put(ClientTpcAuthenticationCodec.REQUEST_MESSAGE_TYPE,
                 (cm, con) -> new ClientTpcAuthenticationMessageTask(cm, node, con));
+        factories.put(ClientBatchCodec.REQUEST_MESSAGE_TYPE,
+                (cm, con) -> new BatchMessageTask(cm, node, con));
     }
 
     private void initializeQueueTaskFactories() {
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.codec;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.hazelcast.client.impl.protocol.ClientMessage.BEGIN_FRAME;
+import static com.hazelcast.client.impl.protocol.ClientMessage.END_FRAME;
+import static com.hazelcast.client.impl.protocol.ClientMessage.PARTITION_ID_FIELD_OFFSET;
+import static com.hazelcast.client.impl.protocol.ClientMessage.TYPE_FIELD_OFFSET;
+import static com.hazelcast.client.impl.protocol.ClientMessage.UNFRAGMENTED_MESSAGE;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.INT_SIZE_IN_BYTES;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.encodeInt;
+
+/**
+ * Sends several requests in one message. Each request is enclosed in a
+ * begin and an end frame and keeps its own correlation id. The member
+ * dispatches the requests in order as if they were sent one by one and
+ * answers each on its own; there is no response for the batch itself.
+ * <p>
+ * Unlike the other codecs of this package this one is not generated, since
+ * the requests are embedded as they are instead of as a parameter type of
+ * the protocol definitions.
+ */
+public final class ClientBatchCodec {
+    //hex: 0x001800
+    public static final int REQUEST_MESSAGE_TYPE = 6144;
+    private static final int REQUEST_INITIAL_FRAME_SIZE = PARTITION_ID_FIELD_OFFSET + INT_SIZE_IN_BYTES;
+
+    private ClientBatchCodec() {
+    }
+
+    public static ClientMessage encodeRequest(Collection<ClientMessage> requests) {
+        ClientMessage clientMessage = ClientMessage.createForEncode();
+        clientMessage.setRetryable(false);
+        clientMessage.setOperationName("Client.Batch");
+        ClientMessage.Frame initialFrame = new ClientMessage.Frame(new byte[REQUEST_INITIAL_FRAME_SIZE], UNFRAGMENTED_MESSAGE);
+        encodeInt(initialFrame.content, TYPE_FIELD_OFFSET, REQUEST_MESSAGE_TYPE);
+        encodeInt(initialFrame.content, PARTITION_ID_FIELD_OFFSET, -1);
+        clientMessage.add(initialFrame);
+        for (ClientMessage request : requests) {
+            clientMessage.add(BEGIN_FRAME.copy());
+            // the frames of a request may be shared with its retries, so they are copied instead of relinked
+            for (ClientMessage.Frame frame = request.getStartFrame(); frame != null; frame = frame.next) {
+                clientMessage.add(new ClientMessage.Frame(frame.content, frame.flags));
+            }
+            clientMessage.add(END_FRAME.copy());
+        }
+        return clientMessage;
+    }
+
+    /**
+     * the requests of the batch, in the order they were written
+     */
+    public static List<ClientMessage> decodeRequest(ClientMessage clientMessage) {
+        ClientMessage.ForwardFrameIterator iterator = clientMessage.frameIterator();
+        //empty initial frame
+        iterator.next();
+        List<ClientMessage> requests = new ArrayList<>();
+        while (iterator.hasNext()) {
+            //begin frame of the request
+            iterator.next();
+            ClientMessage.Frame startFrame = iterator.next();
+            ClientMessage request = ClientMessage.createForDecode(new ClientMessage.Frame(startFrame.content, startFrame.flags));
+            int depth = 0;
+            for (ClientMessage.Frame frame = iterator.next(); depth > 0 || !frame.isEndFrame(); frame = iterator.next()) {
+                if (frame.isBeginFrame()) {
+                    depth++;
+                } else if (frame.isEndFrame()) {
+                    depth--;
+                }
+                request.add(new ClientMessage.Frame(frame.content, frame.flags));
+            }
+            requests.add(request);
+        }
+        return requests;
+    }
+}
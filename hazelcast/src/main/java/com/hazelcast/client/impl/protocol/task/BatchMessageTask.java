@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.task;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.ClientBatchCodec;
+import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.nio.Connection;
+
+import java.security.Permission;
+import java.util.List;
+
+/**
+ * Hands the requests of a {@link ClientBatchCodec batch} to the client
+ * engine in the order the client wrote them. Each request is authenticated,
+ * checked and answered as if it was sent on its own; the batch itself has
+ * no response.
+ * <p>
+ * The task is run by the thread that read the batch, so the requests are
+ * dispatched in the same order relative to the messages read before and
+ * after the batch.
+ */
+public class BatchMessageTask extends AbstractMessageTask<List<ClientMessage>> {
+
+    public BatchMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
+        super(clientMessage, node, connection);
+    }
+
+    @Override
+    protected List<ClientMessage> decodeClientMessage(ClientMessage clientMessage) {
+        return ClientBatchCodec.decodeRequest(clientMessage);
+    }
+
+    @Override
+    protected ClientMessage encodeResponse(Object response) {
+        throw new UnsupportedOperationException("A batch has no response");
+    }
+
+    @Override
+    protected void processMessage() {
+        for (ClientMessage request : parameters) {
+            if (request.getMessageType() == ClientBatchCodec.REQUEST_MESSAGE_TYPE) {
+                logger.warning("Ignoring a batch nested in a batch from " + endpoint);
+                continue;
+            }
+            request.setConnection(connection);
+            clientEngine.accept(request);
+        }
+    }
+
+    @Override
+    public String getServiceName() {
+        return null;
+    }
+
+    @Override
+    public Permission getRequiredPermission() {
+        return null;
+    }
+
+    @Override
+    public String getDistributedObjectName() {
+        return null;
+    }
+
+    @Override
+    public String getMethodName() {
+        return null;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return null;
+    }
+}
@@ -178,6 +178,7 @@ import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static com.hazelcast.internal.util.ThreadUtil.getThreadId;
 import static com.hazelcast.internal.util.TimeUtil.timeInMsOrOneIfResultIsZero;
 import static com.hazelcast.internal.util.TimeUtil.timeInMsOrTimeIfNullUnit;
+import static com.hazelcast.map.impl.EntryRemovingProcessor.ENTRY_REMOVING_PROCESSOR;
 import static com.hazelcast.map.impl.ListenerAdapters.createListenerAdapter;
 import static com.hazelcast.map.impl.MapListenerFlagOperator.setAndGetListenerFlags;
 import static com.hazelcast.map.impl.querycache.subscriber.QueryCacheRequest.newQueryCacheRequest;
@@ -337,6 +338,18 @@ public class ClientMapProxy<K, V> extends ClientProxy
         deleteInternal(key);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void deleteAll(@Nonnull Set<K> keys) {
+        checkNotNull(keys, NULL_KEY_IS_NOT_ALLOWED);
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Collection<Data> dataKeys = objectToDataCollection(keys, getSerializationService());
+        submitToKeysInternal(keys, dataKeys, (EntryProcessor) ENTRY_REMOVING_PROCESSOR).joinInternal();
+    }
+
     protected void deleteInternal(Object key) {
         Data keyData = toData(key);
         ClientMessage request = MapDeleteCodec.encodeRequest(name, keyData, getThreadId());
@@ -23,6 +23,7 @@ import com.hazelcast.core.IndeterminateOperationStateException;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.client.util.ClientConnectivityLogger;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -162,6 +163,24 @@ public final class ClientProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.client.io.write.through", true);
 
+    /**
+     * Time window in which requests to the same member are grouped into a
+     * single batch message. A request is written right away unless another
+     * request was written to the same connection less than this long ago;
+     * then it waits for up to this long and is sent together with the
+     * requests issued in the meantime. The member dispatches the requests of a
+     * batch in the order they were written, as if they were sent one by one,
+     * and answers each on its own. This reduces the per-request overhead of
+     * chatty applications at the cost of up to this much additional latency.
+     * <p>
+     * Batching is only used with members that support batch messages and
+     * not on TPC connections.
+     * <p>
+     * The default is 0, which disables batching.
+     */
+    public static final HazelcastProperty INVOCATION_BATCH_WINDOW_MICROS
+            = new HazelcastProperty("hazelcast.client.invocation.batch.window.micros", 0, MICROSECONDS);
+
     /**
      * Property needed for concurrency detection so that write through and dynamic response handling
      * can be done correctly. This property sets the window the concurrency detection will signalling
@@ -43,9 +43,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
@@ -303,15 +301,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
         if (isPriorityQueue) {
             getItemQueue().add(txQueueItem);
         } else {
-            ListIterator<QueueItem> iterator = ((List<QueueItem>) getItemQueue()).listIterator();
-            while (iterator.hasNext()) {
-                QueueItem queueItem = iterator.next();
-                if (txQueueItem.itemId < queueItem.itemId) {
-                    iterator.previous();
-                    break;
-                }
-            }
-            iterator.add(txQueueItem);
+            ((QueueItemDeque) getItemQueue()).addOrdered(txQueueItem);
         }
     }
 
@@ -919,7 +909,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
      */
     public Queue<QueueItem> getItemQueue() {
         if (itemQueue == null) {
-            itemQueue = isPriorityQueue ? createPriorityQueue() : createLinkedList();
+            itemQueue = isPriorityQueue ? createPriorityQueue() : createItemDeque();
             if (!txMap.isEmpty()) {
                 long maxItemId = Long.MIN_VALUE;
                 for (TxQueueItem item : txMap.values()) {
@@ -931,8 +921,8 @@ public class QueueContainer implements IdentifiedDataSerializable {
         return itemQueue;
     }
 
-    private Queue<QueueItem> createLinkedList() {
-        Queue<QueueItem> queue = new LinkedList<>();
+    private Queue<QueueItem> createItemDeque() {
+        QueueItemDeque queue = new QueueItemDeque();
         ConcurrentMap<Long, QueueItem> backupMap = this.backupMap;
         if (MapUtil.isNullOrEmpty(backupMap)) {
             return queue;
@@ -941,7 +931,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
         List<QueueItem> values = new ArrayList<>(backupMap.values());
         Collections.sort(values);
         queue.addAll(values);
-        QueueItem lastItem = ((LinkedList<QueueItem>) queue).peekLast();
+        QueueItem lastItem = queue.peekLast();
         if (lastItem != null) {
             setId(lastItem.itemId + ID_PROMOTION_OFFSET);
         }
@@ -1060,7 +1050,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
         SerializationService serializationService = nodeEngine.getSerializationService();
 
         // in case we need to create a priority queue
-        // we recreate the queue using the items that are currently a LinkedList
+        // we recreate the queue using the items that are currently a QueueItemDeque
         // otherwise, no change is needed
         if (itemQueue != null && isPriorityQueue) {
             Queue<QueueItem> copy = createPriorityQueue();
@@ -1163,7 +1153,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
                     if (isPriorityQueue) {
                         getItemQueue().offer(item);
                     } else {
-                        ((LinkedList) getItemQueue()).offerFirst(item);
+                        ((QueueItemDeque) getItemQueue()).offerFirst(item);
                     }
                     cancelEvictionIfExists();
                 }
@@ -1192,7 +1182,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
         int size = in.readInt();
         // on cluster migration queue data are stored temporary to a default priority queue.
         // those data are copied at a later point
-        itemQueue = new LinkedList<>();
+        itemQueue = new QueueItemDeque();
         for (int j = 0; j < size; j++) {
             QueueItem item = in.readObject();
             item.setContainer(this);
@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+
+/**
+ * Array-backed FIFO store for the items of a non-priority queue.
+ * <p>
+ * Items are kept in a ring of fixed-size chunks. Chunk lengths double from
+ * {@link #MIN_CHUNK_LENGTH} up to {@link #MAX_CHUNK_LENGTH}, so small queues
+ * stay small while large work queues pay a single reference per item instead
+ * of a linked list node. Removing an item from the middle of the queue (for
+ * example through the iterator) leaves an empty slot behind which is skipped
+ * by subsequent reads and reclaimed once enough of them accumulate.
+ * <p>
+ * This class is not thread-safe. Just like the {@link java.util.LinkedList}
+ * it replaces, it is only accessed from the partition thread owning the
+ * {@link QueueContainer}, and must not be structurally modified while
+ * being iterated other than through {@link Iterator#remove()}.
+ */
+class QueueItemDeque extends AbstractQueue<QueueItem> {
+
+    static final int MIN_CHUNK_LENGTH = 16;
+    static final int MAX_CHUNK_LENGTH = 1024;
+
+    private static final int INITIAL_CHUNK_SLOTS = 4;
+
+    /**
+     * Ring of chunks, its length is always a power of two.
+     */
+    private QueueItem[][] chunks = new QueueItem[INITIAL_CHUNK_SLOTS][];
+    private int firstChunk;
+    private int chunkCount;
+    /**
+     * Index of the first used slot in the first chunk.
+     */
+    private int head;
+    /**
+     * Index after the last used slot in the last chunk.
+     */
+    private int tail;
+    /**
+     * Number of items in the queue.
+     */
+    private int size;
+    /**
+     * Number of used slots between head and tail, including the
+     * slots of items removed from the middle of the queue.
+     */
+    private int slots;
+
+    @Override
+    public boolean offer(QueueItem item) {
+        checkNotNull(item, "item can't be null");
+        compactIfNeeded();
+        QueueItem[] last = chunkCount == 0 ? null : chunk(chunkCount - 1);
+        if (last == null || tail == last.length) {
+            last = new QueueItem[nextChunkLength(last)];
+            addLastChunk(last);
+            tail = 0;
+        }
+        last[tail++] = item;
+        size++;
+        slots++;
+        return true;
+    }
+
+    /**
+     * Inserts the given item at the head of the queue.
+     *
+     * @param item the item to insert
+     */
+    public void offerFirst(QueueItem item) {
+        checkNotNull(item, "item can't be null");
+        compactIfNeeded();
+        if (chunkCount == 0) {
+            offer(item);
+            return;
+        }
+        QueueItem[] first = chunk(0);
+        if (head == 0) {
+            first = new QueueItem[nextChunkLength(first)];
+            addFirstChunk(first);
+            head = first.length;
+        }
+        first[--head] = item;
+        size++;
+        slots++;
+    }
+
+    /**
+     * Inserts the given item before the first item, looking from the tail of
+     * the queue, which has a smaller item ID. Items are mostly appended in ID
+     * order, so this touches only the items offered after the given item's
+     * ID was reserved.
+     *
+     * @param item the item to insert
+     */
+    public void addOrdered(QueueItem item) {
+        checkNotNull(item, "item can't be null");
+        long itemId = item.getItemId();
+        QueueItem last = peekLast();
+        if (last == null || last.getItemId() < itemId) {
+            offer(item);
+            return;
+        }
+        Deque<QueueItem> greater = new ArrayDeque<>();
+        while ((last = peekLast()) != null && last.getItemId() > itemId) {
+            greater.push(pollLast());
+        }
+        offer(item);
+        while (!greater.isEmpty()) {
+            offer(greater.pop());
+        }
+    }
+
+    @Override
+    public QueueItem poll() {
+        QueueItem[] first = skipRemovedHead();
+        if (first == null) {
+            return null;
+        }
+        QueueItem item = first[head];
+        first[head++] = null;
+        size--;
+        slots--;
+        return item;
+    }
+
+    @Override
+    public QueueItem peek() {
+        QueueItem[] first = skipRemovedHead();
+        return first == null ? null : first[head];
+    }
+
+    /**
+     * Returns the item at the tail of the queue without removing it.
+     *
+     * @return the last item or {@code null} if the queue is empty
+     */
+    public QueueItem peekLast() {
+        QueueItem[] last = skipRemovedTail();
+        return last == null ? null : last[tail - 1];
+    }
+
+    /**
+     * Removes and returns the item at the tail of the queue.
+     *
+     * @return the last item or {@code null} if the queue is empty
+     */
+    public QueueItem pollLast() {
+        QueueItem[] last = skipRemovedTail();
+        if (last == null) {
+            return null;
+        }
+        QueueItem item = last[--tail];
+        last[tail] = null;
+        size--;
+        slots--;
+        return item;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        resetChunks();
+    }
+
+    @Override
+    public Iterator<QueueItem> iterator() {
+        return new ItemIterator();
+    }
+
+    /**
+     * Moves the head to the first item, dropping chunks which became empty.
+     *
+     * @return the first chunk or {@code null} if the queue is empty
+     */
+    private QueueItem[] skipRemovedHead() {
+        if (size == 0) {
+            resetChunks();
+            return null;
+        }
+        while (true) {
+            QueueItem[] first = chunk(0);
+            int limit = chunkCount == 1 ? tail : first.length;
+            while (head < limit && first[head] == null) {
+                head++;
+                slots--;
+            }
+            if (head < limit) {
+                return first;
+            }
+            removeFirstChunk();
+            head = 0;
+        }
+    }
+
+    /**
+     * Moves the tail after the last item, dropping chunks which became empty.
+     *
+     * @return the last chunk or {@code null} if the queue is empty
+     */
+    private QueueItem[] skipRemovedTail() {
+        if (size == 0) {
+            resetChunks();
+            return null;
+        }
+        while (true) {
+            QueueItem[] last = chunk(chunkCount - 1);
+            int start = chunkCount == 1 ? head : 0;
+            while (tail > start && last[tail - 1] == null) {
+                tail--;
+                slots--;
+            }
+            if (tail > start) {
+                return last;
+            }
+            removeLastChunk();
+            tail = chunk(chunkCount - 1).length;
+        }
+    }
+
+    /**
+     * Rewrites the chunks once more than half of the used slots belong
+     * to items removed from the middle of the queue.
+     */
+    private void compactIfNeeded() {
+        if (size == 0) {
+            if (chunkCount > 0) {
+                resetChunks();
+            }
+            return;
+        }
+        int removed = slots - size;
+        if (removed <= size || removed < MAX_CHUNK_LENGTH) {
+            return;
+        }
+        QueueItem[] items = toArray(new QueueItem[size]);
+        resetChunks();
+        for (QueueItem item : items) {
+            offer(item);
+        }
+    }
+
+    private void resetChunks() {
+        if (chunks.length > INITIAL_CHUNK_SLOTS) {
+            chunks = new QueueItem[INITIAL_CHUNK_SLOTS][];
+        } else {
+            for (int i = 0; i < chunks.length; i++) {
+                chunks[i] = null;
+            }
+        }
+        firstChunk = 0;
+        chunkCount = 0;
+        head = 0;
+        tail = 0;
+        size = 0;
+        slots = 0;
+    }
+
+    private QueueItem[] chunk(int index) {
+        return chunks[(firstChunk + index) & (chunks.length - 1)];
+    }
+
+    private void addLastChunk(QueueItem[] chunk) {
+        ensureChunkCapacity();
+        chunks[(firstChunk + chunkCount) & (chunks.length - 1)] = chunk;
+        chunkCount++;
+    }
+
+    private void addFirstChunk(QueueItem[] chunk) {
+        ensureChunkCapacity();
+        firstChunk = (firstChunk - 1) & (chunks.length - 1);
+        chunks[firstChunk] = chunk;
+        chunkCount++;
+    }
+
+    private void removeFirstChunk() {
+        chunks[firstChunk] = null;
+        firstChunk = (firstChunk + 1) & (chunks.length - 1);
+        chunkCount--;
+    }
+
+    private void removeLastChunk() {
+        chunks[(firstChunk + chunkCount - 1) & (chunks.length - 1)] = null;
+        chunkCount--;
+    }
+
+    private void ensureChunkCapacity() {
+        if (chunkCount < chunks.length) {
+            return;
+        }
+        QueueItem[][] newChunks = new QueueItem[chunks.length << 1][];
+        for (int i = 0; i < chunkCount; i++) {
+            newChunks[i] = chunk(i);
+        }
+        chunks = newChunks;
+        firstChunk = 0;
+    }
+
+    private static int nextChunkLength(QueueItem[] neighbour) {
+        return neighbour == null ? MIN_CHUNK_LENGTH : Math.min(MAX_CHUNK_LENGTH, neighbour.length << 1);
+    }
+
+    private final class ItemIterator implements Iterator<QueueItem> {
+
+        private int chunkIndex;
+        private QueueItem[] chunk;
+        private int index;
+        private int limit;
+
+        private QueueItem next;
+        private QueueItem[] nextChunk;
+        private int nextIndex;
+
+        private QueueItem[] lastChunk;
+        private int lastIndex = -1;
+
+        ItemIterator() {
+            if (chunkCount > 0) {
+                chunk = chunk(0);
+                index = head;
+                limit = chunkCount == 1 ? tail : chunk.length;
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public QueueItem next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            QueueItem item = next;
+            lastChunk = nextChunk;
+            lastIndex = nextIndex;
+            advance();
+            return item;
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            lastChunk[lastIndex] = null;
+            lastChunk = null;
+            lastIndex = -1;
+            size--;
+        }
+
+        private void advance() {
+            next = null;
+            while (chunk != null) {
+                while (index < limit) {
+                    QueueItem item = chunk[index];
+                    if (item != null) {
+                        next = item;
+                        nextChunk = chunk;
+                        nextIndex = index++;
+                        return;
+                    }
+                    index++;
+                }
+                if (++chunkIndex < chunkCount) {
+                    chunk = chunk(chunkIndex);
+                    index = 0;
+                    limit = chunkIndex == chunkCount - 1 ? tail : chunk.length;
+                } else {
+                    chunk = null;
+                }
+            }
+        }
+    }
+}
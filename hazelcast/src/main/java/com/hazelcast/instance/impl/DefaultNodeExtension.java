@@ -474,7 +474,7 @@ public class DefaultNodeExtension implements NodeExtension {
     @Override
     public OutboundHandler[] createOutboundHandlers(EndpointQualifier qualifier,
                                                     ServerConnection connection, ServerContext serverContext) {
-        return new OutboundHandler[]{new PacketEncoder()};
+        return new OutboundHandler[]{new PacketEncoder(connection, node.getProperties())};
     }
 
     @Override
@@ -60,6 +60,25 @@ public class MemberHandshake
 
     public static final String OPTION_PLANE_COUNT = "planeCount";
     public static final String OPTION_PLANE_INDEX = "planeIndex";
+    /**
+     * Set to 1 by members that are able to read compressed packets.
+     *
+     * @see com.hazelcast.internal.nio.Packet#FLAG_COMPRESSED
+     */
+    public static final String OPTION_PACKET_COMPRESSION = "packetCompression";
+    /**
+     * The path of the shared memory ring file the member writes its packets
+     * to once the remote member attached to it. Only set when the shared
+     * memory transport is enabled.
+     *
+     * @see com.hazelcast.internal.server.tcp.SharedMemoryTransport
+     */
+    public static final String OPTION_SHARED_MEMORY_PATH = "sharedMemoryPath";
+    /**
+     * The token which has to match the one stored in the shared memory ring
+     * file.
+     */
+    public static final String OPTION_SHARED_MEMORY_TOKEN = "sharedMemoryToken";
 
     private byte schemaVersion;
     private Map<ProtocolType, Collection<Address>> localAddresses;
@@ -101,6 +120,19 @@ public class MemberHandshake
         return getIntOption(OPTION_PLANE_INDEX, 0);
     }
 
+    public boolean isPacketCompressionSupported() {
+        return getIntOption(OPTION_PACKET_COMPRESSION, 0) == 1;
+    }
+
+    public String getSharedMemoryPath() {
+        return options.get(OPTION_SHARED_MEMORY_PATH);
+    }
+
+    public long getSharedMemoryToken() {
+        String value = options.get(OPTION_SHARED_MEMORY_TOKEN);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
     byte getSchemaVersion() {
         return schemaVersion;
     }
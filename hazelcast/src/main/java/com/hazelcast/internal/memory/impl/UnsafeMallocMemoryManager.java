@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.GlobalMemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM;
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+
+/**
+ * {@link MemoryManager} which allocates every block straight from the
+ * system allocator through {@link sun.misc.Unsafe#allocateMemory(long)}.
+ * <p>
+ * There is no pooling and no bookkeeping of the allocated blocks apart
+ * from the total of used bytes, so the owner is responsible for freeing
+ * every block it allocated; {@link #dispose()} does not free anything.
+ * The allocator itself is thread-safe, the blocks are not.
+ */
+public final class UnsafeMallocMemoryManager implements MemoryManager, MemoryAllocator {
+
+    private final AtomicLong usedMemory = new AtomicLong();
+
+    /**
+     * @return {@code true} if native memory can be allocated and
+     * accessed on this JVM, {@code false} otherwise
+     */
+    public static boolean isAvailable() {
+        return UNSAFE_AVAILABLE && MEM_AVAILABLE;
+    }
+
+    @Override
+    public MemoryAllocator getAllocator() {
+        return this;
+    }
+
+    @Override
+    public GlobalMemoryAccessor getAccessor() {
+        return MEM;
+    }
+
+    @Override
+    public long allocate(long size) {
+        assert size > 0 : "Invalid allocation size: " + size;
+        long address;
+        try {
+            address = UNSAFE.allocateMemory(size);
+        } catch (OutOfMemoryError e) {
+            throw new NativeOutOfMemoryError("Cannot allocate " + size + " bytes of native memory, used: "
+                    + usedMemory.get(), e);
+        }
+        UNSAFE.setMemory(address, size, (byte) 0);
+        usedMemory.addAndGet(size);
+        return address;
+    }
+
+    @Override
+    public long reallocate(long address, long currentSize, long newSize) {
+        long newAddress = allocate(newSize);
+        MemoryAccessor mem = getAccessor();
+        mem.copyMemory(address, newAddress, Math.min(currentSize, newSize));
+        free(address, currentSize);
+        return newAddress;
+    }
+
+    @Override
+    public void free(long address, long size) {
+        assert address != NULL_ADDRESS : "Attempt to free NULL_ADDRESS";
+        UNSAFE.freeMemory(address);
+        usedMemory.addAndGet(-size);
+    }
+
+    /**
+     * @return the number of bytes currently allocated and not freed
+     */
+    public long getUsedMemory() {
+        return usedMemory.get();
+    }
+
+    @Override
+    public void dispose() {
+        // blocks are owned and freed by the caller
+    }
+}
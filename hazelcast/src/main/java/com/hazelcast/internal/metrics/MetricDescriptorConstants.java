@@ -66,6 +66,8 @@ public final class MetricDescriptorConstants {
     public static final String CLIENT_METRIC_CONNECTION_CONNECTIONID = "connectionId";
     public static final String CLIENT_METRIC_CONNECTION_EVENT_HANDLER_COUNT = "eventHandlerCount";
     public static final String CLIENT_METRIC_CONNECTION_CLOSED_TIME = "closedTime";
+    public static final String CLIENT_METRIC_CONNECTION_BATCHES_WRITTEN = "batchesWritten";
+    public static final String CLIENT_METRIC_CONNECTION_BATCHED_REQUESTS = "batchedRequests";
     public static final String CLIENT_METRIC_INVOCATIONS_PENDING_CALLS = "pendingCalls";
     public static final String CLIENT_METRIC_INVOCATIONS_STARTED_INVOCATIONS = "startedInvocations";
     public static final String CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS = "maxCurrentInvocations";
@@ -345,6 +347,7 @@ public final class MetricDescriptorConstants {
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED = "scheduled";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT = "processCount";
+    public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESS_TIME_NANOS = "processTimeNanos";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID = "ownerId";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS = "startedMigrations";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_COMPLETED_MIGRATIONS = "completedMigrations";
@@ -355,6 +358,7 @@ public final class MetricDescriptorConstants {
     public static final String NETWORKING_METRIC_NIO_THREAD_FRAMES_TRANSCEIVED = "framesTransceived";
     public static final String NETWORKING_METRIC_NIO_THREAD_PRIORITY_FRAMES_TRANSCEIVED = "priorityFramesTransceived";
     public static final String NETWORKING_METRIC_NIO_THREAD_PROCESS_COUNT = "processCount";
+    public static final String NETWORKING_METRIC_NIO_THREAD_PROCESS_TIME_NANOS = "processTimeNanos";
     public static final String NETWORKING_METRIC_NIO_THREAD_TASK_QUEUE_SIZE = "taskQueueSize";
     public static final String NETWORKING_METRIC_NIO_THREAD_EVENT_COUNT = "eventCount";
     public static final String NETWORKING_METRIC_NIO_THREAD_SELECTOR_IO_EXCEPTION_COUNT = "selectorIOExceptionCount";
@@ -363,6 +367,8 @@ public final class MetricDescriptorConstants {
     public static final String NETWORKING_METRIC_NIO_THREAD_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String NETWORKING_METRIC_NIO_IO_BALANCER_IMBALANCE_DETECTED_COUNT = "imbalanceDetectedCount";
     public static final String NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_COMPLETED_COUNT = "migrationCompletedCount";
+    public static final String NETWORKING_METRIC_NIO_IO_BALANCER_INPUT_IMBALANCE_PERCENTAGE = "inputImbalancePercentage";
+    public static final String NETWORKING_METRIC_NIO_IO_BALANCER_OUTPUT_IMBALANCE_PERCENTAGE = "outputImbalancePercentage";
     // ===[/NETWORKING]=================================================
 
     // ===[OPERATION]===================================================
@@ -548,6 +554,8 @@ public final class MetricDescriptorConstants {
     public static final String TCP_PREFIX_CONNECTION = "tcp.connection";
     public static final String TCP_PREFIX_CONNECTION_IN = "tcp.connection.in";
     public static final String TCP_PREFIX_CONNECTION_OUT = "tcp.connection.out";
+    public static final String TCP_PREFIX_CONNECTION_SHARED_MEMORY_IN = "tcp.connection.sharedMemory.in";
+    public static final String TCP_PREFIX_CONNECTION_SHARED_MEMORY_OUT = "tcp.connection.sharedMemory.out";
     public static final String TCP_PREFIX_INPUTTHREAD = "tcp.inputThread";
     public static final String TCP_PREFIX_OUTPUTTHREAD = "tcp.outputThread";
     public static final String TCP_DISCRIMINATOR_BINDADDRESS = "bindAddress";
@@ -570,6 +578,14 @@ public final class MetricDescriptorConstants {
     public static final String TCP_METRIC_ENDPOINT_MANAGER_ACCEPTED_SOCKET_COUNT = "acceptedSocketCount";
     public static final String TCP_METRIC_CLIENT_COUNT = "clientCount";
     public static final String TCP_METRIC_TEXT_COUNT = "textCount";
+    public static final String TCP_METRIC_SHARED_MEMORY_ACTIVE = "active";
+    public static final String TCP_METRIC_SHARED_MEMORY_PACKETS_WRITTEN = "packetsWritten";
+    public static final String TCP_METRIC_SHARED_MEMORY_URGENT_PACKETS_WRITTEN = "urgentPacketsWritten";
+    public static final String TCP_METRIC_SHARED_MEMORY_TCP_PACKETS_WRITTEN = "tcpPacketsWritten";
+    public static final String TCP_METRIC_SHARED_MEMORY_FALLBACK_COUNT = "fallbackCount";
+    public static final String TCP_METRIC_SHARED_MEMORY_PACKETS_READ = "packetsRead";
+    public static final String TCP_METRIC_SHARED_MEMORY_URGENT_PACKETS_READ = "urgentPacketsRead";
+    public static final String TCP_METRIC_SHARED_MEMORY_HELD_PACKET_COUNT = "heldPacketCount";
     // ===[/TCP]========================================================
 
     // ===[TOPIC]=======================================================
@@ -69,6 +69,7 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
     private volatile long normalFramesReadLastPublish;
     private volatile long priorityFramesReadLastPublish;
     private volatile long processCountLastPublish;
+    private volatile long processTimeNanosLastPublish;
 
     NioInboundPipeline(NioChannel channel,
                        NioThread owner,
@@ -93,6 +94,8 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
                 return processCount.get();
             case LOAD_BALANCING_BYTE:
                 return bytesRead.get();
+            case LOAD_BALANCING_TIME:
+                return processTimeNanos.get();
             case LOAD_BALANCING_FRAME:
                 return normalFramesRead.get() + priorityFramesRead.get();
             default:
@@ -110,7 +113,7 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
     }
 
     @Override
-    void process() throws Exception {
+    void processPipeline() throws Exception {
         int readBytes = socketChannel.read(receiveBuffer);
 
         if (readBytes == -1) {
@@ -183,11 +186,13 @@ public final class NioInboundPipeline extends NioPipeline implements InboundPipe
         owner.framesTransceived += normalFramesRead.get() - normalFramesReadLastPublish;
         owner.priorityFramesTransceived += priorityFramesRead.get() - priorityFramesReadLastPublish;
         owner.processCount += processCount.get() - processCountLastPublish;
+        owner.processTimeNanos += processTimeNanos.get() - processTimeNanosLastPublish;
 
         bytesReadLastPublish = bytesRead.get();
         normalFramesReadLastPublish = normalFramesRead.get();
         priorityFramesReadLastPublish = priorityFramesRead.get();
         processCountLastPublish = processCount.get();
+        processTimeNanosLastPublish = processTimeNanos.get();
     }
 
     @Override
@@ -121,6 +121,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
     private volatile ExecutorService closeListenerExecutor;
     private final ConcurrencyDetection concurrencyDetection;
     private final boolean writeThroughEnabled;
+    private final long writeCoalescingLingerNanos;
     private final ThreadAffinity inputThreadAffinity;
     private volatile IOBalancer ioBalancer;
     private volatile NioThread[] inputThreads;
@@ -159,6 +160,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         // disabled with SELECT_WITH_FIX.
         this.writeThroughEnabled = ctx.writeThroughEnabled && selectorMode != SELECT_WITH_FIX;
         this.selectionKeyWakeupEnabled = ctx.selectionKeyWakeupEnabled && selectorMode != SELECT_WITH_FIX;
+        this.writeCoalescingLingerNanos = ctx.writeCoalescingLingerNanos;
         if (selectorMode == SELECT_WITH_FIX
                 && (ctx.writeThroughEnabled || ctx.selectionKeyWakeupEnabled)) {
             logger.warning("Selector mode SELECT_WITH_FIX is incompatible with write-through and selection key wakeup "
@@ -199,6 +201,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
                     + inputThreadCount + " input threads and "
                     + outputThreadCount + " output threads");
             logger.fine("write through enabled:" + writeThroughEnabled);
+            logger.fine("write coalescing linger nanos:" + writeCoalescingLingerNanos);
         }
 
         logger.log(selectorMode != SELECT ? Level.INFO : FINE, "IO threads selector mode is " + selectorMode);
@@ -334,7 +337,8 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
                 ioBalancer,
                 concurrencyDetection,
                 writeThroughEnabled,
-                selectionKeyWakeupEnabled);
+                selectionKeyWakeupEnabled,
+                writeCoalescingLingerNanos);
     }
 
     private NioInboundPipeline newInboundPipeline(NioChannel channel) {
@@ -504,6 +508,9 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         // this is an optimization that can speed up low threaded setups
         private boolean writeThroughEnabled;
 
+        // the maximum time the IO thread waits for more frames before writing a partially filled send buffer.
+        private long writeCoalescingLingerNanos;
+
         public Context() {
             String selectorModeString = SelectorMode.getConfiguredString();
             if (selectorModeString.startsWith(SELECT_NOW_STRING + ",")) {
@@ -521,6 +528,11 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
             return this;
         }
 
+        public Context writeCoalescingLingerNanos(long writeCoalescingLingerNanos) {
+            this.writeCoalescingLingerNanos = writeCoalescingLingerNanos;
+            return this;
+        }
+
         public Context concurrencyDetection(ConcurrencyDetection concurrencyDetection) {
             this.concurrencyDetection = concurrencyDetection;
             return this;
@@ -124,6 +124,7 @@ public final class NioOutboundPipeline
     private final SwCounter normalFramesWritten = newSwCounter();
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN, level = DEBUG)
     private final SwCounter priorityFramesWritten = newSwCounter();
+    private final SwCounter socketWrites = newSwCounter();
 
     private volatile long lastWriteTime;
 
@@ -131,9 +132,12 @@ public final class NioOutboundPipeline
     private long normalFramesWrittenLastPublish;
     private long priorityFramesWrittenLastPublish;
     private long processCountLastPublish;
+    private long processTimeNanosLastPublish;
     private final ConcurrencyDetection concurrencyDetection;
     private final boolean writeThroughEnabled;
     private final boolean selectionKeyWakeupEnabled;
+    private final long writeCoalescingLingerNanos;
+    private boolean lingering;
 
     NioOutboundPipeline(NioChannel channel,
                         NioThread owner,
@@ -142,11 +146,13 @@ public final class NioOutboundPipeline
                         IOBalancer balancer,
                         ConcurrencyDetection concurrencyDetection,
                         boolean writeThroughEnabled,
-                        boolean selectionKeyWakeupEnabled) {
+                        boolean selectionKeyWakeupEnabled,
+                        long writeCoalescingLingerNanos) {
         super(channel, owner, errorHandler, OP_WRITE, logger, balancer);
         this.concurrencyDetection = concurrencyDetection;
         this.writeThroughEnabled = writeThroughEnabled;
         this.selectionKeyWakeupEnabled = selectionKeyWakeupEnabled;
+        this.writeCoalescingLingerNanos = writeCoalescingLingerNanos;
     }
 
     @Override
@@ -156,6 +162,8 @@ public final class NioOutboundPipeline
                 return processCount.get();
             case LOAD_BALANCING_BYTE:
                 return bytesWritten.get();
+            case LOAD_BALANCING_TIME:
+                return processTimeNanos.get();
             case LOAD_BALANCING_FRAME:
                 return normalFramesWritten.get() + priorityFramesWritten.get();
             default:
@@ -301,25 +309,12 @@ public final class NioOutboundPipeline
 
     // is never called concurrently!
     @Override
-    @SuppressWarnings("unchecked")
-    public void process() throws Exception {
+    void processPipeline() throws Exception {
         processCount.inc();
 
-        OutboundHandler[] localHandlers = handlers;
-        HandlerStatus pipelineStatus = CLEAN;
-        for (int handlerIndex = 0; handlerIndex < localHandlers.length; handlerIndex++) {
-            OutboundHandler handler = localHandlers[handlerIndex];
-
-            HandlerStatus handlerStatus = handler.onWrite();
-
-            if (localHandlers != handlers) {
-                // change in the pipeline detected, therefor the loop is restarted.
-                localHandlers = handlers;
-                pipelineStatus = CLEAN;
-                handlerIndex = -1;
-            } else if (handlerStatus != CLEAN) {
-                pipelineStatus = handlerStatus;
-            }
+        HandlerStatus pipelineStatus = processHandlers();
+        if (linger(pipelineStatus)) {
+            return;
         }
 
         flushToSocket();
@@ -350,6 +345,45 @@ public final class NioOutboundPipeline
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private HandlerStatus processHandlers() throws Exception {
+        OutboundHandler[] localHandlers = handlers;
+        HandlerStatus pipelineStatus = CLEAN;
+        for (int handlerIndex = 0; handlerIndex < localHandlers.length; handlerIndex++) {
+            OutboundHandler handler = localHandlers[handlerIndex];
+
+            HandlerStatus handlerStatus = handler.onWrite();
+
+            if (localHandlers != handlers) {
+                // change in the pipeline detected, therefor the loop is restarted.
+                localHandlers = handlers;
+                pipelineStatus = CLEAN;
+                handlerIndex = -1;
+            } else if (handlerStatus != CLEAN) {
+                pipelineStatus = handlerStatus;
+            }
+        }
+        return pipelineStatus;
+    }
+
+    // Defers the socket write by the linger time when all pending frames got encoded but didn't fill
+    // the send buffer, so the frames written in the meantime end up in the same socket write. The
+    // pipeline remains scheduled and is processed again by the owning NioThread once the deadline has
+    // passed; OP_WRITE is unregistered, so nothing else processes the pipeline in the meantime.
+    // Frames written through on the calling thread are never deferred.
+    private boolean linger(HandlerStatus pipelineStatus) {
+        boolean canLinger = writeCoalescingLingerNanos > 0 && currentThread() == owner && !migrationRequested();
+        if (lingering || !canLinger || pipelineStatus != CLEAN || !sendBuffer.hasRemaining()) {
+            lingering = false;
+            return false;
+        }
+
+        lingering = true;
+        unregisterOp(OP_WRITE);
+        owner.addTaskAtDeadline(this, System.nanoTime() + writeCoalescingLingerNanos);
+        return true;
+    }
+
     private void postProcessBlocked() {
         // pipeline is blocked; no point in receiving OP_WRITE events.
         unregisterOp(OP_WRITE);
@@ -438,6 +472,7 @@ public final class NioOutboundPipeline
     private void flushToSocket() throws IOException {
         lastWriteTime = currentTimeMillis();
         int written = socketChannel.write(sendBuffer);
+        socketWrites.inc();
         bytesWritten.inc(written);
         //System.out.println(channel + " bytes written:" + written);
     }
@@ -451,6 +486,14 @@ public final class NioOutboundPipeline
         return bytesWritten.get();
     }
 
+    long framesWritten() {
+        return normalFramesWritten.get() + priorityFramesWritten.get();
+    }
+
+    long socketWrites() {
+        return socketWrites.get();
+    }
+
     @Override
     protected void publishMetrics() {
         if (currentThread() != owner) {
@@ -461,11 +504,13 @@ public final class NioOutboundPipeline
         owner.framesTransceived += normalFramesWritten.get() - normalFramesWrittenLastPublish;
         owner.priorityFramesTransceived += priorityFramesWritten.get() - priorityFramesWrittenLastPublish;
         owner.processCount += processCount.get() - processCountLastPublish;
+        owner.processTimeNanos += processTimeNanos.get() - processTimeNanosLastPublish;
 
         bytesWrittenLastPublish = bytesWritten.get();
         normalFramesWrittenLastPublish = normalFramesWritten.get();
         priorityFramesWrittenLastPublish = priorityFramesWritten.get();
         processCountLastPublish = processCount.get();
+        processTimeNanosLastPublish = processTimeNanos.get();
     }
 
     @Override
@@ -35,8 +35,10 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKIN
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_OPS_READY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_PROCESS_TIME_NANOS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static java.lang.Thread.currentThread;
 
@@ -45,13 +47,19 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
     protected static final int LOAD_BALANCING_HANDLE = 0;
     protected static final int LOAD_BALANCING_BYTE = 1;
     protected static final int LOAD_BALANCING_FRAME = 2;
+    // the time spent in process(), which reflects the handler CPU time since the
+    // NioThreads only do non-blocking work.
+    protected static final int LOAD_BALANCING_TIME = 3;
 
     // for the time being we configure using an int until we have decided which load strategy to use.
-    protected final int loadType = Integer.getInteger("hazelcast.io.load", LOAD_BALANCING_BYTE);
+    protected final int loadType = Integer.getInteger("hazelcast.io.load", LOAD_BALANCING_TIME);
 
     // the number of time the NioPipeline.process() method has been called.
     @Probe(name = NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT, level = DEBUG)
     protected final SwCounter processCount = newSwCounter();
+    // the total time spent in the NioPipeline.process() method.
+    @Probe(name = NETWORKING_METRIC_NIO_PIPELINE_PROCESS_TIME_NANOS, unit = NS, level = DEBUG)
+    protected final SwCounter processTimeNanos = newSwCounter();
     protected final ILogger logger;
     protected final NioChannel channel;
     protected final SocketChannel socketChannel;
@@ -155,6 +163,24 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
     /**
      * Called when the pipeline needs to be processed.
      * <p>
+     * Delegates to {@link #processPipeline()} and records the time spent in
+     * it, so that the {@link IOBalancer} can balance on the time the handlers
+     * keep the {@link NioThread} busy.
+     *
+     * @throws Exception
+     */
+    void process() throws Exception {
+        long startNanos = System.nanoTime();
+        try {
+            processPipeline();
+        } finally {
+            processTimeNanos.inc(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Processes the pipeline.
+     * <p>
      * Any exception that leads to a termination of the connection like an
      * IOException should not be dealt with in the handle method but should
      * be propagated. The reason behind this is that the handle logic already
@@ -163,7 +189,7 @@ public abstract class NioPipeline implements MigratablePipeline, Runnable {
      *
      * @throws Exception
      */
-    abstract void process() throws Exception;
+    abstract void processPipeline() throws Exception;
 
     /**
      * Adds a task to be executed on the {@link NioThread owner}.
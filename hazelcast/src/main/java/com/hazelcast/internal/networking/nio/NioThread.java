@@ -31,6 +31,7 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.util.Iterator;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Random;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -43,18 +44,24 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKIN
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_IO_THREAD_ID;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_PRIORITY_FRAMES_TRANSCEIVED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_PROCESS_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_PROCESS_TIME_NANOS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_SELECTOR_IO_EXCEPTION_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_SELECTOR_REBUILD_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_TASK_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.MetricTarget.MANAGEMENT_CENTER;
 import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.internal.networking.nio.SelectorMode.SELECT_NOW;
 import static com.hazelcast.internal.tpcengine.nio.SelectorOptimizer.newSelector;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 @ExcludedMetricTargets(MANAGEMENT_CENTER)
 public class NioThread extends HazelcastManagedThread implements OperationHostileThread {
@@ -86,9 +93,14 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
     volatile long priorityFramesTransceived;
     @Probe(name = NETWORKING_METRIC_NIO_THREAD_PROCESS_COUNT)
     volatile long processCount;
+    @Probe(name = NETWORKING_METRIC_NIO_THREAD_PROCESS_TIME_NANOS, unit = NS)
+    volatile long processTimeNanos;
 
     @Probe(name = NETWORKING_METRIC_NIO_THREAD_TASK_QUEUE_SIZE)
     private final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
+    // only accessed by this thread; ordered by deadline
+    private final PriorityQueue<DeadlineTask> deadlineTasks = new PriorityQueue<>(
+            (task1, task2) -> Long.signum(task1.deadlineNanos() - task2.deadlineNanos()));
     @Probe(name = NETWORKING_METRIC_NIO_THREAD_EVENT_COUNT)
     private final SwCounter eventCount = newSwCounter();
     @Probe(name = NETWORKING_METRIC_NIO_THREAD_SELECTOR_IO_EXCEPTION_COUNT)
@@ -226,6 +238,23 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
         }
     }
 
+    /**
+     * Adds a task to be executed by this NioThread once the deadline has passed.
+     * The thread keeps processing its channels and tasks until the deadline;
+     * unless the selector mode is {@link SelectorMode#SELECT_NOW}, the deadline
+     * is rounded up to whole milliseconds since that is the granularity of the
+     * selector timeout.
+     * <p>
+     * Can only be called by this NioThread.
+     *
+     * @param task          the task to add
+     * @param deadlineNanos the {@link System#nanoTime()} after which the task runs
+     */
+    void addTaskAtDeadline(Runnable task, long deadlineNanos) {
+        assert Thread.currentThread() == this;
+        deadlineTasks.add(new DeadlineTask(task, deadlineNanos));
+    }
+
     @Override
     public void executeRun() {
         // This outer loop is a bit complex, but it takes care of a lot of stuff:
@@ -288,8 +317,9 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
     private void selectLoop() throws IOException {
         while (!stop) {
             processTaskQueue();
+            processDeadlineTasks();
 
-            int selectedKeys = selector.select(SELECT_WAIT_TIME_MILLIS);
+            int selectedKeys = select();
             if (selectedKeys > 0) {
                 processSelectionKeys();
             }
@@ -300,13 +330,14 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
         int idleCount = 0;
         while (!stop) {
             processTaskQueue();
+            processDeadlineTasks();
 
             long before = currentTimeMillis();
-            int selectedKeys = selector.select(SELECT_WAIT_TIME_MILLIS);
+            int selectedKeys = select();
             if (selectedKeys > 0) {
                 idleCount = 0;
                 processSelectionKeys();
-            } else if (!taskQueue.isEmpty()) {
+            } else if (!taskQueue.isEmpty() || !deadlineTasks.isEmpty()) {
                 idleCount = 0;
             } else {
                 // no keys were selected, not interrupted by wakeup therefore we hit an issue with JDK/network stack
@@ -329,14 +360,14 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
     private void selectNowLoop() throws IOException {
         long idleRound = 0;
         while (!stop) {
-            boolean tasksProcessed = processTaskQueue();
+            boolean tasksProcessed = processTaskQueue() | processDeadlineTasks();
 
             int selectedKeys = selector.selectNow();
 
             if (selectedKeys > 0) {
                 processSelectionKeys();
                 idleRound = 0;
-            } else if (tasksProcessed) {
+            } else if (tasksProcessed || !deadlineTasks.isEmpty()) {
                 idleRound = 0;
             } else if (idleStrategy != null) {
                 idleRound++;
@@ -345,6 +376,37 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
         }
     }
 
+    // blocks on the selector until the deadline of the first deadline task at most; the selector
+    // timeout has millisecond granularity, so the deadline is rounded up
+    private int select() throws IOException {
+        DeadlineTask task = deadlineTasks.peek();
+        if (task == null) {
+            return selector.select(SELECT_WAIT_TIME_MILLIS);
+        }
+        long remainingNanos = task.deadlineNanos() - nanoTime();
+        if (remainingNanos <= 0) {
+            return selector.selectNow();
+        }
+        return selector.select(min(NANOSECONDS.toMillis(remainingNanos + MILLISECONDS.toNanos(1) - 1),
+                SELECT_WAIT_TIME_MILLIS));
+    }
+
+    private boolean processDeadlineTasks() {
+        boolean tasksProcessed = false;
+        long nowNanos = nanoTime();
+        while (!stop) {
+            DeadlineTask task = deadlineTasks.peek();
+            if (task == null || task.deadlineNanos() - nowNanos > 0) {
+                break;
+            }
+            deadlineTasks.poll();
+            task.task().run();
+            completedTaskCount.inc();
+            tasksProcessed = true;
+        }
+        return tasksProcessed;
+    }
+
     private boolean processTaskQueue() {
         boolean tasksProcessed = false;
         while (!stop) {
@@ -438,4 +500,7 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
     public String toString() {
         return getName();
     }
+
+    private record DeadlineTask(Runnable task, long deadlineNanos) {
+    }
 }
@@ -33,8 +33,11 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_IMBALANCE_DETECTED_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_INPUT_IMBALANCE_PERCENTAGE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_COMPLETED_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_OUTPUT_IMBALANCE_PERCENTAGE;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.metrics.ProbeUnit.PERCENT;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_INTERVAL_SECONDS;
@@ -102,6 +105,16 @@ public class IOBalancer {
         this.enabled = isEnabled(inputThreads, outputThreads);
     }
 
+    @Probe(name = NETWORKING_METRIC_NIO_IO_BALANCER_INPUT_IMBALANCE_PERCENTAGE, unit = PERCENT, level = DEBUG)
+    private int inputImbalancePercentage() {
+        return inLoadTracker.imbalancePercentage();
+    }
+
+    @Probe(name = NETWORKING_METRIC_NIO_IO_BALANCER_OUTPUT_IMBALANCE_PERCENTAGE, unit = PERCENT, level = DEBUG)
+    private int outputImbalancePercentage() {
+        return outLoadTracker.imbalancePercentage();
+    }
+
     // just for testing
     LoadTracker getInLoadTracker() {
         return inLoadTracker;
@@ -35,6 +35,8 @@ import static com.hazelcast.internal.util.MapUtil.createHashMap;
  * {@link #removePipeline(MigratablePipeline)}
  */
 class LoadTracker {
+    private static final int HUNDRED_PERCENT = 100;
+
     private final ILogger logger;
 
     //all known IO ioThreads. we assume no. of ioThreads is constant during a lifespan of a member
@@ -54,6 +56,10 @@ class LoadTracker {
 
     private final LoadImbalance imbalance;
 
+    //difference between the busiest and least busy NioThread relative to the busiest one, in percent.
+    //written by the IOBalancerThread only and read by the metrics system.
+    private volatile int imbalancePercentage;
+
     LoadTracker(NioThread[] ioThreads, ILogger logger) {
         this.logger = logger;
 
@@ -81,6 +87,15 @@ class LoadTracker {
         return imbalance;
     }
 
+    /**
+     * Returns how much less load the least busy NioThread had than the
+     * busiest one in the last calculated interval, as a percentage of the
+     * load of the busiest NioThread.
+     */
+    int imbalancePercentage() {
+        return imbalancePercentage;
+    }
+
     // just for testing
     Set<MigratablePipeline> getPipelines() {
         return pipelines;
@@ -101,9 +116,11 @@ class LoadTracker {
         imbalance.maximumLoad = Long.MIN_VALUE;
         imbalance.srcOwner = null;
         imbalance.dstOwner = null;
+        long highestLoad = 0;
         for (NioThread owner : ioThreads) {
             long load = ownerLoad.get(owner);
             int pipelineCount = ownerToPipelines.get(owner).size();
+            highestLoad = Math.max(highestLoad, load);
 
             if (load > imbalance.maximumLoad && pipelineCount > 1) {
                 // if a nioThread has only 1 handle, there is no point in making it a source nioThread since
@@ -118,6 +135,8 @@ class LoadTracker {
                 imbalance.dstOwner = owner;
             }
         }
+        imbalancePercentage = highestLoad == 0
+                ? 0 : (int) ((highestLoad - imbalance.minimumLoad) * HUNDRED_PERCENT / highestLoad);
     }
 
     private void updateNewWorkingImbalance() {
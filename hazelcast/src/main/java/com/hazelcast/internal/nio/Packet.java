@@ -45,6 +45,7 @@ public final class Packet extends HeapData implements OutboundFrame {
     // 2. Packet type (bits 0, 2, 5)
     // 3. Flags specific to a given packet type (bits 1, 6)
     // 4. 4.x flag (bit 7)
+    // 5. COMPRESSED (bit 8)
 
     // 1. URGENT flag
 
@@ -101,6 +102,31 @@ public final class Packet extends HeapData implements OutboundFrame {
      */
     public static final int FLAG_4_0 = 1 << 7;
 
+    /**
+     * Marks the payload of the packet as compressed. It is only raised on the
+     * wire between members that negotiated packet compression and is lowered
+     * again when the packet is read.
+     */
+    public static final int FLAG_COMPRESSED = 1 << 8;
+
+    /**
+     * Marks the last packet a member writes to a connection before it
+     * continues on the shared memory ring of that connection. It carries no
+     * payload and is consumed when it is read.
+     *
+     * @see com.hazelcast.internal.server.tcp.SharedMemoryTransport
+     */
+    public static final int FLAG_SHARED_MEMORY_SWITCH = 1 << 9;
+
+    /**
+     * Marks an operation control packet granting flow control credits for
+     * the connection it is received on. The payload is the serialized
+     * number of granted credits.
+     *
+     * @see com.hazelcast.internal.server.ConnectionCredits
+     */
+    public static final int FLAG_OP_CREDITS = 1 << 10;
+
     //            END OF HEADER FLAG SECTION
 
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server;
+
+import com.hazelcast.internal.nio.Packet;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_CONTROL;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
+
+/**
+ * The flow control credits of a {@link ServerConnection}.
+ * <p>
+ * The sending side holds a balance of credits. Every non-urgent operation
+ * written to the connection consumes one credit and every grant received
+ * from the remote member adds to the balance. The receiving side counts
+ * the operations it has processed and grants them back as credits, so the
+ * number of operations in flight over a connection is bounded by the
+ * initial window the receiver grants.
+ * <p>
+ * Until the first grant is received the connection isn't
+ * {@link #isLimited() limited}, so that members which don't apply flow
+ * control are never throttled. Operations are counted from the start, so
+ * the balance is exact once the first grant arrives.
+ */
+public final class ConnectionCredits {
+
+    private final AtomicLong balance = new AtomicLong();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicBoolean windowGranted = new AtomicBoolean();
+    private volatile boolean limited;
+
+    /**
+     * Checks if the given packet consumes a credit when it is sent over a
+     * connection.
+     *
+     * @param packet the packet to check
+     * @return {@code true} for non-urgent operations, {@code false} for
+     * all other packets
+     */
+    public static boolean consumesCredit(Packet packet) {
+        return packet.getPacketType() == Packet.Type.OPERATION
+                && !packet.isUrgent()
+                && !packet.isFlagRaised(FLAG_OP_RESPONSE | FLAG_OP_CONTROL);
+    }
+
+    /**
+     * Adds the credits granted by the remote member to the balance.
+     *
+     * @param credits the number of processed operations the remote member
+     *                grants back
+     */
+    public void grant(int credits) {
+        balance.addAndGet(credits);
+        limited = true;
+    }
+
+    /**
+     * Consumes a credit for an operation written to the connection. The
+     * balance may become negative for operations which are sent without
+     * waiting for credits.
+     */
+    public void consume() {
+        balance.decrementAndGet();
+    }
+
+    /**
+     * Checks if an operation can be sent without exceeding the credits.
+     * Threads sending concurrently may exceed the credits by one operation
+     * each.
+     *
+     * @return {@code true} if the connection isn't limited or has credits
+     * left
+     */
+    public boolean hasCredits() {
+        return !limited || balance.get() > 0;
+    }
+
+    /**
+     * Returns if a grant has been received, i.e. if the remote member
+     * applies flow control.
+     */
+    public boolean isLimited() {
+        return limited;
+    }
+
+    /**
+     * Returns the balance of credits. It is only meaningful if the
+     * connection is {@link #isLimited() limited}.
+     */
+    public long available() {
+        return balance.get();
+    }
+
+    /**
+     * Counts an operation received over the connection which has been
+     * processed.
+     *
+     * @return the number of processed operations which haven't been granted
+     * back yet
+     */
+    public int processed() {
+        return processed.incrementAndGet();
+    }
+
+    /**
+     * Takes the processed operations to grant them back as credits.
+     *
+     * @return the number of processed operations since the last call
+     */
+    public int takeProcessed() {
+        return processed.getAndSet(0);
+    }
+
+    /**
+     * Returns if the initial window has been granted to the remote member.
+     */
+    public boolean isWindowGranted() {
+        return windowGranted.get();
+    }
+
+    /**
+     * Marks the initial window as granted.
+     *
+     * @return {@code true} if the window has to be granted by the caller,
+     * {@code false} if it has been granted already
+     */
+    public boolean tryGrantWindow() {
+        return windowGranted.compareAndSet(false, true);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionCredits{limited=" + limited + ", balance=" + balance.get()
+                + ", processed=" + processed.get() + '}';
+    }
+}
@@ -54,4 +54,15 @@ public interface ServerConnection extends Connection {
      * @return true if client connection, false otherwise.
      */
     boolean isClient();
+
+    /**
+     * Returns the flow control credits for sending operations over this
+     * connection.
+     *
+     * @return the credits or {@code null} if this connection isn't subject
+     * to flow control
+     */
+    default ConnectionCredits getCredits() {
+        return null;
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.util.zip.Deflater;
+
+/**
+ * Settings for the compression of member to member packets.
+ * <p>
+ * Compression is negotiated per connection: every member announces in its
+ * {@link com.hazelcast.internal.cluster.impl.MemberHandshake} that it can read
+ * compressed packets, and a member only compresses packets written to a remote
+ * member that did so. Packets smaller than the threshold are written as is,
+ * so small operations and responses don't pay for compression.
+ * <p>
+ * The packets of a connection are compressed as a single deflate stream which
+ * is flushed after every packet. So consecutive packets, e.g. the chunks of a
+ * partition migration, benefit from the dictionary built up by the previous
+ * ones.
+ *
+ * @see com.hazelcast.internal.nio.Packet#FLAG_COMPRESSED
+ */
+public final class PacketCompression {
+
+    /**
+     * Enables compression of packets sent to other members.
+     */
+    public static final HazelcastProperty PACKET_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.network.packet.compression.enabled", false);
+
+    /**
+     * Packets with a payload smaller than this number of bytes are not compressed.
+     */
+    public static final HazelcastProperty PACKET_COMPRESSION_THRESHOLD_BYTES
+            = new HazelcastProperty("hazelcast.network.packet.compression.threshold.bytes", 16 * 1024);
+
+    /**
+     * The deflate compression level, from 1 (fastest) to 9 (smallest).
+     */
+    public static final HazelcastProperty PACKET_COMPRESSION_LEVEL
+            = new HazelcastProperty("hazelcast.network.packet.compression.level", Deflater.BEST_SPEED);
+
+    private PacketCompression() {
+    }
+
+    /**
+     * Creates the compressor for the packets written to the given connection.
+     *
+     * @return the compressor or {@code null} if packet compression is disabled
+     */
+    static PacketCompressor newCompressorOrNull(ServerConnection connection, HazelcastProperties properties) {
+        if (!properties.getBoolean(PACKET_COMPRESSION_ENABLED)
+                || !(connection instanceof TcpServerConnection tcpConnection)) {
+            return null;
+        }
+        return new PacketCompressor(tcpConnection,
+                properties.getInteger(PACKET_COMPRESSION_THRESHOLD_BYTES),
+                properties.getInteger(PACKET_COMPRESSION_LEVEL));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.nio.Packet;
+
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+
+/**
+ * Compresses the packets written to a single connection.
+ * <p>
+ * The payload of a compressed packet starts with the length of the
+ * uncompressed payload followed by the deflated bytes. Once a packet is
+ * compressed it must be written, since it is part of the deflate stream of
+ * the connection.
+ * <p>
+ * Owned by the {@link PacketEncoder} of the connection, which calls {@link
+ * #close()} from the close listener of its channel to release the native
+ * deflater memory. Since the channel may be closed by any thread, compressing
+ * and closing are synchronized.
+ *
+ * @see PacketDecompressor
+ */
+final class PacketCompressor {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    /**
+     * A buffer grown beyond this size for a large packet is not kept for the
+     * next packets.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private final TcpServerConnection connection;
+    private final int threshold;
+    private final Deflater deflater;
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private boolean closed;
+
+    PacketCompressor(TcpServerConnection connection, int threshold, int level) {
+        this.connection = connection;
+        this.threshold = threshold;
+        this.deflater = new Deflater(level, true);
+    }
+
+    /**
+     * Returns the packet to write instead of the given one.
+     *
+     * @return a compressed copy of the packet, or the packet itself if it is
+     * too small, the remote member can't read compressed packets or the
+     * connection is closed
+     */
+    Packet compress(Packet packet) {
+        if (packet.totalSize() < threshold || !connection.isPacketCompressionSupported()) {
+            return packet;
+        }
+        synchronized (this) {
+            return closed ? packet : compress0(packet);
+        }
+    }
+
+    private Packet compress0(Packet packet) {
+
+        byte[] payload = packet.toByteArray();
+        deflater.setInput(payload);
+        int length = Bits.INT_SIZE_IN_BYTES;
+        for (; ; ) {
+            int available = buffer.length - length;
+            length += deflater.deflate(buffer, length, available, Deflater.SYNC_FLUSH);
+            if (length < buffer.length) {
+                // the output didn't fill up the buffer, so everything is flushed
+                break;
+            }
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        Bits.writeIntB(buffer, 0, payload.length);
+
+        Packet compressed = new Packet(Arrays.copyOf(buffer, length), packet.getPartitionId())
+                .resetFlagsTo(packet.getFlags() | FLAG_COMPRESSED);
+        if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+            buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+        return compressed;
+    }
+
+    /**
+     * Releases the deflater and the buffer. Packets passed to {@link
+     * #compress(Packet)} afterwards are returned as they are.
+     */
+    synchronized void close() {
+        if (!closed) {
+            closed = true;
+            deflater.end();
+            buffer = null;
+        }
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+}
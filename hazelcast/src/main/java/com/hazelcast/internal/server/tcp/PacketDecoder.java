@@ -28,13 +28,17 @@ import java.util.function.Consumer;
 
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.nio.Packet.FLAG_SHARED_MEMORY_SWITCH;
 import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 
 /**
  * The {@link InboundHandler} for member to member communication.
  * <p>
  * It reads as many packets from the src {@link ByteBuffer} as possible, and
- * each of the Packets is sent to the destination.
+ * each of the Packets is sent to the destination. Compressed packets are
+ * decompressed first; see {@link PacketCompression}. A switch packet hands
+ * the connection over to the {@link SharedMemoryTransport}.
  *
  * @see Consumer
  * @see PacketEncoder
@@ -43,6 +47,8 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
 
     protected final ServerConnection connection;
     private final PacketIOHelper packetReader = new PacketIOHelper();
+    private PacketDecompressor decompressor;
+    private SharedMemoryInbound sharedMemoryInbound;
 
     public PacketDecoder(ServerConnection connection, Consumer<Packet> dst) {
         this.connection = connection;
@@ -72,7 +78,29 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
         }
     }
 
-    protected void onPacketComplete(Packet packet) {
+    private PacketDecompressor newDecompressor() {
+        PacketDecompressor newDecompressor = new PacketDecompressor();
+        channel.addCloseListener(closedChannel -> newDecompressor.close());
+        if (channel.isClosed()) {
+            newDecompressor.close();
+        }
+        return newDecompressor;
+    }
+
+    protected void onPacketComplete(Packet packet) throws Exception {
+        if (packet.isFlagRaised(FLAG_SHARED_MEMORY_SWITCH)) {
+            // the remote member continues on the shared memory ring
+            sharedMemoryInbound = ((TcpServerConnection) connection).activateSharedMemoryInbound(dst);
+            return;
+        }
+
+        if (packet.isFlagRaised(FLAG_COMPRESSED)) {
+            if (decompressor == null) {
+                decompressor = newDecompressor();
+            }
+            packet = decompressor.decompress(packet);
+        }
+
         if (packet.isFlagRaised(FLAG_URGENT)) {
             priorityPacketsRead.inc();
         } else {
@@ -81,6 +109,10 @@ public class PacketDecoder extends InboundHandlerWithCounters<ByteBuffer, Consum
 
         packet.setConn(connection);
 
+        if (sharedMemoryInbound != null && sharedMemoryInbound.holdIfActive(packet)) {
+            // the packet was written after the packets still waiting in the shared memory ring
+            return;
+        }
         dst.accept(packet);
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.nio.Packet;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+
+/**
+ * Decompresses the packets read from a single connection which were
+ * compressed by the {@link PacketCompressor} of the remote member.
+ * <p>
+ * Owned by the {@link PacketDecoder} of the connection, which calls {@link
+ * #close()} from the close listener of its channel to release the native
+ * inflater memory. Since the channel may be closed by any thread,
+ * decompressing and closing are synchronized.
+ */
+final class PacketDecompressor {
+
+    private final Inflater inflater = new Inflater(true);
+    private final byte[] scratch = new byte[1];
+    private boolean closed;
+
+    synchronized Packet decompress(Packet packet) throws DataFormatException {
+        if (closed) {
+            throw new IllegalStateException("Can't decompress " + packet + ", the connection is closed");
+        }
+        byte[] compressed = packet.toByteArray();
+        int length = Bits.readIntB(compressed, 0);
+        inflater.setInput(compressed, Bits.INT_SIZE_IN_BYTES, compressed.length - Bits.INT_SIZE_IN_BYTES);
+
+        byte[] payload = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int inflated = inflater.inflate(payload, offset, length - offset);
+            if (inflated == 0 && (inflater.needsInput() || inflater.finished())) {
+                throw new DataFormatException("Compressed packet is truncated, inflated " + offset + " of " + length
+                        + " bytes");
+            }
+            offset += inflated;
+        }
+        // consume the flush marker, so the next packet continues on a block boundary
+        while (!inflater.needsInput()) {
+            if (inflater.inflate(scratch) > 0 || inflater.finished()) {
+                throw new DataFormatException("Compressed packet is longer than " + length + " bytes");
+            }
+        }
+
+        return new Packet(payload, packet.getPartitionId())
+                .resetFlagsTo(packet.getFlags() & ~FLAG_COMPRESSED)
+                .setConn(packet.getConn());
+    }
+
+    /**
+     * Releases the inflater.
+     */
+    synchronized void close() {
+        if (!closed) {
+            closed = true;
+            inflater.end();
+        }
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+}
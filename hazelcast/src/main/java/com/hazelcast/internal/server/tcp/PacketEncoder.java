@@ -20,6 +20,8 @@ import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.nio.PacketIOHelper;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 import java.nio.ByteBuffer;
 import java.util.function.Supplier;
@@ -36,18 +38,36 @@ import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
  * It makes use of a flyweight to allow the sharing of a packet-instance over
  * multiple connections. The flyweight contains the actual 'position' state of
  * what has been written.
+ * <p>
+ * If packet compression is enabled, large packets are compressed before they
+ * are written; see {@link PacketCompression}.
  *
  * @see PacketDecoder
  */
 public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer> {
 
     private final PacketIOHelper packetWriter = new PacketIOHelper();
+    private final PacketCompressor compressor;
 
     private Packet packet;
 
+    public PacketEncoder() {
+        this.compressor = null;
+    }
+
+    public PacketEncoder(ServerConnection connection, HazelcastProperties properties) {
+        this.compressor = PacketCompression.newCompressorOrNull(connection, properties);
+    }
+
     @Override
     public void handlerAdded() {
         initDstBuffer();
+        if (compressor != null) {
+            channel.addCloseListener(closedChannel -> compressor.close());
+            if (channel.isClosed()) {
+                compressor.close();
+            }
+        }
     }
 
     @Override
@@ -62,6 +82,10 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
                         // everything is processed, so we are done
                         return CLEAN;
                     }
+
+                    if (compressor != null) {
+                        packet = compressor.compress(packet);
+                    }
                 }
 
                 if (packetWriter.writeTo(packet, dst)) {
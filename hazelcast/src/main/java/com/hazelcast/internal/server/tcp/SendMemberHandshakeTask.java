@@ -29,8 +29,11 @@ import java.util.Collection;
 import java.util.EnumMap;
 import java.util.Map;
 
+import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_PACKET_COMPRESSION;
 import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_PLANE_COUNT;
 import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_PLANE_INDEX;
+import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_SHARED_MEMORY_PATH;
+import static com.hazelcast.internal.cluster.impl.MemberHandshake.OPTION_SHARED_MEMORY_TOKEN;
 import static com.hazelcast.internal.cluster.impl.MemberHandshake.SCHEMA_VERSION_2;
 
 public class SendMemberHandshakeTask implements Runnable {
@@ -74,13 +77,26 @@ public class SendMemberHandshakeTask implements Runnable {
                 reply,
                 serverContext.getThisUuid())
                 .addOption(OPTION_PLANE_COUNT, planeCount)
-                .addOption(OPTION_PLANE_INDEX, planeIndex);
+                .addOption(OPTION_PLANE_INDEX, planeIndex)
+                .addOption(OPTION_PACKET_COMPRESSION, 1);
+        addSharedMemoryOptions(memberHandshake);
         byte[] bytes = serverContext.getSerializationService().toBytes(memberHandshake);
         Packet packet = new Packet(bytes).setPacketType(Packet.Type.SERVER_CONTROL);
         connection.write(packet);
         //now you can send anything...
     }
 
+    // offers the remote member a shared memory ring if it runs on the same host
+    private void addSharedMemoryOptions(MemberHandshake memberHandshake) {
+        SharedMemoryTransport transport = connection.getConnectionManager().getServer().getSharedMemoryTransport();
+        SharedMemoryOutbound outbound = transport == null ? null : transport.newOutbound(connection);
+        if (outbound != null) {
+            connection.setSharedMemoryOutbound(outbound);
+            memberHandshake.addOption(OPTION_SHARED_MEMORY_PATH, outbound.path())
+                    .addOption(OPTION_SHARED_MEMORY_TOKEN, outbound.token());
+        }
+    }
+
     Map<ProtocolType, Collection<Address>> getConfiguredLocalAddresses() {
         EndpointQualifier qualifier = connection.getConnectionManager().getEndpointQualifier();
         boolean isWanHandshake = qualifier != null && qualifier.getType() == ProtocolType.WAN;
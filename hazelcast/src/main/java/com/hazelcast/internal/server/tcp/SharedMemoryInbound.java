@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_SHARED_MEMORY_ACTIVE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_SHARED_MEMORY_HELD_PACKET_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_SHARED_MEMORY_PACKETS_READ;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_SHARED_MEMORY_URGENT_PACKETS_READ;
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * The receiving side of a {@link SharedMemoryRing}, only polled by the reader
+ * thread of the {@link SharedMemoryTransport}.
+ * <p>
+ * The ring is read from the switch packet received over TCP up to the end
+ * records of both lanes, which the sender appends when it falls back to TCP.
+ * Packets received over TCP in the meantime were written after the end
+ * records, so they are held back and dispatched once both end records were
+ * read.
+ */
+final class SharedMemoryInbound {
+
+    // bounds the packets read from a lane per poll, so the other lane and rings aren't starved
+    private static final int MAX_PACKETS_PER_POLL = 1024;
+
+    private final SharedMemoryTransport transport;
+    private final TcpServerConnection connection;
+    private final SharedMemoryRing ring;
+    private final SharedMemoryLane normalLane;
+    private final SharedMemoryLane urgentLane;
+    // guarded by this
+    private final Queue<Packet> heldPackets = new ArrayDeque<>();
+    @Probe(name = TCP_METRIC_SHARED_MEMORY_PACKETS_READ)
+    private final SwCounter packetsRead = newSwCounter();
+    @Probe(name = TCP_METRIC_SHARED_MEMORY_URGENT_PACKETS_READ)
+    private final SwCounter urgentPacketsRead = newSwCounter();
+    @Probe(name = TCP_METRIC_SHARED_MEMORY_HELD_PACKET_COUNT, level = DEBUG)
+    private final SwCounter heldPacketCount = newSwCounter();
+    private final Consumer<Packet> ringDst = this::dispatchFromRing;
+    private Consumer<Packet> dst;
+    private boolean polled;
+    private volatile boolean active;
+    private volatile boolean closed;
+
+    SharedMemoryInbound(SharedMemoryTransport transport, TcpServerConnection connection, SharedMemoryRing ring) {
+        this.transport = transport;
+        this.connection = connection;
+        this.ring = ring;
+        this.normalLane = ring.normalLane();
+        this.urgentLane = ring.urgentLane();
+    }
+
+    TcpServerConnection connection() {
+        return connection;
+    }
+
+    /**
+     * Lets the remote member know that it can switch to the ring.
+     */
+    void markAttached() {
+        ring.markAttached();
+    }
+
+    /**
+     * Starts reading the ring. Called by the TCP pipeline when it read the
+     * switch packet, so all packets written before are dispatched.
+     *
+     * @param dst the consumer of the packets read from the ring
+     */
+    void activate(Consumer<Packet> dst) {
+        this.dst = dst;
+        active = true;
+        if (!polled) {
+            polled = true;
+            transport.startPolling(this);
+        }
+    }
+
+    @Probe(name = TCP_METRIC_SHARED_MEMORY_ACTIVE)
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Holds back a packet received over TCP while the ring is read. Called
+     * by the TCP pipeline.
+     *
+     * @return {@code true} if the packet is held and dispatched later,
+     * {@code false} if it can be dispatched right away
+     */
+    boolean holdIfActive(Packet packet) {
+        if (!active) {
+            return false;
+        }
+        synchronized (this) {
+            if (!active) {
+                return false;
+            }
+            heldPackets.add(packet);
+            heldPacketCount.inc();
+            return true;
+        }
+    }
+
+    /**
+     * Dispatches the packets available in the ring, urgent ones first.
+     *
+     * @return the number of dispatched packets
+     */
+    int poll() {
+        if (closed || !active) {
+            return 0;
+        }
+        int urgentPackets = urgentLane.read(ringDst, MAX_PACKETS_PER_POLL);
+        urgentPacketsRead.inc(urgentPackets);
+        int packets = normalLane.read(ringDst, MAX_PACKETS_PER_POLL);
+        packetsRead.inc(packets);
+        if (urgentLane.isEndReached() && normalLane.isEndReached()) {
+            packets += deactivate();
+        }
+        return urgentPackets + packets;
+    }
+
+    private void dispatchFromRing(Packet packet) {
+        packet.setConn(connection);
+        dst.accept(packet);
+    }
+
+    // the sender fell back to TCP; it only switches back once both end records are consumed
+    private int deactivate() {
+        int packets = 0;
+        synchronized (this) {
+            for (Packet packet; (packet = heldPackets.poll()) != null; packets++) {
+                dst.accept(packet);
+            }
+            active = false;
+        }
+        urgentLane.consumeEnd();
+        normalLane.consumeEnd();
+        return packets;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+        ring.close();
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.nio.Packet;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.Consumer;
+
+import static com.hazelcast.internal.util.QuickMath.modPowerOfTwo;
+
+/**
+ * A multi producer, single consumer queue of packets in a region of a
+ * {@link SharedMemoryRing}.
+ * <p>
+ * Producers claim space for a record by advancing the tail with a CAS, copy
+ * the packet into the claimed space and then publish the record by writing
+ * its length with release semantics. The consumer reads the records in tail
+ * order, waits at a record whose length isn't published yet, zeroes every
+ * record it consumed and then advances the head. A record never wraps
+ * around; if it doesn't fit before the end of the region, the rest of the
+ * region is claimed as padding together with it.
+ * <p>
+ * A producer that can't claim enough space closes the lane: it sets the
+ * {@link #CLOSED_BIT} of the tail and appends an end record in the same
+ * CAS, so no record can be appended behind the end record. There is always
+ * room for it since every other claim leaves space for one. Once the
+ * consumer {@link #consumeEnd() consumed} the end record, the lane is
+ * drained and can be {@link #reopen() reopened}.
+ * <p>
+ * Record layout, with all records aligned to {@link #ALIGNMENT}:
+ * <pre>
+ * 0  length          including this header, 0 while unpublished
+ * 4  type
+ * 8  flags           of the packet
+ * 12 partition id
+ * 16 payload length  -1 for no payload
+ * 20 payload
+ * </pre>
+ */
+final class SharedMemoryLane {
+
+    /**
+     * The result of an {@link #offer(Packet) offer} that appended the packet.
+     */
+    static final int OFFERED = 0;
+    /**
+     * The result of an {@link #offer(Packet) offer} that found no room for
+     * the packet and closed the lane.
+     */
+    static final int FULL = 1;
+    /**
+     * The result of an {@link #offer(Packet) offer} to a lane that was
+     * already closed.
+     */
+    static final int CLOSED = 2;
+
+    static final int ALIGNMENT = 8;
+
+    private static final long CLOSED_BIT = 1L << 62;
+    private static final int TYPE_PACKET = 1;
+    private static final int TYPE_PADDING = 2;
+    private static final int TYPE_END = 3;
+    private static final int LENGTH_OFFSET = 0;
+    private static final int TYPE_OFFSET = 4;
+    private static final int FLAGS_OFFSET = 8;
+    private static final int PARTITION_ID_OFFSET = 12;
+    private static final int PAYLOAD_LENGTH_OFFSET = 16;
+    private static final int PAYLOAD_OFFSET = 20;
+    private static final int HEADER_LENGTH = 8;
+    private static final int END_LENGTH = HEADER_LENGTH;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer buffer;
+    private final int headOffset;
+    private final int tailOffset;
+    private final int dataOffset;
+    private final int capacity;
+    private final int maxRecordLength;
+
+    // only accessed by the consumer
+    private boolean endReached;
+
+    /**
+     * @param buffer     the buffer of the ring, in native order
+     * @param headOffset the offset of the head counter
+     * @param tailOffset the offset of the tail counter
+     * @param dataOffset the offset of the records, aligned to {@link #ALIGNMENT}
+     * @param capacity   the size of the records region, a power of two
+     */
+    SharedMemoryLane(ByteBuffer buffer, int headOffset, int tailOffset, int dataOffset, int capacity) {
+        this.buffer = buffer;
+        this.headOffset = headOffset;
+        this.tailOffset = tailOffset;
+        this.dataOffset = dataOffset;
+        this.capacity = capacity;
+        this.maxRecordLength = capacity / 2;
+    }
+
+    /**
+     * Appends the packet. May be called by any number of producers
+     * concurrently.
+     *
+     * @return {@link #OFFERED}, {@link #FULL} if this call closed the lane
+     * since there was no room for the packet, or {@link #CLOSED} if the lane
+     * was already closed
+     */
+    int offer(Packet packet) {
+        byte[] payload = packet.toByteArray();
+        int recordLength = align(PAYLOAD_OFFSET + (payload == null ? 0 : payload.length));
+        for (; ; ) {
+            long tail = (long) LONG.getVolatile(buffer, tailOffset);
+            if ((tail & CLOSED_BIT) != 0) {
+                return CLOSED;
+            }
+            long head = (long) LONG.getAcquire(buffer, headOffset);
+            int index = (int) modPowerOfTwo(tail, capacity);
+            int padding = recordLength > capacity - index ? capacity - index : 0;
+            long claimed = padding + recordLength;
+            if (recordLength > maxRecordLength || tail + claimed + END_LENGTH - head > capacity) {
+                if (LONG.compareAndSet(buffer, tailOffset, tail, (tail + END_LENGTH) | CLOSED_BIT)) {
+                    publish(index, END_LENGTH, TYPE_END);
+                    return FULL;
+                }
+            } else if (LONG.compareAndSet(buffer, tailOffset, tail, tail + claimed)) {
+                if (padding > 0) {
+                    publish(index, padding, TYPE_PADDING);
+                    index = 0;
+                }
+                int offset = dataOffset + index;
+                buffer.putInt(offset + FLAGS_OFFSET, packet.getFlags());
+                buffer.putInt(offset + PARTITION_ID_OFFSET, packet.getPartitionId());
+                if (payload == null) {
+                    buffer.putInt(offset + PAYLOAD_LENGTH_OFFSET, -1);
+                } else {
+                    buffer.putInt(offset + PAYLOAD_LENGTH_OFFSET, payload.length);
+                    buffer.put(offset + PAYLOAD_OFFSET, payload);
+                }
+                publish(index, recordLength, TYPE_PACKET);
+                return OFFERED;
+            }
+        }
+    }
+
+    /**
+     * Closes the lane unless it is closed already. May be called by any
+     * producer.
+     */
+    void close() {
+        for (; ; ) {
+            long tail = (long) LONG.getVolatile(buffer, tailOffset);
+            if ((tail & CLOSED_BIT) != 0) {
+                return;
+            }
+            if (LONG.compareAndSet(buffer, tailOffset, tail, (tail + END_LENGTH) | CLOSED_BIT)) {
+                publish((int) modPowerOfTwo(tail, capacity), END_LENGTH, TYPE_END);
+                return;
+            }
+        }
+    }
+
+    boolean isClosed() {
+        return ((long) LONG.getVolatile(buffer, tailOffset) & CLOSED_BIT) != 0;
+    }
+
+    /**
+     * Checks if the lane is closed and the consumer consumed the end record.
+     */
+    boolean isDrained() {
+        long tail = (long) LONG.getVolatile(buffer, tailOffset);
+        return (tail & CLOSED_BIT) != 0 && (long) LONG.getAcquire(buffer, headOffset) == (tail & ~CLOSED_BIT);
+    }
+
+    /**
+     * Opens a {@link #isDrained() drained} lane again. Must not be called
+     * concurrently with itself.
+     */
+    void reopen() {
+        long tail = (long) LONG.getVolatile(buffer, tailOffset);
+        assert isDrained() : "lane isn't drained";
+        LONG.setRelease(buffer, tailOffset, tail & ~CLOSED_BIT);
+    }
+
+    /**
+     * Hands the published packets to the consumer, up to the end record if
+     * the lane is closed. May only be called by the consumer.
+     *
+     * @param dst        the consumer of the packets
+     * @param maxPackets the maximum number of packets to read
+     * @return the number of packets read
+     */
+    int read(Consumer<Packet> dst, int maxPackets) {
+        if (endReached) {
+            return 0;
+        }
+        long head = (long) LONG.getOpaque(buffer, headOffset);
+        long position = head;
+        int packets = 0;
+        try {
+            while (packets < maxPackets) {
+                int index = (int) modPowerOfTwo(position, capacity);
+                int offset = dataOffset + index;
+                int length = (int) INT.getAcquire(buffer, offset + LENGTH_OFFSET);
+                if (length == 0) {
+                    break;
+                }
+                int type = buffer.getInt(offset + TYPE_OFFSET);
+                if (type == TYPE_END) {
+                    endReached = true;
+                    break;
+                }
+                if (type == TYPE_PACKET) {
+                    Packet packet = readPacket(offset);
+                    zero(offset, length);
+                    position += length;
+                    packets++;
+                    dst.accept(packet);
+                } else {
+                    zero(offset, length);
+                    position += length;
+                }
+            }
+        } finally {
+            if (position != head) {
+                LONG.setRelease(buffer, headOffset, position);
+            }
+        }
+        return packets;
+    }
+
+    /**
+     * Checks if the consumer {@link #read read} up to the end record.
+     */
+    boolean isEndReached() {
+        return endReached;
+    }
+
+    /**
+     * Consumes the end record the consumer {@link #isEndReached() reached},
+     * after which the producers see the lane as {@link #isDrained() drained}.
+     * May only be called by the consumer.
+     */
+    void consumeEnd() {
+        assert endReached : "end record wasn't reached";
+        long head = (long) LONG.getOpaque(buffer, headOffset);
+        zero(dataOffset + (int) modPowerOfTwo(head, capacity), END_LENGTH);
+        endReached = false;
+        LONG.setRelease(buffer, headOffset, head + END_LENGTH);
+    }
+
+    private Packet readPacket(int offset) {
+        int flags = buffer.getInt(offset + FLAGS_OFFSET);
+        int partitionId = buffer.getInt(offset + PARTITION_ID_OFFSET);
+        int payloadLength = buffer.getInt(offset + PAYLOAD_LENGTH_OFFSET);
+        byte[] payload = null;
+        if (payloadLength >= 0) {
+            payload = new byte[payloadLength];
+            buffer.get(offset + PAYLOAD_OFFSET, payload);
+        }
+        return new Packet(payload, partitionId).resetFlagsTo(flags);
+    }
+
+    // writes the header of the record; the length is written last since it publishes the record
+    private void publish(int index, int length, int type) {
+        int offset = dataOffset + index;
+        buffer.putInt(offset + TYPE_OFFSET, type);
+        INT.setRelease(buffer, offset + LENGTH_OFFSET, length);
+    }
+
+    // producers only claim zeroed space, so a stale length is never mistaken for a published record
+    private void zero(int offset, int length) {
+        for (int i = 0; i < length; i += Long.BYTES) {
+            buffer.putLong(offset + i, 0L);
+        }
+    }
+
+    private static int align(int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+}
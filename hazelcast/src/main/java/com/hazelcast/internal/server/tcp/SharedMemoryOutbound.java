@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.util.counters.MwCounter;
+import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.logging.ILogger;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_SHARED_MEMORY_ACTIVE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_SHARED_MEMORY_FALLBACK_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_SHARED_MEMORY_PACKETS_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_SHARED_MEMORY_TCP_PACKETS_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_SHARED_MEMORY_URGENT_PACKETS_WRITTEN;
+import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
+import static com.hazelcast.internal.nio.Packet.FLAG_SHARED_MEMORY_SWITCH;
+import static com.hazelcast.internal.server.tcp.SharedMemoryLane.OFFERED;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The sending side of a {@link SharedMemoryRing}.
+ * <p>
+ * While the ring is active, packets are offered to its lanes without any
+ * locking. All other writes, i.e. to the TCP channel, and all switches
+ * between TCP and the ring are serialized on this object:
+ * <ul>
+ *     <li>Until the remote member attached to the ring, packets are written
+ *     to the TCP channel. Then a switch packet is written to the channel
+ *     behind all packets written before, and the ring becomes active.</li>
+ *     <li>If a lane has no room for a packet, both lanes are closed and the
+ *     ring falls back to TCP, so the writer never waits for the reader.
+ *     The end records of the lanes tell the reader to dispatch the packets
+ *     received over TCP from there on.</li>
+ *     <li>Once the reader consumed both end records, the next write switches
+ *     back to the ring, again with a switch packet.</li>
+ * </ul>
+ * If the remote member doesn't attach in time, the ring is given up for good.
+ */
+final class SharedMemoryOutbound {
+
+    private static final long PENDING_TIMEOUT_NANOS = SECONDS.toNanos(30);
+
+    private enum State {
+        PENDING,
+        ACTIVE,
+        FALLBACK,
+        CLOSED
+    }
+
+    private final TcpServerConnection connection;
+    private final SharedMemoryRing ring;
+    private final long token;
+    private final ILogger logger;
+    private final long pendingDeadlineNanos = System.nanoTime() + PENDING_TIMEOUT_NANOS;
+    @Probe(name = TCP_METRIC_SHARED_MEMORY_PACKETS_WRITTEN)
+    private final MwCounter packetsWritten = newMwCounter();
+    @Probe(name = TCP_METRIC_SHARED_MEMORY_URGENT_PACKETS_WRITTEN)
+    private final MwCounter urgentPacketsWritten = newMwCounter();
+    // the counters below are only incremented while holding the lock
+    @Probe(name = TCP_METRIC_SHARED_MEMORY_TCP_PACKETS_WRITTEN, level = DEBUG)
+    private final SwCounter tcpPacketsWritten = newSwCounter();
+    @Probe(name = TCP_METRIC_SHARED_MEMORY_FALLBACK_COUNT)
+    private final SwCounter fallbackCount = newSwCounter();
+    private volatile State state = State.PENDING;
+
+    SharedMemoryOutbound(TcpServerConnection connection, SharedMemoryRing ring, long token, ILogger logger) {
+        this.connection = connection;
+        this.ring = ring;
+        this.token = token;
+        this.logger = logger;
+    }
+
+    String path() {
+        return ring.file().toString();
+    }
+
+    long token() {
+        return token;
+    }
+
+    /**
+     * Checks if packets are written to the ring.
+     */
+    @Probe(name = TCP_METRIC_SHARED_MEMORY_ACTIVE)
+    boolean isActive() {
+        return state == State.ACTIVE;
+    }
+
+    long fallbackCount() {
+        return fallbackCount.get();
+    }
+
+    long packetsWritten() {
+        return packetsWritten.get();
+    }
+
+    long urgentPacketsWritten() {
+        return urgentPacketsWritten.get();
+    }
+
+    /**
+     * Writes the packet to the ring if it is active, otherwise to the TCP
+     * channel.
+     *
+     * @return {@code true} if the packet was written, {@code false} if the
+     * connection is closed
+     */
+    boolean write(Packet packet) {
+        State state = this.state;
+        if (state == State.ACTIVE && offer(packet)) {
+            return true;
+        }
+        if (state == State.CLOSED) {
+            return connection.getChannel().write(packet);
+        }
+        return writeSlow(packet);
+    }
+
+    /**
+     * Gives up on the ring, e.g. because the remote member can't use it.
+     * All following packets are written to the TCP channel.
+     */
+    void close() {
+        state = State.CLOSED;
+        synchronized (this) {
+            ring.close();
+        }
+    }
+
+    private boolean offer(Packet packet) {
+        if (ring.laneOf(packet).offer(packet) != OFFERED) {
+            return false;
+        }
+        if (packet.isUrgent()) {
+            urgentPacketsWritten.inc();
+        } else {
+            packetsWritten.inc();
+        }
+        return true;
+    }
+
+    private synchronized boolean writeSlow(Packet packet) {
+        Channel channel = connection.getChannel();
+        switch (state) {
+            case PENDING:
+                trySwitch(channel);
+                break;
+            case FALLBACK:
+                if (ring.isDrained()) {
+                    trySwitch(channel);
+                }
+                break;
+            default:
+                break;
+        }
+        if (state == State.ACTIVE) {
+            if (offer(packet)) {
+                return true;
+            }
+            fallBack();
+        }
+        if (state != State.CLOSED) {
+            tcpPacketsWritten.inc();
+        }
+        return channel.write(packet);
+    }
+
+    private void trySwitch(Channel channel) {
+        if (state == State.PENDING && !ring.isAttached()) {
+            if (System.nanoTime() - pendingDeadlineNanos > 0) {
+                state = State.CLOSED;
+                ring.close();
+            }
+            return;
+        }
+        Packet switchPacket = new Packet().raiseFlags(FLAG_SHARED_MEMORY_SWITCH);
+        if (!channel.write(switchPacket)) {
+            return;
+        }
+        if (state == State.PENDING) {
+            // both sides have the file mapped now, so it isn't needed anymore
+            ring.unlink();
+        } else {
+            ring.reopenLanes();
+        }
+        state = State.ACTIVE;
+        if (logger.isFineEnabled()) {
+            logger.fine("Writing packets of " + connection + " to shared memory");
+        }
+    }
+
+    // the lane of the packet is full or got closed by another writer that found it full
+    private void fallBack() {
+        ring.closeLanes();
+        state = State.FALLBACK;
+        fallbackCount.inc();
+        if (logger.isFinestEnabled()) {
+            logger.finest("Shared memory of " + connection + " is full, writing packets to TCP");
+        }
+    }
+}
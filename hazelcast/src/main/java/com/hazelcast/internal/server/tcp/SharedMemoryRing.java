@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.nio.Packet;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.internal.util.QuickMath.isPowerOfTwo;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The memory-mapped file shared by the two members of a connection for the
+ * packets one of them sends. It holds two {@link SharedMemoryLane lanes}: a
+ * small one for urgent packets, which the consumer reads first, and one for
+ * all other packets.
+ * <p>
+ * File layout, with each counter on its own cache line:
+ * <pre>
+ * 0   token            written by the creator, checked by the side that attaches
+ * 8   normal capacity
+ * 12  urgent capacity
+ * 64  attached         set to 1 by the consumer once it mapped the file
+ * 128 normal head
+ * 192 normal tail
+ * 256 urgent head
+ * 320 urgent tail
+ * 384 normal records, followed by the urgent records
+ * </pre>
+ */
+final class SharedMemoryRing {
+
+    private static final int TOKEN_OFFSET = 0;
+    private static final int NORMAL_CAPACITY_OFFSET = 8;
+    private static final int URGENT_CAPACITY_OFFSET = 12;
+    private static final int ATTACHED_OFFSET = 64;
+    private static final int NORMAL_HEAD_OFFSET = 128;
+    private static final int NORMAL_TAIL_OFFSET = 192;
+    private static final int URGENT_HEAD_OFFSET = 256;
+    private static final int URGENT_TAIL_OFFSET = 320;
+    private static final int DATA_OFFSET = 384;
+    // urgent packets are rare and small, e.g. heartbeats and responses to urgent operations
+    private static final int URGENT_CAPACITY_RATIO = 8;
+    private static final int MIN_URGENT_CAPACITY = 4 * 1024;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final SharedMemoryLane normalLane;
+    private final SharedMemoryLane urgentLane;
+
+    private SharedMemoryRing(Path file, FileChannel channel, MappedByteBuffer buffer, int normalCapacity,
+                             int urgentCapacity) {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.normalLane = new SharedMemoryLane(buffer, NORMAL_HEAD_OFFSET, NORMAL_TAIL_OFFSET, DATA_OFFSET,
+                normalCapacity);
+        this.urgentLane = new SharedMemoryLane(buffer, URGENT_HEAD_OFFSET, URGENT_TAIL_OFFSET,
+                DATA_OFFSET + normalCapacity, urgentCapacity);
+    }
+
+    /**
+     * Creates a new ring file in the given directory. The file is only
+     * accessible by the current user where the file system supports it.
+     *
+     * @param capacity the capacity of the normal lane, rounded up to a power
+     *                 of two; the urgent lane gets an eighth of it
+     * @param token    the token the consumer has to present to attach
+     */
+    static SharedMemoryRing create(Path directory, int capacity, long token) throws IOException {
+        int normalCapacity = nextPowerOfTwo(Math.max(capacity, MIN_URGENT_CAPACITY));
+        int urgentCapacity = Math.max(normalCapacity / URGENT_CAPACITY_RATIO, MIN_URGENT_CAPACITY);
+        Files.createDirectories(directory);
+        Path file = FileSystems.getDefault().supportedFileAttributeViews().contains("posix")
+                ? Files.createTempFile(directory, "hz-shm-", ".ring",
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+                : Files.createTempFile(directory, "hz-shm-", ".ring");
+        FileChannel channel = FileChannel.open(file, READ, WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    DATA_OFFSET + normalCapacity + urgentCapacity);
+            buffer.order(ByteOrder.nativeOrder());
+            buffer.putInt(NORMAL_CAPACITY_OFFSET, normalCapacity);
+            buffer.putInt(URGENT_CAPACITY_OFFSET, urgentCapacity);
+            LONG.setRelease(buffer, TOKEN_OFFSET, token);
+            return new SharedMemoryRing(file, channel, buffer, normalCapacity, urgentCapacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Maps an existing ring file created by another process. The producer
+     * only starts using it after {@link #markAttached()} is called.
+     *
+     * @throws IOException if the file can't be mapped or doesn't carry the
+     *                     given token
+     */
+    static SharedMemoryRing attach(Path file, long token) throws IOException {
+        FileChannel channel = FileChannel.open(file, READ, WRITE);
+        try {
+            long size = channel.size();
+            if (size <= DATA_OFFSET) {
+                throw new IOException("Invalid shared memory ring file " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.nativeOrder());
+            int normalCapacity = buffer.getInt(NORMAL_CAPACITY_OFFSET);
+            int urgentCapacity = buffer.getInt(URGENT_CAPACITY_OFFSET);
+            if ((long) LONG.getAcquire(buffer, TOKEN_OFFSET) != token
+                    || !isValidCapacity(normalCapacity) || !isValidCapacity(urgentCapacity)
+                    || (long) DATA_OFFSET + normalCapacity + urgentCapacity != size) {
+                throw new IOException("Shared memory ring file " + file + " doesn't match the expected token");
+            }
+            return new SharedMemoryRing(file, channel, buffer, normalCapacity, urgentCapacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static boolean isValidCapacity(int capacity) {
+        return capacity >= SharedMemoryLane.ALIGNMENT && isPowerOfTwo(capacity);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /**
+     * Signals the producer that the consumer is ready to read this ring.
+     */
+    void markAttached() {
+        LONG.setRelease(buffer, ATTACHED_OFFSET, 1L);
+    }
+
+    /**
+     * Checks if the consumer has mapped this ring.
+     */
+    boolean isAttached() {
+        return (long) LONG.getAcquire(buffer, ATTACHED_OFFSET) == 1L;
+    }
+
+    SharedMemoryLane normalLane() {
+        return normalLane;
+    }
+
+    SharedMemoryLane urgentLane() {
+        return urgentLane;
+    }
+
+    /**
+     * Returns the lane the given packet is queued on.
+     */
+    SharedMemoryLane laneOf(Packet packet) {
+        return packet.isUrgent() ? urgentLane : normalLane;
+    }
+
+    /**
+     * Closes both lanes, see {@link SharedMemoryLane#close()}.
+     */
+    void closeLanes() {
+        normalLane.close();
+        urgentLane.close();
+    }
+
+    /**
+     * Checks if both lanes are {@link SharedMemoryLane#isDrained() drained}.
+     */
+    boolean isDrained() {
+        return normalLane.isDrained() && urgentLane.isDrained();
+    }
+
+    /**
+     * Opens both drained lanes again.
+     */
+    void reopenLanes() {
+        normalLane.reopen();
+        urgentLane.reopen();
+    }
+
+    /**
+     * Removes the file from the file system. Both sides keep their mapping,
+     * so this is done by the creator as soon as the consumer attached.
+     */
+    void unlink() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // the file is removed again on close
+            ignore(e);
+        }
+    }
+
+    /**
+     * Closes the underlying channel and deletes the file. The mapping itself
+     * is released once the buffer is garbage collected.
+     */
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            ignore(e);
+        }
+        unlink();
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.server.ServerContext;
+import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
+import com.hazelcast.internal.util.concurrent.IdleStrategy;
+import com.hazelcast.internal.util.executor.HazelcastManagedThread;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_DISCRIMINATOR_ENDPOINT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_CONNECTION_SHARED_MEMORY_IN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_CONNECTION_SHARED_MEMORY_OUT;
+import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Moves the packets between members running on the same host from TCP
+ * loopback to memory-mapped {@link SharedMemoryRing rings}.
+ * <p>
+ * The TCP connection is still established, handshaked and used to detect
+ * that the remote member is gone. In addition, for every member connection
+ * each side creates a ring for the packets it sends and announces the file
+ * in its {@link com.hazelcast.internal.cluster.impl.MemberHandshake}. If the
+ * remote side runs on the same host and can map that file, it attaches to
+ * the ring. Once the sender sees that, it writes a
+ * {@link com.hazelcast.internal.nio.Packet#FLAG_SHARED_MEMORY_SWITCH switch}
+ * packet behind the packets already queued on the TCP connection and writes
+ * all following packets to the ring. The receiver only starts reading the
+ * ring after it read the switch packet, so packets keep their order.
+ * <p>
+ * The rings of all connections are polled by a single reader thread which
+ * hands the packets to the same consumer as the TCP pipeline. Writers never
+ * wait for the reader: if a ring is full, the sender falls back to TCP until
+ * the reader caught up, see {@link SharedMemoryOutbound}.
+ */
+public final class SharedMemoryTransport {
+
+    /**
+     * Enables the shared memory transport between members on the same host.
+     */
+    public static final HazelcastProperty SHARED_MEMORY_ENABLED
+            = new HazelcastProperty("hazelcast.network.shared.memory.enabled", false);
+
+    /**
+     * The capacity of the ring used per connection and direction.
+     */
+    public static final HazelcastProperty SHARED_MEMORY_RING_CAPACITY_BYTES
+            = new HazelcastProperty("hazelcast.network.shared.memory.ring.capacity.bytes", 4 * 1024 * 1024);
+
+    /**
+     * The directory the ring files are created in. Defaults to the temporary
+     * directory of the JVM. A memory backed file system like {@code /dev/shm}
+     * avoids any write back of the rings to disk.
+     */
+    public static final HazelcastProperty SHARED_MEMORY_DIRECTORY
+            = new HazelcastProperty("hazelcast.network.shared.memory.directory");
+
+    private static final long IDLE_MAX_SPINS = 20;
+    private static final long IDLE_MAX_YIELDS = 50;
+    private static final long IDLE_MIN_PARK_NS = 1;
+    private static final long IDLE_MAX_PARK_NS = MICROSECONDS.toNanos(100);
+
+    private final ILogger logger;
+    private final String hzName;
+    private final Path directory;
+    private final int ringCapacity;
+    private final List<SharedMemoryInbound> inbounds = new CopyOnWriteArrayList<>();
+    private volatile ReaderThread readerThread;
+
+    private SharedMemoryTransport(ServerContext context, Path directory, int ringCapacity) {
+        this.logger = context.getLoggingService().getLogger(SharedMemoryTransport.class);
+        this.hzName = context.getHazelcastName();
+        this.directory = directory;
+        this.ringCapacity = ringCapacity;
+    }
+
+    /**
+     * Creates the transport for the given server.
+     *
+     * @return the transport or {@code null} if it is disabled
+     */
+    static SharedMemoryTransport newTransportOrNull(ServerContext context) {
+        HazelcastProperties properties = context.properties();
+        if (!properties.getBoolean(SHARED_MEMORY_ENABLED)) {
+            return null;
+        }
+        String directory = properties.getString(SHARED_MEMORY_DIRECTORY);
+        return new SharedMemoryTransport(context,
+                Paths.get(directory != null ? directory : System.getProperty("java.io.tmpdir")),
+                properties.getInteger(SHARED_MEMORY_RING_CAPACITY_BYTES));
+    }
+
+    /**
+     * Creates the ring for the packets written to the given connection.
+     *
+     * @return the outbound side or {@code null} if the remote member is not
+     * local or the ring file can't be created
+     */
+    SharedMemoryOutbound newOutbound(TcpServerConnection connection) {
+        if (!isLocal(connection.getInetAddress())) {
+            return null;
+        }
+        try {
+            long token = ThreadLocalRandom.current().nextLong();
+            SharedMemoryRing ring = SharedMemoryRing.create(directory, ringCapacity, token);
+            return new SharedMemoryOutbound(connection, ring, token, logger);
+        } catch (IOException e) {
+            logger.warning("Failed to create shared memory ring in " + directory + ", using TCP only for " + connection, e);
+            return null;
+        }
+    }
+
+    /**
+     * Attaches to the ring the remote member announced in its handshake if
+     * that member runs on the same host.
+     *
+     * @return the inbound side or {@code null} if the remote member is not
+     * local or the ring can't be mapped
+     */
+    SharedMemoryInbound attach(TcpServerConnection connection, String path, long token) {
+        if (path == null || !isLocal(connection.getInetAddress())) {
+            return null;
+        }
+        try {
+            SharedMemoryRing ring = SharedMemoryRing.attach(Paths.get(path), token);
+            return new SharedMemoryInbound(this, connection, ring);
+        } catch (IOException | RuntimeException e) {
+            if (logger.isFineEnabled()) {
+                logger.fine("Failed to attach to shared memory ring " + path + ", using TCP only for " + connection, e);
+            }
+            return null;
+        }
+    }
+
+    void startPolling(SharedMemoryInbound inbound) {
+        inbounds.add(inbound);
+        if (logger.isFineEnabled()) {
+            logger.fine("Reading packets of " + inbound.connection() + " from shared memory");
+        }
+    }
+
+    synchronized void start() {
+        if (readerThread == null) {
+            readerThread = new ReaderThread();
+            readerThread.start();
+        }
+    }
+
+    synchronized void stop() {
+        ReaderThread thread = readerThread;
+        if (thread != null) {
+            readerThread = null;
+            thread.shutdown = true;
+        }
+        for (SharedMemoryInbound inbound : inbounds) {
+            inbound.close();
+        }
+        inbounds.clear();
+    }
+
+    /**
+     * Provides the metrics of the shared memory sides of the given
+     * connection, if any.
+     *
+     * @param descriptor the descriptor of the connection
+     */
+    static void provideDynamicMetrics(TcpServerConnection connection, MetricDescriptor descriptor,
+                                      MetricsCollectionContext context) {
+        SharedMemoryOutbound outbound = connection.getSharedMemoryOutbound();
+        SharedMemoryInbound inbound = connection.getSharedMemoryInbound();
+        if (connection.getRemoteAddress() == null || (outbound == null && inbound == null)) {
+            return;
+        }
+        String endpoint = connection.getRemoteAddress().toString();
+        if (outbound != null) {
+            context.collect(descriptor.copy()
+                    .withPrefix(TCP_PREFIX_CONNECTION_SHARED_MEMORY_OUT)
+                    .withDiscriminator(TCP_DISCRIMINATOR_ENDPOINT, endpoint), outbound);
+        }
+        if (inbound != null) {
+            context.collect(descriptor.copy()
+                    .withPrefix(TCP_PREFIX_CONNECTION_SHARED_MEMORY_IN)
+                    .withDiscriminator(TCP_DISCRIMINATOR_ENDPOINT, endpoint), inbound);
+        }
+    }
+
+    static boolean isLocal(InetAddress address) {
+        if (address == null) {
+            return false;
+        }
+        try {
+            return address.isLoopbackAddress() || NetworkInterface.getByInetAddress(address) != null;
+        } catch (SocketException e) {
+            return false;
+        }
+    }
+
+    private final class ReaderThread extends HazelcastManagedThread {
+
+        private final IdleStrategy idleStrategy
+                = new BackoffIdleStrategy(IDLE_MAX_SPINS, IDLE_MAX_YIELDS, IDLE_MIN_PARK_NS, IDLE_MAX_PARK_NS);
+        private volatile boolean shutdown;
+
+        private ReaderThread() {
+            super(createThreadName(hzName, "SharedMemoryReader"));
+            setDaemon(true);
+        }
+
+        @Override
+        protected void executeRun() {
+            long idleCount = 0;
+            while (!shutdown) {
+                int packets = 0;
+                for (SharedMemoryInbound inbound : inbounds) {
+                    try {
+                        packets += inbound.poll();
+                    } catch (Throwable t) {
+                        inbound.connection().close("Failed to read from shared memory", t);
+                    }
+                    if (inbound.isClosed()) {
+                        inbounds.remove(inbound);
+                    }
+                }
+                if (packets > 0) {
+                    idleCount = 0;
+                } else {
+                    idleStrategy.idle(idleCount++);
+                }
+            }
+        }
+    }
+}
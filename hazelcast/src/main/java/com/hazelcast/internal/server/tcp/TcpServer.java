@@ -81,6 +81,7 @@ public final class TcpServer implements Server {
     private final ScheduledExecutorService scheduler;
     // accessed only in synchronized block
     private final AtomicReference<TcpServerAcceptor> acceptorRef = new AtomicReference<>();
+    private final SharedMemoryTransport sharedMemoryTransport;
 
     private volatile boolean live;
 
@@ -100,6 +101,7 @@ public final class TcpServer implements Server {
         this.logger = context.getLoggingService().getLogger(TcpServer.class);
         this.scheduler = new ScheduledThreadPoolExecutor(SCHEDULER_POOL_SIZE,
                 new ThreadFactoryImpl(createThreadPoolName(context.getHazelcastName(), "TcpServer")));
+        this.sharedMemoryTransport = SharedMemoryTransport.newTransportOrNull(context);
 
         if (registry.holdsUnifiedSocket()) {
             unifiedConnectionManager = new TcpServerConnectionManager(
@@ -138,6 +140,14 @@ public final class TcpServer implements Server {
         return networking;
     }
 
+    /**
+     * Returns the shared memory transport between members on the same host,
+     * or {@code null} if it is disabled.
+     */
+    public SharedMemoryTransport getSharedMemoryTransport() {
+        return sharedMemoryTransport;
+    }
+
     @Override
     public boolean isLive() {
         return live;
@@ -156,6 +166,9 @@ public final class TcpServer implements Server {
         logger.finest("Starting TcpServer.");
 
         networking.restart();
+        if (sharedMemoryTransport != null) {
+            sharedMemoryTransport.start();
+        }
         startAcceptor();
 
         if (unifiedConnectionManager == null) {
@@ -185,6 +198,9 @@ public final class TcpServer implements Server {
         }
 
         networking.shutdown();
+        if (sharedMemoryTransport != null) {
+            sharedMemoryTransport.stop();
+        }
     }
 
     @Override
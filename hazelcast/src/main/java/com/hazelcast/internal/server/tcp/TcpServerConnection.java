@@ -25,6 +25,8 @@ import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.nio.ConnectionLifecycleListener;
 import com.hazelcast.internal.nio.ConnectionType;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.server.ConnectionCredits;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.tpcengine.net.AsyncSocket;
@@ -40,6 +42,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_CONNECTION_CONNECTION_TYPE;
@@ -83,6 +86,8 @@ public class TcpServerConnection implements ServerConnection {
 
     private final ServerContext serverContext;
 
+    private final ConnectionCredits credits = new ConnectionCredits();
+
     private Address remoteAddress;
 
     private UUID remoteUuid;
@@ -97,6 +102,9 @@ public class TcpServerConnection implements ServerConnection {
 
     private volatile String closeReason;
     private volatile int planeIndex = -1;
+    private volatile boolean packetCompressionSupported;
+    private volatile SharedMemoryOutbound sharedMemoryOutbound;
+    private volatile SharedMemoryInbound sharedMemoryInbound;
 
     public TcpServerConnection(TcpServerConnectionManager connectionManager,
                                ConnectionLifecycleListener<TcpServerConnection> lifecycleListener,
@@ -140,6 +148,61 @@ public class TcpServerConnection implements ServerConnection {
         this.planeIndex = planeIndex;
     }
 
+    /**
+     * Checks if the remote member announced in its handshake that it can read
+     * compressed packets.
+     */
+    public boolean isPacketCompressionSupported() {
+        return packetCompressionSupported;
+    }
+
+    public void setPacketCompressionSupported(boolean packetCompressionSupported) {
+        this.packetCompressionSupported = packetCompressionSupported;
+    }
+
+    SharedMemoryOutbound getSharedMemoryOutbound() {
+        return sharedMemoryOutbound;
+    }
+
+    void setSharedMemoryOutbound(SharedMemoryOutbound sharedMemoryOutbound) {
+        this.sharedMemoryOutbound = sharedMemoryOutbound;
+    }
+
+    /**
+     * Gives up on writing packets to shared memory, e.g. because the remote
+     * member can't read them from there.
+     */
+    void closeSharedMemoryOutbound() {
+        SharedMemoryOutbound outbound = sharedMemoryOutbound;
+        if (outbound != null) {
+            outbound.close();
+        }
+    }
+
+    SharedMemoryInbound getSharedMemoryInbound() {
+        return sharedMemoryInbound;
+    }
+
+    void setSharedMemoryInbound(SharedMemoryInbound sharedMemoryInbound) {
+        this.sharedMemoryInbound = sharedMemoryInbound;
+    }
+
+    /**
+     * Starts reading packets from shared memory after the remote member
+     * switched to it.
+     *
+     * @param dst the consumer of the packets
+     * @return the activated inbound side
+     */
+    SharedMemoryInbound activateSharedMemoryInbound(Consumer<Packet> dst) {
+        SharedMemoryInbound inbound = sharedMemoryInbound;
+        if (inbound == null) {
+            throw new IllegalStateException("Remote member switched to shared memory which was not attached: " + this);
+        }
+        inbound.activate(dst);
+        return inbound;
+    }
+
     @Override
     public String getConnectionType() {
         return connectionType;
@@ -237,9 +300,21 @@ public class TcpServerConnection implements ServerConnection {
         return !connectionType.equals(MEMBER);
     }
 
+    @Override
+    public ConnectionCredits getCredits() {
+        return credits;
+    }
+
     @Override
     public boolean write(OutboundFrame frame) {
-        if (channel.write(frame)) {
+        SharedMemoryOutbound outbound = sharedMemoryOutbound;
+        boolean written = outbound != null && frame instanceof Packet packet
+                ? outbound.write(packet)
+                : channel.write(frame);
+        if (written) {
+            if (frame instanceof Packet packet && ConnectionCredits.consumesCredit(packet)) {
+                credits.consume();
+            }
             return true;
         }
 
@@ -298,6 +373,7 @@ public class TcpServerConnection implements ServerConnection {
         } catch (Exception e) {
             logger.warning(e);
         }
+        closeSharedMemory();
 
         lifecycleListener.onConnectionClose(this, cause, false);
         serverContext.onDisconnect(remoteAddress, cause);
@@ -315,6 +391,14 @@ public class TcpServerConnection implements ServerConnection {
         }
     }
 
+    private void closeSharedMemory() {
+        closeSharedMemoryOutbound();
+        SharedMemoryInbound inbound = sharedMemoryInbound;
+        if (inbound != null) {
+            inbound.close();
+        }
+    }
+
     public boolean setHandshake() {
         return handshake.compareAndSet(false, true);
     }
@@ -357,6 +357,7 @@ public class TcpServerConnectionManager extends TcpServerConnectionManagerBase
                         .copy()
                         .withDiscriminator(TCP_DISCRIMINATOR_ENDPOINT, connection.getRemoteAddress().toString()), connection);
             }
+            SharedMemoryTransport.provideDynamicMetrics(connection, descriptor, context);
         }
 
         int clientCount = 0;
@@ -89,9 +89,28 @@ public final class TcpServerControl {
         // before we register the connection on the plane, we make sure the plane index is set on the connection
         // so that we can safely remove the connection from the plane.
         connection.setPlaneIndex(handshake.getPlaneIndex());
+        connection.setPacketCompressionSupported(handshake.isPacketCompressionSupported());
+        attachSharedMemory(connection, handshake);
         process(connection, handshake);
     }
 
+    // attaches to the shared memory ring offered by the remote member; if that isn't possible,
+    // the remote member can't use the ring offered by this member either.
+    private void attachSharedMemory(TcpServerConnection connection, MemberHandshake handshake) {
+        SharedMemoryTransport transport = connectionManager.getServer().getSharedMemoryTransport();
+        if (transport == null) {
+            return;
+        }
+        SharedMemoryInbound inbound = transport.attach(connection, handshake.getSharedMemoryPath(),
+                handshake.getSharedMemoryToken());
+        if (inbound == null) {
+            connection.closeSharedMemoryOutbound();
+            return;
+        }
+        connection.setSharedMemoryInbound(inbound);
+        inbound.markAttached();
+    }
+
     @SuppressWarnings("checkstyle:cyclomaticcomplexity")
     private synchronized void process(TcpServerConnection connection, MemberHandshake handshake) {
         if (logger.isFinestEnabled()) {
@@ -505,6 +505,43 @@ public interface IMap<K, V> extends ConcurrentMap<K, V>, BaseMap<K, V>, Iterable
     @Override
     void delete(@Nonnull Object key);
 
+    /**
+     * Removes the mappings for the given keys from this map if they are present.
+     * <p>
+     * This is the bulk counterpart of {@link #delete(Object)}. The keys are
+     * grouped by the member owning their partition and each member receives
+     * a single operation carrying only its own keys, which is considerably
+     * cheaper than deleting the keys one by one. Until the cluster version
+     * is upgraded to 6.0, every member receives the full key set instead.
+     * <p>
+     * This operation is not atomic: the keys are removed independently of each
+     * other and a failure may leave some of the keys removed and others not.
+     * Like {@link #delete(Object)}, it does not return the removed values and
+     * fires entry events with a null oldValue.
+     * <p>
+     * Note that calling this method also removes the given keys from the
+     * caller's Near Cache.
+     *
+     * <p><b>Interactions with the map store</b>
+     * <p>
+     * If write-through persistence mode is configured, before a value is
+     * removed from the memory, {@link MapStore#delete(Object)} is called to
+     * remove the value from the map store. Exceptions thrown by delete fail
+     * the operation and are propagated to the caller.
+     * <p>
+     * If write-behind persistence mode is configured with write-coalescing
+     * turned off, {@link com.hazelcast.map.ReachedMaxSizeException} may be
+     * thrown if the write-behind queue has reached its per-node maximum
+     * capacity.
+     *
+     * @param keys keys whose mappings are to be removed from the map
+     * @throws NullPointerException if the specified key set is {@code null}
+     *                              or contains a {@code null} key
+     * @see #delete(Object)
+     * @since 6.0
+     */
+    void deleteAll(@Nonnull Set<K> keys);
+
     /**
      * If this map has a MapStore, this method flushes
      * all the local dirty entries.
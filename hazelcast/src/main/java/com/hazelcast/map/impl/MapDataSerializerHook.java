@@ -75,6 +75,7 @@ import com.hazelcast.map.impl.operation.MapFlushBackupOperation;
 import com.hazelcast.map.impl.operation.MapFlushOperation;
 import com.hazelcast.map.impl.operation.MapFlushOperationFactory;
 import com.hazelcast.map.impl.operation.MapGetAllOperationFactory;
+import com.hazelcast.map.impl.operation.MapGetAllPartitionAwareOperationFactory;
 import com.hazelcast.map.impl.operation.MapGetInvalidationMetaDataOperation;
 import com.hazelcast.map.impl.operation.MapGetInvalidationMetaDataOperation.MetaDataResponse;
 import com.hazelcast.map.impl.operation.MapIsEmptyOperation;
@@ -88,6 +89,7 @@ import com.hazelcast.map.impl.operation.MergeOperationFactory;
 import com.hazelcast.map.impl.operation.MultipleEntryBackupOperation;
 import com.hazelcast.map.impl.operation.MultipleEntryOperation;
 import com.hazelcast.map.impl.operation.MultipleEntryOperationFactory;
+import com.hazelcast.map.impl.operation.MultipleEntryPartitionAwareOperationFactory;
 import com.hazelcast.map.impl.operation.MultipleEntryWithPredicateBackupOperation;
 import com.hazelcast.map.impl.operation.MultipleEntryWithPredicateOperation;
 import com.hazelcast.map.impl.operation.NotifyMapFlushOperation;
@@ -328,8 +330,10 @@ public final class MapDataSerializerHook implements DataSerializerHook {
     public static final int INDEX_ITERATION_POINTER = 156;
     public static final int MAP_FETCH_INDEX_OPERATION_RESULT = 157;
     public static final int MAP_CHUNK = 158;
+    public static final int GET_ALL_PARTITION_AWARE_FACTORY = 159;
+    public static final int MULTIPLE_ENTRY_PARTITION_AWARE_FACTORY = 160;
 
-    private static final int LEN = MAP_CHUNK + 1;
+    private static final int LEN = MULTIPLE_ENTRY_PARTITION_AWARE_FACTORY + 1;
 
     @Override
     public int getFactoryId() {
@@ -497,6 +501,8 @@ public final class MapDataSerializerHook implements DataSerializerHook {
         constructors[INDEX_ITERATION_POINTER] = IndexIterationPointer::new;
         constructors[MAP_FETCH_INDEX_OPERATION_RESULT] = MapFetchIndexOperationResult::new;
         constructors[MAP_CHUNK] = MapChunk::new;
+        constructors[GET_ALL_PARTITION_AWARE_FACTORY] = MapGetAllPartitionAwareOperationFactory::new;
+        constructors[MULTIPLE_ENTRY_PARTITION_AWARE_FACTORY] = MultipleEntryPartitionAwareOperationFactory::new;
 
         return new ArrayDataSerializableFactory(constructors);
     }
@@ -56,6 +56,9 @@ import com.hazelcast.map.impl.query.AggregationResult;
 import com.hazelcast.map.impl.query.AggregationResultProcessor;
 import com.hazelcast.map.impl.query.CallerRunsAccumulationExecutor;
 import com.hazelcast.map.impl.query.CallerRunsPartitionScanExecutor;
+import com.hazelcast.map.impl.query.ForkJoinAccumulationExecutor;
+import com.hazelcast.map.impl.query.ForkJoinPartitionScanExecutor;
+import com.hazelcast.map.impl.query.ForkJoinQuerySupport;
 import com.hazelcast.map.impl.query.ParallelAccumulationExecutor;
 import com.hazelcast.map.impl.query.ParallelPartitionScanExecutor;
 import com.hazelcast.map.impl.query.PartitionScanExecutor;
@@ -95,6 +98,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -108,6 +112,7 @@ import static com.hazelcast.map.impl.MapKeyLoader.LOADED_KEY_LIMITER_PER_NODE;
 import static com.hazelcast.map.impl.MapKeyLoader.PROP_LOADED_KEY_LIMITER_PER_NODE;
 import static com.hazelcast.map.impl.MapListenerFlagOperator.setAndGetListenerFlags;
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
+import static com.hazelcast.map.impl.query.ForkJoinQuerySupport.QUERY_FORK_JOIN_PARALLELISM;
 import static com.hazelcast.query.impl.predicates.QueryOptimizerFactory.newOptimizer;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.QUERY_EXECUTOR;
 import static com.hazelcast.spi.impl.operationservice.Operation.GENERIC_PARTITION_ID;
@@ -134,6 +139,7 @@ class MapServiceContextImpl implements MapServiceContext {
     private final QueryRunner mapQueryRunner;
     private final MapEventJournal eventJournal;
     private final QueryOptimizer queryOptimizer;
+    private final ForkJoinPool queryForkJoinPool;
     private final MapEventPublisher mapEventPublisher;
     private final QueryCacheContext queryCacheContext;
     private final ExpirationManager expirationManager;
@@ -178,6 +184,8 @@ class MapServiceContextImpl implements MapServiceContext {
         this.mapEventPublisher = createMapEventPublisherSupport();
         this.eventJournal = createEventJournal();
         this.queryOptimizer = newOptimizer(nodeEngine.getProperties());
+        this.queryForkJoinPool = ForkJoinQuerySupport.createPool(nodeEngine.getHazelcastInstance().getName(),
+                nodeEngine.getProperties().getInteger(QUERY_FORK_JOIN_PARALLELISM), nodeEngine.getConfigClassLoader());
         this.resultProcessorRegistry = createResultProcessorRegistry(serializationService);
         this.partitionScanRunner = createPartitionScanRunner();
         this.queryEngine = createMapQueryEngine();
@@ -268,7 +276,11 @@ class MapServiceContextImpl implements MapServiceContext {
                                                PartitionScanRunner partitionScanRunner) {
         boolean parallelEvaluation = nodeEngine.getProperties().getBoolean(QUERY_PREDICATE_PARALLEL_EVALUATION);
         PartitionScanExecutor partitionScanExecutor;
-        if (parallelEvaluation) {
+        if (queryForkJoinPool != null) {
+            int opTimeoutInMillis = nodeEngine.getProperties().getInteger(OPERATION_CALL_TIMEOUT_MILLIS);
+            partitionScanExecutor = new ForkJoinPartitionScanExecutor(partitionScanRunner, queryForkJoinPool,
+                    opTimeoutInMillis);
+        } else if (parallelEvaluation) {
             int opTimeoutInMillis = nodeEngine.getProperties().getInteger(OPERATION_CALL_TIMEOUT_MILLIS);
             ManagedExecutorService queryExecutorService = nodeEngine.getExecutionService().getExecutor(QUERY_EXECUTOR);
             partitionScanExecutor = new ParallelPartitionScanExecutor(partitionScanRunner, queryExecutorService,
@@ -294,7 +306,9 @@ class MapServiceContextImpl implements MapServiceContext {
         boolean parallelAccumulation = nodeEngine.getProperties().getBoolean(AGGREGATION_ACCUMULATION_PARALLEL_EVALUATION);
         int opTimeoutInMillis = nodeEngine.getProperties().getInteger(OPERATION_CALL_TIMEOUT_MILLIS);
         AccumulationExecutor accumulationExecutor;
-        if (parallelAccumulation) {
+        if (queryForkJoinPool != null) {
+            accumulationExecutor = new ForkJoinAccumulationExecutor(queryForkJoinPool, ss, opTimeoutInMillis);
+        } else if (parallelAccumulation) {
             ManagedExecutorService queryExecutorService = nodeEngine.getExecutionService().getExecutor(QUERY_EXECUTOR);
             accumulationExecutor = new ParallelAccumulationExecutor(queryExecutorService, ss, opTimeoutInMillis);
         } else {
@@ -550,6 +564,9 @@ class MapServiceContextImpl implements MapServiceContext {
         mapContainers.clear();
         expirationManager.onShutdown();
         offloadedExecutorStats.clear();
+        if (queryForkJoinPool != null) {
+            queryForkJoinPool.shutdownNow();
+        }
     }
 
     @Override
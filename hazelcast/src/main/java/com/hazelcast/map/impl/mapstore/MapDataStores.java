@@ -18,6 +18,7 @@ package com.hazelcast.map.impl.mapstore;
 
 import com.hazelcast.map.impl.mapstore.writebehind.WriteBehindProcessor;
 import com.hazelcast.map.impl.mapstore.writebehind.WriteBehindStore;
+import com.hazelcast.map.impl.mapstore.writethrough.BatchingWriteThroughStore;
 import com.hazelcast.map.impl.mapstore.writethrough.WriteThroughStore;
 
 /**
@@ -50,7 +51,9 @@ public final class MapDataStores {
     }
 
     /**
-     * Creates a write through data store.
+     * Creates a write through data store. Concurrent stores are coalesced
+     * into batches if {@link BatchingWriteThroughStore#WRITE_THROUGH_BATCH_SIZE}
+     * is configured and map store offloading is enabled.
      *
      * @param mapStoreContext context for map store operations
      * @param <K>             type of key to store
@@ -58,7 +61,10 @@ public final class MapDataStores {
      * @return new write through store manager
      */
     public static <K, V> MapDataStore<K, V> createWriteThroughStore(MapStoreContext mapStoreContext) {
+        if (BatchingWriteThroughStore.isEnabled(mapStoreContext)) {
+            return (MapDataStore<K, V>) new BatchingWriteThroughStore(mapStoreContext,
+                    BatchingWriteThroughStore.getBatchSize(mapStoreContext));
+        }
         return (MapDataStore<K, V>) new WriteThroughStore(mapStoreContext);
-
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.map.impl.mapstore.MapStoreContext;
+import com.hazelcast.spi.properties.HazelcastProperties;
+
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_WRITE_BEHIND_ADAPTIVE_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_WRITE_BEHIND_ADAPTIVE_MAX_BATCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_WRITE_BEHIND_ADAPTIVE_TARGET_LATENCY_MILLIS;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Sizes write-behind batches and the {@link StoreWorker} run interval
+ * from the observed latency of map store calls.
+ * <p>
+ * The latency of every processed batch, measured around the map store
+ * calls the same way {@link com.hazelcast.map.impl.LatencyTrackingMapStore}
+ * does, is compared with a target latency. While batches complete well
+ * below the target, the batch size is doubled and the run interval is
+ * halved. When a batch exceeds the target or fails, the batch size is
+ * halved and the run interval is doubled.
+ * <p>
+ * One controller is created per map on a member and it is updated by
+ * the store worker of that map, hence state is only kept in volatile
+ * fields.
+ */
+final class AdaptiveWriteBehindController {
+
+    static final long DEFAULT_RUN_DELAY_MILLIS = SECONDS.toMillis(1);
+    static final long MIN_RUN_DELAY_MILLIS = 100;
+    static final long MAX_RUN_DELAY_MILLIS = SECONDS.toMillis(10);
+
+    private final long targetLatencyNanos;
+    private final int maxBatchSize;
+
+    private volatile int batchSize;
+    private volatile long runDelayMillis = DEFAULT_RUN_DELAY_MILLIS;
+
+    AdaptiveWriteBehindController(int initialBatchSize, int maxBatchSize, long targetLatencyNanos) {
+        this.maxBatchSize = max(1, maxBatchSize);
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.batchSize = min(max(1, initialBatchSize), this.maxBatchSize);
+    }
+
+    /**
+     * Creates a controller for the given map store context.
+     *
+     * @return a new controller or {@code null} if the adaptive mode is
+     * not enabled
+     */
+    static AdaptiveWriteBehindController newControllerOrNull(MapStoreContext mapStoreContext) {
+        HazelcastProperties properties = mapStoreContext.getMapServiceContext().getNodeEngine().getProperties();
+        if (!properties.getBoolean(MAP_WRITE_BEHIND_ADAPTIVE_ENABLED)) {
+            return null;
+        }
+        return new AdaptiveWriteBehindController(mapStoreContext.getMapStoreConfig().getWriteBatchSize(),
+                properties.getInteger(MAP_WRITE_BEHIND_ADAPTIVE_MAX_BATCH_SIZE),
+                properties.getNanos(MAP_WRITE_BEHIND_ADAPTIVE_TARGET_LATENCY_MILLIS));
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    long runDelayMillis() {
+        return runDelayMillis;
+    }
+
+    /**
+     * Feeds the outcome of a processed batch back to this controller.
+     *
+     * @param latencyNanos time spent in map store calls for the batch
+     * @param failed       {@code true} if some entries of the batch
+     *                     could not be stored
+     */
+    void onBatchProcessed(long latencyNanos, boolean failed) {
+        if (failed || latencyNanos > targetLatencyNanos) {
+            batchSize = max(1, batchSize / 2);
+            runDelayMillis = min(MAX_RUN_DELAY_MILLIS, runDelayMillis * 2);
+        } else if (latencyNanos <= targetLatencyNanos / 2) {
+            batchSize = (int) min(maxBatchSize, batchSize * 2L);
+            runDelayMillis = max(MIN_RUN_DELAY_MILLIS, runDelayMillis / 2);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.hazelcast.map.impl.mapstore.writebehind;
 
+import com.hazelcast.internal.util.Timer;
 import com.hazelcast.map.EntryLoader.MetadataAwareValue;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
@@ -29,6 +30,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.hazelcast.internal.util.CollectionUtil.isNotEmpty;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -51,17 +53,26 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
     private static final int RETRY_STORE_AFTER_WAIT_SECONDS = 1;
 
     private final List<StoreListener> storeListeners;
+    private final AdaptiveWriteBehindController adaptiveController;
+    /**
+     * Total time spent in map store calls, excluding the waits between
+     * retries. Only maintained when {@link #adaptiveController} is set.
+     */
+    private final AtomicLong storeCallNanos = new AtomicLong();
 
-    DefaultWriteBehindProcessor(MapStoreContext mapStoreContext) {
+    DefaultWriteBehindProcessor(MapStoreContext mapStoreContext, AdaptiveWriteBehindController adaptiveController) {
         super(mapStoreContext);
         this.storeListeners = new ArrayList<>(2);
+        this.adaptiveController = adaptiveController;
     }
 
     @Override
     public Map<Integer, List<DelayedEntry>> process(List<DelayedEntry> delayedEntries) {
         Map<Integer, List<DelayedEntry>> failMap;
         sort(delayedEntries);
-        if (writeBatchSize > 1) {
+        if (adaptiveController != null) {
+            failMap = doStoreUsingAdaptiveBatchSize(delayedEntries);
+        } else if (writeBatchSize > 1) {
             failMap = doStoreUsingBatchSize(delayedEntries);
         } else {
             failMap = processInternal(delayedEntries);
@@ -320,11 +331,36 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return failsPerPartition;
     }
 
+    /**
+     * Store chunk by chunk, asking {@link #adaptiveController} for
+     * the size of each chunk and reporting its latency back.
+     *
+     * @param sortedDelayedEntries entries to be stored.
+     * @return not-stored entries per partition.
+     */
+    private Map<Integer, List<DelayedEntry>> doStoreUsingAdaptiveBatchSize(List<DelayedEntry> sortedDelayedEntries) {
+        Map<Integer, List<DelayedEntry>> failsPerPartition = new HashMap<>();
+        int size = sortedDelayedEntries.size();
+        int from = 0;
+        while (from < size) {
+            int to = Math.min(from + adaptiveController.batchSize(), size);
+            long storeCallNanosBefore = storeCallNanos.get();
+            Map<Integer, List<DelayedEntry>> fails = processInternal(sortedDelayedEntries.subList(from, to));
+            adaptiveController.onBatchProcessed(storeCallNanos.get() - storeCallNanosBefore, !fails.isEmpty());
+            for (List<DelayedEntry> failedEntries : fails.values()) {
+                addFailsTo(failsPerPartition, failedEntries);
+            }
+            from = to;
+        }
+        return failsPerPartition;
+    }
+
     private List<DelayedEntry> retryCall(RetryTask task) {
         boolean result = false;
         Exception exception = null;
         int k = 0;
         for (; k < RETRY_TIMES_OF_A_FAILED_STORE_OPERATION; k++) {
+            long startNanos = adaptiveController != null ? Timer.nanos() : 0;
             try {
                 result = task.run();
             } catch (InterruptedException ex) {
@@ -332,6 +368,10 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
                 break;
             } catch (Exception ex) {
                 exception = ex;
+            } finally {
+                if (adaptiveController != null) {
+                    storeCallNanos.addAndGet(Timer.nanosElapsed(startNanos));
+                }
             }
             if (!result) {
                 sleepSeconds(RETRY_STORE_AFTER_WAIT_SECONDS);
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An append-only, memory-mapped segment file holding length-prefixed
+ * records. Records are appended at the write position and consumed in
+ * FIFO order from the read position.
+ * <p>
+ * Not thread-safe, access is guarded by the owning {@link
+ * SpillingWriteBehindQueue}.
+ */
+final class SpillSegment {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private int readPosition;
+    private int writePosition;
+
+    private SpillSegment(Path file, FileChannel channel, MappedByteBuffer buffer) {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static SpillSegment create(Path directory, int capacity) {
+        try {
+            Files.createDirectories(directory);
+            Path file = Files.createTempFile(directory, "write-behind-", ".spill");
+            FileChannel channel = FileChannel.open(file, READ, WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return new SpillSegment(file, channel, buffer);
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Appends the given record to this segment.
+     *
+     * @return the position of the appended record if it fits in the
+     * remaining space, {@code -1} otherwise
+     */
+    int tryAppend(byte[] record) {
+        int required = Integer.BYTES + record.length;
+        if (buffer.capacity() - writePosition < required) {
+            return -1;
+        }
+        int position = writePosition;
+        buffer.putInt(position, record.length);
+        buffer.put(position + Integer.BYTES, record);
+        writePosition += required;
+        return position;
+    }
+
+    /**
+     * Returns the record at the given position without consuming it,
+     * or {@code null} if it has already been consumed.
+     */
+    ByteBuffer read(int position) {
+        if (position < readPosition || position >= writePosition) {
+            return null;
+        }
+        int length = buffer.getInt(position);
+        return buffer.slice(position + Integer.BYTES, length);
+    }
+
+    /**
+     * Removes and returns the oldest record of this segment as a
+     * buffer positioned at its first byte, or {@code null} if all
+     * records have been consumed.
+     */
+    ByteBuffer poll() {
+        if (isEmpty()) {
+            return null;
+        }
+        int length = buffer.getInt(readPosition);
+        ByteBuffer record = buffer.slice(readPosition + Integer.BYTES, length);
+        readPosition += Integer.BYTES + length;
+        return record;
+    }
+
+    /**
+     * Returns a read-only view of the unconsumed records which can be
+     * walked with {@link #next(ByteBuffer)} without consuming them.
+     */
+    ByteBuffer view() {
+        return buffer.asReadOnlyBuffer().limit(writePosition).position(readPosition);
+    }
+
+    /**
+     * Returns the next record of a {@link #view()}, or {@code null}
+     * when the view is exhausted.
+     */
+    static ByteBuffer next(ByteBuffer view) {
+        if (!view.hasRemaining()) {
+            return null;
+        }
+        int length = view.getInt();
+        ByteBuffer record = view.slice(view.position(), length);
+        view.position(view.position() + length);
+        return record;
+    }
+
+    boolean isEmpty() {
+        return readPosition == writePosition;
+    }
+
+    /**
+     * Unmaps the buffer, closes the underlying channel and deletes the
+     * segment file. Neither this segment nor any buffer returned by it
+     * may be accessed afterwards.
+     */
+    void dispose() {
+        if (UNSAFE_AVAILABLE) {
+            UNSAFE.invokeCleaner(buffer);
+        }
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+    }
+}
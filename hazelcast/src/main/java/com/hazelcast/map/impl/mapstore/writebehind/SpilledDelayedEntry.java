@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
+
+import java.util.UUID;
+
+/**
+ * Value-less placeholder which is put into the staging area of a
+ * {@link WriteBehindStore} instead of an entry spilled to disk by a
+ * {@link SpillingWriteBehindQueue}. Only the key and the sequence of
+ * the spilled entry are kept, the entry itself is read back with
+ * {@link SpillingWriteBehindQueue#readSpilled(SpilledDelayedEntry)}.
+ */
+final class SpilledDelayedEntry implements DelayedEntry<Data, Object> {
+
+    private final Data key;
+    private final long sequence;
+
+    SpilledDelayedEntry(Data key, long sequence) {
+        this.key = key;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public Data getKey() {
+        return key;
+    }
+
+    @Override
+    public Object getValue() {
+        throw new UnsupportedOperationException("Value of a spilled entry must be read from its queue");
+    }
+
+    @Override
+    public long getExpirationTime() {
+        throw new UnsupportedOperationException("Expiration time of a spilled entry must be read from its queue");
+    }
+
+    @Override
+    public long getStoreTime() {
+        return -1L;
+    }
+
+    @Override
+    public int getPartitionId() {
+        return -1;
+    }
+
+    @Override
+    public void setStoreTime(long storeTime) {
+    }
+
+    @Override
+    public void setSequence(long sequence) {
+    }
+
+    @Override
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public void setTxnId(UUID txnId) {
+    }
+
+    @Override
+    public UUID getTxnId() {
+        return null;
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.MutableInteger;
+import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntries;
+import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+
+/**
+ * Non-write-coalescing write behind queue which keeps at most {@code
+ * heapThreshold} entries on heap and spills the rest, in insertion
+ * order, to memory-mapped {@link SpillSegment segment files}. Spilled
+ * entries are read back into the heap part as the head of the queue is
+ * consumed, so the store order is the same as with {@link
+ * CyclicWriteBehindQueue}.
+ * <p>
+ * Since the backlog is bounded by disk space instead of heap, this
+ * queue is not wrapped by a {@link BoundedWriteBehindQueue}. Only the
+ * key count index used by {@link #contains(DelayedEntry)} and the
+ * position of the latest spilled entry per key stay fully on heap, so
+ * that the {@link WriteBehindStore} can stage a {@link
+ * SpilledDelayedEntry} instead of the spilled entry itself.
+ * <p>
+ * Unlike the other {@link WriteBehindQueue} implementations, this one
+ * is thread-safe by itself and not wrapped in a {@link
+ * SynchronizedWriteBehindQueue}, since the staging area of the {@link
+ * WriteBehindStore} also reads spilled entries directly from it.
+ *
+ * @see WriteBehindQueues#WRITE_BEHIND_QUEUE_SPILL_THRESHOLD
+ */
+class SpillingWriteBehindQueue implements WriteBehindQueue<DelayedEntry> {
+
+    private static final int ENTRY_HEADER_LENGTH = Long.BYTES * 3 + Integer.BYTES + 1;
+    private static final int TXN_ID_LENGTH = Long.BYTES * 2;
+
+    private final Deque<DelayedEntry> heapEntries = new ArrayDeque<>();
+    private final Deque<SpillSegment> segments = new ArrayDeque<>();
+    private final Map<Data, MutableInteger> index = new HashMap<>();
+    private final Map<Data, SpilledRecord> spilledRecords = new HashMap<>();
+    private final int heapThreshold;
+    private final int segmentSize;
+    private final Path directory;
+    private final SerializationService serializationService;
+
+    private int spilledCount;
+
+    SpillingWriteBehindQueue(int heapThreshold, int segmentSize, Path directory,
+                             SerializationService serializationService) {
+        this.heapThreshold = heapThreshold;
+        this.segmentSize = segmentSize;
+        this.directory = directory;
+        this.serializationService = serializationService;
+    }
+
+    /**
+     * Add this collection to the front of the queue. Re-added entries
+     * always stay on heap since they are the next ones to be stored.
+     *
+     * @param collection collection to be added in front of this queue.
+     */
+    @Override
+    public synchronized void addFirst(Collection<DelayedEntry> collection) {
+        for (DelayedEntry entry : collection) {
+            heapEntries.addFirst(entry);
+            addCountIndex(entry);
+        }
+    }
+
+    @Override
+    public synchronized void addLast(DelayedEntry entry, boolean addWithoutCapacityCheck) {
+        if (spilledCount == 0 && heapEntries.size() < heapThreshold) {
+            heapEntries.addLast(entry);
+        } else {
+            spill(entry);
+        }
+        addCountIndex(entry);
+    }
+
+    @Override
+    public synchronized DelayedEntry peek() {
+        refillHeapEntries();
+        return heapEntries.peek();
+    }
+
+    /**
+     * Removes the first element of this queue instead of searching for it,
+     * implementation of this method is strongly tied with {@link StoreWorker} implementation.
+     *
+     * @param entry element to be removed.
+     * @return <code>true</code> if removed successfully, <code>false</code> otherwise
+     * @see CyclicWriteBehindQueue#removeFirstOccurrence(DelayedEntry)
+     */
+    @Override
+    public synchronized boolean removeFirstOccurrence(DelayedEntry entry) {
+        refillHeapEntries();
+        DelayedEntry removedEntry = heapEntries.pollFirst();
+        if (removedEntry == null) {
+            return false;
+        }
+        decreaseCountIndex(entry);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean contains(DelayedEntry entry) {
+        return index.containsKey((Data) entry.getKey());
+    }
+
+    @Override
+    public synchronized int size() {
+        return heapEntries.size() + spilledCount;
+    }
+
+    @Override
+    public synchronized void clear() {
+        heapEntries.clear();
+        disposeSegments();
+        index.clear();
+    }
+
+    @Override
+    public synchronized int drainTo(Collection<DelayedEntry> collection) {
+        checkNotNull(collection, "collection can not be null");
+
+        int size = size();
+        collection.addAll(heapEntries);
+        readSpilledEntries(null, collection);
+        clear();
+        return size;
+    }
+
+    @Override
+    public synchronized List<DelayedEntry> asList() {
+        List<DelayedEntry> list = new ArrayList<>(size());
+        list.addAll(heapEntries);
+        readSpilledEntries(null, list);
+        return Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public synchronized void filter(IPredicate<DelayedEntry> predicate, Collection<DelayedEntry> collection) {
+        for (DelayedEntry e : heapEntries) {
+            if (predicate.test(e)) {
+                collection.add(e);
+            } else {
+                return;
+            }
+        }
+        readSpilledEntries(predicate, collection);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> clazz) {
+        if (this.getClass().isAssignableFrom(clazz)) {
+            return (T) this;
+        }
+        return null;
+    }
+
+    synchronized int spilledCount() {
+        return spilledCount;
+    }
+
+    /**
+     * Returns the entry to be put into the staging area for the given
+     * entry which has just been added to this queue: a value-less
+     * {@link SpilledDelayedEntry} if it has been spilled, otherwise
+     * the entry itself.
+     */
+    synchronized DelayedEntry toStagedEntry(DelayedEntry entry) {
+        Data key = (Data) entry.getKey();
+        SpilledRecord spilledRecord = spilledRecords.get(key);
+        if (spilledRecord != null && spilledRecord.sequence() == entry.getSequence()) {
+            return new SpilledDelayedEntry(key, entry.getSequence());
+        }
+        return entry;
+    }
+
+    /**
+     * Reads back the entry staged as the given {@link
+     * SpilledDelayedEntry}, either from its segment or, if it has been
+     * refilled in the meantime, from the heap part of this queue.
+     *
+     * @return the spilled entry or {@code null} if it has already been
+     * removed from this queue
+     */
+    synchronized DelayedEntry readSpilled(SpilledDelayedEntry stagedEntry) {
+        SpilledRecord spilledRecord = spilledRecords.get(stagedEntry.getKey());
+        if (spilledRecord != null && spilledRecord.sequence() == stagedEntry.getSequence()) {
+            ByteBuffer record = spilledRecord.segment().read(spilledRecord.position());
+            if (record != null) {
+                return decode(record);
+            }
+        }
+        Iterator<DelayedEntry> iterator = heapEntries.descendingIterator();
+        while (iterator.hasNext()) {
+            DelayedEntry entry = iterator.next();
+            if (entry.getSequence() == stagedEntry.getSequence()) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void spill(DelayedEntry entry) {
+        byte[] record = encode(entry);
+        SpillSegment segment = segments.peekLast();
+        int position = segment == null ? -1 : segment.tryAppend(record);
+        if (position < 0) {
+            segment = SpillSegment.create(directory, Math.max(segmentSize, Integer.BYTES + record.length));
+            position = segment.tryAppend(record);
+            segments.addLast(segment);
+        }
+        spilledRecords.put((Data) entry.getKey(), new SpilledRecord(segment, position, entry.getSequence()));
+        spilledCount++;
+    }
+
+    private void refillHeapEntries() {
+        while (spilledCount > 0 && heapEntries.size() < heapThreshold) {
+            SpillSegment segment = segments.peekFirst();
+            DelayedEntry entry = decode(segment.poll());
+            heapEntries.addLast(entry);
+            SpilledRecord spilledRecord = spilledRecords.get((Data) entry.getKey());
+            if (spilledRecord != null && spilledRecord.sequence() == entry.getSequence()) {
+                spilledRecords.remove((Data) entry.getKey());
+            }
+            spilledCount--;
+            if (segment.isEmpty()) {
+                segments.pollFirst().dispose();
+            }
+        }
+    }
+
+    /**
+     * Reads spilled entries in queue order without consuming them,
+     * stopping at the first one not matching the given predicate.
+     */
+    private void readSpilledEntries(IPredicate<DelayedEntry> predicate, Collection<DelayedEntry> collection) {
+        for (SpillSegment segment : segments) {
+            ByteBuffer view = segment.view();
+            ByteBuffer record;
+            while ((record = SpillSegment.next(view)) != null) {
+                DelayedEntry entry = decode(record);
+                if (predicate != null && !predicate.test(entry)) {
+                    return;
+                }
+                collection.add(entry);
+            }
+        }
+    }
+
+    private void disposeSegments() {
+        SpillSegment segment;
+        while ((segment = segments.pollFirst()) != null) {
+            segment.dispose();
+        }
+        spilledRecords.clear();
+        spilledCount = 0;
+    }
+
+    private byte[] encode(DelayedEntry entry) {
+        byte[] key = serializationService.toData(entry.getKey()).toByteArray();
+        Data valueData = serializationService.toData(entry.getValue());
+        byte[] value = valueData == null ? null : valueData.toByteArray();
+        UUID txnId = entry.getTxnId();
+
+        int length = ENTRY_HEADER_LENGTH + (txnId == null ? 0 : TXN_ID_LENGTH)
+                + Integer.BYTES + key.length + Integer.BYTES + (value == null ? 0 : value.length);
+        ByteBuffer buffer = ByteBuffer.allocate(length)
+                .putLong(entry.getExpirationTime())
+                .putLong(entry.getStoreTime())
+                .putLong(entry.getSequence())
+                .putInt(entry.getPartitionId())
+                .put((byte) (txnId == null ? 0 : 1));
+        if (txnId != null) {
+            buffer.putLong(txnId.getMostSignificantBits()).putLong(txnId.getLeastSignificantBits());
+        }
+        buffer.putInt(key.length).put(key);
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length).put(value);
+        }
+        return buffer.array();
+    }
+
+    private static DelayedEntry decode(ByteBuffer record) {
+        long expirationTime = record.getLong();
+        long storeTime = record.getLong();
+        long sequence = record.getLong();
+        int partitionId = record.getInt();
+        UUID txnId = record.get() == 1 ? new UUID(record.getLong(), record.getLong()) : null;
+        Data key = readData(record);
+        Data value = readData(record);
+
+        DelayedEntry entry = value != null
+                ? DelayedEntries.newAddedDelayedEntry(key, value, expirationTime, storeTime, partitionId, txnId)
+                : DelayedEntries.newDeletedEntry(key, storeTime, partitionId, txnId);
+        entry.setSequence(sequence);
+        return entry;
+    }
+
+    private static Data readData(ByteBuffer record) {
+        int length = record.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        record.get(bytes);
+        return new HeapData(bytes);
+    }
+
+    private void addCountIndex(DelayedEntry entry) {
+        index.computeIfAbsent((Data) entry.getKey(), k -> new MutableInteger()).value++;
+    }
+
+    private void decreaseCountIndex(DelayedEntry entry) {
+        Data key = (Data) entry.getKey();
+        MutableInteger count = index.get(key);
+        if (count != null && --count.value == 0) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Location of the latest spilled entry of a key.
+     */
+    private record SpilledRecord(SpillSegment segment, int position, long sequence) {
+    }
+}
@@ -38,6 +38,7 @@ import java.util.Map;
 
 import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
 import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -53,6 +54,10 @@ public class StoreWorker implements Runnable {
     private final IPartitionService partitionService;
     private final ExecutionService executionService;
     private final WriteBehindProcessor writeBehindProcessor;
+    /**
+     * Chooses the run interval when adaptive mode is on, {@code null} otherwise.
+     */
+    private final AdaptiveWriteBehindController adaptiveController;
     /**
      * Run on backup nodes after this interval.
      */
@@ -69,12 +74,18 @@ public class StoreWorker implements Runnable {
     private volatile boolean running;
 
     public StoreWorker(MapStoreContext mapStoreContext, WriteBehindProcessor writeBehindProcessor) {
+        this(mapStoreContext, writeBehindProcessor, null);
+    }
+
+    StoreWorker(MapStoreContext mapStoreContext, WriteBehindProcessor writeBehindProcessor,
+                AdaptiveWriteBehindController adaptiveController) {
         this.mapName = mapStoreContext.getMapName();
         this.mapServiceContext = mapStoreContext.getMapServiceContext();
         NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
         this.partitionService = nodeEngine.getPartitionService();
         this.executionService = nodeEngine.getExecutionService();
         this.writeBehindProcessor = writeBehindProcessor;
+        this.adaptiveController = adaptiveController;
         this.backupDelayMillis = getReplicaWaitTimeMillis();
         this.lastHighestStoreTime = Clock.currentTimeMillis();
         this.writeDelayMillis = SECONDS.toMillis(getWriteDelaySeconds(mapStoreContext));
@@ -107,7 +118,11 @@ public class StoreWorker implements Runnable {
     }
 
     private void schedule() {
-        executionService.schedule(this, 1, SECONDS);
+        if (adaptiveController == null) {
+            executionService.schedule(this, 1, SECONDS);
+        } else {
+            executionService.schedule(this, adaptiveController.runDelayMillis(), MILLISECONDS);
+        }
     }
 
     private void runInternal() {
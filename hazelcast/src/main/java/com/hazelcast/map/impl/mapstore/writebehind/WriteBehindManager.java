@@ -38,8 +38,9 @@ public class WriteBehindManager implements MapStoreManager {
 
     public WriteBehindManager(MapStoreContext mapStoreContext) {
         this.mapStoreContext = mapStoreContext;
-        this.writeBehindProcessor = newWriteBehindProcessor(mapStoreContext);
-        this.storeWorker = new StoreWorker(mapStoreContext, writeBehindProcessor);
+        AdaptiveWriteBehindController adaptiveController = AdaptiveWriteBehindController.newControllerOrNull(mapStoreContext);
+        this.writeBehindProcessor = newWriteBehindProcessor(mapStoreContext, adaptiveController);
+        this.storeWorker = new StoreWorker(mapStoreContext, writeBehindProcessor, adaptiveController);
     }
 
     @Override
@@ -58,8 +59,9 @@ public class WriteBehindManager implements MapStoreManager {
         return MapDataStores.createWriteBehindStore(mapStoreContext, partitionId, writeBehindProcessor);
     }
 
-    private WriteBehindProcessor newWriteBehindProcessor(final MapStoreContext mapStoreContext) {
-        WriteBehindProcessor writeBehindProcessor = createWriteBehindProcessor(mapStoreContext);
+    private WriteBehindProcessor newWriteBehindProcessor(final MapStoreContext mapStoreContext,
+                                                         AdaptiveWriteBehindController adaptiveController) {
+        WriteBehindProcessor writeBehindProcessor = createWriteBehindProcessor(mapStoreContext, adaptiveController);
         StoreListener<DelayedEntry> storeListener = new InternalStoreListener(mapStoreContext);
         writeBehindProcessor.addStoreListener(storeListener);
         return writeBehindProcessor;
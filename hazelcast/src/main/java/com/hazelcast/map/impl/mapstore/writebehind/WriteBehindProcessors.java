@@ -27,6 +27,11 @@ public final class WriteBehindProcessors {
     }
 
     public static WriteBehindProcessor createWriteBehindProcessor(MapStoreContext mapStoreContext) {
-        return new DefaultWriteBehindProcessor(mapStoreContext);
+        return createWriteBehindProcessor(mapStoreContext, null);
+    }
+
+    static WriteBehindProcessor createWriteBehindProcessor(MapStoreContext mapStoreContext,
+                                                           AdaptiveWriteBehindController adaptiveController) {
+        return new DefaultWriteBehindProcessor(mapStoreContext, adaptiveController);
     }
 }
@@ -18,12 +18,40 @@ package com.hazelcast.map.impl.mapstore.writebehind;
 
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.nio.file.Paths;
 
 /**
  * A class providing static factory methods that create write behind queues.
  */
 public final class WriteBehindQueues {
 
+    /**
+     * Maximum number of entries a non-write-coalescing write behind queue
+     * keeps on heap per partition. Entries beyond this threshold are spilled
+     * to memory-mapped segment files under {@link
+     * #WRITE_BEHIND_QUEUE_SPILL_DIRECTORY} and are not limited by the
+     * node-wide write behind queue capacity. A value smaller than {@code 1}
+     * disables spilling.
+     */
+    public static final HazelcastProperty WRITE_BEHIND_QUEUE_SPILL_THRESHOLD
+            = new HazelcastProperty("hazelcast.map.write.behind.queue.spill.threshold", -1);
+
+    /**
+     * Directory in which write behind queue segment files are created.
+     */
+    public static final HazelcastProperty WRITE_BEHIND_QUEUE_SPILL_DIRECTORY
+            = new HazelcastProperty("hazelcast.map.write.behind.queue.spill.directory",
+            System.getProperty("java.io.tmpdir"));
+
+    /**
+     * Size in bytes of a single write behind queue segment file.
+     */
+    public static final HazelcastProperty WRITE_BEHIND_QUEUE_SPILL_SEGMENT_SIZE
+            = new HazelcastProperty("hazelcast.map.write.behind.queue.spill.segment.size", 1 << 20);
+
     private WriteBehindQueues() {
     }
 
@@ -36,6 +64,23 @@ public final class WriteBehindQueues {
         return createSynchronizedWriteBehindQueue(createBoundedWriteBehindQueue(createCyclicWriteBehindQueue(), counter));
     }
 
+    /**
+     * Creates the queue used when write-coalescing is off: a spilling
+     * queue if {@link #WRITE_BEHIND_QUEUE_SPILL_THRESHOLD} is set,
+     * otherwise a bounded one.
+     */
+    public static WriteBehindQueue<DelayedEntry> createNonCoalescedWriteBehindQueue(MapStoreContext mapStoreContext) {
+        HazelcastProperties properties = mapStoreContext.getMapServiceContext().getNodeEngine().getProperties();
+        int spillThreshold = properties.getInteger(WRITE_BEHIND_QUEUE_SPILL_THRESHOLD);
+        if (spillThreshold < 1) {
+            return createBoundedWriteBehindQueue(mapStoreContext);
+        }
+        return new SpillingWriteBehindQueue(spillThreshold,
+                properties.getInteger(WRITE_BEHIND_QUEUE_SPILL_SEGMENT_SIZE),
+                Paths.get(properties.getString(WRITE_BEHIND_QUEUE_SPILL_DIRECTORY)),
+                mapStoreContext.getSerializationService());
+    }
+
     static WriteBehindQueue<DelayedEntry> createCoalescedWriteBehindQueue() {
         return new CoalescedWriteBehindQueue();
     }
@@ -49,8 +49,8 @@ import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
 import static com.hazelcast.map.impl.mapstore.writebehind.TxnReservedCapacityCounter.EMPTY_COUNTER;
-import static com.hazelcast.map.impl.mapstore.writebehind.WriteBehindQueues.createBoundedWriteBehindQueue;
 import static com.hazelcast.map.impl.mapstore.writebehind.WriteBehindQueues.createDefaultWriteBehindQueue;
+import static com.hazelcast.map.impl.mapstore.writebehind.WriteBehindQueues.createNonCoalescedWriteBehindQueue;
 import static com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntries.newAddedDelayedEntry;
 import static com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntries.newDeletedEntry;
 import static com.hazelcast.spi.impl.operationservice.OperationResponseHandlerFactory.createEmptyResponseHandler;
@@ -119,12 +119,17 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
      * load by flushing entries uncontrollably. We also do not want to
      * make duplicate map-store calls for a key. This is why we use the
      * staging area instead of the direct flushing option to map-store.
+     * <p>
+     * Entries spilled to disk by a {@link SpillingWriteBehindQueue} are
+     * staged as value-less {@link SpilledDelayedEntry} placeholders and
+     * read back from the queue on demand.
      */
     private final ConcurrentMap<Data, DelayedEntry> stagingArea = new ConcurrentHashMap<>();
     private final TxnReservedCapacityCounter txnReservedCapacityCounter;
 
     private WriteBehindProcessor writeBehindProcessor;
     private WriteBehindQueue<DelayedEntry> writeBehindQueue;
+    private final SpillingWriteBehindQueue spillingQueue;
 
     public WriteBehindStore(MapStoreContext mapStoreContext, int partitionId,
                             WriteBehindProcessor writeBehindProcessor) {
@@ -135,7 +140,8 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
         this.mapName = mapStoreContext.getMapName();
         this.operationService = nodeEngine.getOperationService();
         this.writeBehindQueue = coalesce ? createDefaultWriteBehindQueue()
-                : createBoundedWriteBehindQueue(mapStoreContext);
+                : createNonCoalescedWriteBehindQueue(mapStoreContext);
+        this.spillingQueue = writeBehindQueue.unwrap(SpillingWriteBehindQueue.class);
         this.writeBehindProcessor = writeBehindProcessor;
         this.txnReservedCapacityCounter = initTxnReservedCapacityCounter();
     }
@@ -184,7 +190,7 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
     public void addForcibly(DelayedEntry<Data, Object> delayedEntry) {
         delayedEntry.setSequence(sequence.incrementAndGet());
         writeBehindQueue.addLast(delayedEntry, true);
-        stagingArea.put(delayedEntry.getKey(), delayedEntry);
+        stagingArea.put(delayedEntry.getKey(), toStagedEntry(delayedEntry));
 
     }
 
@@ -193,7 +199,7 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
 
         writeBehindQueue.addLast(delayedEntry, false);
 
-        stagingArea.put(delayedEntry.getKey(), delayedEntry);
+        stagingArea.put(delayedEntry.getKey(), toStagedEntry(delayedEntry));
 
     }
 
@@ -416,7 +422,15 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
             return;
         }
         Data key = (Data) delayedEntry.getKey();
-        stagingArea.remove(key, delayedEntry);
+        // entries read back from a spilling queue are copies of
+        // the staged ones, hence also matching them by sequence
+        long sequence = delayedEntry.getSequence();
+        stagingArea.computeIfPresent(key, (k, staged) -> staged == delayedEntry
+                || (sequence > 0 && staged.getSequence() == sequence) ? null : staged);
+    }
+
+    private DelayedEntry toStagedEntry(DelayedEntry delayedEntry) {
+        return spillingQueue == null ? delayedEntry : spillingQueue.toStagedEntry(delayedEntry);
     }
 
     private DelayedEntry getFromStagingArea(Data key) {
@@ -424,6 +438,9 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
         if (delayedEntry == null || delayedEntry == TRANSIENT) {
             return null;
         }
+        if (delayedEntry instanceof SpilledDelayedEntry spilledEntry) {
+            return spillingQueue.readSpilled(spilledEntry);
+        }
         return delayedEntry;
     }
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writethrough;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.EntryLoader.MetadataAwareValue;
+import com.hazelcast.map.MapStore;
+import com.hazelcast.map.impl.mapstore.MapStoreContext;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.MAP_STORE_OFFLOADABLE_EXECUTOR;
+
+/**
+ * Write through map data store which coalesces concurrent stores of
+ * a map into {@link MapStore#storeAll(Map)} calls.
+ * <p>
+ * With map store offloading enabled, the store steps of put operations
+ * on different partitions run concurrently on the offloading executor.
+ * Each of them queues its entry with {@link #addAsync} and returns
+ * without waiting, the step engine resumes the operation once the
+ * returned future is completed. A single flush task at a time drains up
+ * to {@link #WRITE_THROUGH_BATCH_SIZE} queued entries and persists them
+ * with one {@code storeAll} call, while the entries queued in the
+ * meantime form the next batch (group commit). No offloading thread is
+ * blocked waiting for the batches of other partitions, and the
+ * write-through guarantee is kept: the operation's response is sent
+ * after the map store accepted the value.
+ * <p>
+ * If {@code storeAll} fails, the entries it did not report as stored
+ * (see {@link MapStore#storeAll(Map)}) are retried one by one with
+ * {@link MapStore#store(Object, Object)} so that every operation observes
+ * the outcome of its own entry, just like with {@link WriteThroughStore}.
+ * <p>
+ * Stores issued with {@link #add} are not batched.
+ */
+public class BatchingWriteThroughStore extends WriteThroughStore {
+
+    /**
+     * Maximum number of entries persisted with a single
+     * {@code storeAll} call by write-through map stores. Values
+     * smaller than 2 disable batching.
+     * <p>
+     * Batching is only applied to maps with map store offloading enabled.
+     */
+    public static final HazelcastProperty WRITE_THROUGH_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.map.write.through.batch.size", 1);
+
+    private final int batchSize;
+    private final Executor executor;
+    private final Queue<PendingStore> pendingStores = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public BatchingWriteThroughStore(MapStoreContext mapStoreContext, int batchSize) {
+        super(mapStoreContext);
+        this.batchSize = batchSize;
+        NodeEngine nodeEngine = mapStoreContext.getMapServiceContext().getNodeEngine();
+        this.executor = nodeEngine.getExecutionService().getExecutor(MAP_STORE_OFFLOADABLE_EXECUTOR);
+    }
+
+    /**
+     * @return {@code true} if the stores of the map with the given
+     * context should be coalesced into batches, otherwise {@code false}
+     */
+    public static boolean isEnabled(MapStoreContext mapStoreContext) {
+        return getBatchSize(mapStoreContext) > 1
+                && mapStoreContext.getMapStoreConfig().isOffload();
+    }
+
+    public static int getBatchSize(MapStoreContext mapStoreContext) {
+        return mapStoreContext.getMapServiceContext().getNodeEngine()
+                .getProperties().getInteger(WRITE_THROUGH_BATCH_SIZE);
+    }
+
+    /**
+     * Queues the given entry for the next batch without waiting for it
+     * to be persisted.
+     *
+     * @return future completed with the same value {@link #add} returns
+     * once the entry is persisted, or exceptionally with the failure of
+     * the map store
+     */
+    public CompletableFuture<Object> addAsync(Data key, Object value, long expirationTime) {
+        Object objectValue = toObject(value);
+        Object storeValue = getStore().isWithExpirationTime()
+                ? new MetadataAwareValue(objectValue, getUserExpirationTime(expirationTime))
+                : objectValue;
+        // if store is not a post-processing map-store, then avoid extra de-serialization phase.
+        Object result = getStore().isPostProcessingMapStore() ? objectValue : value;
+        PendingStore pendingStore = new PendingStore(toObject(key), storeValue, result);
+        pendingStores.offer(pendingStore);
+        scheduleFlush();
+        return pendingStore.future;
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Persists queued entries batch by batch until the queue is empty.
+     * Only one flush task runs at a time.
+     */
+    private void flush() {
+        try {
+            Map<Object, PendingStore> batch = pollBatch();
+            while (!batch.isEmpty()) {
+                flushBatch(batch);
+                batch = pollBatch();
+            }
+        } finally {
+            flushScheduled.set(false);
+        }
+        // an entry may have been queued after the last poll
+        if (!pendingStores.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    private void flushBatch(Map<Object, PendingStore> batch) {
+        if (batch.size() == 1) {
+            storeOne(batch.values().iterator().next());
+            return;
+        }
+
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        for (PendingStore pendingStore : batch.values()) {
+            entries.put(pendingStore.key, pendingStore.value);
+        }
+        try {
+            getStore().storeAll(entries);
+        } catch (Throwable t) {
+            // entries removed from the map were stored successfully,
+            // retry the remaining ones to find out their own outcome
+            for (Object key : entries.keySet()) {
+                storeOne(batch.remove(key));
+            }
+        }
+        for (PendingStore pendingStore : batch.values()) {
+            pendingStore.complete();
+        }
+    }
+
+    /**
+     * Polls up to {@link #batchSize} queued entries. Stops early at an entry
+     * whose key is already part of the batch, it goes to the next batch.
+     */
+    private Map<Object, PendingStore> pollBatch() {
+        Map<Object, PendingStore> batch = new LinkedHashMap<>();
+        PendingStore pendingStore;
+        while (batch.size() < batchSize && (pendingStore = pendingStores.peek()) != null
+                && !batch.containsKey(pendingStore.key)) {
+            batch.put(pendingStore.key, pendingStores.poll());
+        }
+        return batch;
+    }
+
+    private void storeOne(PendingStore pendingStore) {
+        try {
+            getStore().store(pendingStore.key, pendingStore.value);
+        } catch (Throwable t) {
+            pendingStore.future.completeExceptionally(t);
+            return;
+        }
+        pendingStore.complete();
+    }
+
+    private static final class PendingStore {
+
+        private final Object key;
+        private final Object value;
+        private final Object result;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        PendingStore(Object key, Object value, Object result) {
+            this.key = key;
+            this.value = value;
+            this.result = result;
+        }
+
+        void complete() {
+            future.complete(result);
+        }
+    }
+}
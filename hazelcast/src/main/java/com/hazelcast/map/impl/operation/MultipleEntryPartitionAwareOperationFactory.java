@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.impl.operations.PartitionAwareOperationFactory;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+
+import static com.hazelcast.internal.namespace.NamespaceUtil.callWithNamespace;
+import static com.hazelcast.internal.util.SetUtil.createHashSet;
+
+/**
+ * Processes the keys of all partitions of a member via locally invoked {@link MultipleEntryOperation}s.
+ * <p>
+ * Unlike {@link MultipleEntryOperationFactory}, which ships every key to every member,
+ * each member only receives the keys of its own partitions, already grouped per partition.
+ * Used to reduce the size and number of remote invocations of {@link IMap#executeOnKeys(Set, EntryProcessor)}
+ * and {@link IMap#deleteAll(Set)} calls.
+ */
+public class MultipleEntryPartitionAwareOperationFactory extends PartitionAwareOperationFactory {
+
+    protected String name;
+    protected Set<Data>[] keys;
+    protected EntryProcessor entryProcessor;
+
+    public MultipleEntryPartitionAwareOperationFactory() {
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public MultipleEntryPartitionAwareOperationFactory(String name, int[] partitions, Set<Data>[] keys,
+                                                       EntryProcessor entryProcessor) {
+        this.name = name;
+        this.partitions = partitions;
+        this.keys = keys;
+        this.entryProcessor = entryProcessor;
+    }
+
+    @Override
+    public Operation createPartitionOperation(int partitionId) {
+        for (int i = 0; i < partitions.length; i++) {
+            if (partitions[i] == partitionId) {
+                return new MultipleEntryOperation(name, keys[i], entryProcessor);
+            }
+        }
+        throw new IllegalArgumentException("Unknown partitionId " + partitionId + " (" + Arrays.toString(partitions) + ")");
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeString(name);
+        out.writeIntArray(partitions);
+        for (Set<Data> partitionKeys : keys) {
+            out.writeInt(partitionKeys.size());
+            for (Data key : partitionKeys) {
+                IOUtil.writeData(out, key);
+            }
+        }
+        out.writeObject(entryProcessor);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        name = in.readString();
+        partitions = in.readIntArray();
+        //noinspection unchecked
+        keys = new Set[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            int size = in.readInt();
+            Set<Data> partitionKeys = createHashSet(size);
+            for (int j = 0; j < size; j++) {
+                partitionKeys.add(IOUtil.readData(in));
+            }
+            keys[i] = partitionKeys;
+        }
+        entryProcessor = callWithNamespace(in::readObject, name, MapService::lookupNamespace);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.MULTIPLE_ENTRY_PARTITION_AWARE_FACTORY;
+    }
+}
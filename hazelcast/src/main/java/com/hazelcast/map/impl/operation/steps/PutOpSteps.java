@@ -20,6 +20,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.core.EntryEventType;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.mapstore.writethrough.BatchingWriteThroughStore;
 import com.hazelcast.map.impl.operation.steps.engine.State;
 import com.hazelcast.map.impl.operation.steps.engine.Step;
 import com.hazelcast.map.impl.record.Record;
@@ -27,6 +28,8 @@ import com.hazelcast.map.impl.recordstore.DefaultRecordStore;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.map.impl.recordstore.StaticParams;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.hazelcast.map.impl.record.Record.UNSET;
 
 public enum PutOpSteps implements IMapOpStep {
@@ -152,7 +155,17 @@ public enum PutOpSteps implements IMapOpStep {
         public void runStep(State state) {
             assertWBStoreRunsOnPartitionThread(state);
 
-            Object newValue = ((DefaultRecordStore) state.getRecordStore()).putIntoMapStore0(state.getKey(),
+            DefaultRecordStore recordStore = (DefaultRecordStore) state.getRecordStore();
+            if (recordStore.getMapDataStore() instanceof BatchingWriteThroughStore) {
+                // stored with the next batch, the operation
+                // continues with ON_STORE after that
+                CompletableFuture<Object> stored = recordStore.putIntoMapStoreAsync0(state.getKey(),
+                        state.getNewValue(), state.getTtl(), state.getMaxIdle(), state.getNow());
+                state.setPendingCompletion(stored.thenAccept(state::setNewValue));
+                return;
+            }
+
+            Object newValue = recordStore.putIntoMapStore0(state.getKey(),
                     state.getNewValue(), state.getTtl(), state.getMaxIdle(), state.getNow(), state.getTxnId());
             state.setNewValue(newValue);
         }
@@ -173,7 +186,7 @@ public enum PutOpSteps implements IMapOpStep {
             Record record = recordStore.getRecord(state.getKey());
             if (record == null) {
                 record = recordStore.createRecord(state.getKey(), state.getNewValue(), state.getNow());
-                recordStore.putMemory(record, state.getKey(), state.getOldValue(),
+                record = recordStore.putMemory(record, state.getKey(), state.getOldValue(),
                         state.getTtl(), state.getMaxIdle(), UNSET,
                         state.getNow(), EntryEventType.ADDED, state.getStaticParams().isBackup());
             } else {
@@ -43,6 +43,7 @@ import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static com.hazelcast.map.impl.record.Record.UNSET;
@@ -108,6 +109,7 @@ public class State {
     private volatile int sizeBefore;
     private volatile int sizeAfter;
     private volatile BitSet nonWanReplicatedIndexes;
+    private volatile CompletableFuture<?> pendingCompletion;
 
     public State(RecordStore recordStore, MapOperation operation) {
         init(recordStore, operation);
@@ -557,4 +559,18 @@ public class State {
     public BitSet getNonWanReplicatedIndexes() {
         return nonWanReplicatedIndexes;
     }
+
+    /**
+     * Lets a step hand its work off asynchronously: the
+     * {@link StepRunner} does not run the next step of the
+     * operation before the given future is completed.
+     */
+    public void setPendingCompletion(CompletableFuture<?> pendingCompletion) {
+        this.pendingCompletion = pendingCompletion;
+    }
+
+    @Nullable
+    public CompletableFuture<?> getPendingCompletion() {
+        return pendingCompletion;
+    }
 }
@@ -31,6 +31,8 @@ import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
 
 import javax.annotation.Nullable;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static com.hazelcast.internal.util.ThreadUtil.assertRunningOnPartitionThread;
 import static com.hazelcast.internal.util.ThreadUtil.isRunningOnPartitionThread;
@@ -178,6 +180,15 @@ public class StepRunner extends Offload
                     return;
                 }
 
+                // The step handed its work off asynchronously, the
+                // next step runs once it is completed. Operations
+                // of this partition still run one after the other.
+                CompletableFuture<?> pendingCompletion = stepSupplier.takePendingCompletion();
+                if (pendingCompletion != null) {
+                    resumeOnCompletion(stepSupplier, pendingCompletion);
+                    return;
+                }
+
                 // Independent of the number of queued offloadedOperations,
                 // this step-runner tries to run all queued operation in
                 // one go. This may cause biased usage of partition thread
@@ -239,6 +250,16 @@ public class StepRunner extends Offload
         return false;
     }
 
+    private void resumeOnCompletion(StepSupplier supplier, CompletableFuture<?> pendingCompletion) {
+        pendingCompletion.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                supplier.handleOperationError(throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable);
+            }
+            operationExecutor.execute(this);
+        });
+    }
+
     private void offloadRun(Runnable step,
                             PartitionSpecificRunnable offload) {
         if (step instanceof PartitionSpecificRunnable) {
@@ -27,8 +27,10 @@ import com.hazelcast.spi.exception.DistributedObjectDestroyedException;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.operationservice.impl.OperationRunnerImpl;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -296,6 +298,20 @@ public class StepSupplier implements Supplier<Runnable>, Consumer<Step> {
         return state.getOperation();
     }
 
+    /**
+     * @return the future the last step of the operation handed its work
+     * off to, or {@code null} if the step completed synchronously
+     * @see State#setPendingCompletion
+     */
+    @Nullable
+    CompletableFuture<?> takePendingCompletion() {
+        CompletableFuture<?> pendingCompletion = state.getPendingCompletion();
+        if (pendingCompletion != null) {
+            state.setPendingCompletion(null);
+        }
+        return pendingCompletion;
+    }
+
     private interface ExecutorNameAwareRunnable extends Runnable, Offloadable {
 
     }
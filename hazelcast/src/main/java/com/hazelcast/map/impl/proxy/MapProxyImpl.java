@@ -94,6 +94,7 @@ import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
 import static com.hazelcast.internal.util.TimeUtil.timeInMsOrTimeIfNullUnit;
+import static com.hazelcast.map.impl.EntryRemovingProcessor.ENTRY_REMOVING_PROCESSOR;
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
 import static com.hazelcast.map.impl.query.QueryResultUtils.transformToSet;
 import static com.hazelcast.map.impl.querycache.subscriber.QueryCacheRequest.newQueryCacheRequest;
@@ -291,6 +292,18 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         removeAllInternal(predicate);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void deleteAll(@Nonnull Set<K> keys) {
+        checkNotNull(keys, NULL_KEYS_ARE_NOT_ALLOWED);
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Set<Data> dataKeys = createHashSet(keys.size());
+        submitToKeysInternal(keys, dataKeys, (EntryProcessor) ENTRY_REMOVING_PROCESSOR).joinInternal();
+    }
+
     @Override
     public void delete(@Nonnull Object key) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
@@ -31,6 +31,7 @@ import com.hazelcast.core.EntryEventType;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.core.HazelcastInstanceAware;
 import com.hazelcast.core.ReadOnly;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.locksupport.LockProxySupport;
 import com.hazelcast.internal.locksupport.LockSupportServiceImpl;
 import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
@@ -114,7 +115,9 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import static com.hazelcast.core.EntryEventType.CLEAR_ALL;
@@ -899,13 +902,21 @@ abstract class MapProxySupport<K, V>
         if (dataKeys.isEmpty()) {
             toDataCollectionWithNonNullKeyValidation(keys, dataKeys);
         }
-        Collection<Integer> partitions = getPartitionsForKeys(dataKeys);
         Map<Integer, Object> responses;
         try {
-            OperationFactory operationFactory = operationProvider.createGetAllOperationFactory(name, dataKeys);
             long startTimeNanos = Timer.nanos();
 
-            responses = operationService.invokeOnPartitions(SERVICE_NAME, operationFactory, partitions);
+            if (isKeyOwnerBatchingSupported()) {
+                @SuppressWarnings("unchecked")
+                IntFunction<List<Data>[]> arrayFactory = List[]::new;
+                responses = invokeOnKeyOwnersAsync(dataKeys, arrayFactory, ArrayList::new,
+                        (partitions, keysPerPartition) ->
+                                operationProvider.createGetAllOperationFactory(name, partitions, keysPerPartition)).get();
+            } else {
+                OperationFactory operationFactory = operationProvider.createGetAllOperationFactory(name, dataKeys);
+                responses = operationService.invokeOnPartitions(SERVICE_NAME, operationFactory,
+                        getPartitionsForKeys(dataKeys));
+            }
             for (Object response : responses.values()) {
                 MapEntries entries = toObject(response);
                 for (int i = 0; i < entries.size(); i++) {
@@ -919,9 +930,17 @@ abstract class MapProxySupport<K, V>
         }
     }
 
+    /**
+     * The partition-aware factories used by {@link #invokeOnKeyOwnersAsync}
+     * are only known to members of cluster version 6.0 and later, older
+     * clusters get the key set and filter it on every partition.
+     */
+    private boolean isKeyOwnerBatchingSupported() {
+        return getNodeEngine().getClusterService().getClusterVersion().isGreaterOrEqual(Versions.V6_0);
+    }
+
     private Collection<Integer> getPartitionsForKeys(Collection<Data> keys) {
         int partitions = partitionService.getPartitionCount();
-        // TODO: is there better way to estimate the size?
         int capacity = min(partitions, keys.size());
         Set<Integer> partitionIds = createHashSet(capacity);
 
@@ -933,6 +952,89 @@ abstract class MapProxySupport<K, V>
         return partitionIds;
     }
 
+    /**
+     * Groups the given keys per partition and sends a single operation to
+     * each member, carrying only the keys of the partitions owned by that
+     * member. The member runs one partition operation per partition on its
+     * partition threads, so a bulk call costs one remote invocation per
+     * member instead of shipping every key to every member.
+     *
+     * @param dataKeys                the keys to invoke the operations for
+     * @param arrayFactory            creates an array of key containers
+     * @param containerFactory        creates a key container with the given initial capacity
+     * @param operationFactoryCreator creates the operation factory from the
+     *                                partitions of a member and their keys
+     * @return the responses per partition
+     */
+    private <C extends Collection<Data>> InternalCompletableFuture<Map<Integer, Object>> invokeOnKeyOwnersAsync(
+            Collection<Data> dataKeys,
+            IntFunction<C[]> arrayFactory,
+            IntFunction<C> containerFactory,
+            BiFunction<int[], C[], OperationFactory> operationFactoryCreator) {
+        int partitionCount = partitionService.getPartitionCount();
+        int initialSize = (int) ceil((double) dataKeys.size() / partitionCount);
+        C[] keysPerPartition = arrayFactory.apply(partitionCount);
+        for (Data key : dataKeys) {
+            int partitionId = partitionService.getPartitionId(key);
+            C keys = keysPerPartition[partitionId];
+            if (keys == null) {
+                keys = containerFactory.apply(initialSize);
+                keysPerPartition[partitionId] = keys;
+            }
+            keys.add(key);
+        }
+
+        Map<Address, List<Integer>> memberPartitionsMap = partitionService.getMemberPartitionsMap();
+        List<CompletableFuture<Map<Integer, Object>>> futures = new ArrayList<>(memberPartitionsMap.size());
+        for (Entry<Address, List<Integer>> entry : memberPartitionsMap.entrySet()) {
+            int[] partitions = entry.getValue().stream()
+                    .filter(partitionId -> keysPerPartition[partitionId] != null)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            if (partitions.length == 0) {
+                continue;
+            }
+            C[] keys = arrayFactory.apply(partitions.length);
+            for (int i = 0; i < partitions.length; i++) {
+                keys[i] = keysPerPartition[partitions[i]];
+            }
+            OperationFactory factory = operationFactoryCreator.apply(partitions, keys);
+            futures.add(operationService.invokeOnPartitionsAsync(SERVICE_NAME, factory,
+                    singletonMap(entry.getKey(), asIntegerList(partitions))));
+        }
+        return mergeResponses(futures, partitionCount);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static InternalCompletableFuture<Map<Integer, Object>> mergeResponses(
+            List<CompletableFuture<Map<Integer, Object>>> futures, int partitionCount) {
+        InternalCompletableFuture<Map<Integer, Object>> resultFuture = new InternalCompletableFuture<>();
+        if (futures.isEmpty()) {
+            resultFuture.complete(Collections.emptyMap());
+            return resultFuture;
+        }
+        Map<Integer, Object>[] memberResponses = new Map[futures.size()];
+        AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            int memberIndex = i;
+            futures.get(i).whenCompleteAsync((response, t) -> {
+                if (t != null) {
+                    resultFuture.completeExceptionally(t);
+                    return;
+                }
+                memberResponses[memberIndex] = response;
+                if (remaining.decrementAndGet() == 0) {
+                    Map<Integer, Object> responses = createHashMap(partitionCount);
+                    for (Map<Integer, Object> memberResponse : memberResponses) {
+                        responses.putAll(memberResponse);
+                    }
+                    resultFuture.complete(responses);
+                }
+            }, CALLER_RUNS);
+        }
+        return resultFuture;
+    }
+
     private Map<Integer, List<Data>> getPartitionIdToKeysMap(Iterable<Data> keys) {
         if (keys == null) {
             return Collections.emptyMap();
@@ -1280,29 +1382,38 @@ abstract class MapProxySupport<K, V>
         if (dataKeys.isEmpty()) {
             toDataCollectionWithNonNullKeyValidation(keys, dataKeys);
         }
-        Collection<Integer> partitionsForKeys = getPartitionsForKeys(dataKeys);
-        OperationFactory operationFactory = operationProvider.createMultipleEntryOperationFactory(name, dataKeys,
-                entryProcessor);
-
+        CompletableFuture<Map<Integer, Object>> responseFuture;
+        if (isKeyOwnerBatchingSupported()) {
+            @SuppressWarnings("unchecked")
+            IntFunction<Set<Data>[]> arrayFactory = Set[]::new;
+            responseFuture = invokeOnKeyOwnersAsync(dataKeys, arrayFactory, size -> createHashSet(size),
+                    (partitions, keysPerPartition) ->
+                            operationProvider.createMultipleEntryOperationFactory(name, partitions, keysPerPartition,
+                                    entryProcessor));
+        } else {
+            OperationFactory operationFactory = operationProvider.createMultipleEntryOperationFactory(name, dataKeys,
+                    entryProcessor);
+            responseFuture = operationService.invokeOnPartitionsAsync(SERVICE_NAME, operationFactory,
+                    getPartitionsForKeys(dataKeys));
+        }
         final InternalCompletableFuture resultFuture = new InternalCompletableFuture();
-        operationService.invokeOnPartitionsAsync(SERVICE_NAME, operationFactory, partitionsForKeys)
-                .whenCompleteAsync((response, throwable) -> {
-                    if (throwable == null) {
-                        Map<K, Object> result = null;
-                        try {
-                            result = createHashMap(response.size());
-                            for (Object object : response.values()) {
-                                MapEntries mapEntries = (MapEntries) object;
-                                mapEntries.putAllToMap(serializationService, result);
-                            }
-                        } catch (Throwable e) {
-                            resultFuture.completeExceptionally(e);
-                        }
-                        resultFuture.complete(result);
-                    } else {
-                        resultFuture.completeExceptionally(throwable);
+        responseFuture.whenCompleteAsync((response, throwable) -> {
+            if (throwable == null) {
+                Map<K, Object> result = null;
+                try {
+                    result = createHashMap(response.size());
+                    for (Object object : response.values()) {
+                        MapEntries mapEntries = (MapEntries) object;
+                        mapEntries.putAllToMap(serializationService, result);
                     }
-                }, ConcurrencyUtil.getDefaultAsyncExecutor());
+                } catch (Throwable e) {
+                    resultFuture.completeExceptionally(e);
+                }
+                resultFuture.complete(result);
+            } else {
+                resultFuture.completeExceptionally(throwable);
+            }
+        }, ConcurrencyUtil.getDefaultAsyncExecutor());
         return resultFuture;
     }
 
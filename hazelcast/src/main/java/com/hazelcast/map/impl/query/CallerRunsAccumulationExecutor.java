@@ -39,9 +39,7 @@ public class CallerRunsAccumulationExecutor implements AccumulationExecutor {
                                      PartitionIdSet partitionIds) {
         Aggregator resultAggregator = serializationService.toObject(serializationService.toData(aggregator));
         try {
-            for (QueryableEntry entry : entries) {
-                resultAggregator.accumulate(entry);
-            }
+            NumericColumnAccumulator.accumulate(resultAggregator, entries);
         } finally {
             resultAggregator.onAccumulationFinished();
         }
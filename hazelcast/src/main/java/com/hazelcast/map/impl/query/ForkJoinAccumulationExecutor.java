@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of the {@link AccumulationExecutor} that runs the accumulation
+ * in a work-stealing {@link ForkJoinPool}.
+ * <p>
+ * Entries are split recursively into ranges of {@link #LEAF_SIZE} entries.
+ * Every pool thread accumulates all the ranges it processes into its own clone
+ * of the aggregator, so at the end only one aggregator per busy thread has to
+ * be combined into the result.
+ */
+public class ForkJoinAccumulationExecutor implements AccumulationExecutor {
+
+    static final int LEAF_SIZE = NumericColumnAccumulator.COLUMN_SIZE;
+
+    private final ForkJoinPool pool;
+    private final SerializationService serializationService;
+    private final int callTimeoutInMillis;
+
+    public ForkJoinAccumulationExecutor(ForkJoinPool pool, SerializationService serializationService,
+                                        int callTimeoutInMillis) {
+        this.pool = pool;
+        this.serializationService = serializationService;
+        this.callTimeoutInMillis = callTimeoutInMillis;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public AggregationResult execute(Aggregator aggregator,
+                                     Iterable<QueryableEntry> entries,
+                                     PartitionIdSet partitionIds) {
+        List<QueryableEntry> entryList = toList(entries);
+        ForkJoinQuerySupport.WorkerCombiners<Aggregator> workerAggregators
+                = new ForkJoinQuerySupport.WorkerCombiners<>(() -> clone(aggregator));
+        ForkJoinQuerySupport.Cancellation cancellation = new ForkJoinQuerySupport.Cancellation();
+        ForkJoinQuerySupport.invoke(pool, new AccumulateTask(entryList, 0, entryList.size(), workerAggregators,
+                cancellation), cancellation, callTimeoutInMillis);
+
+        Aggregator resultAggregator = clone(aggregator);
+        try {
+            for (Aggregator workerAggregator : workerAggregators.all()) {
+                workerAggregator.onAccumulationFinished();
+                resultAggregator.combine(workerAggregator);
+            }
+        } finally {
+            resultAggregator.onCombinationFinished();
+        }
+
+        AggregationResult result = new AggregationResult(resultAggregator, serializationService);
+        result.setPartitionIds(partitionIds);
+        return result;
+    }
+
+    private static List<QueryableEntry> toList(Iterable<QueryableEntry> entries) {
+        if (entries instanceof List<QueryableEntry> list) {
+            return list;
+        }
+        List<QueryableEntry> list = entries instanceof Collection<QueryableEntry> collection
+                ? new ArrayList<>(collection.size()) : new ArrayList<>();
+        for (QueryableEntry entry : entries) {
+            list.add(entry);
+        }
+        return list;
+    }
+
+    private Aggregator clone(Aggregator aggregator) {
+        return serializationService.toObject(serializationService.toData(aggregator));
+    }
+
+    private static final class AccumulateTask extends RecursiveAction {
+
+        private final List<QueryableEntry> entries;
+        private final int from;
+        private final int to;
+        private final ForkJoinQuerySupport.WorkerCombiners<Aggregator> workerAggregators;
+        private final ForkJoinQuerySupport.Cancellation cancellation;
+
+        private AccumulateTask(List<QueryableEntry> entries, int from, int to,
+                               ForkJoinQuerySupport.WorkerCombiners<Aggregator> workerAggregators,
+                               ForkJoinQuerySupport.Cancellation cancellation) {
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.workerAggregators = workerAggregators;
+            this.cancellation = cancellation;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancellation.isCancelled()) {
+                return;
+            }
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new AccumulateTask(entries, from, middle, workerAggregators, cancellation),
+                        new AccumulateTask(entries, middle, to, workerAggregators, cancellation));
+            } else if (to > from) {
+                NumericColumnAccumulator.accumulate(workerAggregators.get(), entries.subList(from, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.QueryableEntriesSegment;
+import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of the {@link PartitionScanExecutor} which scans partitions
+ * in a work-stealing {@link ForkJoinPool}.
+ * <p>
+ * The partitions are split recursively down to a single partition per task.
+ * Every pool thread collects the entries of all partitions it scans into its
+ * own sub result, so only as many sub results as there are busy threads are
+ * created and combined at the end.
+ */
+public class ForkJoinPartitionScanExecutor implements PartitionScanExecutor {
+
+    private final PartitionScanRunner partitionScanRunner;
+    private final ForkJoinPool pool;
+    private final int timeoutInMillis;
+
+    public ForkJoinPartitionScanExecutor(PartitionScanRunner partitionScanRunner, ForkJoinPool pool,
+                                         int timeoutInMillis) {
+        this.partitionScanRunner = partitionScanRunner;
+        this.pool = pool;
+        this.timeoutInMillis = timeoutInMillis;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void execute(String mapName, Predicate predicate, Collection<Integer> partitions, Result result) {
+        int partitionCount = partitionScanRunner.partitionService.getPartitionCount();
+        int[] partitionIds = partitions.stream().mapToInt(Integer::intValue).toArray();
+        ForkJoinQuerySupport.WorkerCombiners<WorkerResult> workerResults = new ForkJoinQuerySupport.WorkerCombiners<>(
+                () -> new WorkerResult(result.createSubResult(), new PartitionIdSet(partitionCount)));
+
+        ForkJoinQuerySupport.Cancellation cancellation = new ForkJoinQuerySupport.Cancellation();
+        ForkJoinQuerySupport.invoke(pool, new ScanTask(mapName, predicate, partitionIds, 0, partitionIds.length,
+                workerResults, cancellation), cancellation, timeoutInMillis);
+
+        for (WorkerResult workerResult : workerResults.all()) {
+            workerResult.result.setPartitionIds(workerResult.partitionIds);
+            result.combine(workerResult.result);
+        }
+        if (predicate instanceof PagingPredicateImpl pagingPredicate) {
+            Map.Entry<Integer, Map.Entry> nearestAnchorEntry = pagingPredicate.getNearestAnchorEntry();
+            result.orderAndLimit(pagingPredicate, nearestAnchorEntry);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Parallel execution for a partition chunk query is not supported.
+     */
+    @Override
+    public QueryableEntriesSegment execute(
+            String mapName, Predicate predicate, int partitionId,
+            IterationPointer[] pointers, int fetchSize) {
+        return partitionScanRunner.run(mapName, predicate, partitionId, pointers, fetchSize);
+    }
+
+    private record WorkerResult(Result result, PartitionIdSet partitionIds) {
+    }
+
+    private final class ScanTask extends RecursiveAction {
+
+        private final String mapName;
+        private final Predicate predicate;
+        private final int[] partitionIds;
+        private final int from;
+        private final int to;
+        private final ForkJoinQuerySupport.WorkerCombiners<WorkerResult> workerResults;
+        private final ForkJoinQuerySupport.Cancellation cancellation;
+
+        private ScanTask(String mapName, Predicate predicate, int[] partitionIds, int from, int to,
+                         ForkJoinQuerySupport.WorkerCombiners<WorkerResult> workerResults,
+                         ForkJoinQuerySupport.Cancellation cancellation) {
+            this.mapName = mapName;
+            this.predicate = predicate;
+            this.partitionIds = partitionIds;
+            this.from = from;
+            this.to = to;
+            this.workerResults = workerResults;
+            this.cancellation = cancellation;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancellation.isCancelled()) {
+                return;
+            }
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ScanTask(mapName, predicate, partitionIds, from, middle, workerResults, cancellation),
+                        new ScanTask(mapName, predicate, partitionIds, middle, to, workerResults, cancellation));
+            } else if (to > from) {
+                WorkerResult workerResult = workerResults.get();
+                partitionScanRunner.run(mapName, predicate, partitionIds[from], workerResult.result);
+                workerResult.partitionIds.add(partitionIds[from]);
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static com.hazelcast.internal.util.ThreadUtil.createThreadPoolName;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Support for the work-stealing {@link ForkJoinPartitionScanExecutor} and
+ * {@link ForkJoinAccumulationExecutor}.
+ */
+public final class ForkJoinQuerySupport {
+
+    /**
+     * Parallelism of the fork-join pool used to scan partitions and to
+     * accumulate aggregations on a member. When set, it takes precedence
+     * over the {@code hazelcast.query.predicate.parallel.evaluation} and
+     * {@code hazelcast.aggregation.accumulation.parallel.evaluation}
+     * properties.
+     * <p>
+     * {@code 0} disables the fork-join engine, {@code -1} uses the number of
+     * available processors.
+     */
+    public static final HazelcastProperty QUERY_FORK_JOIN_PARALLELISM
+            = new HazelcastProperty("hazelcast.query.fork.join.parallelism", 0);
+
+    private ForkJoinQuerySupport() {
+    }
+
+    /**
+     * Creates the fork-join pool for the given parallelism.
+     *
+     * @return the pool or {@code null} if the fork-join engine is disabled
+     */
+    public static ForkJoinPool createPool(String hzName, int parallelism, ClassLoader classLoader) {
+        if (parallelism == 0) {
+            return null;
+        }
+        int threadCount = parallelism < 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        String threadNamePrefix = createThreadPoolName(hzName, "query-fork-join");
+        return new ForkJoinPool(threadCount, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadNamePrefix + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Runs the given task in the pool and waits for it to complete. If the
+     * wait times out or is interrupted, the given cancellation is signalled,
+     * so that subtasks which are already forked stop at their next check.
+     * {@link ForkJoinTask#cancel} alone would only cancel the root task.
+     */
+    static void invoke(ForkJoinPool pool, ForkJoinTask<?> task, Cancellation cancellation, long timeoutMillis) {
+        try {
+            pool.submit(task).get(timeoutMillis, MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            cancellation.cancel();
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw rethrow(e);
+        } catch (TimeoutException e) {
+            cancellation.cancel();
+            task.cancel(true);
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Cancellation flag shared by all the tasks of a single invocation. Tasks
+     * check it before splitting and before processing a partition or a range
+     * of entries.
+     */
+    static final class Cancellation {
+
+        private volatile boolean cancelled;
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Holds a combiner per pool worker thread, so that the leaf tasks of a
+     * query accumulate into a handful of partial results which are merged
+     * once at the end, instead of into a result per task.
+     *
+     * @param <T> type of the combiner
+     */
+    static final class WorkerCombiners<T> {
+
+        private final ConcurrentMap<Thread, T> combiners = new ConcurrentHashMap<>();
+        private final Supplier<T> supplier;
+
+        WorkerCombiners(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        T get() {
+            return combiners.computeIfAbsent(Thread.currentThread(), thread -> supplier.get());
+        }
+
+        Collection<T> all() {
+            return combiners.values();
+        }
+    }
+}
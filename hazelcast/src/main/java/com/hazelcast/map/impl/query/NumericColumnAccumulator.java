@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.aggregation.impl.AbstractAggregator;
+import com.hazelcast.aggregation.impl.NumericColumnAggregator;
+import com.hazelcast.query.impl.QueryableEntry;
+
+/**
+ * Accumulates entries into an {@link Aggregator}. If the aggregator is a
+ * {@link NumericColumnAggregator} over an attribute, attribute values are
+ * extracted into primitive columns of {@link #COLUMN_SIZE} values which are
+ * then reduced in one call, instead of accumulating entries one by one.
+ * Every attribute value is extracted only once, values which cannot be put
+ * into a column are passed to the aggregator as already extracted.
+ * <p>
+ * Not thread-safe, a new instance is used for every accumulation.
+ */
+final class NumericColumnAccumulator {
+
+    static final int COLUMN_SIZE = 1024;
+
+    private final AbstractAggregator aggregator;
+    private final NumericColumnAggregator columnAggregator;
+    private final String attributePath;
+
+    private long[] longs;
+    private double[] doubles;
+    private Class<?> valueClass;
+    private int size;
+
+    private NumericColumnAccumulator(AbstractAggregator aggregator, NumericColumnAggregator columnAggregator) {
+        this.aggregator = aggregator;
+        this.columnAggregator = columnAggregator;
+        this.attributePath = columnAggregator.getAttributePath();
+        if (columnAggregator instanceof NumericColumnAggregator.OfLong) {
+            longs = new long[COLUMN_SIZE];
+        } else {
+            doubles = new double[COLUMN_SIZE];
+        }
+    }
+
+    /**
+     * Accumulates all the given entries into the given aggregator.
+     */
+    @SuppressWarnings("unchecked")
+    static void accumulate(Aggregator aggregator, Iterable<QueryableEntry> entries) {
+        if (aggregator instanceof AbstractAggregator abstractAggregator
+                && aggregator instanceof NumericColumnAggregator columnAggregator
+                && columnAggregator.getAttributePath() != null) {
+            NumericColumnAccumulator accumulator = new NumericColumnAccumulator(abstractAggregator, columnAggregator);
+            for (QueryableEntry entry : entries) {
+                accumulator.accumulate(entry);
+            }
+            accumulator.flush();
+        } else {
+            for (QueryableEntry entry : entries) {
+                aggregator.accumulate(entry);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void accumulate(QueryableEntry entry) {
+        Object value = entry.getAttributeValue(attributePath);
+        // multi-results and non-terminal JSON values are never columnar
+        if (value == null || !columnAggregator.isColumnar(value.getClass())) {
+            aggregator.accumulateValue(entry, value);
+            return;
+        }
+        if (value.getClass() != valueClass) {
+            flush();
+            valueClass = value.getClass();
+        }
+        if (longs != null) {
+            longs[size++] = ((Number) value).longValue();
+        } else {
+            doubles[size++] = ((Number) value).doubleValue();
+        }
+        if (size == COLUMN_SIZE) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (size == 0) {
+            return;
+        }
+        if (longs != null) {
+            ((NumericColumnAggregator.OfLong) columnAggregator).accumulateColumn(valueClass, longs, size);
+        } else {
+            ((NumericColumnAggregator.OfDouble) columnAggregator).accumulateColumn(valueClass, doubles, size);
+        }
+        size = 0;
+    }
+}
@@ -108,9 +108,7 @@ public class ParallelAccumulationExecutor implements AccumulationExecutor {
         @Override
         public Aggregator call() {
             try {
-                for (QueryableEntry entry : entries) {
-                    aggregator.accumulate(entry);
-                }
+                NumericColumnAccumulator.accumulate(aggregator, entries);
             } finally {
                 aggregator.onAccumulationFinished();
             }
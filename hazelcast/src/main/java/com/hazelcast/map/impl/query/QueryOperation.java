@@ -25,6 +25,7 @@ import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.recordstore.OffHeapStorage;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.spi.exception.TargetNotMemberException;
@@ -86,41 +87,50 @@ public class QueryOperation extends AbstractNamedOperation implements ReadonlyOp
     private CallStatus callInternal() {
         QueryRunner queryRunner = getMapServiceContext().getMapQueryRunner(getName());
 
-        switch (getMapInMemoryFormat()) {
+        InMemoryFormat inMemoryFormat = getMapInMemoryFormat();
+        switch (inMemoryFormat) {
             case BINARY:
             case OBJECT:
+                if (OffHeapStorage.isEnabled(getNodeEngine(), getName(), inMemoryFormat)) {
+                    // off-heap storage is not thread-safe, same as NATIVE
+                    return callOnPartitionThreads(queryRunner);
+                }
                 result = queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query);
                 return RESPONSE;
             case NATIVE:
-                boolean useGlobalIndex = getMapServiceContext().getMapContainer(getName()).shouldUseGlobalIndex();
-
-                if (useGlobalIndex) {
-                    // Try to use HD global index
-                    // Don't do map scan because it is not thread-safe
-                    Result indexResult = queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query, false);
-                    if (indexResult != null) {
-                        result = indexResult;
-                        return RESPONSE;
-                    }
-                }
-
-                // Offload query run on the partition threads.
-                BitSet queryPartitions = localPartitions();
-                if (query.getPartitionIdSet() != null) {
-                    queryPartitions.and(query.getPartitionIdSet().bitSetCopy());
-                }
-                if (queryPartitions.cardinality() == 0) {
-                    // important to deal with situation of not having any partitions
-                    result = queryRunner.populateEmptyResult(query, Collections.emptyList());
-                    return RESPONSE;
-                } else {
-                    return new OffloadedImpl(queryRunner, queryPartitions);
-                }
+                return callOnPartitionThreads(queryRunner);
             default:
                 throw new IllegalArgumentException("Unsupported in memory format");
         }
     }
 
+    private CallStatus callOnPartitionThreads(QueryRunner queryRunner) {
+        boolean useGlobalIndex = getMapServiceContext().getMapContainer(getName()).shouldUseGlobalIndex();
+
+        if (useGlobalIndex) {
+            // Try to use the global index, it is thread-safe
+            // Don't do map scan because it is not thread-safe
+            Result indexResult = queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query, false);
+            if (indexResult != null) {
+                result = indexResult;
+                return RESPONSE;
+            }
+        }
+
+        // Offload query run on the partition threads.
+        BitSet queryPartitions = localPartitions();
+        if (query.getPartitionIdSet() != null) {
+            queryPartitions.and(query.getPartitionIdSet().bitSetCopy());
+        }
+        if (queryPartitions.cardinality() == 0) {
+            // important to deal with situation of not having any partitions
+            result = queryRunner.populateEmptyResult(query, Collections.emptyList());
+            return RESPONSE;
+        } else {
+            return new OffloadedImpl(queryRunner, queryPartitions);
+        }
+    }
+
     private int partitionCount() {
         return getNodeEngine().getPartitionService().getPartitionCount();
     }
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static com.hazelcast.map.impl.ExpirationTimeSetter.toMillis;
+import static com.hazelcast.map.impl.ExpirationTimeSetter.toSeconds;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_READER_WRITER;
+
+/**
+ * Record used when {@link MapConfig#getTimeToLiveSeconds()} or {@link
+ * MapConfig#getMaxIdleSeconds()} is set, so that every entry of the map
+ * carries expiry metadata.
+ * <p>
+ * The expiry metadata of the entry is kept in the record itself instead
+ * of in a separate per-key map of the {@link ExpirySystem}, which saves a
+ * hash map node and an {@link ExpiryMetadata} object per entry. Like the
+ * rest of the record, the expiry metadata is stored as ints relative to
+ * {@link com.hazelcast.internal.util.TimeStripUtil#EPOCH_TIME_MILLIS}.
+ * <p>
+ * The record tracks exactly the statistics which the plain record for the
+ * same map config would track: this class only tracks the version, see
+ * {@link CompactRecordWithEvictionStats} and {@link CompactRecordWithStats}
+ * for the others. Whether a deserialized value is cached, whether the
+ * record has expiry metadata and which statistics are tracked are packed
+ * into a single flags byte.
+ *
+ * @param <V> the type of the value of Record.
+ */
+@SuppressWarnings({"checkstyle:methodcount", "VolatileLongOrDoubleField"})
+public class CompactRecord<V> implements Record<V> {
+
+    static final int STATS_NONE = 0;
+    static final int STATS_LRU = 1;
+    static final int STATS_LFU = 2;
+    static final int STATS_ALL = 3;
+
+    private static final int STATS_MASK = 3;
+    private static final int CACHE_DESERIALIZED_VALUE = 1 << 2;
+    private static final int HAS_EXPIRY = 1 << 3;
+    private static final int NUMBER_OF_INTS = 5;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CompactRecord, Object> CACHED_VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(CompactRecord.class, Object.class, "cachedValue");
+
+    protected volatile V value;
+    private transient volatile Object cachedValue;
+    private int version;
+    private int ttl;
+    private int maxIdle;
+    private volatile int expirationTime = UNSET;
+    private int expiryLastUpdateTime = UNSET;
+    private byte flags;
+
+    CompactRecord(V value, int statsMode, boolean cacheDeserializedValue) {
+        this.flags = (byte) (statsMode | (cacheDeserializedValue ? CACHE_DESERIALIZED_VALUE : 0));
+        setValue(value);
+    }
+
+    /**
+     * @return {@code true} if the maps with the given config should use
+     * compact records, {@code false} otherwise
+     */
+    public static boolean isEnabledFor(MapConfig mapConfig) {
+        return mapConfig.getTimeToLiveSeconds() > 0 || mapConfig.getMaxIdleSeconds() > 0;
+    }
+
+    static <V> CompactRecord<V> newRecord(V value, MapConfig mapConfig,
+                                          boolean hasEviction, boolean cacheDeserializedValue) {
+        int statsMode = statsModeOf(mapConfig, hasEviction);
+        switch (statsMode) {
+            case STATS_NONE:
+                return new CompactRecord<>(value, statsMode, cacheDeserializedValue);
+            case STATS_LRU:
+            case STATS_LFU:
+                return new CompactRecordWithEvictionStats<>(value, statsMode, cacheDeserializedValue);
+            default:
+                return new CompactRecordWithStats<>(value, statsMode, cacheDeserializedValue);
+        }
+    }
+
+    /**
+     * Mirrors the record selection of {@link DataRecordFactory} and
+     * {@link ObjectRecordFactory}.
+     */
+    static int statsModeOf(MapConfig mapConfig, boolean hasEviction) {
+        if (mapConfig.isPerEntryStatsEnabled()) {
+            return STATS_ALL;
+        }
+        if (!hasEviction) {
+            return STATS_NONE;
+        }
+        EvictionPolicy evictionPolicy = mapConfig.getEvictionConfig().getEvictionPolicy();
+        switch (evictionPolicy) {
+            case LRU:
+                return STATS_LRU;
+            case LFU:
+                return STATS_LFU;
+            case RANDOM:
+                return STATS_NONE;
+            default:
+                return STATS_ALL;
+        }
+    }
+
+    static boolean cachesDeserializedValues(MapConfig mapConfig) {
+        return mapConfig.getCacheDeserializedValues() != CacheDeserializedValues.NEVER;
+    }
+
+    final int statsMode() {
+        return flags & STATS_MASK;
+    }
+
+    @Override
+    public final int getVersion() {
+        return version;
+    }
+
+    @Override
+    public final void setVersion(int version) {
+        this.version = version;
+    }
+
+    @Override
+    public V getValue() {
+        return value;
+    }
+
+    @Override
+    public void setValue(V value) {
+        this.value = value;
+        cachedValue = null;
+    }
+
+    @Override
+    public Object getCachedValueUnsafe() {
+        return (flags & CACHE_DESERIALIZED_VALUE) != 0 ? cachedValue : Record.NOT_CACHED;
+    }
+
+    @Override
+    public boolean casCachedValue(Object expectedValue, Object newValue) {
+        return (flags & CACHE_DESERIALIZED_VALUE) == 0
+                || CACHED_VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+
+    @Override
+    public long getCost() {
+        if (value instanceof Data data) {
+            return OBJECT_HEADER_SIZE + 2 * REFERENCE_COST_IN_BYTES
+                    + NUMBER_OF_INTS * INT_SIZE_IN_BYTES + Byte.BYTES + data.getHeapCost();
+        }
+        // For OBJECT in-memory-format we
+        // don't calculate cost for now.
+        return 0;
+    }
+
+    @Override
+    public void onAccess(long now) {
+        // NOP
+    }
+
+    @Override
+    public void onStore() {
+        // NOP
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return SIMPLE_DATA_RECORD_READER_WRITER;
+    }
+
+    /**
+     * @return {@code true} if expiry metadata has been set
+     * on this record, {@code false} otherwise
+     */
+    public final boolean hasExpiryMetadata() {
+        return (flags & HAS_EXPIRY) != 0;
+    }
+
+    /**
+     * @return a view of the expiry metadata of this record, writes
+     * to the view are written to this record
+     */
+    public final ExpiryMetadata getExpiryMetadata() {
+        return new ExpiryMetadataView();
+    }
+
+    /**
+     * Copies the given expiry metadata into this record.
+     */
+    public final void setExpiryMetadata(ExpiryMetadata expiryMetadata) {
+        ttl = expiryMetadata.getRawTtl();
+        maxIdle = expiryMetadata.getRawMaxIdle();
+        expiryLastUpdateTime = expiryMetadata.getRawLastUpdateTime();
+        expirationTime = expiryMetadata.getRawExpirationTime();
+        flags |= HAS_EXPIRY;
+    }
+
+    public final void clearExpiryMetadata() {
+        flags &= ~HAS_EXPIRY;
+        ttl = 0;
+        maxIdle = 0;
+        expirationTime = UNSET;
+        expiryLastUpdateTime = UNSET;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CompactRecord<?> that = (CompactRecord<?>) o;
+
+        if (version != that.version) {
+            return false;
+        }
+        if (flags != that.flags) {
+            return false;
+        }
+        if (ttl != that.ttl) {
+            return false;
+        }
+        if (maxIdle != that.maxIdle) {
+            return false;
+        }
+        if (expirationTime != that.expirationTime) {
+            return false;
+        }
+        if (expiryLastUpdateTime != that.expiryLastUpdateTime) {
+            return false;
+        }
+        return Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = value != null ? value.hashCode() : 0;
+        result = 31 * result + version;
+        result = 31 * result + flags;
+        result = 31 * result + ttl;
+        result = 31 * result + maxIdle;
+        result = 31 * result + expirationTime;
+        result = 31 * result + expiryLastUpdateTime;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactRecord{"
+                + "value=" + value
+                + ", version=" + version
+                + ", flags=" + flags
+                + ", ttl=" + ttl
+                + ", maxIdle=" + maxIdle
+                + ", expirationTime=" + expirationTime
+                + ", expiryLastUpdateTime=" + expiryLastUpdateTime
+                + '}';
+    }
+
+    private final class ExpiryMetadataView implements ExpiryMetadata {
+
+        @Override
+        public long getTtl() {
+            return toMillis(ttl);
+        }
+
+        @Override
+        public int getRawTtl() {
+            return ttl;
+        }
+
+        @Override
+        public ExpiryMetadata setTtl(long ttl) {
+            CompactRecord.this.ttl = toSeconds(ttl);
+            return this;
+        }
+
+        @Override
+        public ExpiryMetadata setRawTtl(int ttl) {
+            CompactRecord.this.ttl = ttl;
+            return this;
+        }
+
+        @Override
+        public long getMaxIdle() {
+            return toMillis(maxIdle);
+        }
+
+        @Override
+        public int getRawMaxIdle() {
+            return maxIdle;
+        }
+
+        @Override
+        public ExpiryMetadata setMaxIdle(long maxIdle) {
+            CompactRecord.this.maxIdle = toSeconds(maxIdle);
+            return this;
+        }
+
+        @Override
+        public ExpiryMetadata setRawMaxIdle(int maxIdle) {
+            CompactRecord.this.maxIdle = maxIdle;
+            return this;
+        }
+
+        @Override
+        public long getExpirationTime() {
+            return recomputeWithBaseTime(expirationTime);
+        }
+
+        @Override
+        public int getRawExpirationTime() {
+            return expirationTime;
+        }
+
+        @Override
+        public ExpiryMetadata setExpirationTime(long expirationTime) {
+            CompactRecord.this.expirationTime = stripBaseTime(expirationTime);
+            return this;
+        }
+
+        @Override
+        public ExpiryMetadata setRawExpirationTime(int expirationTime) {
+            CompactRecord.this.expirationTime = expirationTime;
+            return this;
+        }
+
+        @Override
+        public long getLastUpdateTime() {
+            return recomputeWithBaseTime(expiryLastUpdateTime);
+        }
+
+        @Override
+        public int getRawLastUpdateTime() {
+            return expiryLastUpdateTime;
+        }
+
+        @Override
+        public ExpiryMetadata setLastUpdateTime(long lastUpdateTime) {
+            expiryLastUpdateTime = stripBaseTime(lastUpdateTime);
+            return this;
+        }
+
+        @Override
+        public ExpiryMetadata setRawLastUpdateTime(int lastUpdateTime) {
+            expiryLastUpdateTime = lastUpdateTime;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "ExpiryMetadataView{"
+                    + "ttl=" + getTtl()
+                    + ", maxIdle=" + getMaxIdle()
+                    + ", expirationTime=" + getExpirationTime()
+                    + ", lastUpdateTime=" + getLastUpdateTime()
+                    + '}';
+        }
+    }
+}
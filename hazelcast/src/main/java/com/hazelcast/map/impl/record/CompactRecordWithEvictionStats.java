@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.MapConfig;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_WITH_LFU_EVICTION_READER_WRITER;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.SIMPLE_DATA_RECORD_WITH_LRU_EVICTION_READER_WRITER;
+
+/**
+ * {@link CompactRecord} used when {@link MapConfig#isPerEntryStatsEnabled()}
+ * is {@code false} and LRU or LFU eviction is configured. A single int
+ * holds the last access time for LRU and the hits for LFU.
+ *
+ * @param <V> the type of the value of Record.
+ */
+class CompactRecordWithEvictionStats<V> extends CompactRecord<V> {
+
+    private volatile int accessStat;
+
+    CompactRecordWithEvictionStats(V value, int statsMode, boolean cacheDeserializedValue) {
+        super(value, statsMode, cacheDeserializedValue);
+        assert statsMode == STATS_LRU || statsMode == STATS_LFU : "Invalid stats mode: " + statsMode;
+    }
+
+    private boolean isLru() {
+        return statsMode() == STATS_LRU;
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return isLru() ? recomputeWithBaseTime(accessStat) : UNSET;
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        if (isLru()) {
+            accessStat = stripBaseTime(lastAccessTime);
+        }
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return isLru() ? accessStat : UNSET;
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        if (isLru()) {
+            accessStat = lastAccessTime;
+        }
+    }
+
+    @Override
+    public int getHits() {
+        return isLru() ? UNSET : accessStat;
+    }
+
+    @Override
+    public void setHits(int hits) {
+        if (!isLru()) {
+            accessStat = hits;
+        }
+    }
+
+    @Override
+    public void onAccess(long now) {
+        if (isLru()) {
+            setLastAccessTime(now);
+        } else {
+            incrementHits();
+        }
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return isLru()
+                ? SIMPLE_DATA_RECORD_WITH_LRU_EVICTION_READER_WRITER
+                : SIMPLE_DATA_RECORD_WITH_LFU_EVICTION_READER_WRITER;
+    }
+
+    @Override
+    public long getCost() {
+        long cost = super.getCost();
+        return cost == 0 ? 0 : cost + INT_SIZE_IN_BYTES;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        CompactRecordWithEvictionStats<?> that = (CompactRecordWithEvictionStats<?>) o;
+        return accessStat == that.accessStat;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + accessStat;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactRecordWithEvictionStats{"
+                + "accessStat=" + accessStat
+                + "} " + super.toString();
+    }
+}
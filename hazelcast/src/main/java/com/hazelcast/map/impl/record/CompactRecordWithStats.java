@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.util.Clock;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER;
+
+/**
+ * {@link CompactRecord} used when {@link MapConfig#isPerEntryStatsEnabled()}
+ * is {@code true}, or when an eviction policy other than LRU, LFU or RANDOM
+ * is configured. Tracks the same statistics as {@link AbstractRecord}.
+ *
+ * @param <V> the type of the value of Record.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+class CompactRecordWithStats<V> extends CompactRecord<V> {
+
+    private static final int NUMBER_OF_INTS = 5;
+
+    @SuppressFBWarnings(value = "VO_VOLATILE_INCREMENT",
+            justification = "Record can be accessed by only its own partition thread.")
+    private volatile int hits;
+    private volatile int lastAccessTime = UNSET;
+    private volatile int lastUpdateTime = UNSET;
+    private int creationTime = UNSET;
+    private int lastStoredTime = UNSET;
+
+    CompactRecordWithStats(V value, int statsMode, boolean cacheDeserializedValue) {
+        super(value, statsMode, cacheDeserializedValue);
+    }
+
+    @Override
+    public int getHits() {
+        return hits;
+    }
+
+    @Override
+    public void setHits(int hits) {
+        this.hits = hits;
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return recomputeWithBaseTime(lastAccessTime);
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        this.lastAccessTime = stripBaseTime(lastAccessTime);
+    }
+
+    @Override
+    public long getLastUpdateTime() {
+        return recomputeWithBaseTime(lastUpdateTime);
+    }
+
+    @Override
+    public void setLastUpdateTime(long lastUpdateTime) {
+        this.lastUpdateTime = stripBaseTime(lastUpdateTime);
+    }
+
+    @Override
+    public long getCreationTime() {
+        return recomputeWithBaseTime(creationTime);
+    }
+
+    @Override
+    public void setCreationTime(long creationTime) {
+        this.creationTime = stripBaseTime(creationTime);
+    }
+
+    @Override
+    public long getLastStoredTime() {
+        if (lastStoredTime == UNSET) {
+            return 0L;
+        }
+        return recomputeWithBaseTime(lastStoredTime);
+    }
+
+    @Override
+    public void setLastStoredTime(long lastStoredTime) {
+        this.lastStoredTime = stripBaseTime(lastStoredTime);
+    }
+
+    @Override
+    public int getRawCreationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public void setRawCreationTime(int creationTime) {
+        this.creationTime = creationTime;
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    @Override
+    public int getRawLastUpdateTime() {
+        return lastUpdateTime;
+    }
+
+    @Override
+    public void setRawLastUpdateTime(int lastUpdateTime) {
+        this.lastUpdateTime = lastUpdateTime;
+    }
+
+    @Override
+    public int getRawLastStoredTime() {
+        return lastStoredTime;
+    }
+
+    @Override
+    public void setRawLastStoredTime(int lastStoredTime) {
+        this.lastStoredTime = lastStoredTime;
+    }
+
+    @Override
+    public void onAccess(long now) {
+        incrementHits();
+        setLastAccessTime(now);
+    }
+
+    @Override
+    public void onStore() {
+        setLastStoredTime(Clock.currentTimeMillis());
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return DATA_RECORD_WITH_STATS_READER_WRITER;
+    }
+
+    @Override
+    public long getCost() {
+        long cost = super.getCost();
+        return cost == 0 ? 0 : cost + NUMBER_OF_INTS * INT_SIZE_IN_BYTES;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        CompactRecordWithStats<?> that = (CompactRecordWithStats<?>) o;
+
+        if (hits != that.hits) {
+            return false;
+        }
+        if (lastAccessTime != that.lastAccessTime) {
+            return false;
+        }
+        if (lastUpdateTime != that.lastUpdateTime) {
+            return false;
+        }
+        if (creationTime != that.creationTime) {
+            return false;
+        }
+        return lastStoredTime == that.lastStoredTime;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + hits;
+        result = 31 * result + lastAccessTime;
+        result = 31 * result + lastUpdateTime;
+        result = 31 * result + creationTime;
+        result = 31 * result + lastStoredTime;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactRecordWithStats{"
+                + "hits=" + hits
+                + ", lastAccessTime=" + lastAccessTime
+                + ", lastUpdateTime=" + lastUpdateTime
+                + ", creationTime=" + creationTime
+                + ", lastStoredTime=" + lastStoredTime
+                + "} " + super.toString();
+    }
+}
@@ -44,6 +44,11 @@ public class DataRecordFactory implements RecordFactory<Data> {
 
         Data valueData = ss.toData(value);
 
+        if (CompactRecord.isEnabledFor(mapConfig)) {
+            return CompactRecord.newRecord(valueData, mapConfig, hasEviction,
+                    CompactRecord.cachesDeserializedValues(mapConfig));
+        }
+
         switch (cacheDeserializedValues) {
             case NEVER:
                 return newSimpleRecord(valueData, mapConfig, perEntryStatsEnabled, hasEviction);
@@ -45,6 +45,10 @@ public class ObjectRecordFactory implements RecordFactory<Object> {
 
         Object objectValue = serializationService.toObject(value);
 
+        if (CompactRecord.isEnabledFor(mapConfig)) {
+            return CompactRecord.newRecord(objectValue, mapConfig, hasEviction, false);
+        }
+
         return newRecord(mapConfig, perEntryStatsEnabled, hasEviction, objectValue);
     }
 
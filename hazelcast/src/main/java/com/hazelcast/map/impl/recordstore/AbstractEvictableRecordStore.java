@@ -25,7 +25,9 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.event.MapEventPublisher;
 import com.hazelcast.map.impl.eviction.Evictor;
+import com.hazelcast.map.impl.record.CompactRecord;
 import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.CompactRecordExpirySystem;
 import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
 import com.hazelcast.map.impl.recordstore.expiry.ExpiryReason;
 import com.hazelcast.map.impl.recordstore.expiry.ExpirySystemImpl;
@@ -71,6 +73,9 @@ public abstract class AbstractEvictableRecordStore extends AbstractRecordStore {
 
     @Nonnull
     protected ExpirySystem createExpirySystem(MapContainer mapContainer) {
+        if (CompactRecord.isEnabledFor(mapContainer.getMapConfig())) {
+            return new CompactRecordExpirySystem(this, mapContainer, mapServiceContext);
+        }
         return new ExpirySystemImpl(this, mapContainer, mapServiceContext);
     }
 
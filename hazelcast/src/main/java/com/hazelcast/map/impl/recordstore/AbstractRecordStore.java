@@ -47,6 +47,7 @@ import com.hazelcast.wan.impl.CallerProvenance;
 
 import javax.annotation.Nonnull;
 
+
 /**
  * Contains record store common parts.
  */
@@ -175,6 +176,9 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     }
 
     public Storage createStorage(RecordFactory recordFactory, InMemoryFormat memoryFormat) {
+        if (OffHeapStorage.isEnabled(mapServiceContext.getNodeEngine(), name, memoryFormat)) {
+            return new OffHeapStorage(getExpirySystem(), serializationService);
+        }
         return new StorageImpl(memoryFormat, getExpirySystem(), serializationService);
     }
 
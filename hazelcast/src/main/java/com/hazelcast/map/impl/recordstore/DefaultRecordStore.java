@@ -48,6 +48,7 @@ import com.hazelcast.map.impl.mapstore.MapDataStore;
 import com.hazelcast.map.impl.mapstore.writebehind.WriteBehindQueue;
 import com.hazelcast.map.impl.mapstore.writebehind.WriteBehindStore;
 import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
+import com.hazelcast.map.impl.mapstore.writethrough.BatchingWriteThroughStore;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.querycache.QueryCacheContext;
 import com.hazelcast.map.impl.querycache.publisher.MapPublisherRegistry;
@@ -252,7 +253,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
         if (newRecord == null) {
             newRecord = createRecord(dataKey, replicatedRecord != null
                     ? replicatedRecord.getValue() : null, now);
-            storage.put(dataKey, newRecord);
+            newRecord = storage.putAndGet(dataKey, newRecord);
         } else {
             storage.updateRecordValue(dataKey, newRecord, replicatedRecord.getValue());
         }
@@ -767,6 +768,11 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
      */
     @Override
     public Data readBackupData(Data key) {
+        if (storage instanceof OffHeapStorage) {
+            // off-heap storage is confined to the partition thread,
+            // the caller falls back to reading with an operation
+            return null;
+        }
         Record record = getRecord(key);
 
         if (record == null) {
@@ -1068,15 +1074,14 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
         if (mapDataStore != EMPTY_MAP_DATA_STORE && store) {
             putIntoMapStore(record, key, newValue, ttl, maxIdle, now, transactionId);
         }
-        putMemory(record, key, oldValue, ttl, maxIdle, expiryTime, now, entryEventType, backup);
-        return record;
+        return putMemory(record, key, oldValue, ttl, maxIdle, expiryTime, now, entryEventType, backup);
     }
 
     @SuppressWarnings("checkstyle:parameternumber")
     public Record putMemory(Record record, Data key, Object oldValue, long ttl, long maxIdle,
                             long expiryTime, long now, EntryEventType entryEventType,
                             boolean backup) {
-        storage.put(key, record);
+        record = storage.putAndGet(key, record);
         expirySystem.add(key, ttl, maxIdle, expiryTime, now, now);
 
         if (entryEventType == EntryEventType.LOADED) {
@@ -1155,6 +1160,19 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
         return mapDataStore.add(key, newValue, expirationTime, now, transactionId);
     }
 
+    /**
+     * Asynchronous counterpart of {@link #putIntoMapStore0} for
+     * map stores which persist their entries in batches.
+     *
+     * @return future completed with the value to keep in memory
+     * @see BatchingWriteThroughStore#addAsync
+     */
+    public CompletableFuture<Object> putIntoMapStoreAsync0(Data key, Object newValue,
+                                                           long ttlMillis, long maxIdleMillis, long now) {
+        long expirationTime = expirySystem.calculateExpirationTime(ttlMillis, maxIdleMillis, now, now);
+        return ((BatchingWriteThroughStore) mapDataStore).addAsync(key, newValue, expirationTime);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public MapMergeResponse merge(MapMergeTypes<Object, Object> mergingEntry,
@@ -1733,6 +1751,21 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore {
         }
     }
 
+    @Override
+    public int beforeOperation() {
+        return storage.beforeOperation();
+    }
+
+    @Override
+    public void afterOperation() {
+        storage.afterOperation(-1);
+    }
+
+    @Override
+    public void afterOperation(int threadIndex) {
+        storage.afterOperation(threadIndex);
+    }
+
     @Override
     public Set<MapOperation> getOffloadedOperations() {
         return offloadedOperations;
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.memory.GlobalMemoryAccessor;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.RecordReaderWriter;
+
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM;
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER;
+
+/**
+ * Flyweight {@link Record} over an entry block of {@link OffHeapStorage}.
+ * <p>
+ * An entry block has a fixed header followed by the key blob, the value
+ * blob lives in its own block so that the entry block never moves while
+ * the entry is alive:
+ * <pre>
+ *     0: address of the next entry in the same bucket
+ *     8: 64-bit hash of the key
+ *    16: address of the value block
+ *    24: capacity of the value block
+ *    28: size of the value blob, -1 for a null value
+ *    32: size of the key blob
+ *    36: version
+ *    40: hits
+ *    44: creation time         \
+ *    48: last access time       | relative to the
+ *    52: last update time       | TimeStripUtil epoch
+ *    56: last stored time      /
+ *    64: key blob
+ * </pre>
+ * Writes go straight to native memory, so the in-place mutations done by
+ * {@link RecordStore} implementations are visible to later lookups. When
+ * the entry is removed from the storage, the instance passed to
+ * {@link Storage#removeRecord} is detached: its state is copied to the
+ * heap before the native blocks are freed, so that mutation observers
+ * can still read it. Other instances pointing to a removed entry stay
+ * readable until the end of the running operation, when the storage frees
+ * the retired blocks, and must not be used after that.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+final class OffHeapRecord implements Record<Data> {
+
+    static final int NEXT_OFFSET = 0;
+    static final int HASH_OFFSET = 8;
+    static final int VALUE_ADDRESS_OFFSET = 16;
+    static final int VALUE_CAPACITY_OFFSET = 24;
+    static final int VALUE_SIZE_OFFSET = 28;
+    static final int KEY_SIZE_OFFSET = 32;
+    static final int VERSION_OFFSET = 36;
+    static final int HITS_OFFSET = 40;
+    static final int CREATION_TIME_OFFSET = 44;
+    static final int LAST_ACCESS_TIME_OFFSET = 48;
+    static final int LAST_UPDATE_TIME_OFFSET = 52;
+    static final int LAST_STORED_TIME_OFFSET = 56;
+    static final int KEY_OFFSET = 64;
+
+    private static final GlobalMemoryAccessor MEM_ACCESSOR = MEM;
+
+    private final OffHeapStorage storage;
+    private long address;
+
+    // heap copy of the state, only set once detached
+    private Data detachedValue;
+    private int version;
+    private int hits;
+    private int creationTime;
+    private int lastAccessTime;
+    private int lastUpdateTime;
+    private int lastStoredTime;
+
+    OffHeapRecord(OffHeapStorage storage, long address) {
+        assert address != NULL_ADDRESS;
+        this.storage = storage;
+        this.address = address;
+    }
+
+    long address() {
+        return address;
+    }
+
+    boolean isAttached() {
+        return address != NULL_ADDRESS;
+    }
+
+    /**
+     * Copies the state of the entry to the heap and stops reading from
+     * native memory, must be called before the entry blocks are freed.
+     */
+    void detach() {
+        if (!isAttached()) {
+            return;
+        }
+        detachedValue = getValue();
+        version = getVersion();
+        hits = getHits();
+        creationTime = getRawCreationTime();
+        lastAccessTime = getRawLastAccessTime();
+        lastUpdateTime = getRawLastUpdateTime();
+        lastStoredTime = getRawLastStoredTime();
+        address = NULL_ADDRESS;
+    }
+
+    @Override
+    public Data getValue() {
+        if (!isAttached()) {
+            return detachedValue;
+        }
+        int size = MEM_ACCESSOR.getInt(address + VALUE_SIZE_OFFSET);
+        if (size < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[size];
+        MEM_ACCESSOR.copyToByteArray(MEM_ACCESSOR.getLong(address + VALUE_ADDRESS_OFFSET), bytes, 0, size);
+        return new HeapData(bytes);
+    }
+
+    @Override
+    public void setValue(Data value) {
+        if (!isAttached()) {
+            detachedValue = value;
+            return;
+        }
+        storage.writeValue(address, value);
+    }
+
+    @Override
+    public long getCost() {
+        if (!isAttached()) {
+            return 0;
+        }
+        return storage.entryCost(address);
+    }
+
+    @Override
+    public int getVersion() {
+        return isAttached() ? MEM_ACCESSOR.getInt(address + VERSION_OFFSET) : version;
+    }
+
+    @Override
+    public void setVersion(int version) {
+        if (isAttached()) {
+            MEM_ACCESSOR.putInt(address + VERSION_OFFSET, version);
+        } else {
+            this.version = version;
+        }
+    }
+
+    @Override
+    public int getHits() {
+        return isAttached() ? MEM_ACCESSOR.getInt(address + HITS_OFFSET) : hits;
+    }
+
+    @Override
+    public void setHits(int hits) {
+        if (isAttached()) {
+            MEM_ACCESSOR.putInt(address + HITS_OFFSET, hits);
+        } else {
+            this.hits = hits;
+        }
+    }
+
+    @Override
+    public long getCreationTime() {
+        return recomputeWithBaseTime(getRawCreationTime());
+    }
+
+    @Override
+    public void setCreationTime(long creationTime) {
+        setRawCreationTime(stripBaseTime(creationTime));
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return recomputeWithBaseTime(getRawLastAccessTime());
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        setRawLastAccessTime(stripBaseTime(lastAccessTime));
+    }
+
+    @Override
+    public long getLastUpdateTime() {
+        return recomputeWithBaseTime(getRawLastUpdateTime());
+    }
+
+    @Override
+    public void setLastUpdateTime(long lastUpdateTime) {
+        setRawLastUpdateTime(stripBaseTime(lastUpdateTime));
+    }
+
+    @Override
+    public long getLastStoredTime() {
+        int lastStoredTime = getRawLastStoredTime();
+        if (lastStoredTime == UNSET) {
+            return 0L;
+        }
+        return recomputeWithBaseTime(lastStoredTime);
+    }
+
+    @Override
+    public void setLastStoredTime(long lastStoredTime) {
+        setRawLastStoredTime(stripBaseTime(lastStoredTime));
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return DATA_RECORD_WITH_STATS_READER_WRITER;
+    }
+
+    @Override
+    public int getRawCreationTime() {
+        return isAttached() ? MEM_ACCESSOR.getInt(address + CREATION_TIME_OFFSET) : creationTime;
+    }
+
+    @Override
+    public void setRawCreationTime(int creationTime) {
+        if (isAttached()) {
+            MEM_ACCESSOR.putInt(address + CREATION_TIME_OFFSET, creationTime);
+        } else {
+            this.creationTime = creationTime;
+        }
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return isAttached() ? MEM_ACCESSOR.getInt(address + LAST_ACCESS_TIME_OFFSET) : lastAccessTime;
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        if (isAttached()) {
+            MEM_ACCESSOR.putInt(address + LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+        } else {
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+
+    @Override
+    public int getRawLastUpdateTime() {
+        return isAttached() ? MEM_ACCESSOR.getInt(address + LAST_UPDATE_TIME_OFFSET) : lastUpdateTime;
+    }
+
+    @Override
+    public void setRawLastUpdateTime(int lastUpdateTime) {
+        if (isAttached()) {
+            MEM_ACCESSOR.putInt(address + LAST_UPDATE_TIME_OFFSET, lastUpdateTime);
+        } else {
+            this.lastUpdateTime = lastUpdateTime;
+        }
+    }
+
+    @Override
+    public int getRawLastStoredTime() {
+        return isAttached() ? MEM_ACCESSOR.getInt(address + LAST_STORED_TIME_OFFSET) : lastStoredTime;
+    }
+
+    @Override
+    public void setRawLastStoredTime(int lastStoredTime) {
+        if (isAttached()) {
+            MEM_ACCESSOR.putInt(address + LAST_STORED_TIME_OFFSET, lastStoredTime);
+        } else {
+            this.lastStoredTime = lastStoredTime;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapRecord{"
+                + "address=" + address
+                + ", version=" + getVersion()
+                + ", hits=" + getHits()
+                + ", creationTime=" + getCreationTime()
+                + ", lastAccessTime=" + getLastAccessTime()
+                + ", lastUpdateTime=" + getLastUpdateTime()
+                + ", lastStoredTime=" + getLastStoredTime()
+                + '}';
+    }
+}
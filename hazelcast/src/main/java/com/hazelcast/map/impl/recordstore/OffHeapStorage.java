@@ -0,0 +1,677 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.impl.UnsafeMallocMemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.map.impl.EntryCostEstimator;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM;
+import static com.hazelcast.internal.memory.HeapMemoryAccessor.ARRAY_BYTE_BASE_OFFSET;
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.util.QuickMath.modPowerOfTwo;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmptyAfterTrim;
+import static com.hazelcast.internal.util.StringUtil.splitByComma;
+import static com.hazelcast.map.impl.OwnedEntryCostEstimatorFactory.createMapSizeEstimator;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.HASH_OFFSET;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.KEY_OFFSET;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.KEY_SIZE_OFFSET;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.NEXT_OFFSET;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.VALUE_ADDRESS_OFFSET;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.VALUE_CAPACITY_OFFSET;
+import static com.hazelcast.map.impl.recordstore.OffHeapRecord.VALUE_SIZE_OFFSET;
+import static java.util.Arrays.asList;
+
+/**
+ * {@link Storage} of a {@code BINARY} map which keeps keys, values and
+ * record metadata outside the Java heap, so that large partitions do not
+ * add to the live set scanned by the garbage collector.
+ * <p>
+ * The storage is an open hash table with one native word per bucket
+ * pointing to a chain of entry blocks. The layout of an entry block is
+ * described in {@link OffHeapRecord}. Buckets are never reordered on
+ * removal, which lets {@link #fetchKeys} and {@link #fetchEntries} resume
+ * from an {@link IterationPointer} in the same way as {@link StorageSCHM}.
+ * <p>
+ * Records handed out by this storage are flyweights over native memory,
+ * see {@link OffHeapRecord} for their lifecycle. Native blocks released
+ * while an operation is running are only freed once the outermost
+ * operation ends ({@link #afterOperation(int)}), so a flyweight obtained
+ * during an operation never reads freed memory, even if its entry is
+ * removed or its value reallocated later in the same operation. Expiry
+ * metadata is still kept on-heap by the {@link ExpirySystem}.
+ * <p>
+ * Not thread-safe, must only be accessed from the partition thread, except
+ * for {@link #size()} and {@link #isEmpty()}. The map service keeps it on
+ * the partition thread: partition scans of queries are offloaded to the
+ * partition threads as for {@code NATIVE} maps and backup reads are served
+ * by operations, see {@link #isEnabled}.
+ */
+@SuppressWarnings({"checkstyle:methodcount", "rawtypes"})
+public class OffHeapStorage implements Storage<Data, Record> {
+
+    /**
+     * Comma separated names or wildcard patterns of the {@code BINARY} maps
+     * whose partitions should use this storage. Empty by default, which
+     * keeps every map on-heap.
+     */
+    public static final HazelcastProperty OFF_HEAP_STORAGE_MAPS
+            = new HazelcastProperty("hazelcast.map.offheap.storage.maps", "");
+
+    static final int INITIAL_CAPACITY = 256;
+    static final float LOAD_FACTOR = 0.75f;
+
+    private static final int ALIGNMENT = 8;
+    private static final int INITIAL_RETIRED_BLOCKS = 16;
+
+    private final UnsafeMallocMemoryManager memoryManager = new UnsafeMallocMemoryManager();
+    private final MemoryAllocator malloc = memoryManager.getAllocator();
+    private final ExpirySystem expirySystem;
+    private final SerializationService serializationService;
+
+    private long table = NULL_ADDRESS;
+    private int capacity;
+    private int resizeThreshold;
+    private volatile int size;
+
+    // nesting depth of the running operations and native blocks released
+    // by them, as address and size pairs, see afterOperation()
+    private int operationDepth;
+    private long[] retiredBlocks = new long[INITIAL_RETIRED_BLOCKS];
+    private int retiredBlockCount;
+
+    // not final for testing purposes.
+    private EntryCostEstimator<Data, Record> entryCostEstimator;
+
+    public OffHeapStorage(ExpirySystem expirySystem, SerializationService serializationService) {
+        this.expirySystem = expirySystem;
+        this.serializationService = serializationService;
+        this.entryCostEstimator = createMapSizeEstimator(BINARY);
+    }
+
+    /**
+     * @return {@code true} if native memory is accessible on this JVM
+     */
+    public static boolean isSupported() {
+        return UnsafeMallocMemoryManager.isAvailable();
+    }
+
+    /**
+     * @param nodeEngine     the node engine of the member
+     * @param mapName        name of the map
+     * @param inMemoryFormat in-memory format of the map
+     * @return {@code true} if the partitions of the given map are kept in
+     * an {@code OffHeapStorage}, in which case the map must only be
+     * accessed from its partition threads
+     */
+    public static boolean isEnabled(NodeEngine nodeEngine, String mapName, InMemoryFormat inMemoryFormat) {
+        if (inMemoryFormat != BINARY) {
+            return false;
+        }
+        String mapNames = nodeEngine.getProperties().getString(OFF_HEAP_STORAGE_MAPS);
+        if (isNullOrEmptyAfterTrim(mapNames) || !isSupported()) {
+            return false;
+        }
+        List<String> patterns = asList(splitByComma(mapNames, false));
+        return nodeEngine.getConfig().getConfigPatternMatcher().matches(patterns, mapName) != null;
+    }
+
+    @Override
+    public int beforeOperation() {
+        if (operationDepth == 0) {
+            freeRetiredBlocks();
+        }
+        operationDepth++;
+        return -1;
+    }
+
+    @Override
+    public void afterOperation(int threadIndex) {
+        if (operationDepth > 0 && --operationDepth == 0) {
+            freeRetiredBlocks();
+        }
+    }
+
+    @Override
+    public void put(Data key, Record record) {
+        putAndGet(key, record);
+    }
+
+    @Override
+    public Record putAndGet(Data key, Record record) {
+        ensureTable();
+        long hash = key.hash64();
+        long entry = find(key, hash);
+        if (entry != NULL_ADDRESS) {
+            OffHeapRecord stored = new OffHeapRecord(this, entry);
+            copyFrom(record, stored);
+            return stored;
+        }
+
+        byte[] keyBytes = key.toByteArray();
+        long entrySize = entrySize(keyBytes.length);
+        entry = malloc.allocate(entrySize);
+        adjustCost(entrySize);
+        MEM.putLong(entry + HASH_OFFSET, hash);
+        MEM.putInt(entry + KEY_SIZE_OFFSET, keyBytes.length);
+        MEM.copyFromByteArray(keyBytes, 0, entry + KEY_OFFSET, keyBytes.length);
+        MEM.putInt(entry + VALUE_SIZE_OFFSET, -1);
+
+        OffHeapRecord stored = new OffHeapRecord(this, entry);
+        copyFrom(record, stored);
+
+        long bucket = bucketAddress(hash);
+        MEM.putLong(entry + NEXT_OFFSET, MEM.getLong(bucket));
+        MEM.putLong(bucket, entry);
+        if (++size > resizeThreshold) {
+            resize();
+        }
+        return stored;
+    }
+
+    @Override
+    public Record updateRecordValue(Data key, Record record, Object value) {
+        if (record instanceof OffHeapRecord offHeapRecord && offHeapRecord.isAttached()) {
+            offHeapRecord.setValue(toData(value));
+            return record;
+        }
+        Record stored = get(key);
+        if (stored == null) {
+            // not stored yet, e.g. post-processed by a MapStore before
+            // the put, the value will be copied by put()
+            record.setValue(toData(value));
+            return record;
+        }
+        stored.setValue(toData(value));
+        return stored;
+    }
+
+    @Override
+    public Record get(Data key) {
+        if (table == NULL_ADDRESS) {
+            return null;
+        }
+        long entry = find(key, key.hash64());
+        return entry == NULL_ADDRESS ? null : new OffHeapRecord(this, entry);
+    }
+
+    @Override
+    public Record getIfSameKey(Data key) {
+        throw new UnsupportedOperationException("OffHeapStorage#getIfSameKey");
+    }
+
+    @Override
+    public void removeRecord(Data dataKey, @Nonnull Record record) {
+        if (table == NULL_ADDRESS) {
+            return;
+        }
+        long hash = dataKey.hash64();
+        long prev = bucketAddress(hash);
+        long entry = MEM.getLong(prev);
+        while (entry != NULL_ADDRESS) {
+            if (keyEquals(entry, hash, dataKey)) {
+                if (record instanceof OffHeapRecord offHeapRecord && offHeapRecord.address() == entry) {
+                    offHeapRecord.detach();
+                }
+                MEM.putLong(prev, MEM.getLong(entry + NEXT_OFFSET));
+                freeEntry(entry);
+                size--;
+                return;
+            }
+            prev = entry + NEXT_OFFSET;
+            entry = MEM.getLong(prev);
+        }
+    }
+
+    @Override
+    public boolean containsKey(Data key) {
+        return table != NULL_ADDRESS && find(key, key.hash64()) != NULL_ADDRESS;
+    }
+
+    /**
+     * Returned iterator visits the buckets in order and copies the keys of
+     * one bucket at a time to the heap, the records are looked up again
+     * when they are returned. Entries removed during the iteration are
+     * skipped. Entries added during the iteration may or may not be seen,
+     * and after a resize some entries may be seen twice.
+     */
+    @Override
+    public Iterator<Map.Entry<Data, Record>> mutationTolerantIterator() {
+        return new MutationTolerantIterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        if (table != NULL_ADDRESS) {
+            for (int i = 0; i < capacity; i++) {
+                long bucket = table + (long) i * Long.BYTES;
+                long entry = MEM.getLong(bucket);
+                while (entry != NULL_ADDRESS) {
+                    long next = MEM.getLong(entry + NEXT_OFFSET);
+                    freeEntry(entry);
+                    entry = next;
+                }
+                MEM.putLong(bucket, NULL_ADDRESS);
+            }
+        }
+        size = 0;
+        entryCostEstimator.reset();
+        if (table != NULL_ADDRESS) {
+            adjustCost(tableSize(capacity));
+        }
+    }
+
+    @Override
+    public void destroy(boolean isDuringShutdown) {
+        clear(isDuringShutdown);
+        if (table != NULL_ADDRESS) {
+            malloc.free(table, tableSize(capacity));
+            table = NULL_ADDRESS;
+            capacity = 0;
+            resizeThreshold = 0;
+        }
+        freeRetiredBlocks();
+        entryCostEstimator.reset();
+    }
+
+    @Override
+    public EntryCostEstimator getEntryCostEstimator() {
+        return entryCostEstimator;
+    }
+
+    @Override
+    public void setEntryCostEstimator(EntryCostEstimator entryCostEstimator) {
+        this.entryCostEstimator = entryCostEstimator;
+    }
+
+    @Override
+    public Iterable<EntryView> getRandomSamples(int sampleCount) {
+        List<EntryView> samples = new ArrayList<>(Math.min(sampleCount, size));
+        if (size == 0 || sampleCount <= 0) {
+            return samples;
+        }
+        int start = ThreadLocalRandom.current().nextInt(capacity);
+        for (int i = 0; i < capacity && samples.size() < sampleCount; i++) {
+            long entry = MEM.getLong(table + (long) modPowerOfTwo(start + i, capacity) * Long.BYTES);
+            while (entry != NULL_ADDRESS && samples.size() < sampleCount) {
+                Data key = readKey(entry);
+                samples.add(new LazyEvictableEntryView<>(key, new OffHeapRecord(this, entry),
+                        expirySystem.getExpiryMetadata(key), serializationService));
+                entry = MEM.getLong(entry + NEXT_OFFSET);
+            }
+        }
+        return samples;
+    }
+
+    @Override
+    public MapKeysWithCursor fetchKeys(IterationPointer[] pointers, int size) {
+        List<Data> keys = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, keys, null);
+        return new MapKeysWithCursor(keys, newPointers);
+    }
+
+    @Override
+    public MapEntriesWithCursor fetchEntries(IterationPointer[] pointers, int size) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, null, entries);
+        return new MapEntriesWithCursor(entries, newPointers);
+    }
+
+    @Override
+    public Data extractDataKeyFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getDataKey();
+    }
+
+    @Override
+    public Data toBackingDataKeyFormat(Data key) {
+        return key;
+    }
+
+    /**
+     * @return the number of native bytes currently used by this storage
+     */
+    long getUsedNativeMemory() {
+        return memoryManager.getUsedMemory();
+    }
+
+    /**
+     * Walks the buckets in descending order, mirroring the resumable
+     * iteration of {@link StorageSCHM}: the last pointer holds the next
+     * bucket to visit, a new pointer is appended on resize so that entries
+     * already returned with a smaller table are not returned again.
+     */
+    private IterationPointer[] fetchNext(IterationPointer[] pointers, int size,
+                                         List<Data> keys, List<Map.Entry<Data, Data>> entries) {
+        ensureTable();
+        pointers = checkPointers(pointers, capacity);
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+
+        int nextIndex = lastPointer.getIndex() >= 0 && lastPointer.getIndex() < capacity
+                ? lastPointer.getIndex() : capacity - 1;
+        int counter = 0;
+        while (nextIndex >= 0 && counter < size) {
+            long entry = MEM.getLong(table + (long) nextIndex-- * Long.BYTES);
+            while (entry != NULL_ADDRESS) {
+                long hash = MEM.getLong(entry + HASH_OFFSET);
+                if (hasNotBeenObserved(hash, pointers)) {
+                    Data key = readKey(entry);
+                    if (keys != null) {
+                        keys.add(key);
+                    } else {
+                        entries.add(new AbstractMap.SimpleEntry<>(key, readValue(entry)));
+                    }
+                    counter++;
+                }
+                entry = MEM.getLong(entry + NEXT_OFFSET);
+            }
+        }
+        lastPointer.setIndex(nextIndex);
+        return pointers;
+    }
+
+    private static IterationPointer[] checkPointers(IterationPointer[] pointers, int currentCapacity) {
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+        boolean iterationStarted = lastPointer.getSize() == -1;
+        boolean tableResized = lastPointer.getSize() != currentCapacity;
+        int newLength = !iterationStarted && tableResized ? pointers.length + 1 : pointers.length;
+
+        IterationPointer[] updatedPointers = new IterationPointer[newLength];
+        for (int i = 0; i < pointers.length; i++) {
+            updatedPointers[i] = new IterationPointer(pointers[i]);
+        }
+        if (iterationStarted || tableResized) {
+            updatedPointers[updatedPointers.length - 1] = new IterationPointer(Integer.MAX_VALUE, currentCapacity);
+        }
+        return updatedPointers;
+    }
+
+    private static boolean hasNotBeenObserved(long hash, IterationPointer[] pointers) {
+        for (int i = 0; i < pointers.length - 1; i++) {
+            IterationPointer pointer = pointers[i];
+            if (bucketIndex(hash, pointer.getSize()) > pointer.getIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void writeValue(long entry, Data value) {
+        if (value == null) {
+            MEM.putInt(entry + VALUE_SIZE_OFFSET, -1);
+            return;
+        }
+        byte[] bytes = value.toByteArray();
+        int valueCapacity = MEM.getInt(entry + VALUE_CAPACITY_OFFSET);
+        long valueAddress = MEM.getLong(entry + VALUE_ADDRESS_OFFSET);
+        if (bytes.length > valueCapacity || bytes.length < valueCapacity / 2) {
+            int newCapacity = align(Math.max(bytes.length, 1));
+            long newAddress = malloc.allocate(newCapacity);
+            adjustCost(newCapacity);
+            if (valueAddress != NULL_ADDRESS) {
+                release(valueAddress, valueCapacity);
+                adjustCost(-valueCapacity);
+            }
+            valueAddress = newAddress;
+            MEM.putLong(entry + VALUE_ADDRESS_OFFSET, valueAddress);
+            MEM.putInt(entry + VALUE_CAPACITY_OFFSET, newCapacity);
+        }
+        MEM.copyFromByteArray(bytes, 0, valueAddress, bytes.length);
+        MEM.putInt(entry + VALUE_SIZE_OFFSET, bytes.length);
+    }
+
+    long entryCost(long entry) {
+        return entrySize(MEM.getInt(entry + KEY_SIZE_OFFSET)) + MEM.getInt(entry + VALUE_CAPACITY_OFFSET);
+    }
+
+    private Data readKey(long entry) {
+        int keySize = MEM.getInt(entry + KEY_SIZE_OFFSET);
+        byte[] bytes = new byte[keySize];
+        MEM.copyToByteArray(entry + KEY_OFFSET, bytes, 0, keySize);
+        return new HeapData(bytes);
+    }
+
+    private Data readValue(long entry) {
+        int valueSize = MEM.getInt(entry + VALUE_SIZE_OFFSET);
+        if (valueSize < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[valueSize];
+        MEM.copyToByteArray(MEM.getLong(entry + VALUE_ADDRESS_OFFSET), bytes, 0, valueSize);
+        return new HeapData(bytes);
+    }
+
+    private long find(Data key, long hash) {
+        long entry = MEM.getLong(bucketAddress(hash));
+        while (entry != NULL_ADDRESS) {
+            if (keyEquals(entry, hash, key)) {
+                return entry;
+            }
+            entry = MEM.getLong(entry + NEXT_OFFSET);
+        }
+        return NULL_ADDRESS;
+    }
+
+    private static boolean keyEquals(long entry, long hash, Data key) {
+        if (MEM.getLong(entry + HASH_OFFSET) != hash) {
+            return false;
+        }
+        byte[] bytes = key.toByteArray();
+        int length = bytes.length;
+        if (MEM.getInt(entry + KEY_SIZE_OFFSET) != length) {
+            return false;
+        }
+        long address = entry + KEY_OFFSET;
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            if (MEM.getLong(address + i) != MEM.getLong(bytes, ARRAY_BYTE_BASE_OFFSET + i)) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (MEM.getByte(address + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void freeEntry(long entry) {
+        long valueAddress = MEM.getLong(entry + VALUE_ADDRESS_OFFSET);
+        int valueCapacity = MEM.getInt(entry + VALUE_CAPACITY_OFFSET);
+        long entrySize = entrySize(MEM.getInt(entry + KEY_SIZE_OFFSET));
+        if (valueAddress != NULL_ADDRESS) {
+            release(valueAddress, valueCapacity);
+        }
+        release(entry, entrySize);
+        adjustCost(-(entrySize + valueCapacity));
+    }
+
+    /**
+     * Frees the given block, or retires it until the end of the running
+     * operation if there is one, because records handed out during the
+     * operation may still point to it.
+     */
+    private void release(long address, long blockSize) {
+        if (operationDepth == 0) {
+            malloc.free(address, blockSize);
+            return;
+        }
+        if (retiredBlockCount == retiredBlocks.length) {
+            retiredBlocks = Arrays.copyOf(retiredBlocks, retiredBlocks.length << 1);
+        }
+        retiredBlocks[retiredBlockCount++] = address;
+        retiredBlocks[retiredBlockCount++] = blockSize;
+    }
+
+    private void freeRetiredBlocks() {
+        for (int i = 0; i < retiredBlockCount; i += 2) {
+            malloc.free(retiredBlocks[i], retiredBlocks[i + 1]);
+        }
+        retiredBlockCount = 0;
+        if (retiredBlocks.length > INITIAL_RETIRED_BLOCKS) {
+            retiredBlocks = new long[INITIAL_RETIRED_BLOCKS];
+        }
+    }
+
+    private void ensureTable() {
+        if (table == NULL_ADDRESS) {
+            allocateTable(INITIAL_CAPACITY);
+        }
+    }
+
+    private void allocateTable(int newCapacity) {
+        table = malloc.allocate(tableSize(newCapacity));
+        capacity = newCapacity;
+        resizeThreshold = (int) (newCapacity * LOAD_FACTOR);
+        adjustCost(tableSize(newCapacity));
+    }
+
+    private void resize() {
+        long oldTable = table;
+        int oldCapacity = capacity;
+        allocateTable(oldCapacity << 1);
+        for (int i = 0; i < oldCapacity; i++) {
+            long entry = MEM.getLong(oldTable + (long) i * Long.BYTES);
+            while (entry != NULL_ADDRESS) {
+                long next = MEM.getLong(entry + NEXT_OFFSET);
+                long bucket = bucketAddress(MEM.getLong(entry + HASH_OFFSET));
+                MEM.putLong(entry + NEXT_OFFSET, MEM.getLong(bucket));
+                MEM.putLong(bucket, entry);
+                entry = next;
+            }
+        }
+        release(oldTable, tableSize(oldCapacity));
+        adjustCost(-tableSize(oldCapacity));
+    }
+
+    private long bucketAddress(long hash) {
+        return table + (long) bucketIndex(hash, capacity) * Long.BYTES;
+    }
+
+    private static int bucketIndex(long hash, int capacity) {
+        return (int) (hash ^ (hash >>> Integer.SIZE)) & (capacity - 1);
+    }
+
+    private static long tableSize(int capacity) {
+        return (long) capacity * Long.BYTES;
+    }
+
+    private static long entrySize(int keySize) {
+        return KEY_OFFSET + align(keySize);
+    }
+
+    private static int align(int size) {
+        return (size + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private void copyFrom(Record record, OffHeapRecord stored) {
+        stored.setValue(toData(record.getValue()));
+        stored.setVersion(record.getVersion());
+        // records without stats report UNSET hits
+        stored.setHits(Math.max(record.getHits(), 0));
+        stored.setRawCreationTime(record.getRawCreationTime());
+        stored.setRawLastAccessTime(record.getRawLastAccessTime());
+        stored.setRawLastUpdateTime(record.getRawLastUpdateTime());
+        stored.setRawLastStoredTime(record.getRawLastStoredTime());
+    }
+
+    private Data toData(Object value) {
+        return serializationService.toData(value);
+    }
+
+    private void adjustCost(long delta) {
+        entryCostEstimator.adjustEstimateBy(delta);
+    }
+
+    private final class MutationTolerantIterator implements Iterator<Map.Entry<Data, Record>> {
+
+        private final List<Data> bucketKeys = new ArrayList<>();
+        private int nextBucket;
+        private int nextKey;
+        private Map.Entry<Data, Record> next;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            while (true) {
+                while (nextKey < bucketKeys.size()) {
+                    Data key = bucketKeys.get(nextKey++);
+                    Record record = get(key);
+                    if (record != null) {
+                        next = new AbstractMap.SimpleImmutableEntry<>(key, record);
+                        return true;
+                    }
+                }
+                if (table == NULL_ADDRESS || nextBucket >= capacity) {
+                    return false;
+                }
+                bucketKeys.clear();
+                nextKey = 0;
+                long entry = MEM.getLong(table + (long) nextBucket++ * Long.BYTES);
+                while (entry != NULL_ADDRESS) {
+                    bucketKeys.add(readKey(entry));
+                    entry = MEM.getLong(entry + NEXT_OFFSET);
+                }
+            }
+        }
+
+        @Override
+        public Map.Entry<Data, Record> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Data, Record> entry = next;
+            next = null;
+            return entry;
+        }
+    }
+}
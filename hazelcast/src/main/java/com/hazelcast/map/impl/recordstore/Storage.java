@@ -48,6 +48,21 @@ public interface Storage<K, R> {
 
     void put(K key, R record);
 
+    /**
+     * Puts the record and returns the instance which represents the entry
+     * in this storage from now on. Storages which copy the record into their
+     * own layout return a different instance than the given one, any further
+     * mutation must go through the returned instance.
+     *
+     * @param key    the entry's key
+     * @param record the record to put
+     * @return the stored record
+     */
+    default R putAndGet(K key, R record) {
+        put(key, record);
+        return record;
+    }
+
     /**
      * Updates record's value. Performs an update in-place if the record can accommodate the
      * new value (applicable for the inlined records only). Otherwise, creates a new record
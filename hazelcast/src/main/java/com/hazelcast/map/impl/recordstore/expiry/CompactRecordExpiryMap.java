@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore.expiry;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.record.CompactRecord;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.recordstore.Storage;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Expiry metadata map of {@link CompactRecordExpirySystem} for maps using {@link
+ * CompactRecord}s. The metadata is read from and written to the records
+ * of the record store, only the keys whose record is not a {@link
+ * CompactRecord} (or is not stored yet) fall back to a regular map.
+ * <p>
+ * Relies on the record store removing the key from the expiry system
+ * before removing the record, and on the record store clearing its
+ * storage together with the expiry system.
+ */
+final class CompactRecordExpiryMap extends AbstractMap<Data, ExpiryMetadata> {
+
+    private final RecordStore recordStore;
+    private final Map<Data, ExpiryMetadata> fallback = new ConcurrentHashMap<>();
+    // number of compact records with expiry metadata,
+    // only updated by the partition thread
+    private volatile int recordCount;
+
+    CompactRecordExpiryMap(RecordStore recordStore) {
+        this.recordStore = recordStore;
+    }
+
+    @Override
+    public ExpiryMetadata get(Object key) {
+        CompactRecord record = getCompactRecord(key);
+        if (record != null && record.hasExpiryMetadata()) {
+            return record.getExpiryMetadata();
+        }
+        return fallback.isEmpty() ? null : fallback.get(key);
+    }
+
+    @Override
+    public ExpiryMetadata put(Data key, ExpiryMetadata expiryMetadata) {
+        CompactRecord record = getCompactRecord(key);
+        if (record == null) {
+            return fallback.put(key, expiryMetadata);
+        }
+        if (!record.hasExpiryMetadata()) {
+            recordCount++;
+        }
+        record.setExpiryMetadata(expiryMetadata);
+        return null;
+    }
+
+    @Override
+    public ExpiryMetadata remove(Object key) {
+        CompactRecord record = getCompactRecord(key);
+        if (record != null && record.hasExpiryMetadata()) {
+            record.clearExpiryMetadata();
+            recordCount--;
+        }
+        return fallback.isEmpty() ? null : fallback.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return recordCount + fallback.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        recordCount = 0;
+        fallback.clear();
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<Data, ExpiryMetadata>> entrySet() {
+        return new AbstractSet<>() {
+            @Nonnull
+            @Override
+            public Iterator<Entry<Data, ExpiryMetadata>> iterator() {
+                return new ExpiryMetadataIterator();
+            }
+
+            @Override
+            public int size() {
+                return CompactRecordExpiryMap.this.size();
+            }
+        };
+    }
+
+    private CompactRecord getCompactRecord(Object key) {
+        Storage<Data, Record> storage = recordStore.getStorage();
+        if (storage == null) {
+            return null;
+        }
+        Record record = storage.get((Data) key);
+        return record instanceof CompactRecord compactRecord ? compactRecord : null;
+    }
+
+    /**
+     * Iterates over the records with expiry metadata first
+     * and then over the entries of the fallback map.
+     */
+    private final class ExpiryMetadataIterator implements Iterator<Entry<Data, ExpiryMetadata>> {
+
+        private final Iterator<Entry<Data, Record>> records = recordStore.getStorage().mutationTolerantIterator();
+        private final Iterator<Entry<Data, ExpiryMetadata>> fallbackEntries = fallback.entrySet().iterator();
+        private Entry<Data, ExpiryMetadata> next;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            while (records.hasNext()) {
+                Entry<Data, Record> entry = records.next();
+                if (entry.getValue() instanceof CompactRecord record && record.hasExpiryMetadata()) {
+                    next = new SimpleImmutableEntry<>(entry.getKey(), record.getExpiryMetadata());
+                    return true;
+                }
+            }
+            if (fallbackEntries.hasNext()) {
+                next = fallbackEntries.next();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Entry<Data, ExpiryMetadata> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<Data, ExpiryMetadata> entry = next;
+            next = null;
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore.expiry;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.record.CompactRecord;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+
+import java.util.Map;
+
+/**
+ * {@link ExpirySystem} of the maps using {@link CompactRecord}s, which
+ * keeps the expiry metadata in the records instead of in a per-key map.
+ *
+ * @see CompactRecordExpiryMap
+ */
+public class CompactRecordExpirySystem extends ExpirySystemImpl {
+
+    private final RecordStore recordStore;
+
+    public CompactRecordExpirySystem(RecordStore recordStore,
+                                     MapContainer mapContainer,
+                                     MapServiceContext mapServiceContext) {
+        super(recordStore, mapContainer, mapServiceContext);
+        this.recordStore = recordStore;
+    }
+
+    @Override
+    protected Map<Data, ExpiryMetadata> createExpiryTimeByKeyMap() {
+        return new CompactRecordExpiryMap(recordStore);
+    }
+}
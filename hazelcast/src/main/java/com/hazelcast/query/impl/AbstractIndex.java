@@ -34,6 +34,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
 import static com.hazelcast.query.impl.CompositeValue.NEGATIVE_INFINITY;
@@ -54,6 +55,23 @@ public abstract class AbstractIndex implements InternalIndex {
      */
     public static final ComparableIdentifiedDataSerializable NULL = new NullObject();
 
+    /**
+     * The number of histogram buckets to aim for in value statistics.
+     */
+    static final int VALUE_STATISTICS_BUCKETS = 32;
+
+    /**
+     * The fraction of the indexed entries that has to be modified before
+     * value statistics are collected again.
+     */
+    static final double VALUE_STATISTICS_REFRESH_RATIO = 0.1d;
+
+    /**
+     * The minimum number of modifications before value statistics are
+     * collected again, so small indexes are not collected constantly.
+     */
+    static final long VALUE_STATISTICS_MIN_MODIFICATIONS = 100;
+
     protected final InternalSerializationService ss;
     protected final Extractors extractors;
     protected final IndexStore indexStore;
@@ -64,7 +82,11 @@ public abstract class AbstractIndex implements InternalIndex {
     private final boolean ordered;
     private final PerIndexStats stats;
 
+    private final LongAdder modificationCount = new LongAdder();
+
     private volatile TypeConverter converter;
+    private volatile IndexValueStatistics valueStatistics;
+    private volatile long valueStatisticsModificationCount;
 
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     protected AbstractIndex(
@@ -141,6 +163,7 @@ public abstract class AbstractIndex implements InternalIndex {
             indexStore.update(oldAttributeValue, newAttributeValue, newEntry, entryToStore, operationStats);
             stats.onUpdate(timestamp, operationStats, operationSource);
         }
+        modificationCount.increment();
     }
 
     @Override
@@ -151,6 +174,7 @@ public abstract class AbstractIndex implements InternalIndex {
         Object attributeValue = extractAttributeValue(entry);
         indexStore.remove(attributeValue, entry, operationStats);
         stats.onRemove(timestamp, operationStats, operationSource);
+        modificationCount.increment();
     }
 
     @Override
@@ -335,9 +359,34 @@ public abstract class AbstractIndex implements InternalIndex {
     public void clear() {
         indexStore.clear();
         converter = null;
+        valueStatistics = null;
         stats.onClear();
     }
 
+    @Override
+    public IndexValueStatistics getValueStatistics() {
+        TypeConverter converter = this.converter;
+        if (converter == null) {
+            return null;
+        }
+
+        long modifications = modificationCount.sum();
+        IndexValueStatistics statistics = valueStatistics;
+        if (statistics != null && modifications - valueStatisticsModificationCount
+                < Math.max(VALUE_STATISTICS_MIN_MODIFICATIONS, statistics.getEntryCount() * VALUE_STATISTICS_REFRESH_RATIO)) {
+            return statistics;
+        }
+
+        IndexValueStatistics.Collector collector = new IndexValueStatistics.Collector(ordered, VALUE_STATISTICS_BUCKETS);
+        if (!indexStore.collectValueStatistics(collector)) {
+            return null;
+        }
+        statistics = collector.build(converter);
+        valueStatisticsModificationCount = modifications;
+        valueStatistics = statistics;
+        return statistics;
+    }
+
     @Override
     public void destroy() {
         stats.onClear();
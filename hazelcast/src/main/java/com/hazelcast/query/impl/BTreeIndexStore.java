@@ -0,0 +1,881 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static com.hazelcast.query.impl.OrderedIndexStore.DATA_COMPARATOR;
+import static com.hazelcast.query.impl.OrderedIndexStore.SPECIAL_AWARE_COMPARATOR;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptySet;
+
+/**
+ * Store indexes in an array-backed B+tree.
+ * <p>
+ * Unlike {@link OrderedIndexStore}, which keeps a skip list of values with a
+ * skip list of records per value, this store keeps every record once, in a
+ * leaf of a B+tree ordered by the indexed value and then by the record key.
+ * Leaves and inner nodes are plain arrays, so the heap cost per record is a
+ * few array slots instead of several skip list nodes, and the number of
+ * objects the garbage collector has to trace does not grow with the number
+ * of distinct values.
+ * <p>
+ * Leaves are linked in both directions for range iteration. Leaves that
+ * become empty are unlinked and dropped from their parent; partially filled
+ * nodes are not merged.
+ * <p>
+ * All mutations happen under the global write lock. Iterators returned by
+ * the {@code getSqlRecordIterator} methods are weakly consistent: they copy
+ * up to a leaf worth of records under the read lock and then seek past the
+ * last copied record for the next chunk, so they never observe a node that
+ * is being modified.
+ */
+@SuppressWarnings({"rawtypes", "checkstyle:methodcount"})
+public class BTreeIndexStore extends BaseSingleValueIndexStore {
+
+    /**
+     * Makes sorted indexes of on-heap maps use the {@link BTreeIndexStore}
+     * instead of the {@link OrderedIndexStore}.
+     */
+    public static final HazelcastProperty SORTED_INDEX_BTREE_ENABLED
+            = new HazelcastProperty("hazelcast.query.sorted.index.btree.enabled", false);
+
+    /**
+     * The maximum number of records in a leaf and of children of an inner
+     * node of the B+tree.
+     */
+    public static final HazelcastProperty SORTED_INDEX_BTREE_NODE_CAPACITY
+            = new HazelcastProperty("hazelcast.query.sorted.index.btree.node.capacity", 64);
+
+    static final int MIN_NODE_CAPACITY = 4;
+
+    private final int nodeCapacity;
+
+    private Node root;
+
+    // the separator of the node split off by the last insert and the record
+    // replaced by it, only accessed under the write lock
+    private Comparable splitValue;
+    private Data splitKey;
+    private QueryableEntry replacedEntry;
+
+    public BTreeIndexStore(IndexCopyBehavior copyOn, int nodeCapacity) {
+        super(copyOn, true);
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Node capacity must be at least " + MIN_NODE_CAPACITY + ", got: "
+                    + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+        this.root = new Leaf(nodeCapacity);
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        Node right = insert(root, value, record.getKeyData(), record);
+        if (right != null) {
+            Inner newRoot = new Inner(nodeCapacity);
+            newRoot.children[0] = root;
+            newRoot.count = 1;
+            newRoot.insertChild(1, splitValue, splitKey, right);
+            root = newRoot;
+        }
+        QueryableEntry replaced = replacedEntry;
+        replacedEntry = null;
+        splitValue = null;
+        splitKey = null;
+        return replaced;
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        QueryableEntry removed = remove(root, value, recordKey);
+        while (root instanceof Inner inner && inner.count <= 1) {
+            root = inner.count == 0 ? new Leaf(nodeCapacity) : inner.children[0];
+        }
+        return removed;
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        // We still need to canonicalize query arguments for ordered indexes to
+        // support InPredicate queries.
+        return Comparables.canonicalizeForHashLookup(value);
+    }
+
+    @Override
+    public Comparable canonicalizeScalarForStorage(Comparable value) {
+        // Returning the original value since ordered indexes are not supporting
+        // hash lookups on their stored values, so there is no need in providing
+        // canonical representations.
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            root = new Leaf(nodeCapacity);
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean collectValueStatistics(IndexValueStatistics.Collector collector) {
+        takeReadLock();
+        try {
+            Node node = root;
+            while (node instanceof Inner inner) {
+                node = inner.children[0];
+            }
+            // records of a value are adjacent, so count the runs of equal values
+            Comparable value = null;
+            long count = 0;
+            for (Leaf leaf = (Leaf) node; leaf != null; leaf = leaf.next) {
+                for (int i = 0; i < leaf.count; i++) {
+                    if (count > 0 && SPECIAL_AWARE_COMPARATOR.compare(value, leaf.values[i]) == 0) {
+                        count++;
+                    } else {
+                        collector.add(value, count);
+                        value = leaf.values[i];
+                        count = 1;
+                    }
+                }
+            }
+            collector.add(value, count);
+            return true;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return false;
+    }
+
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(boolean descending) {
+        return descending
+                ? new Cursor(nodeCapacity, true, POSITIVE_INFINITY, null, 1, NULL, -1)
+                : new Cursor(nodeCapacity, false, NULL, null, -1, POSITIVE_INFINITY, 1);
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(@Nonnull Comparable value) {
+        return new Cursor(nodeCapacity, false, value, null, -1, value, 1);
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparison comparison, Comparable searchedValue, boolean descending) {
+        switch (comparison) {
+            case LESS:
+                return getSqlRecordIterator(NULL, false, searchedValue, false, descending);
+            case LESS_OR_EQUAL:
+                return getSqlRecordIterator(NULL, false, searchedValue, true, descending);
+            case GREATER:
+                return getSqlRecordIterator(searchedValue, false, POSITIVE_INFINITY, true, descending);
+            case GREATER_OR_EQUAL:
+                return getSqlRecordIterator(searchedValue, true, POSITIVE_INFINITY, true, descending);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(
+            Comparable from,
+            boolean fromInclusive,
+            Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order > 0 || order == 0 && (!fromInclusive || !toInclusive)) {
+            return emptyIterator();
+        }
+        return cursor(nodeCapacity, from, fromInclusive, to, toInclusive, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable value, boolean descending) {
+        return getSqlRecordIteratorBatch(value, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable value,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        return getSqlRecordIteratorBatch(value, true, value, true, descending, lastEntryKeyData);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(boolean descending) {
+        return getSqlRecordIteratorBatch(NULL, true, POSITIVE_INFINITY, true, descending);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(comparison, searchedValue, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        switch (comparison) {
+            case LESS:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, false, descending, lastEntryKeyData);
+            case LESS_OR_EQUAL:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, true, descending, lastEntryKeyData);
+            case GREATER:
+                return getSqlRecordIteratorBatch(searchedValue, false, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            case GREATER_OR_EQUAL:
+                return getSqlRecordIteratorBatch(searchedValue, true, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, null);
+    }
+
+    @Override
+    @SuppressWarnings({"checkstyle:NPathComplexity", "checkstyle:CyclomaticComplexity"})
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        boolean useCursor = lastEntryKeyData != null;
+        if (useCursor && !descending && !fromInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `from` must be inclusive");
+        }
+        if (useCursor && descending && !toInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `to` must be inclusive");
+        }
+
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order > 0 || order == 0 && (!fromInclusive || !toInclusive)) {
+            return emptyIterator();
+        }
+
+        return new KeyEntriesIterator(cursor(1, from, fromInclusive, to, toInclusive, descending, lastEntryKeyData));
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        takeReadLock();
+        try {
+            Map<Data, QueryableEntry> records = collect(value, true, value, true);
+            return records.isEmpty() ? emptySet() : toSingleResultSet(records);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        takeReadLock();
+        try {
+            MultiResultSet results = createMultiResultSet();
+            for (Comparable value : values) {
+                Map<Data, QueryableEntry> records = collect(value, true, value, true);
+                if (!records.isEmpty()) {
+                    copyToMultiResultSet(results, records);
+                }
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable searchedValue) {
+        switch (comparison) {
+            case LESS:
+                return getRecords(NULL, false, searchedValue, false);
+            case LESS_OR_EQUAL:
+                return getRecords(NULL, false, searchedValue, true);
+            case GREATER:
+                return getRecords(searchedValue, false, POSITIVE_INFINITY, true);
+            case GREATER_OR_EQUAL:
+                return getRecords(searchedValue, true, POSITIVE_INFINITY, true);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        takeReadLock();
+        try {
+            int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+            if (order > 0 || order == 0 && (!fromInclusive || !toInclusive)) {
+                return emptySet();
+            }
+            MultiResultSet results = createMultiResultSet();
+            Map<Data, QueryableEntry> records = collect(from, fromInclusive, to, toInclusive);
+            if (!records.isEmpty()) {
+                copyToMultiResultSet(results, records);
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    /**
+     * Returns the number of levels of the tree. Used for testing.
+     */
+    int height() {
+        takeReadLock();
+        try {
+            int height = 1;
+            for (Node node = root; node instanceof Inner inner; node = inner.children[0]) {
+                height++;
+            }
+            return height;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private Cursor cursor(int chunkSize, Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive,
+                          boolean descending, Data lastEntryKeyData) {
+        // the cursor seeks past its start and stops at its bound; a null key
+        // with a bias of -1 or 1 lies just below or above all records of a value
+        return descending
+                ? new Cursor(chunkSize, true, to, lastEntryKeyData, toInclusive ? 1 : -1, from, fromInclusive ? -1 : 1)
+                : new Cursor(chunkSize, false, from, lastEntryKeyData, fromInclusive ? -1 : 1, to, toInclusive ? 1 : -1);
+    }
+
+    private Map<Data, QueryableEntry> collect(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        Map<Data, QueryableEntry> records = new HashMap<>();
+        Cursor cursor = cursor(nodeCapacity, from, fromInclusive, to, toInclusive, false, null);
+        while (cursor.hasNext()) {
+            QueryableEntry entry = cursor.next();
+            records.put(entry.getKeyData(), entry);
+        }
+        return records;
+    }
+
+    /**
+     * Inserts the record into the subtree of the given node.
+     *
+     * @return the node split off from the given node, or {@code null} if
+     * the node did not overflow
+     */
+    private Node insert(Node node, Comparable value, Data key, QueryableEntry entry) {
+        if (node instanceof Leaf leaf) {
+            int index = leaf.higherIndex(value, key, 0) - 1;
+            if (index >= 0 && compare(leaf.values[index], leaf.keys[index], value, key, 0) == 0) {
+                replacedEntry = leaf.entries[index];
+                leaf.values[index] = value;
+                leaf.entries[index] = entry;
+                return null;
+            }
+            leaf.insert(index + 1, value, key, entry);
+            return leaf.count > nodeCapacity ? splitLeaf(leaf) : null;
+        }
+
+        Inner inner = (Inner) node;
+        int childIndex = inner.childIndex(value, key, 0, true);
+        Node right = insert(inner.children[childIndex], value, key, entry);
+        if (right == null) {
+            return null;
+        }
+        inner.insertChild(childIndex + 1, splitValue, splitKey, right);
+        return inner.count > nodeCapacity ? splitInner(inner) : null;
+    }
+
+    private Node splitLeaf(Leaf leaf) {
+        Leaf right = new Leaf(nodeCapacity);
+        int leftCount = leaf.count / 2;
+        int rightCount = leaf.count - leftCount;
+        System.arraycopy(leaf.values, leftCount, right.values, 0, rightCount);
+        System.arraycopy(leaf.keys, leftCount, right.keys, 0, rightCount);
+        System.arraycopy(leaf.entries, leftCount, right.entries, 0, rightCount);
+        leaf.clear(leftCount, leaf.count);
+        leaf.count = leftCount;
+        right.count = rightCount;
+
+        right.next = leaf.next;
+        right.prev = leaf;
+        if (leaf.next != null) {
+            leaf.next.prev = right;
+        }
+        leaf.next = right;
+
+        splitValue = right.values[0];
+        splitKey = right.keys[0];
+        return right;
+    }
+
+    private Node splitInner(Inner inner) {
+        Inner right = new Inner(nodeCapacity);
+        int leftCount = inner.count / 2;
+        int rightCount = inner.count - leftCount;
+        // the separator in front of the first child of the right node moves up
+        Comparable upValue = inner.values[leftCount - 1];
+        Data upKey = inner.keys[leftCount - 1];
+        System.arraycopy(inner.children, leftCount, right.children, 0, rightCount);
+        System.arraycopy(inner.values, leftCount, right.values, 0, rightCount - 1);
+        System.arraycopy(inner.keys, leftCount, right.keys, 0, rightCount - 1);
+        inner.clear(leftCount, inner.count);
+        inner.count = leftCount;
+        right.count = rightCount;
+
+        splitValue = upValue;
+        splitKey = upKey;
+        return right;
+    }
+
+    /**
+     * Removes the record from the subtree of the given node. Nodes that
+     * become empty are dropped from their parent.
+     */
+    private QueryableEntry remove(Node node, Comparable value, Data key) {
+        if (node instanceof Leaf leaf) {
+            int index = leaf.higherIndex(value, key, 0) - 1;
+            if (index < 0 || compare(leaf.values[index], leaf.keys[index], value, key, 0) != 0) {
+                return null;
+            }
+            QueryableEntry removed = leaf.entries[index];
+            leaf.remove(index);
+            return removed;
+        }
+
+        Inner inner = (Inner) node;
+        int childIndex = inner.childIndex(value, key, 0, true);
+        Node child = inner.children[childIndex];
+        QueryableEntry removed = remove(child, value, key);
+        if (child.count == 0) {
+            if (child instanceof Leaf leaf) {
+                leaf.unlink();
+            }
+            inner.removeChild(childIndex);
+        }
+        return removed;
+    }
+
+    private Leaf findLeaf(Comparable value, Data key, int bias, boolean higher) {
+        Node node = root;
+        while (node instanceof Inner inner) {
+            node = inner.children[inner.childIndex(value, key, bias, higher)];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Compares a record with a search target. A target without a key lies
+     * just below ({@code bias == -1}) or just above ({@code bias == 1}) all
+     * records with the target value.
+     */
+    static int compare(Comparable value, Data key, Comparable targetValue, Data targetKey, int targetBias) {
+        int order = SPECIAL_AWARE_COMPARATOR.compare(value, targetValue);
+        if (order != 0) {
+            return order;
+        }
+        return targetKey == null ? -targetBias : DATA_COMPARATOR.compare(key, targetKey);
+    }
+
+    private abstract static class Node {
+        final Comparable[] values;
+        final Data[] keys;
+        int count;
+
+        Node(int length) {
+            this.values = new Comparable[length];
+            this.keys = new Data[length];
+        }
+
+        /**
+         * Returns the index of the first separator or record greater than the
+         * target, or the number of them if there is none.
+         */
+        int higherIndex(Comparable value, Data key, int bias) {
+            return search(value, key, bias, true);
+        }
+
+        /**
+         * Returns the index of the first separator or record greater than or
+         * equal to the target, or the number of them if there is none.
+         */
+        int ceilingIndex(Comparable value, Data key, int bias) {
+            return search(value, key, bias, false);
+        }
+
+        private int search(Comparable value, Data key, int bias, boolean strict) {
+            int low = 0;
+            int high = length() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int order = compare(values[mid], keys[mid], value, key, bias);
+                if (order < 0 || order == 0 && strict) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        abstract int length();
+    }
+
+    private static final class Leaf extends Node {
+        final QueryableEntry[] entries;
+        Leaf next;
+        Leaf prev;
+
+        Leaf(int capacity) {
+            // one extra slot for the record that overflows the leaf before it is split
+            super(capacity + 1);
+            this.entries = new QueryableEntry[capacity + 1];
+        }
+
+        @Override
+        int length() {
+            return count;
+        }
+
+        void insert(int index, Comparable value, Data key, QueryableEntry entry) {
+            System.arraycopy(values, index, values, index + 1, count - index);
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(entries, index, entries, index + 1, count - index);
+            values[index] = value;
+            keys[index] = key;
+            entries[index] = entry;
+            count++;
+        }
+
+        void remove(int index) {
+            System.arraycopy(values, index + 1, values, index, count - index - 1);
+            System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+            System.arraycopy(entries, index + 1, entries, index, count - index - 1);
+            count--;
+            clear(count, count + 1);
+        }
+
+        void clear(int from, int to) {
+            for (int i = from; i < to; i++) {
+                values[i] = null;
+                keys[i] = null;
+                entries[i] = null;
+            }
+        }
+
+        void unlink() {
+            if (prev != null) {
+                prev.next = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            prev = null;
+            next = null;
+        }
+    }
+
+    /**
+     * An inner node with {@code count} children; the separator at index
+     * {@code i} is a lower bound of all records in child {@code i + 1} and
+     * an upper bound of all records in child {@code i}.
+     */
+    private static final class Inner extends Node {
+        final Node[] children;
+
+        Inner(int capacity) {
+            // one extra slot for the child that overflows the node before it is split
+            super(capacity);
+            this.children = new Node[capacity + 1];
+        }
+
+        @Override
+        int length() {
+            return count - 1;
+        }
+
+        /**
+         * Returns the index of the child to descend into: for {@code higher}
+         * the child that holds the first record greater than the target, or
+         * the one holding the last record lower than the target otherwise.
+         */
+        int childIndex(Comparable value, Data key, int bias, boolean higher) {
+            return higher ? higherIndex(value, key, bias) : ceilingIndex(value, key, bias);
+        }
+
+        void insertChild(int index, Comparable value, Data key, Node child) {
+            System.arraycopy(children, index, children, index + 1, count - index);
+            System.arraycopy(values, index - 1, values, index, count - index);
+            System.arraycopy(keys, index - 1, keys, index, count - index);
+            children[index] = child;
+            values[index - 1] = value;
+            keys[index - 1] = key;
+            count++;
+        }
+
+        void removeChild(int index) {
+            // the first child has no separator in front of it, so its successor's goes
+            int separator = index == 0 ? 0 : index - 1;
+            System.arraycopy(children, index + 1, children, index, count - index - 1);
+            if (count > 1) {
+                System.arraycopy(values, separator + 1, values, separator, count - separator - 2);
+                System.arraycopy(keys, separator + 1, keys, separator, count - separator - 2);
+            }
+            count--;
+            clear(count, count + 1);
+        }
+
+        void clear(int from, int to) {
+            for (int i = from; i < to; i++) {
+                children[i] = null;
+                if (i > 0) {
+                    values[i - 1] = null;
+                    keys[i - 1] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterates the records between a start and a bound, copying them in
+     * chunks under the read lock. Every chunk starts with the first record
+     * past the last record of the previous chunk.
+     */
+    private final class Cursor implements Iterator<QueryableEntry> {
+        private final boolean descending;
+        private final Comparable boundValue;
+        private final int boundBias;
+        private final Comparable[] values;
+        private final Data[] keys;
+        private final QueryableEntry[] entries;
+        private Comparable value;
+        private Data key;
+        private int bias;
+        private int size;
+        private int position;
+        private boolean exhausted;
+        // the position while fetching, only used under the read lock
+        private Leaf leaf;
+        private int index;
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        Cursor(int chunkSize, boolean descending, Comparable startValue, Data startKey, int startBias,
+               Comparable boundValue, int boundBias) {
+            this.descending = descending;
+            this.value = startValue;
+            this.key = startKey;
+            this.bias = startBias;
+            this.boundValue = boundValue;
+            this.boundBias = boundBias;
+            this.values = new Comparable[chunkSize];
+            this.keys = new Data[chunkSize];
+            this.entries = new QueryableEntry[chunkSize];
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position == size && !exhausted) {
+                fetch();
+            }
+            return position < size;
+        }
+
+        @Override
+        public QueryableEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return entries[position++];
+        }
+
+        Comparable peekValue() {
+            return values[position];
+        }
+
+        Data peekKey() {
+            return keys[position];
+        }
+
+        /**
+         * Continues after all records with the given value.
+         */
+        void skipPast(Comparable value) {
+            this.value = value;
+            this.key = null;
+            this.bias = descending ? -1 : 1;
+            this.size = 0;
+            this.position = 0;
+            this.exhausted = false;
+        }
+
+        private void fetch() {
+            size = 0;
+            position = 0;
+            takeReadLock();
+            try {
+                leaf = findLeaf(value, key, bias, !descending);
+                index = descending ? leaf.ceilingIndex(value, key, bias) - 1 : leaf.higherIndex(value, key, bias);
+                while (size < entries.length) {
+                    if (!moveToRecord() || !withinBound(leaf.values[index], leaf.keys[index])) {
+                        exhausted = true;
+                        break;
+                    }
+                    values[size] = leaf.values[index];
+                    keys[size] = leaf.keys[index];
+                    entries[size] = leaf.entries[index];
+                    size++;
+                    index += descending ? -1 : 1;
+                }
+            } finally {
+                leaf = null;
+                releaseReadLock();
+            }
+            if (size > 0) {
+                value = values[size - 1];
+                key = keys[size - 1];
+                bias = 0;
+            }
+        }
+
+        /**
+         * Moves to the neighbouring leaf if the index ran off the current one.
+         *
+         * @return {@code false} if there are no more records in the direction
+         * of this cursor
+         */
+        private boolean moveToRecord() {
+            while (descending && index < 0 && leaf.prev != null) {
+                leaf = leaf.prev;
+                index = leaf.count - 1;
+            }
+            while (!descending && index >= leaf.count && leaf.next != null) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            return index >= 0 && index < leaf.count;
+        }
+
+        private boolean withinBound(Comparable value, Data key) {
+            int order = compare(value, key, boundValue, null, boundBias);
+            return descending ? order > 0 : order < 0;
+        }
+    }
+
+    /**
+     * Groups the records of a {@link Cursor} by their value. The records of
+     * a group are read through a cursor of their own which is bounded to the
+     * value of the group.
+     */
+    private final class KeyEntriesIterator implements Iterator<IndexKeyEntries> {
+        private final Cursor cursor;
+
+        KeyEntriesIterator(Cursor cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor.hasNext();
+        }
+
+        @Override
+        public IndexKeyEntries next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Comparable value = cursor.peekValue();
+            Data firstKey = cursor.peekKey();
+            QueryableEntry first = cursor.next();
+            int boundBias = cursor.descending ? -1 : 1;
+            Cursor rest = new Cursor(nodeCapacity, cursor.descending, value, firstKey, 0, value, boundBias);
+            cursor.skipPast(value);
+            return new IndexKeyEntries(value, new GroupIterator(first, rest));
+        }
+    }
+
+    private static final class GroupIterator implements Iterator<QueryableEntry> {
+        private final Cursor rest;
+        private QueryableEntry first;
+
+        GroupIterator(QueryableEntry first, Cursor rest) {
+            this.first = first;
+            this.rest = rest;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return first != null || rest.hasNext();
+        }
+
+        @Override
+        public QueryableEntry next() {
+            if (first != null) {
+                QueryableEntry entry = first;
+                first = null;
+                return entry;
+            }
+            return rest.next();
+        }
+    }
+}
@@ -39,6 +39,8 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
+
 /**
  * The store of bitmap indexes.
  * <p>
@@ -305,7 +307,9 @@ public final class BitmapIndexStore extends BaseIndexStore {
     public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
         takeReadLock();
         try {
-            return toSingleResultSet(toMap(bitmap.evaluate(predicate, new CanonicalizingConverter(converter))));
+            TypeConverter canonicalizingConverter = new CanonicalizingConverter(converter);
+            long expectedSize = bitmap.estimateCardinality(predicate, canonicalizingConverter);
+            return toSingleResultSet(toMap(bitmap.evaluate(predicate, canonicalizingConverter), expectedSize));
         } finally {
             releaseReadLock();
         }
@@ -422,8 +426,9 @@ public final class BitmapIndexStore extends BaseIndexStore {
         return value;
     }
 
-    private Map<Data, QueryableEntry> toMap(Iterator<QueryableEntry> iterator) {
-        Map<Data, QueryableEntry> map = new HashMap<>();
+    private Map<Data, QueryableEntry> toMap(Iterator<QueryableEntry> iterator, long expectedSize) {
+        // presize the map if the bitmap could bound the result size
+        Map<Data, QueryableEntry> map = expectedSize < Integer.MAX_VALUE ? createHashMap((int) expectedSize) : new HashMap<>();
         while (iterator.hasNext()) {
             QueryableEntry entry = iterator.next();
             map.put(entry.getKeyData(), entry);
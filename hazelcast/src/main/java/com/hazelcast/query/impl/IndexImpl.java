@@ -23,6 +23,7 @@ import com.hazelcast.internal.monitor.impl.PerIndexStats;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.query.impl.GlobalIndexPartitionTracker.PartitionStamp;
 import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
 /**
  * Provides implementation of on-heap indexes.
@@ -50,7 +51,7 @@ public class IndexImpl extends AbstractIndex {
                                           PerIndexStats stats, String mapName, int ignored) {
         switch (config.getType()) {
             case SORTED:
-                return new OrderedIndexStore(copyBehavior);
+                return createSortedIndexStore(node);
             case HASH:
                 return new UnorderedIndexStore(copyBehavior);
             case BITMAP:
@@ -60,6 +61,14 @@ public class IndexImpl extends AbstractIndex {
         }
     }
 
+    private IndexStore createSortedIndexStore(Node node) {
+        HazelcastProperties properties = node == null ? null : node.getProperties();
+        if (properties != null && properties.getBoolean(BTreeIndexStore.SORTED_INDEX_BTREE_ENABLED)) {
+            return new BTreeIndexStore(copyBehavior, properties.getInteger(BTreeIndexStore.SORTED_INDEX_BTREE_NODE_CAPACITY));
+        }
+        return new OrderedIndexStore(copyBehavior);
+    }
+
     @Override
     public final boolean hasPartitionIndexed(int partitionId) {
         return partitionTracker.isIndexed(partitionId);
@@ -328,4 +328,18 @@ public interface IndexStore {
      */
     Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive);
 
+    /**
+     * Reports every distinct value stored in this index store together with
+     * the number of its entries to the given collector. Ordered index stores
+     * report the values in ascending order.
+     *
+     * @param collector the collector to report the values to.
+     * @return {@code true} if the values were reported, {@code false} if this
+     * index store does not support collecting value statistics.
+     * @see InternalIndex#getValueStatistics()
+     */
+    default boolean collectValueStatistics(IndexValueStatistics.Collector collector) {
+        return false;
+    }
+
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+
+import java.util.Arrays;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+
+/**
+ * Snapshot of the distribution of values stored in an index, used for the
+ * cost-based optimization of SQL queries.
+ * <p>
+ * The snapshot is built by a {@link Collector} fed with every distinct value
+ * of an index store and the number of entries having it. Every store reports
+ * the number of entries and of distinct values. Ordered stores report their
+ * values in ascending order, which additionally produces an equi-depth
+ * histogram of the non-null values.
+ * <p>
+ * The histogram is built in a single pass without knowing the number of
+ * entries upfront: every value starts its own bucket until the buckets run
+ * out, then neighbouring buckets are merged pairwise and the depth of a
+ * bucket doubles. Hence, there are between the requested number of buckets
+ * and twice as many of them.
+ *
+ * @see InternalIndex#getValueStatistics()
+ */
+@SuppressWarnings("rawtypes")
+public final class IndexValueStatistics {
+
+    /**
+     * Average number of entries per distinct value above which the distinct
+     * values are assumed to repeat across the whole data set, see {@link
+     * #estimateDistinctCount(double)}.
+     */
+    static final int REPEATED_VALUE_THRESHOLD = 10;
+
+    private static final double HALF = 0.5d;
+
+    private final TypeConverter converter;
+    private final long entryCount;
+    private final long nullCount;
+    private final long distinctCount;
+    private final Comparable min;
+    private final Comparable[] upperBounds;
+    private final long[] bucketCounts;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private IndexValueStatistics(TypeConverter converter, long entryCount, long nullCount, long distinctCount,
+                                 Comparable min, Comparable[] upperBounds, long[] bucketCounts) {
+        this.converter = converter;
+        this.entryCount = entryCount;
+        this.nullCount = nullCount;
+        this.distinctCount = distinctCount;
+        this.min = min;
+        this.upperBounds = upperBounds;
+        this.bucketCounts = bucketCounts;
+    }
+
+    /**
+     * Returns the number of entries in the index, including the ones with a
+     * {@code null} value.
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns the number of entries with a {@code null} value.
+     */
+    public long getNullCount() {
+        return nullCount;
+    }
+
+    /**
+     * Returns the number of distinct values in the index.
+     */
+    public long getDistinctCount() {
+        return distinctCount;
+    }
+
+    /**
+     * Returns the number of histogram buckets, {@code 0} if the index is not
+     * ordered.
+     */
+    public int getBucketCount() {
+        return upperBounds.length;
+    }
+
+    /**
+     * Extrapolates the number of distinct values to a data set of the given
+     * size, assuming the index covers a uniformly distributed sample of it,
+     * such as the partitions owned by a member.
+     * <p>
+     * If the values repeat often within the sample, all of them are assumed
+     * to have been seen already. Otherwise, the distinct values are assumed
+     * to grow linearly with the data set, which is the case for keys and
+     * other mostly unique values.
+     *
+     * @param totalEntryCount the number of entries in the whole data set
+     * @return the estimated number of distinct values, at least {@code 1}
+     */
+    public double estimateDistinctCount(double totalEntryCount) {
+        if (distinctCount == 0) {
+            return 1;
+        }
+        if (totalEntryCount <= entryCount || entryCount >= distinctCount * REPEATED_VALUE_THRESHOLD) {
+            return distinctCount;
+        }
+        return distinctCount * totalEntryCount / entryCount;
+    }
+
+    /**
+     * Estimates the fraction of entries having a value within the given
+     * range using the histogram. Entries with a {@code null} value never
+     * match.
+     *
+     * @param from          the lower bound or {@code null} if unbounded
+     * @param fromInclusive {@code true} if the lower bound is inclusive
+     * @param to            the upper bound or {@code null} if unbounded
+     * @param toInclusive   {@code true} if the upper bound is inclusive
+     * @return the estimated fraction between {@code 0} and {@code 1}, or
+     * {@code null} if there is no histogram or the bounds are not comparable
+     * with the indexed values
+     */
+    public Double estimateRangeSelectivity(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        if (upperBounds.length == 0) {
+            return null;
+        }
+
+        Comparable convertedFrom;
+        Comparable convertedTo;
+        double below;
+        double upTo;
+        try {
+            convertedFrom = from == null ? null : converter.convert(from);
+            convertedTo = to == null ? null : converter.convert(to);
+            below = convertedFrom == null ? 0 : countBelow(convertedFrom, !fromInclusive);
+            upTo = convertedTo == null ? entryCount - nullCount : countBelow(convertedTo, toInclusive);
+        } catch (RuntimeException e) {
+            // the bounds cannot be converted or compared to the indexed values
+            return null;
+        }
+
+        return Math.min(1, Math.max(0, upTo - below) / entryCount);
+    }
+
+    /**
+     * Estimates the number of non-null entries with a value lower than the
+     * given one, or equal to it if inclusive. Within the bucket the value
+     * falls into, the entries are interpolated linearly for numbers and
+     * counted as a half otherwise.
+     */
+    private double countBelow(Comparable value, boolean inclusive) {
+        if (Comparables.compare(value, min) < 0) {
+            return 0;
+        }
+
+        double count = 0;
+        Comparable lower = min;
+        for (int i = 0; i < upperBounds.length; i++) {
+            int order = Comparables.compare(value, upperBounds[i]);
+            if (order > 0 || order == 0 && inclusive) {
+                count += bucketCounts[i];
+                lower = upperBounds[i];
+            } else {
+                return count + bucketCounts[i] * bucketFraction(lower, upperBounds[i], value);
+            }
+        }
+        return count;
+    }
+
+    private static double bucketFraction(Comparable lower, Comparable upper, Comparable value) {
+        if (lower instanceof Number && upper instanceof Number && value instanceof Number) {
+            double width = ((Number) upper).doubleValue() - ((Number) lower).doubleValue();
+            if (width > 0) {
+                double fraction = (((Number) value).doubleValue() - ((Number) lower).doubleValue()) / width;
+                return Math.min(1, Math.max(0, fraction));
+            }
+        }
+        return HALF;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexValueStatistics{entryCount=" + entryCount + ", nullCount=" + nullCount
+                + ", distinctCount=" + distinctCount + ", bucketCount=" + upperBounds.length + '}';
+    }
+
+    /**
+     * Builds {@link IndexValueStatistics} from the distinct values of an
+     * index store.
+     *
+     * @see IndexStore#collectValueStatistics(Collector)
+     */
+    public static final class Collector {
+
+        private final boolean ordered;
+        private final Comparable[] upperBounds;
+        private final long[] bucketCounts;
+
+        private int bucketCount;
+        private long bucketDepth = 1;
+        private long entryCount;
+        private long nullCount;
+        private long distinctCount;
+        private Comparable min;
+
+        /**
+         * @param ordered    {@code true} if the values are added in ascending
+         *                   order and a histogram should be built
+         * @param maxBuckets the number of histogram buckets to aim for
+         */
+        public Collector(boolean ordered, int maxBuckets) {
+            this.ordered = ordered;
+            this.upperBounds = new Comparable[ordered ? 2 * Math.max(1, maxBuckets) : 0];
+            this.bucketCounts = new long[upperBounds.length];
+        }
+
+        /**
+         * Adds a distinct value of the index store.
+         *
+         * @param value the value, {@link AbstractIndex#NULL} for the entries
+         *              without a value
+         * @param count the number of entries having the value
+         */
+        public void add(Comparable value, long count) {
+            if (count <= 0) {
+                return;
+            }
+            entryCount += count;
+            distinctCount++;
+            if (value == NULL) {
+                nullCount += count;
+                return;
+            }
+            if (!ordered) {
+                return;
+            }
+
+            if (min == null) {
+                min = value;
+            }
+            if (bucketCount == upperBounds.length && bucketCounts[bucketCount - 1] >= bucketDepth) {
+                mergeBuckets();
+            }
+            if (bucketCount == 0 || bucketCounts[bucketCount - 1] >= bucketDepth) {
+                bucketCount++;
+            }
+            upperBounds[bucketCount - 1] = value;
+            bucketCounts[bucketCount - 1] += count;
+        }
+
+        /**
+         * Creates the statistics from the values added so far.
+         *
+         * @param converter the converter of the index, used to convert the
+         *                  bounds of estimated ranges
+         */
+        public IndexValueStatistics build(TypeConverter converter) {
+            return new IndexValueStatistics(converter, entryCount, nullCount, distinctCount, min,
+                    Arrays.copyOf(upperBounds, bucketCount), Arrays.copyOf(bucketCounts, bucketCount));
+        }
+
+        private void mergeBuckets() {
+            int merged = 0;
+            for (int i = 0; i < bucketCount; i += 2) {
+                int last = Math.min(i + 1, bucketCount - 1);
+                upperBounds[merged] = upperBounds[last];
+                bucketCounts[merged] = bucketCounts[i] + (last == i ? 0 : bucketCounts[last]);
+                merged++;
+            }
+            Arrays.fill(upperBounds, merged, bucketCount, null);
+            Arrays.fill(bucketCounts, merged, bucketCount, 0);
+            bucketCount = merged;
+            bucketDepth *= 2;
+        }
+    }
+}
@@ -95,6 +95,20 @@ public interface InternalIndex extends Index {
      */
     PerIndexStats getPerIndexStats();
 
+    /**
+     * Returns a recent snapshot of the distribution of the values stored in
+     * this index.
+     * <p>
+     * The snapshot is collected on demand and reused until a considerable
+     * fraction of the indexed entries has been modified, so it might be
+     * slightly out of date.
+     *
+     * @return the snapshot or {@code null} if this index cannot provide it.
+     */
+    default IndexValueStatistics getValueStatistics() {
+        return null;
+    }
+
     /**
      * Get a monotonically increasing stamp and the partition ID set currently
      * contained in the index. The received stamp is used later to verify that
@@ -118,6 +118,14 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
         }
     }
 
+    @Override
+    public boolean collectValueStatistics(IndexValueStatistics.Collector collector) {
+        for (Map.Entry<Comparable, NavigableMap<Data, QueryableEntry>> entry : recordMap.entrySet()) {
+            collector.add(entry.getKey(), entry.getValue().size());
+        }
+        return true;
+    }
+
     @Override
     public boolean isEvaluateOnly() {
         return false;
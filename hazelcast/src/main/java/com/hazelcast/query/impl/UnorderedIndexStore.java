@@ -124,6 +124,15 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
         }
     }
 
+    @Override
+    public boolean collectValueStatistics(IndexValueStatistics.Collector collector) {
+        collector.add(NULL, recordsWithNullValue.size());
+        for (Map.Entry<Comparable, Map<Data, QueryableEntry>> entry : recordMap.entrySet()) {
+            collector.add(entry.getKey(), entry.getValue().size());
+        }
+        return true;
+    }
+
     @Override
     public boolean isEvaluateOnly() {
         return false;
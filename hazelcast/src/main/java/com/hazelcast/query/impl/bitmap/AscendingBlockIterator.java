@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.bitmap;
+
+/**
+ * Iterates over blocks of a set of non-negative {@code long} values in
+ * ascending order.
+ * <p>
+ * A block covers {@link #BLOCK_SIZE} consecutive values, the block index of a
+ * value is the value shifted right by {@link #BLOCK_SHIFT}. The values of a
+ * block are exposed as {@link #BLOCK_LONGS} words of bits, so set operations
+ * on blocks process 64 values at a time instead of advancing value by value
+ * like {@link AscendingLongIterator}s do.
+ * <p>
+ * Iterators may be positioned at blocks without any values, consumers are
+ * expected to skip them.
+ */
+interface AscendingBlockIterator {
+
+    /**
+     * The number of low bits of a value addressing it inside of its block.
+     */
+    int BLOCK_SHIFT = 12;
+
+    /**
+     * The number of values covered by a block.
+     */
+    int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    /**
+     * The number of words holding the bits of a block.
+     */
+    int BLOCK_LONGS = BLOCK_SIZE / Long.SIZE;
+
+    /**
+     * Identifies an iterator end.
+     */
+    long END = -1L;
+
+    /**
+     * Denotes an empty block iterator.
+     */
+    AscendingBlockIterator EMPTY = new AscendingBlockIterator() {
+        @Override
+        public long getBlock() {
+            return END;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long block) {
+            return END;
+        }
+
+        @Override
+        public void fill(long[] words) {
+            throw new IllegalStateException("empty block iterator");
+        }
+    };
+
+    /**
+     * Returns the index of the block at which this iterator is positioned
+     * currently or {@link #END} if this iterator has reached its end.
+     * <p>
+     * Just after the creation, iterators are positioned at their first block.
+     */
+    long getBlock();
+
+    /**
+     * Advances this iterator to the given block; or, if the block has no
+     * values, to a block following it.
+     *
+     * @param block the block to advance at least to.
+     * @return the block this iterator was advanced to or {@link #END} if this
+     * iterator reached its end.
+     */
+    long advanceAtLeastTo(long block);
+
+    /**
+     * Overwrites the given {@link #BLOCK_LONGS} words with the bits of the
+     * block this iterator is positioned at. Bit {@code i} of word {@code w}
+     * stands for the value {@code block << BLOCK_SHIFT | w << 6 | i}.
+     *
+     * @param words the words to fill.
+     */
+    void fill(long[] words);
+
+}
@@ -26,6 +26,8 @@ import com.hazelcast.query.impl.predicates.NotEqualPredicate;
 import com.hazelcast.query.impl.predicates.NotPredicate;
 import com.hazelcast.query.impl.predicates.OrPredicate;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -38,6 +40,12 @@ import java.util.Map;
  * Internally, each bitmap manages a set of sparse bit sets, one for each
  * possible attribute value, and a sparse array to map from unique {@code long}
  * entry keys back to entries.
+ * <p>
+ * Conjunctions, disjunctions and {@code IN} lists which don't need the set of
+ * all entries for their evaluation are evaluated on {@link
+ * AscendingBlockIterator blocks} of bits, 64 entry keys per word, instead of
+ * key by key. Conjunctions are driven by their most selective operand
+ * according to the {@link #estimateCardinality cardinality estimates}.
  *
  * @param <E> the type of entries being indexed.
  */
@@ -156,8 +164,60 @@ public final class Bitmap<E> {
         return new EntryIterator<>(predicateIterator(predicate, converter), entries.iterator());
     }
 
-    @SuppressWarnings("checkstyle:npathcomplexity")
+    /**
+     * Estimates the number of entries matching the given predicate without
+     * evaluating it.
+     * <p>
+     * The estimate is exact for {@link EqualPredicate} and an upper bound for
+     * {@link InPredicate}, {@link OrPredicate} and {@link AndPredicate}.
+     * Negations are not estimated since that requires the number of all
+     * entries which is not tracked.
+     *
+     * @param predicate the predicate to estimate.
+     * @param converter the converter to use for the predicate arguments
+     *                  conversion.
+     * @return the estimated number of matching entries or {@link
+     * Long#MAX_VALUE} if the number can't be estimated.
+     */
+    public long estimateCardinality(Predicate predicate, TypeConverter converter) {
+        if (predicate instanceof EqualPredicate equalPredicate) {
+            return valueCardinality(equalPredicate.getFrom(), converter);
+        }
+
+        if (predicate instanceof InPredicate inPredicate) {
+            long cardinality = 0;
+            for (Comparable value : inPredicate.getValues()) {
+                cardinality = saturatedAdd(cardinality, valueCardinality(value, converter));
+            }
+            return cardinality;
+        }
+
+        if (predicate instanceof OrPredicate orPredicate) {
+            long cardinality = 0;
+            for (Predicate subPredicate : orPredicate.getPredicates()) {
+                cardinality = saturatedAdd(cardinality, estimateCardinality(subPredicate, converter));
+            }
+            return cardinality;
+        }
+
+        if (predicate instanceof AndPredicate andPredicate) {
+            long cardinality = Long.MAX_VALUE;
+            for (Predicate subPredicate : andPredicate.getPredicates()) {
+                cardinality = Math.min(cardinality, estimateCardinality(subPredicate, converter));
+            }
+            return cardinality;
+        }
+
+        return Long.MAX_VALUE;
+    }
+
     private AscendingLongIterator predicateIterator(Predicate predicate, TypeConverter converter) {
+        AscendingBlockIterator blocks = predicateBlocks(predicate, converter);
+        return blocks != null ? BitmapAlgorithms.members(blocks) : memberPredicateIterator(predicate, converter);
+    }
+
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    private AscendingLongIterator memberPredicateIterator(Predicate predicate, TypeConverter converter) {
         if (predicate instanceof AndPredicate andPredicate) {
             Predicate[] predicates = andPredicate.getPredicates();
             assert predicates.length > 0;
@@ -214,6 +274,97 @@ public final class Bitmap<E> {
         return bitSet == null ? AscendingLongIterator.EMPTY : bitSet.iterator();
     }
 
+    /**
+     * @return a block iterator for the given conjunction, disjunction or
+     * {@code IN} list or {@code null} if the predicate can't be evaluated on
+     * blocks.
+     */
+    private AscendingBlockIterator predicateBlocks(Predicate predicate, TypeConverter converter) {
+        if (predicate instanceof AndPredicate andPredicate) {
+            return andBlocks(andPredicate.getPredicates(), converter);
+        }
+
+        if (predicate instanceof OrPredicate orPredicate) {
+            Predicate[] predicates = orPredicate.getPredicates();
+            AscendingBlockIterator[] iterators = new AscendingBlockIterator[predicates.length];
+            for (int i = 0; i < predicates.length; ++i) {
+                iterators[i] = operandBlocks(predicates[i], converter);
+                if (iterators[i] == null) {
+                    return null;
+                }
+            }
+            return BitmapAlgorithms.or(iterators);
+        }
+
+        if (predicate instanceof InPredicate inPredicate) {
+            Comparable[] values = inPredicate.getValues();
+            AscendingBlockIterator[] iterators = new AscendingBlockIterator[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                iterators[i] = valueBlocks(values[i], converter);
+            }
+            return BitmapAlgorithms.or(iterators);
+        }
+
+        return null;
+    }
+
+    private AscendingBlockIterator andBlocks(Predicate[] predicates, TypeConverter converter) {
+        // negated operands are subtracted from the intersection of the others,
+        // so at least one operand has to be positive
+        Predicate[] included = Arrays.stream(predicates)
+                .filter(p -> !(p instanceof NotPredicate || p instanceof NotEqualPredicate))
+                .sorted(Comparator.comparingLong(p -> estimateCardinality(p, converter)))
+                .toArray(Predicate[]::new);
+        if (included.length == 0) {
+            return null;
+        }
+
+        AscendingBlockIterator[] includedIterators = new AscendingBlockIterator[included.length];
+        for (int i = 0; i < included.length; ++i) {
+            includedIterators[i] = operandBlocks(included[i], converter);
+            if (includedIterators[i] == null) {
+                return null;
+            }
+        }
+
+        AscendingBlockIterator[] excludedIterators = new AscendingBlockIterator[predicates.length - included.length];
+        int excluded = 0;
+        for (Predicate predicate : predicates) {
+            if (predicate instanceof NotPredicate notPredicate) {
+                AscendingBlockIterator iterator = operandBlocks(notPredicate.getPredicate(), converter);
+                if (iterator == null) {
+                    return null;
+                }
+                excludedIterators[excluded++] = iterator;
+            } else if (predicate instanceof NotEqualPredicate notEqualPredicate) {
+                excludedIterators[excluded++] = valueBlocks(notEqualPredicate.getValue(), converter);
+            }
+        }
+        return BitmapAlgorithms.and(includedIterators, excludedIterators);
+    }
+
+    private AscendingBlockIterator operandBlocks(Predicate predicate, TypeConverter converter) {
+        if (predicate instanceof EqualPredicate equalPredicate) {
+            return valueBlocks(equalPredicate.getFrom(), converter);
+        }
+        return predicateBlocks(predicate, converter);
+    }
+
+    private AscendingBlockIterator valueBlocks(Comparable value, TypeConverter converter) {
+        SparseBitSet bitSet = bitSets.get(converter.convert(value));
+        return bitSet == null ? AscendingBlockIterator.EMPTY : bitSet.blockIterator();
+    }
+
+    private long valueCardinality(Comparable value, TypeConverter converter) {
+        SparseBitSet bitSet = bitSets.get(converter.convert(value));
+        return bitSet == null ? 0 : bitSet.cardinality();
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
     private AscendingLongIterator[] valueIterators(Comparable[] values, TypeConverter converter) {
         AscendingLongIterator[] iterators = new AscendingLongIterator[values.length];
         for (int i = 0; i < values.length; ++i) {
@@ -20,12 +20,19 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.Arrays;
 
+import static com.hazelcast.query.impl.bitmap.AscendingBlockIterator.BLOCK_LONGS;
+import static com.hazelcast.query.impl.bitmap.AscendingBlockIterator.BLOCK_SHIFT;
+import static java.lang.Long.numberOfTrailingZeros;
+
 /**
  * Provides algorithms crucial for set operations on ordered iterators provided
  * by sparse bit sets.
  */
 final class BitmapAlgorithms {
 
+    // 2^6 = 64 = number of bits a long can store
+    private static final int LONG_SHIFT = 6;
+
     private BitmapAlgorithms() {
     }
 
@@ -53,6 +60,31 @@ final class BitmapAlgorithms {
         return new NotIterator(iterator, universe);
     }
 
+    /**
+     * @return a block iterator that represents a result of intersection of the
+     * given included iterators with the given excluded iterators subtracted
+     * from it.
+     */
+    public static AscendingBlockIterator and(AscendingBlockIterator[] included, AscendingBlockIterator[] excluded) {
+        return new AndBlockIterator(included, excluded);
+    }
+
+    /**
+     * @return a block iterator that represents a result of union over the
+     * given block iterators.
+     */
+    public static AscendingBlockIterator or(AscendingBlockIterator[] iterators) {
+        return new OrBlockIterator(iterators);
+    }
+
+    /**
+     * @return an iterator that iterates over the members of the blocks of the
+     * given block iterator.
+     */
+    public static AscendingLongIterator members(AscendingBlockIterator iterator) {
+        return new BlockMembersIterator(iterator);
+    }
+
     private static final class AndIterator implements AscendingLongIterator {
 
         // The idea: order iterators by their current index; if the index of the
@@ -378,4 +410,229 @@ final class BitmapAlgorithms {
 
     }
 
+    private static final class AndBlockIterator implements AscendingBlockIterator {
+
+        // The idea: leapfrog over the blocks of the included iterators until
+        // all of them agree on a block, then intersect the words of the block
+        // and clear the words of the excluded iterators positioned at it.
+        // Included iterators are expected to be ordered by their cardinality,
+        // so the smallest one drives the search.
+
+        private final AscendingBlockIterator[] included;
+        private final AscendingBlockIterator[] excluded;
+        private final long[] scratch = new long[BLOCK_LONGS];
+
+        private long block;
+
+        AndBlockIterator(AscendingBlockIterator[] included, AscendingBlockIterator[] excluded) {
+            assert included.length > 0;
+            this.included = included;
+            this.excluded = excluded;
+            this.block = align(included[0].getBlock());
+        }
+
+        @Override
+        public long getBlock() {
+            return block;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long block) {
+            if (this.block == END || this.block >= block) {
+                return this.block;
+            }
+            this.block = align(block);
+            return this.block;
+        }
+
+        @Override
+        public void fill(long[] words) {
+            included[0].fill(words);
+            for (int i = 1; i < included.length; ++i) {
+                included[i].fill(scratch);
+                for (int j = 0; j < BLOCK_LONGS; ++j) {
+                    words[j] &= scratch[j];
+                }
+            }
+            for (AscendingBlockIterator iterator : excluded) {
+                if (iterator.advanceAtLeastTo(block) == block) {
+                    iterator.fill(scratch);
+                    for (int j = 0; j < BLOCK_LONGS; ++j) {
+                        words[j] &= ~scratch[j];
+                    }
+                }
+            }
+        }
+
+        private long align(long block) {
+            long candidate = block;
+            int agreed = 0;
+            int i = 0;
+            while (candidate != END && agreed < included.length) {
+                long found = included[i].advanceAtLeastTo(candidate);
+                if (found == candidate) {
+                    ++agreed;
+                } else {
+                    candidate = found;
+                    agreed = 1;
+                }
+                i = i + 1 == included.length ? 0 : i + 1;
+            }
+            return candidate;
+        }
+
+    }
+
+    private static final class OrBlockIterator implements AscendingBlockIterator {
+
+        private final AscendingBlockIterator[] iterators;
+        private final long[] scratch = new long[BLOCK_LONGS];
+
+        private long block;
+
+        OrBlockIterator(AscendingBlockIterator[] iterators) {
+            this.iterators = iterators;
+            this.block = minBlock();
+        }
+
+        @Override
+        public long getBlock() {
+            return block;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long block) {
+            if (this.block == END || this.block >= block) {
+                return this.block;
+            }
+            for (AscendingBlockIterator iterator : iterators) {
+                iterator.advanceAtLeastTo(block);
+            }
+            this.block = minBlock();
+            return this.block;
+        }
+
+        @Override
+        public void fill(long[] words) {
+            Arrays.fill(words, 0L);
+            for (AscendingBlockIterator iterator : iterators) {
+                if (iterator.getBlock() == block) {
+                    iterator.fill(scratch);
+                    for (int j = 0; j < BLOCK_LONGS; ++j) {
+                        words[j] |= scratch[j];
+                    }
+                }
+            }
+        }
+
+        private long minBlock() {
+            long min = END;
+            for (AscendingBlockIterator iterator : iterators) {
+                long block = iterator.getBlock();
+                if (block != END && (min == END || block < min)) {
+                    min = block;
+                }
+            }
+            return min;
+        }
+
+    }
+
+    private static final class BlockMembersIterator implements AscendingLongIterator {
+
+        // The idea: fill the words of the current block and consume their bits
+        // the same way BitSetStorage16 iteration does, skipping empty blocks.
+
+        private final AscendingBlockIterator blocks;
+        private final long[] words = new long[BLOCK_LONGS];
+
+        private long block;
+        private int word;
+        // the not yet consumed bits of the current word, including the current member
+        private long bits;
+
+        private long index;
+
+        BlockMembersIterator(AscendingBlockIterator blocks) {
+            this.blocks = blocks;
+            load(blocks.getBlock());
+        }
+
+        @Override
+        public long getIndex() {
+            return index;
+        }
+
+        @Override
+        public long advance() {
+            long current = index;
+            if (current == AscendingLongIterator.END) {
+                return AscendingLongIterator.END;
+            }
+            // zero out the consumed bit
+            bits &= bits - 1;
+            seek();
+            return current;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long member) {
+            if (index == AscendingLongIterator.END || index >= member) {
+                return index;
+            }
+
+            long memberBlock = member >>> BLOCK_SHIFT;
+            if (memberBlock != block) {
+                load(blocks.advanceAtLeastTo(memberBlock));
+                if (index == AscendingLongIterator.END || index >= member) {
+                    return index;
+                }
+            }
+
+            // the member is inside the current block and beyond the current index
+            int memberWord = (int) (member & (AscendingBlockIterator.BLOCK_SIZE - 1)) >>> LONG_SHIFT;
+            if (memberWord > word) {
+                word = memberWord;
+                bits = words[word];
+            }
+            // consume all preceding bits by zeroing them out
+            bits &= -1L << member;
+            seek();
+            return index;
+        }
+
+        private void load(long block) {
+            this.block = block;
+            if (block == AscendingBlockIterator.END) {
+                index = AscendingLongIterator.END;
+                return;
+            }
+            blocks.fill(words);
+            word = 0;
+            bits = words[0];
+            seek();
+        }
+
+        private void seek() {
+            while (true) {
+                while (bits == 0 && ++word < BLOCK_LONGS) {
+                    bits = words[word];
+                }
+                if (bits != 0) {
+                    index = block << BLOCK_SHIFT | (long) word << LONG_SHIFT | numberOfTrailingZeros(bits);
+                    return;
+                }
+                block = blocks.advanceAtLeastTo(block + 1);
+                if (block == AscendingBlockIterator.END) {
+                    index = AscendingLongIterator.END;
+                    return;
+                }
+                blocks.fill(words);
+                word = 0;
+                bits = words[0];
+            }
+        }
+
+    }
+
 }
@@ -16,6 +16,10 @@
 
 package com.hazelcast.query.impl.bitmap;
 
+import java.util.Arrays;
+
+import static com.hazelcast.query.impl.bitmap.AscendingBlockIterator.BLOCK_LONGS;
+import static com.hazelcast.query.impl.bitmap.AscendingBlockIterator.BLOCK_SHIFT;
 import static com.hazelcast.query.impl.bitmap.BitmapUtils.capacityDeltaInt;
 import static com.hazelcast.query.impl.bitmap.BitmapUtils.capacityDeltaShort;
 import static com.hazelcast.query.impl.bitmap.BitmapUtils.toUnsignedInt;
@@ -54,6 +58,11 @@ import static java.util.Arrays.copyOf;
  * various storage flavors once certain thresholds on storage size are reached.
  * <p>
  * Empty storages are never stored by the implementation.
+ * <p>
+ * For word-parallel set operations the bit set is also accessible in {@link
+ * AscendingBlockIterator blocks}: every storage can locate its next non-empty
+ * block and copy the bits of a block into a long array, {@link
+ * BitSetStorage16 BitSetStorage16} does the latter word by word.
  */
 final class SparseBitSet {
 
@@ -78,6 +87,13 @@ final class SparseBitSet {
     private static final long INT_PREFIX_SHORT_PREFIX_MASK = 0xFFFFFFFFFFFF0000L;
     private static final long SHORT_POSTFIX_MASK = 0x000000000000FFFFL;
 
+    // the number of bits of a block index which address blocks inside a Storage32 and a Storage16
+    private static final int STORAGE_32_BLOCK_BITS = Integer.SIZE - BLOCK_SHIFT;
+    private static final int STORAGE_16_BLOCK_BITS = Short.SIZE - BLOCK_SHIFT;
+    private static final long STORAGE_32_BLOCK_MASK = (1L << STORAGE_32_BLOCK_BITS) - 1;
+    private static final int STORAGE_16_BLOCK_MASK = (1 << STORAGE_16_BLOCK_BITS) - 1;
+    private static final int BLOCK_MEMBER_MASK = (1 << BLOCK_SHIFT) - 1;
+
     private final SparseIntArray<Storage32> storages = new SparseIntArray<>();
 
     // used for caching of the last resolved 32-bit storage
@@ -164,6 +180,36 @@ final class SparseBitSet {
         return new IteratorImpl(storages);
     }
 
+    /**
+     * @return an iterator that iterates over the non-empty blocks of this
+     * sparse bit set.
+     */
+    public AscendingBlockIterator blockIterator() {
+        return new BlockIteratorImpl();
+    }
+
+    /**
+     * @return the number of bits set in this sparse bit set.
+     */
+    public long cardinality() {
+        SparseIntArray.Iterator<Storage32> iterator = new SparseIntArray.Iterator<>();
+        long cardinality = 0;
+        long prefix = storages.iterate(iterator);
+        while (prefix != SparseIntArray.Iterator.END) {
+            cardinality += iterator.getValue().size();
+            prefix = storages.advance((int) prefix, iterator);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Sets the bit of the given member in the given block words.
+     */
+    private static void setBlockBit(long[] words, int member) {
+        int bit = member & BLOCK_MEMBER_MASK;
+        words[bit >>> BitSetStorage16.BIT_SET_LONG_SHIFT] |= 1L << bit;
+    }
+
     /**
      * Defines internal contract of storages responsible for storing of 32-bit
      * postfixes.
@@ -234,6 +280,24 @@ final class SparseBitSet {
          */
         boolean advanceAtLeastTo(int member, IteratorImpl iterator);
 
+        /**
+         * @return the number of members in this storage.
+         */
+        int size();
+
+        /**
+         * @param block the block of 32-bit postfixes to start the search from.
+         * @return the given block if it has members in this storage; or the
+         * first block following it having members or {@code -1} if no such
+         * block exists in this storage.
+         */
+        int nextBlock(int block);
+
+        /**
+         * Sets the bits of the members of the given block in the given words.
+         */
+        void fillBlock(int block, long[] words);
+
     }
 
     /**
@@ -376,6 +440,29 @@ final class SparseBitSet {
             return true;
         }
 
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int nextBlock(int block) {
+            int position = blockStart(block);
+            return position == size ? -1 : members[position] >>> BLOCK_SHIFT;
+        }
+
+        @Override
+        public void fillBlock(int block, long[] words) {
+            for (int position = blockStart(block); position < size && members[position] >>> BLOCK_SHIFT == block; ++position) {
+                setBlockBit(words, members[position]);
+            }
+        }
+
+        private int blockStart(int block) {
+            int position = unsignedBinarySearch(members, size, toUnsignedLong(block << BLOCK_SHIFT));
+            return position < 0 ? -(position + 1) : position;
+        }
+
     }
 
     /**
@@ -707,6 +794,40 @@ final class SparseBitSet {
             return true;
         }
 
+        @Override
+        public int size() {
+            int total = 0;
+            for (int i = 0; i < size; ++i) {
+                total += storages[i].size();
+            }
+            return total;
+        }
+
+        @Override
+        public int nextBlock(int block) {
+            int prefix = block >>> STORAGE_16_BLOCK_BITS;
+            int index = unsignedBinarySearch(prefixes, size, prefix);
+            if (index >= 0) {
+                int found = storages[index].nextBlock(block & STORAGE_16_BLOCK_MASK);
+                if (found != -1) {
+                    return prefix << STORAGE_16_BLOCK_BITS | found;
+                }
+                ++index;
+            } else {
+                index = -(index + 1);
+            }
+            // storages are never empty, so the next one has a block
+            return index == size ? -1 : toUnsignedInt(prefixes[index]) << STORAGE_16_BLOCK_BITS | storages[index].nextBlock(0);
+        }
+
+        @Override
+        public void fillBlock(int block, long[] words) {
+            int index = unsignedBinarySearch(prefixes, size, block >>> STORAGE_16_BLOCK_BITS);
+            if (index >= 0) {
+                storages[index].fillBlock(block & STORAGE_16_BLOCK_MASK, words);
+            }
+        }
+
     }
 
     /**
@@ -780,6 +901,24 @@ final class SparseBitSet {
          */
         boolean advanceAtLeastTo(short member, IteratorImpl iterator);
 
+        /**
+         * @return the number of members in this storage.
+         */
+        int size();
+
+        /**
+         * @param block the block of 16-bit postfixes to start the search from.
+         * @return the given block if it has members in this storage; or the
+         * first block following it having members or {@code -1} if no such
+         * block exists in this storage.
+         */
+        int nextBlock(int block);
+
+        /**
+         * Sets the bits of the members of the given block in the given words.
+         */
+        void fillBlock(int block, long[] words);
+
     }
 
     /**
@@ -960,6 +1099,30 @@ final class SparseBitSet {
             ++size;
         }
 
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int nextBlock(int block) {
+            int position = blockStart(block);
+            return position == size ? -1 : toUnsignedInt(members[position]) >>> BLOCK_SHIFT;
+        }
+
+        @Override
+        public void fillBlock(int block, long[] words) {
+            for (int position = blockStart(block);
+                 position < size && toUnsignedInt(members[position]) >>> BLOCK_SHIFT == block; ++position) {
+                setBlockBit(words, members[position]);
+            }
+        }
+
+        private int blockStart(int block) {
+            int position = unsignedBinarySearch(members, size, block << BLOCK_SHIFT);
+            return position < 0 ? -(position + 1) : position;
+        }
+
     }
 
     /**
@@ -1100,6 +1263,29 @@ final class SparseBitSet {
             members[bitIndex >>> BIT_SET_LONG_SHIFT] |= 1L << bitIndex;
         }
 
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int nextBlock(int block) {
+            for (int i = block * BLOCK_LONGS; i < members.length; ++i) {
+                if (members[i] != 0) {
+                    return i / BLOCK_LONGS;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public void fillBlock(int block, long[] words) {
+            int offset = block * BLOCK_LONGS;
+            for (int i = 0; i < BLOCK_LONGS; ++i) {
+                words[i] |= members[offset + i];
+            }
+        }
+
     }
 
     /**
@@ -1248,4 +1434,60 @@ final class SparseBitSet {
 
     }
 
+    /**
+     * Iterates over the non-empty blocks of sparse bit sets. Unlike {@link
+     * IteratorImpl}, looks the blocks up from the top on every advancement,
+     * which costs a few binary searches per block.
+     */
+    private final class BlockIteratorImpl implements AscendingBlockIterator {
+
+        private final SparseIntArray.Iterator<Storage32> iterator = new SparseIntArray.Iterator<>();
+
+        private long block;
+
+        BlockIteratorImpl() {
+            this.block = nextBlock(0);
+        }
+
+        @Override
+        public long getBlock() {
+            return block;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long block) {
+            if (this.block == END || this.block >= block) {
+                return this.block;
+            }
+            this.block = nextBlock(block);
+            return this.block;
+        }
+
+        @Override
+        public void fill(long[] words) {
+            assert block != END;
+            Arrays.fill(words, 0L);
+            iterator.getValue().fillBlock((int) (block & STORAGE_32_BLOCK_MASK), words);
+        }
+
+        private long nextBlock(long block) {
+            int prefix = (int) (block >>> STORAGE_32_BLOCK_BITS);
+            long found = storages.iterateAtLeastFrom(prefix, iterator);
+            if (found == SparseIntArray.Iterator.END) {
+                return END;
+            }
+            int next = iterator.getValue().nextBlock(found == prefix ? (int) (block & STORAGE_32_BLOCK_MASK) : 0);
+            if (next == -1) {
+                // storages are never empty, so the next one has a block
+                found = storages.advance((int) found, iterator);
+                if (found == SparseIntArray.Iterator.END) {
+                    return END;
+                }
+                next = iterator.getValue().nextBlock(0);
+            }
+            return found << STORAGE_32_BLOCK_BITS | next;
+        }
+
+    }
+
 }
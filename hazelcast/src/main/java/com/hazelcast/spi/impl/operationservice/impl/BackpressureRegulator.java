@@ -16,10 +16,18 @@
 
 package com.hazelcast.spi.impl.operationservice.impl;
 
+import com.hazelcast.internal.server.ConnectionCredits;
+import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.util.ConcurrencyDetection;
 import com.hazelcast.internal.util.ThreadLocalRandomProvider;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
+import com.hazelcast.internal.util.concurrent.IdleStrategy;
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.operationexecutor.OperationHostileThread;
+import com.hazelcast.spi.impl.operationexecutor.impl.OperationThread;
 import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
+import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.UrgentSystemOperation;
 import com.hazelcast.spi.impl.sequence.CallIdFactory;
 import com.hazelcast.spi.impl.sequence.CallIdSequence;
@@ -32,11 +40,14 @@ import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_BACKOFF_
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_SYNCWINDOW;
+import static com.hazelcast.spi.properties.ClusterProperty.FLOW_CONTROL_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BACKUP_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_COUNT;
 import static java.lang.Math.max;
 import static java.lang.Math.round;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 
 /**
@@ -63,6 +74,8 @@ import static java.util.concurrent.TimeUnit.MINUTES;
  * overloaded.
  * </li>
  * </ol>
+ * When flow control is enabled, it is also hooked into sending remote invocations: an invocation needs a
+ * {@link ConnectionCredits credit} granted by the target member before it is written to the connection.
  */
 class BackpressureRegulator {
 
@@ -71,6 +84,9 @@ class BackpressureRegulator {
      */
     static final float RANGE = 0.25f;
 
+    private static final IdleStrategy CREDIT_IDLER = new BackoffIdleStrategy(
+            0, 0, MICROSECONDS.toNanos(10), MILLISECONDS.toNanos(10));
+
     private final AtomicInteger syncCountdown = new AtomicInteger();
     private final boolean enabled;
     private final boolean disabled;
@@ -78,6 +94,7 @@ class BackpressureRegulator {
     private final int partitionCount;
     private final int maxConcurrentInvocations;
     private final int backoffTimeoutMs;
+    private final boolean flowControlEnabled;
 
     BackpressureRegulator(HazelcastProperties properties, ILogger logger) {
         this.enabled = properties.getBoolean(BACKPRESSURE_ENABLED);
@@ -87,6 +104,7 @@ class BackpressureRegulator {
         this.syncCountdown.set(syncWindow);
         this.maxConcurrentInvocations = getMaxConcurrentInvocations(properties);
         this.backoffTimeoutMs = getBackoffTimeoutMs(properties);
+        this.flowControlEnabled = properties.getBoolean(FLOW_CONTROL_ENABLED);
 
         if (enabled) {
             logger.info("Backpressure is enabled"
@@ -197,6 +215,50 @@ class BackpressureRegulator {
         }
     }
 
+    /**
+     * Waits until the given operation can be sent over the given connection without exceeding its flow
+     * control credits. The credit itself is consumed when the operation is written.
+     * <p>
+     * If the connection has no credits left, an asynchronous invocation fails right away, so the caller
+     * isn't blocked, while a synchronous one backs off until the target member grants new credits.
+     * Urgent operations, retries and operations sent by operation or IO threads never wait; they are sent
+     * even if this exceeds the granted credits.
+     *
+     * @param op         the operation to send
+     * @param retry      {@code true} if the operation is sent again by a retried invocation
+     * @param async      {@code true} if the operation is sent by an asynchronous invocation
+     * @param connection the connection to send the operation over
+     * @return {@code true} if the operation can be sent, {@code false} if the connection has no credits
+     * left and the invocation is asynchronous or no credits were granted within the backoff timeout
+     */
+    boolean waitForCredit(Operation op, boolean retry, boolean async, ServerConnection connection) {
+        if (!flowControlEnabled || op.isUrgent() || retry) {
+            return true;
+        }
+
+        ConnectionCredits credits = connection.getCredits();
+        if (credits == null || credits.hasCredits() || isOperationOrIoThread()) {
+            return true;
+        } else if (async) {
+            return false;
+        }
+
+        long backoffTimeoutNanos = MILLISECONDS.toNanos(backoffTimeoutMs);
+        long startNanos = Timer.nanos();
+        for (long idleCount = 0; Timer.nanosElapsed(startNanos) <= backoffTimeoutNanos; idleCount++) {
+            CREDIT_IDLER.idle(idleCount);
+            if (credits.hasCredits() || !connection.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOperationOrIoThread() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof OperationThread || thread instanceof OperationHostileThread;
+    }
+
     private int randomSyncDelay() {
         if (syncWindow == 1) {
             return 1;
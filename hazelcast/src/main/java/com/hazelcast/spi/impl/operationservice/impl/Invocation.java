@@ -21,6 +21,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.cluster.ClusterState;
 import com.hazelcast.cluster.Member;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
+import com.hazelcast.core.HazelcastOverloadException;
 import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.instance.impl.NodeState;
@@ -597,7 +598,7 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
         if (isLocal()) {
             doInvokeLocal(isAsync);
         } else {
-            doInvokeRemote();
+            doInvokeRemote(isAsync);
         }
     }
 
@@ -620,11 +621,19 @@ public abstract class Invocation<T> extends BaseInvocation implements OperationR
         }
     }
 
-    private void doInvokeRemote() {
+    private void doInvokeRemote(boolean isAsync) {
         assert connectionManager != null : "Endpoint manager was null";
 
         ServerConnection connection = connectionManager.getOrConnect(targetAddress, op.getPartitionId());
         this.connection = connection;
+        if (connection != null
+                && !context.operationService.backpressureRegulator.waitForCredit(op, invokeCount > 1, isAsync, connection)) {
+            notifyError(new HazelcastOverloadException(isAsync
+                    ? "No flow control credits left for " + connection
+                    : "Timed out waiting for flow control credits of " + connection));
+            return;
+        }
+
         boolean write;
         if (connection != null) {
             write = context.outboundOperationHandler.send(op, connection);
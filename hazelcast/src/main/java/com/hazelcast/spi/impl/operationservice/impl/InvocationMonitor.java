@@ -26,6 +26,8 @@ import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.StaticMetricsProvider;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.server.ConnectionCredits;
+import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.services.CanCancelOperations;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.counters.SwCounter;
@@ -62,9 +64,14 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
 import static com.hazelcast.internal.nio.Packet.FLAG_OP_CONTROL;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_CREDITS;
 import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
 import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+import static com.hazelcast.spi.properties.ClusterProperty.FLOW_CONTROL_CREDIT_PERIOD_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.FLOW_CONTROL_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.FLOW_CONTROL_QUEUE_CAPACITY;
+import static com.hazelcast.spi.properties.ClusterProperty.FLOW_CONTROL_WINDOW;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_BACKUP_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -84,6 +91,8 @@ public class InvocationMonitor implements Consumer<Packet>, StaticMetricsProvide
 
     private static final int HEARTBEAT_CALL_TIMEOUT_RATIO = 4;
     private static final long MAX_DELAY_MILLIS = SECONDS.toMillis(10);
+    // processed operations are granted back in batches of a quarter of the window
+    private static final int CREDIT_RETURN_BATCH_DIVISOR = 4;
 
     private final NodeEngineImpl nodeEngine;
     private final InternalSerializationService serializationService;
@@ -93,6 +102,11 @@ public class InvocationMonitor implements Consumer<Packet>, StaticMetricsProvide
     private final ScheduledExecutorService scheduler;
     private final Address thisAddress;
     private final ConcurrentMap<Address, AtomicLong> heartbeatPerMember = new ConcurrentHashMap<>();
+    private final boolean flowControlEnabled;
+    private final int flowControlQueueCapacity;
+    private final int flowControlWindow;
+    private final int creditReturnBatch;
+    private final long creditPeriodMillis;
 
     @Probe(name = OPERATION_METRIC_INVOCATION_MONITOR_BACKUP_TIMEOUTS, level = MANDATORY)
     private final SwCounter backupTimeoutsCount = newSwCounter();
@@ -129,6 +143,11 @@ public class InvocationMonitor implements Consumer<Packet>, StaticMetricsProvide
         this.backupTimeoutMillis = backupTimeoutMillis(properties);
         this.invocationTimeoutMillis = invocationTimeoutMillis(properties);
         this.heartbeatBroadcastPeriodMillis = heartbeatBroadcastPeriodMillis(properties);
+        this.flowControlEnabled = properties.getBoolean(FLOW_CONTROL_ENABLED);
+        this.flowControlQueueCapacity = properties.getInteger(FLOW_CONTROL_QUEUE_CAPACITY);
+        this.flowControlWindow = Math.max(1, properties.getInteger(FLOW_CONTROL_WINDOW));
+        this.creditReturnBatch = Math.max(1, flowControlWindow / CREDIT_RETURN_BATCH_DIVISOR);
+        this.creditPeriodMillis = Math.max(1, properties.getMillis(FLOW_CONTROL_CREDIT_PERIOD_MILLIS));
         this.scheduler = newScheduler(nodeEngine.getHazelcastInstance().getName());
     }
 
@@ -215,9 +234,46 @@ public class InvocationMonitor implements Consumer<Packet>, StaticMetricsProvide
 
     @Override
     public void accept(Packet packet) {
+        if (packet.isFlagRaised(FLAG_OP_CREDITS)) {
+            // applying a grant is cheap and a throttled sender waits for it, so it is not offloaded
+            ConnectionCredits credits = packet.getConn().getCredits();
+            if (credits != null) {
+                credits.grant(serializationService.<Integer>toObject(packet));
+            }
+            return;
+        }
         scheduler.execute(new ProcessOperationControlTask(packet));
     }
 
+    /**
+     * Counts an operation received over the given connection which has been processed, and grants a batch
+     * of processed operations back to the sender as credits unless the operation queues are full.
+     *
+     * @param connection the connection the operation was received over
+     */
+    void onOperationProcessed(ServerConnection connection) {
+        if (!flowControlEnabled) {
+            return;
+        }
+        ConnectionCredits credits = connection.getCredits();
+        if (credits != null && (credits.processed() >= creditReturnBatch || !credits.isWindowGranted())) {
+            grantCredits(connection, credits);
+        }
+    }
+
+    private void grantCredits(ServerConnection connection, ConnectionCredits credits) {
+        int grant = credits.tryGrantWindow() ? flowControlWindow : 0;
+        if (nodeEngine.getOperationService().getOperationExecutorQueueSize() < flowControlQueueCapacity) {
+            grant += credits.takeProcessed();
+        }
+        if (grant > 0) {
+            Packet packet = new Packet(serializationService.toBytes(grant))
+                    .setPacketType(Packet.Type.OPERATION)
+                    .raiseFlags(FLAG_OP_CONTROL | FLAG_OP_CREDITS | FLAG_URGENT);
+            connection.write(packet);
+        }
+    }
+
     public void start() {
         MonitorInvocationsTask monitorInvocationsTask = new MonitorInvocationsTask(invocationScanPeriodMillis);
         scheduler.scheduleAtFixedRate(
@@ -227,6 +283,12 @@ public class InvocationMonitor implements Consumer<Packet>, StaticMetricsProvide
                 = new BroadcastOperationControlTask(heartbeatBroadcastPeriodMillis);
         scheduler.scheduleAtFixedRate(
                 broadcastOperationControlTask, 0, broadcastOperationControlTask.periodMillis, MILLISECONDS);
+
+        if (flowControlEnabled) {
+            BroadcastCreditsTask broadcastCreditsTask = new BroadcastCreditsTask(creditPeriodMillis);
+            scheduler.scheduleAtFixedRate(
+                    broadcastCreditsTask, 0, broadcastCreditsTask.periodMillis, MILLISECONDS);
+        }
     }
 
     public void shutdown() {
@@ -546,6 +608,28 @@ public class InvocationMonitor implements Consumer<Packet>, StaticMetricsProvide
         }
     }
 
+    /**
+     * Grants the initial window to member connections which haven't been granted it yet, and grants back
+     * the operations processed since the last grant which haven't been granted back inline, either since
+     * they didn't fill a batch or since the operation queues were full. See {@link ConnectionCredits}.
+     */
+    private final class BroadcastCreditsTask extends FixedRateMonitorTask {
+
+        private BroadcastCreditsTask(long periodMillis) {
+            super(periodMillis);
+        }
+
+        @Override
+        public void run0() {
+            for (ServerConnection connection : nodeEngine.getNode().getServer().getConnectionManager(MEMBER).getConnections()) {
+                ConnectionCredits credits = connection.getCredits();
+                if (credits != null && !connection.isClient()) {
+                    grantCredits(connection, credits);
+                }
+            }
+        }
+    }
+
     /**
      * This class needs to implement the {@link OperationHostileThread} interface to make sure that the OperationExecutor
      * is not going to schedule any operations on this thread due to retry.
@@ -37,6 +37,7 @@ import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.PartitionReplica;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.impl.SerializationServiceV1;
+import com.hazelcast.internal.server.ConnectionCredits;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.internal.util.LatencyDistribution;
@@ -513,6 +514,9 @@ public class OperationRunnerImpl extends OperationRunner implements StaticMetric
             if (publishCurrentTask) {
                 currentTask = null;
             }
+            if (ConnectionCredits.consumesCredit(packet)) {
+                operationService.getInvocationMonitor().onOperationProcessed(connection);
+            }
         }
     }
 
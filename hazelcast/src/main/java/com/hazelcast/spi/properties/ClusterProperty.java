@@ -363,6 +363,25 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.io.write.through", true);
 
+    /**
+     * Time an IO thread waits for more frames before writing a partially
+     * filled send buffer to the socket. While it waits, newly
+     * queued frames, e.g. responses and backups, are encoded into the same
+     * send buffer, so that many small packets go out in a single socket
+     * write. This reduces the number of write system calls at high
+     * operation rates at the cost of up to this much additional latency.
+     * The IO thread keeps serving its other connections while it waits.
+     * <p>
+     * Frames written through on the calling thread (see {@link
+     * #IO_WRITE_THROUGH_ENABLED}) are never delayed.
+     * <p>
+     * The default is 0, which disables write coalescing.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty IO_WRITE_COALESCING_LINGER_MICROS
+            = new HazelcastProperty("hazelcast.io.write.coalescing.linger.micros", 0, MICROSECONDS);
+
     /**
      * Property needed for concurrency detection so that write through can be
      * done correctly.
@@ -1318,6 +1337,28 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_WRITE_BEHIND_QUEUE_CAPACITY
             = new HazelcastProperty("hazelcast.map.write.behind.queue.capacity", 50000);
 
+    /**
+     * Enables adaptive sizing of write-behind batches and flush intervals.
+     * When enabled, {@link com.hazelcast.config.MapStoreConfig#getWriteBatchSize()}
+     * is only used as the initial batch size.
+     */
+    public static final HazelcastProperty MAP_WRITE_BEHIND_ADAPTIVE_ENABLED
+            = new HazelcastProperty("hazelcast.map.write.behind.adaptive.enabled", false);
+
+    /**
+     * Latency of a single write-behind batch which the adaptive mode
+     * aims for. Only the map store calls are measured, waits between
+     * retries of failed calls are not included.
+     */
+    public static final HazelcastProperty MAP_WRITE_BEHIND_ADAPTIVE_TARGET_LATENCY_MILLIS
+            = new HazelcastProperty("hazelcast.map.write.behind.adaptive.target.latency.millis", 100, MILLISECONDS);
+
+    /**
+     * Upper bound of the batch size chosen by the adaptive mode.
+     */
+    public static final HazelcastProperty MAP_WRITE_BEHIND_ADAPTIVE_MAX_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.map.write.behind.adaptive.max.batch.size", 1000);
+
     /*
      * INVOCATION / OPERATION SYSTEM PROPERTIES
      */
@@ -1417,6 +1458,69 @@ public final class ClusterProperty {
     public static final HazelcastProperty BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS
             = new HazelcastProperty("hazelcast.backpressure.backoff.timeout.millis", 60000, MILLISECONDS);
 
+    /**
+     * Enables credit-based flow control between members.
+     * <p>
+     * When enabled, a member grants every member connection an initial window
+     * of credits (see {@link #FLOW_CONTROL_WINDOW}). Every non-urgent
+     * operation a member sends over a connection consumes one of the credits
+     * granted by the receiving member, and the receiving member grants the
+     * credits back once it has processed the operations. When a connection
+     * runs out of credits, an asynchronous invocation fails right away with a
+     * {@link com.hazelcast.core.HazelcastOverloadException}, while a
+     * synchronous invocation waits with exponential backoff until new credits
+     * are granted or {@link #BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS} elapses, in
+     * which case it fails with the same exception.
+     * <p>
+     * Operation threads and IO threads never wait for credits. Members which
+     * don't enable flow control don't grant credits and are never throttled
+     * by their peers.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty FLOW_CONTROL_ENABLED
+            = new HazelcastProperty("hazelcast.flow.control.enabled", false);
+
+    /**
+     * The number of credits a member initially grants every member
+     * connection, i.e. the maximum number of operations a member can have in
+     * flight to another member before they are processed.
+     * <p>
+     * This property only has meaning when flow control is enabled.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty FLOW_CONTROL_WINDOW
+            = new HazelcastProperty("hazelcast.flow.control.window", 1000);
+
+    /**
+     * The number of pending operations in the operation queues of a member
+     * at or above which it withholds the credits for processed operations.
+     * They are granted once the queues have drained below this capacity.
+     * <p>
+     * This property only has meaning when flow control is enabled.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty FLOW_CONTROL_QUEUE_CAPACITY
+            = new HazelcastProperty("hazelcast.flow.control.queue.capacity", 10000);
+
+    /**
+     * The period in milliseconds at which a member grants the initial window
+     * to new member connections, and the credits for processed operations
+     * which were withheld or didn't fill a batch. Credits for processed
+     * operations are otherwise granted as soon as a quarter of the window has
+     * been processed.
+     * <p>
+     * This property only has meaning when flow control is enabled.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty FLOW_CONTROL_CREDIT_PERIOD_MILLIS
+            = new HazelcastProperty("hazelcast.flow.control.credit.period.millis", 100, MILLISECONDS);
+
     /**
      * The maximum number of concurrent invocations per partition.
      * <p>
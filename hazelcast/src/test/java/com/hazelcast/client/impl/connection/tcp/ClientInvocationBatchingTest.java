@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.connection.tcp;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hazelcast.client.properties.ClientProperty.INVOCATION_BATCH_WINDOW_MICROS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ClientInvocationBatchingTest extends ClientTestSupport {
+
+    private static final int REQUEST_COUNT = 2000;
+
+    private HazelcastInstance member;
+
+    @After
+    public void cleanup() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testConcurrentRequests_areSentInBatches() {
+        HazelcastInstance client = newClient(5000);
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        TcpClientConnection connection = connection(client);
+        long requestsBefore = connection.batchedRequests();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(map.putAsync(i, i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long batchedRequests = connection.batchedRequests() - requestsBefore;
+        assertTrue("batched requests: " + batchedRequests, batchedRequests >= REQUEST_COUNT / 2);
+        assertTrue("batches: " + connection.batchesWritten() + ", batched requests: " + batchedRequests,
+                connection.batchesWritten() * 10 < batchedRequests);
+        IMap<Integer, Integer> memberMap = member.getMap(map.getName());
+        assertEquals(REQUEST_COUNT, memberMap.size());
+        for (int i = 0; i < REQUEST_COUNT; i += 100) {
+            assertEquals(i, (int) memberMap.get(i));
+        }
+    }
+
+    @Test
+    public void testRequestsOfOneThread_keepTheirOrder() {
+        HazelcastInstance client = newClient(1000);
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+
+        CompletableFuture<Integer> last = null;
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            last = map.putAsync(i % 10, i).toCompletableFuture();
+            if (i % 100 == 0) {
+                // mixes requests written right away into the batches
+                map.get(0);
+            }
+        }
+        last.join();
+
+        assertTrue(connection(client).batchesWritten() > 0);
+        for (int key = 0; key < 10; key++) {
+            assertEquals(REQUEST_COUNT - 10 + key, (int) map.get(key));
+        }
+    }
+
+    @Test
+    public void testBatchingDisabled_sendsNoBatches() {
+        HazelcastInstance client = newClient(0);
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(map.putAsync(i, i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertEquals(0, connection(client).batchesWritten());
+        assertEquals(REQUEST_COUNT, map.size());
+    }
+
+    private HazelcastInstance newClient(int batchWindowMicros) {
+        Config config = smallInstanceConfig().setClusterName(randomName());
+        member = Hazelcast.newHazelcastInstance(config);
+        ClientConfig clientConfig = new ClientConfig()
+                .setClusterName(config.getClusterName())
+                .setProperty(INVOCATION_BATCH_WINDOW_MICROS.getName(), String.valueOf(batchWindowMicros));
+        return HazelcastClient.newHazelcastClient(clientConfig);
+    }
+
+    private static TcpClientConnection connection(HazelcastInstance client) {
+        return (TcpClientConnection) getHazelcastClientInstanceImpl(client).getConnectionManager()
+                .getActiveConnections().iterator().next();
+    }
+}
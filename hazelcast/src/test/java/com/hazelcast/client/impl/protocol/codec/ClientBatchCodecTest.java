@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.codec;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageReader;
+import com.hazelcast.client.impl.protocol.ClientMessageWriter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientBatchCodecTest {
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testBatch_roundTripsRequestsThroughTheWire() {
+        Data key = serializationService.toData("key");
+        Data value = serializationService.toData("value");
+        List<Map.Entry<Data, Data>> entries = List.of(new SimpleEntry<>(key, value), new SimpleEntry<>(value, key));
+        List<ClientMessage> requests = List.of(
+                MapPutCodec.encodeRequest("map", key, value, 1, -1).setCorrelationId(1).setPartitionId(7),
+                // entry lists are enclosed in begin and end frames themselves
+                MapPutAllCodec.encodeRequest("map", entries, true).setCorrelationId(2).setPartitionId(8),
+                ClientPingCodec.encodeRequest().setCorrelationId(3));
+
+        List<ClientMessage> decoded = ClientBatchCodec.decodeRequest(writeAndRead(ClientBatchCodec.encodeRequest(requests)));
+
+        assertEquals(requests.size(), decoded.size());
+        for (int i = 0; i < requests.size(); i++) {
+            assertSameFrames(requests.get(i), decoded.get(i));
+            assertEquals(requests.get(i).getCorrelationId(), decoded.get(i).getCorrelationId());
+            assertEquals(requests.get(i).getPartitionId(), decoded.get(i).getPartitionId());
+        }
+        MapPutAllCodec.RequestParameters putAll = MapPutAllCodec.decodeRequest(decoded.get(1));
+        assertEquals("map", putAll.name);
+        assertEquals(entries, putAll.entries);
+        assertTrue(putAll.triggerMapLoader);
+    }
+
+    @Test
+    public void testBatch_leavesFramesOfRequestsUntouched() {
+        ClientMessage request = MapPutCodec.encodeRequest("map", serializationService.toData("key"),
+                serializationService.toData("value"), 1, -1);
+        int frameCount = frameCount(request);
+
+        ClientBatchCodec.encodeRequest(List.of(request, ClientPingCodec.encodeRequest()));
+
+        // the request may still be retried on its own
+        assertEquals(frameCount, frameCount(request));
+    }
+
+    private static ClientMessage writeAndRead(ClientMessage message) {
+        ByteBuffer buffer = ByteBuffer.allocate(message.getBufferLength());
+        assertTrue(new ClientMessageWriter().writeTo(buffer, message));
+        buffer.flip();
+        ClientMessageReader reader = new ClientMessageReader(-1);
+        assertTrue(reader.readFrom(buffer, true));
+        return reader.getClientMessage();
+    }
+
+    private static void assertSameFrames(ClientMessage expected, ClientMessage actual) {
+        assertEquals(frameCount(expected), frameCount(actual));
+        ClientMessage.ForwardFrameIterator expectedFrames = expected.frameIterator();
+        ClientMessage.ForwardFrameIterator actualFrames = actual.frameIterator();
+        while (expectedFrames.hasNext()) {
+            ClientMessage.Frame expectedFrame = expectedFrames.next();
+            ClientMessage.Frame actualFrame = actualFrames.next();
+            assertEquals(expectedFrame.flags, actualFrame.flags);
+            assertArrayEquals(expectedFrame.content, actualFrame.content);
+        }
+    }
+
+    private static int frameCount(ClientMessage message) {
+        int count = 0;
+        for (ClientMessage.ForwardFrameIterator iterator = message.frameIterator(); iterator.hasNext(); iterator.next()) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -30,7 +30,9 @@ import java.nio.ByteBuffer;
 import static com.hazelcast.client.impl.protocol.ClientMessage.DEFAULT_FLAGS;
 import static com.hazelcast.client.impl.protocol.ClientMessage.SIZE_OF_FRAME_LENGTH_AND_FLAGS;
 import static com.hazelcast.client.impl.protocol.ClientMessage.createForDecode;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -57,4 +59,36 @@ public class ClientMessageWriterTest {
         assertFalse(clientMessageWriter.writeTo(buffer, message));
 
     }
+
+    @Test
+    public void testWriteTo_wholeMessageFits_producesSameBytesAsPartialWrites() {
+        ClientMessage message = newMessage();
+        ClientMessageWriter writer = new ClientMessageWriter();
+
+        ByteBuffer whole = ByteBuffer.allocate(message.getBufferLength());
+        assertTrue(writer.writeTo(whole, message));
+
+        ByteBuffer partial = ByteBuffer.allocate(message.getBufferLength());
+        ByteBuffer chunk = ByteBuffer.allocate(7);
+        boolean done;
+        do {
+            chunk.clear();
+            done = writer.writeTo(chunk, message);
+            chunk.flip();
+            partial.put(chunk);
+        } while (!done);
+
+        assertArrayEquals(whole.array(), partial.array());
+    }
+
+    private static ClientMessage newMessage() {
+        ClientMessage message = createForDecode(new ClientMessage.Frame(new byte[20], DEFAULT_FLAGS));
+        byte[] content = new byte[100];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        message.add(new ClientMessage.Frame(content, DEFAULT_FLAGS));
+        message.add(new ClientMessage.Frame(new byte[0], DEFAULT_FLAGS));
+        return message;
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapDeleteAllTest extends HazelcastTestSupport {
+
+    private static final int MAP_SIZE = 1000;
+    private static final int NODE_COUNT = 3;
+
+    private TestHazelcastFactory factory;
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        factory = new TestHazelcastFactory();
+        factory.newInstances(getConfig(), NODE_COUNT);
+
+        client = factory.newHazelcastClient();
+    }
+
+    @After
+    public void tearDown() {
+        factory.shutdownAll();
+    }
+
+    @Test
+    public void throws_exception_whenKeysNull() {
+        IMap<Integer, Integer> map = client.getMap("test");
+        assertThatThrownBy(() -> map.deleteAll(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void removes_given_keys_only() {
+        IMap<Integer, Integer> map = client.getMap("test");
+        for (int i = 0; i < MAP_SIZE; i++) {
+            map.put(i, i);
+        }
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < MAP_SIZE; i += 2) {
+            keys.add(i);
+        }
+
+        map.deleteAll(keys);
+
+        assertEquals(MAP_SIZE / 2, map.size());
+        for (int i = 0; i < MAP_SIZE; i++) {
+            assertEquals(i % 2 != 0, map.containsKey(i));
+        }
+    }
+
+    @Test
+    public void invalidates_nearCache() {
+        ClientConfig clientConfig = new ClientConfig().addNearCacheConfig(new NearCacheConfig("nearCached*"));
+        IMap<Integer, Integer> map = factory.newHazelcastClient(clientConfig).getMap("nearCached");
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < MAP_SIZE; i++) {
+            map.put(i, i);
+            assertEquals(i, (int) map.get(i));
+            if (i % 2 == 0) {
+                keys.add(i);
+            }
+        }
+
+        map.deleteAll(keys);
+
+        for (int i = 0; i < MAP_SIZE; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get(i));
+        }
+    }
+}
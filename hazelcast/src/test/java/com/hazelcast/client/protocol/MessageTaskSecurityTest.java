@@ -24,6 +24,7 @@ import com.hazelcast.client.impl.protocol.task.AddMigrationListenerMessageTask;
 import com.hazelcast.client.impl.protocol.task.AddPartitionLostListenerMessageTask;
 import com.hazelcast.client.impl.protocol.task.AuthenticationCustomCredentialsMessageTask;
 import com.hazelcast.client.impl.protocol.task.AuthenticationMessageTask;
+import com.hazelcast.client.impl.protocol.task.BatchMessageTask;
 import com.hazelcast.client.impl.protocol.task.ClientStatisticsMessageTask;
 import com.hazelcast.client.impl.protocol.task.CreateProxiesMessageTask;
 import com.hazelcast.client.impl.protocol.task.ClientTpcAuthenticationMessageTask;
@@ -86,6 +87,7 @@ public class MessageTaskSecurityTest {
         skip(AddDistributedObjectListenerMessageTask.class, "Adds distributed object listener by user's request");
         skip(AddMigrationListenerMessageTask.class, "Adds an internal listener");
         skip(AddPartitionLostListenerMessageTask.class, "Adds an internal listener");
+        skip(BatchMessageTask.class, "Permissions checked by the tasks of the batched requests");
         skip(CacheFetchNearCacheInvalidationMetadataTask.class, "Internal task used by RepairingTask");
         skip(ClientStatisticsMessageTask.class, "Client statistics collection task");
         skip(GetDistributedObjectsMessageTask.class, "Gets proxies");
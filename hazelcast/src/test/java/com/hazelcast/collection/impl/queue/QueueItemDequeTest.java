@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.collection.impl.queue.QueueItemDeque.MAX_CHUNK_LENGTH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class QueueItemDequeTest {
+
+    private final QueueItemDeque deque = new QueueItemDeque();
+
+    @Test
+    public void testEmpty() {
+        assertTrue(deque.isEmpty());
+        assertNull(deque.peek());
+        assertNull(deque.poll());
+        assertNull(deque.peekLast());
+        assertNull(deque.pollLast());
+        assertFalse(deque.iterator().hasNext());
+    }
+
+    @Test
+    public void testFifoOrder_acrossChunks() {
+        int count = 5 * MAX_CHUNK_LENGTH + 7;
+        offerRange(0, count);
+
+        assertEquals(count, deque.size());
+        assertEquals(0, deque.peek().getItemId());
+        assertEquals(count - 1, deque.peekLast().getItemId());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, deque.poll().getItemId());
+        }
+        assertTrue(deque.isEmpty());
+        assertNull(deque.poll());
+    }
+
+    @Test
+    public void testOfferFirst() {
+        offerRange(100, 110);
+        for (int i = 99; i >= 0; i--) {
+            deque.offerFirst(item(i));
+        }
+
+        assertEquals(110, deque.size());
+        for (int i = 0; i < 110; i++) {
+            assertEquals(i, deque.poll().getItemId());
+        }
+    }
+
+    @Test
+    public void testPollLast() {
+        offerRange(0, 40);
+
+        for (int i = 39; i >= 0; i--) {
+            assertEquals(i, deque.pollLast().getItemId());
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    public void testAddOrdered() {
+        for (int i = 0; i < 100; i += 2) {
+            deque.offer(item(i));
+        }
+        deque.addOrdered(item(51));
+        deque.addOrdered(item(1));
+        deque.addOrdered(item(101));
+
+        List<Long> ids = ids();
+        assertEquals(53, ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) < ids.get(i));
+        }
+    }
+
+    @Test
+    public void testIteratorRemove_skipsRemovedItems() {
+        offerRange(0, 3 * MAX_CHUNK_LENGTH);
+
+        Iterator<QueueItem> iterator = deque.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getItemId() % 3 != 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(MAX_CHUNK_LENGTH, deque.size());
+        long expected = 0;
+        for (long id : ids()) {
+            assertEquals(expected, id);
+            expected += 3;
+        }
+        assertEquals(0, deque.peek().getItemId());
+        assertEquals(3 * MAX_CHUNK_LENGTH - 3, deque.peekLast().getItemId());
+    }
+
+    @Test
+    public void testIteratorRemove_headAndTail() {
+        offerRange(0, 10);
+
+        Iterator<QueueItem> iterator = deque.iterator();
+        iterator.next();
+        iterator.remove();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        iterator.remove();
+
+        assertEquals(8, deque.size());
+        assertEquals(1, deque.peek().getItemId());
+        assertEquals(8, deque.peekLast().getItemId());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemove_withoutNext() {
+        offerRange(0, 1);
+        deque.iterator().remove();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorNext_whenExhausted() {
+        deque.iterator().next();
+    }
+
+    @Test
+    public void testClear() {
+        offerRange(0, 2 * MAX_CHUNK_LENGTH);
+        deque.clear();
+
+        assertTrue(deque.isEmpty());
+        assertNull(deque.peek());
+        offerRange(0, 3);
+        assertEquals(3, deque.size());
+    }
+
+    @Test
+    public void testMixedOperations_matchArrayDeque() {
+        Deque<QueueItem> expected = new ArrayDeque<>();
+        long nextId = 0;
+        for (int round = 0; round < 20_000; round++) {
+            switch (round % 7) {
+                case 0:
+                case 1:
+                case 2:
+                    QueueItem item = item(nextId++);
+                    deque.offer(item);
+                    expected.offer(item);
+                    break;
+                case 3:
+                    assertEquals(expected.poll(), deque.poll());
+                    break;
+                case 4:
+                    QueueItem polled = deque.poll();
+                    assertEquals(expected.poll(), polled);
+                    if (polled != null && round % 2 == 0) {
+                        deque.offerFirst(polled);
+                        expected.offerFirst(polled);
+                    }
+                    break;
+                case 5:
+                    removeEvery(deque.iterator(), 5);
+                    removeEvery(expected.iterator(), 5);
+                    break;
+                default:
+                    assertEquals(expected.peekLast(), deque.peekLast());
+                    break;
+            }
+            assertEquals(expected.size(), deque.size());
+            assertEquals(expected.peek(), deque.peek());
+        }
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(deque));
+    }
+
+    private static void removeEvery(Iterator<QueueItem> iterator, int nth) {
+        for (int i = 0; iterator.hasNext(); i++) {
+            iterator.next();
+            if (i % nth == 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void offerRange(long from, long to) {
+        for (long i = from; i < to; i++) {
+            deque.offer(item(i));
+        }
+    }
+
+    private List<Long> ids() {
+        List<Long> ids = new ArrayList<>(deque.size());
+        for (QueueItem item : deque) {
+            ids.add(item.getItemId());
+        }
+        return ids;
+    }
+
+    private static QueueItem item(long itemId) {
+        return new QueueItem(null, itemId, null);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.nio;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.internal.server.tcp.TcpServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.instance.EndpointQualifier.MEMBER;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_COALESCING_LINGER_MICROS;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_WRITE_THROUGH_ENABLED;
+import static com.hazelcast.test.Accessors.getNode;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class WriteCoalescingTest extends HazelcastTestSupport {
+
+    @After
+    public void cleanup() {
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testMembersWithWriteCoalescing_shareSocketWrites() {
+        Config config = smallInstanceConfig()
+                .setClusterName(randomName())
+                .setProperty(IO_WRITE_THROUGH_ENABLED.getName(), "false")
+                .setProperty(IO_WRITE_COALESCING_LINGER_MICROS.getName(), "5000");
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(config);
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(config);
+        assertClusterSizeEventually(2, hz1, hz2);
+        long framesBefore = framesWritten(hz1);
+        long socketWritesBefore = socketWrites(hz1);
+
+        // the puts are spread out, so without lingering most frames would get a socket write of their own
+        IMap<Integer, Integer> map = hz1.getMap(randomMapName());
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            futures.add(map.putAsync(i, i).toCompletableFuture());
+            LockSupport.parkNanos(MICROSECONDS.toNanos(20));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // every put sends either the operation or its backup to the other member
+        long frames = framesWritten(hz1) - framesBefore;
+        long socketWrites = socketWrites(hz1) - socketWritesBefore;
+        assertTrue("frames: " + frames, frames >= 2_000);
+        assertTrue("frames: " + frames + ", socket writes: " + socketWrites, socketWrites * 4 < frames);
+
+        IMap<Integer, Integer> remoteMap = hz2.getMap(map.getName());
+        assertEquals(2_000, remoteMap.size());
+    }
+
+    private static long framesWritten(HazelcastInstance instance) {
+        long frames = 0;
+        for (NioOutboundPipeline pipeline : outboundPipelines(instance)) {
+            frames += pipeline.framesWritten();
+        }
+        return frames;
+    }
+
+    private static long socketWrites(HazelcastInstance instance) {
+        long socketWrites = 0;
+        for (NioOutboundPipeline pipeline : outboundPipelines(instance)) {
+            socketWrites += pipeline.socketWrites();
+        }
+        return socketWrites;
+    }
+
+    private static List<NioOutboundPipeline> outboundPipelines(HazelcastInstance instance) {
+        List<NioOutboundPipeline> pipelines = new ArrayList<>();
+        for (ServerConnection connection : getNode(instance).getServer().getConnectionManager(MEMBER).getConnections()) {
+            NioChannel channel = (NioChannel) ((TcpServerConnection) connection).getChannel();
+            pipelines.add(channel.outboundPipeline());
+        }
+        return pipelines;
+    }
+}
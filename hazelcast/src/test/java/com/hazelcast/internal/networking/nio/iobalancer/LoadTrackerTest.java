@@ -115,4 +115,25 @@ public class LoadTrackerTest {
         assertEquals(owner2, loadImbalance.dstOwner);
         assertEquals(owner2, loadImbalance.srcOwner);
     }
+
+    @Test
+    public void testImbalancePercentage() {
+        assertEquals(0, loadTracker.imbalancePercentage());
+
+        MigratablePipeline owner1Pipeline = mock(MigratablePipeline.class);
+        when(owner1Pipeline.load()).thenReturn(0L).thenReturn(100L);
+        when(owner1Pipeline.owner()).thenReturn(owner1);
+        loadTracker.addPipeline(owner1Pipeline);
+
+        MigratablePipeline owner2Pipeline = mock(MigratablePipeline.class);
+        when(owner2Pipeline.load()).thenReturn(0L).thenReturn(400L);
+        when(owner2Pipeline.owner()).thenReturn(owner2);
+        loadTracker.addPipeline(owner2Pipeline);
+
+        loadTracker.updateImbalance();
+        assertEquals(0, loadTracker.imbalancePercentage());
+
+        loadTracker.updateImbalance();
+        assertEquals(75, loadTracker.imbalancePercentage());
+    }
 }
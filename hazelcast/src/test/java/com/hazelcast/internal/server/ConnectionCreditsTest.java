@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server;
+
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_CONTROL;
+import static com.hazelcast.internal.nio.Packet.FLAG_OP_RESPONSE;
+import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ConnectionCreditsTest {
+
+    private final ConnectionCredits credits = new ConnectionCredits();
+
+    @Test
+    public void testHasCredits_isUnlimitedBeforeFirstGrant() {
+        for (int i = 0; i < 100; i++) {
+            credits.consume();
+        }
+
+        assertFalse(credits.isLimited());
+        assertTrue(credits.hasCredits());
+    }
+
+    @Test
+    public void testConsume_usesUpGrant() {
+        credits.grant(2);
+
+        credits.consume();
+        assertTrue(credits.hasCredits());
+        credits.consume();
+        assertFalse(credits.hasCredits());
+        assertEquals(0, credits.available());
+    }
+
+    @Test
+    public void testGrant_addsToRemainingCredits() {
+        credits.grant(10);
+        credits.consume();
+        credits.grant(5);
+
+        assertEquals(14, credits.available());
+    }
+
+    @Test
+    public void testGrant_coversOperationsSentBeforeFirstGrant() {
+        credits.consume();
+        credits.consume();
+        credits.grant(2);
+
+        assertTrue(credits.isLimited());
+        assertFalse(credits.hasCredits());
+        credits.grant(2);
+        assertEquals(2, credits.available());
+    }
+
+    @Test
+    public void testTakeProcessed_returnsProcessedSinceLastTake() {
+        assertEquals(1, credits.processed());
+        assertEquals(2, credits.processed());
+
+        assertEquals(2, credits.takeProcessed());
+        assertEquals(0, credits.takeProcessed());
+        assertEquals(1, credits.processed());
+    }
+
+    @Test
+    public void testTryGrantWindow_onlyOnce() {
+        assertFalse(credits.isWindowGranted());
+
+        assertTrue(credits.tryGrantWindow());
+        assertFalse(credits.tryGrantWindow());
+        assertTrue(credits.isWindowGranted());
+    }
+
+    @Test
+    public void testConsumesCredit_onlyNonUrgentOperations() {
+        assertTrue(ConnectionCredits.consumesCredit(operationPacket(0)));
+        assertFalse(ConnectionCredits.consumesCredit(operationPacket(FLAG_URGENT)));
+        assertFalse(ConnectionCredits.consumesCredit(operationPacket(FLAG_OP_RESPONSE)));
+        assertFalse(ConnectionCredits.consumesCredit(operationPacket(FLAG_OP_CONTROL)));
+        assertFalse(ConnectionCredits.consumesCredit(new Packet().setPacketType(Packet.Type.EVENT)));
+    }
+
+    private static Packet operationPacket(int flags) {
+        return new Packet().setPacketType(Packet.Type.OPERATION).raiseFlags(flags);
+    }
+}
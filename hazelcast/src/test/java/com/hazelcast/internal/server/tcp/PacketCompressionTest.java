@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.EndpointQualifier;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.ChannelCloseListener;
+import com.hazelcast.internal.networking.ChannelOptions;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.hazelcast.internal.networking.ChannelOption.DIRECT_BUF;
+import static com.hazelcast.internal.networking.ChannelOption.SO_SNDBUF;
+import static com.hazelcast.internal.nio.Packet.FLAG_COMPRESSED;
+import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
+import static com.hazelcast.internal.server.tcp.PacketCompression.PACKET_COMPRESSION_ENABLED;
+import static com.hazelcast.internal.server.tcp.PacketCompression.PACKET_COMPRESSION_THRESHOLD_BYTES;
+import static com.hazelcast.test.Accessors.getNode;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class PacketCompressionTest extends HazelcastTestSupport {
+
+    private static final int THRESHOLD = 1024;
+
+    @After
+    public void cleanup() {
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testSmallPacket_isNotCompressed() {
+        PacketCompressor compressor = newCompressor(true);
+        Packet packet = new Packet(new byte[THRESHOLD - 1]);
+
+        assertSame(packet, compressor.compress(packet));
+    }
+
+    @Test
+    public void testRemoteWithoutSupport_isNotCompressed() {
+        PacketCompressor compressor = newCompressor(false);
+        Packet packet = new Packet(new byte[THRESHOLD * 10]);
+
+        assertSame(packet, compressor.compress(packet));
+    }
+
+    @Test
+    public void testStreamOfPackets_roundTrips() throws Exception {
+        PacketCompressor compressor = newCompressor(true);
+        PacketDecompressor decompressor = new PacketDecompressor();
+
+        for (int i = 0; i < 20; i++) {
+            byte[] payload = newPayload(THRESHOLD * (i + 1), i);
+            Packet packet = new Packet(payload, i).setPacketType(Packet.Type.OPERATION).raiseFlags(FLAG_URGENT);
+
+            Packet compressed = compressor.compress(packet);
+            assertTrue(compressed.isFlagRaised(FLAG_COMPRESSED));
+            assertTrue(compressed.totalSize() < payload.length);
+
+            Packet decompressed = decompressor.decompress(compressed);
+            assertFalse(decompressed.isFlagRaised(FLAG_COMPRESSED));
+            assertEquals(packet.getFlags(), decompressed.getFlags());
+            assertEquals(i, decompressed.getPartitionId());
+            assertArrayEquals(payload, decompressed.toByteArray());
+        }
+    }
+
+    @Test
+    public void testIncompressiblePacket_largerThanBuffer_roundTrips() throws Exception {
+        PacketCompressor compressor = newCompressor(true);
+        byte[] payload = new byte[256 * 1024];
+        new Random(42).nextBytes(payload);
+
+        Packet decompressed = new PacketDecompressor().decompress(compressor.compress(new Packet(payload)));
+
+        assertArrayEquals(payload, decompressed.toByteArray());
+    }
+
+    @Test
+    public void testClosedCompressor_returnsPacketUncompressed() {
+        PacketCompressor compressor = newCompressor(true);
+        Packet packet = new Packet(newPayload(THRESHOLD * 10, 1));
+
+        compressor.close();
+
+        assertTrue(compressor.isClosed());
+        assertSame(packet, compressor.compress(packet));
+    }
+
+    @Test
+    public void testClosedDecompressor_rejectsPackets() {
+        Packet compressed = newCompressor(true).compress(new Packet(newPayload(THRESHOLD * 10, 1)));
+        PacketDecompressor decompressor = new PacketDecompressor();
+
+        decompressor.close();
+
+        assertTrue(decompressor.isClosed());
+        assertThrows(IllegalStateException.class, () -> decompressor.decompress(compressed));
+    }
+
+    @Test
+    public void testEncoder_closesCompressorWhenChannelCloses() {
+        HazelcastProperties properties = new HazelcastProperties(new Config()
+                .setProperty(PACKET_COMPRESSION_ENABLED.getName(), "true"));
+        Channel channel = mock(Channel.class);
+        ChannelOptions options = mock(ChannelOptions.class);
+        when(channel.options()).thenReturn(options);
+        when(options.getOption(SO_SNDBUF)).thenReturn(1024);
+        when(options.getOption(DIRECT_BUF)).thenReturn(false);
+        PacketEncoder encoder = new PacketEncoder(mock(TcpServerConnection.class), properties);
+        encoder.setChannel(channel);
+
+        encoder.handlerAdded();
+
+        ArgumentCaptor<ChannelCloseListener> listener = ArgumentCaptor.forClass(ChannelCloseListener.class);
+        verify(channel).addCloseListener(listener.capture());
+        assertNotNull(listener.getValue());
+    }
+
+    @Test
+    public void testMembersWithCompression_exchangeLargeValues() {
+        Config config = smallInstanceConfig()
+                .setClusterName(randomName())
+                .setProperty(PACKET_COMPRESSION_ENABLED.getName(), "true")
+                .setProperty(PACKET_COMPRESSION_THRESHOLD_BYTES.getName(), String.valueOf(THRESHOLD));
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(config);
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(config);
+        assertClusterSizeEventually(2, hz1, hz2);
+
+        IMap<Integer, byte[]> map = hz1.getMap(randomMapName());
+        for (int i = 0; i < 100; i++) {
+            map.put(i, newPayload(THRESHOLD * 4, i));
+        }
+
+        IMap<Integer, byte[]> remoteMap = hz2.getMap(map.getName());
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(newPayload(THRESHOLD * 4, i), remoteMap.get(i));
+        }
+        for (ServerConnection connection : getNode(hz1).getServer().getConnectionManager(EndpointQualifier.MEMBER).getConnections()) {
+            assertTrue(((TcpServerConnection) connection).isPacketCompressionSupported());
+        }
+    }
+
+    private static PacketCompressor newCompressor(boolean remoteSupport) {
+        TcpServerConnection connection = mock(TcpServerConnection.class);
+        when(connection.isPacketCompressionSupported()).thenReturn(remoteSupport);
+        return new PacketCompressor(connection, THRESHOLD, 1);
+    }
+
+    private static byte[] newPayload(int length, int seed) {
+        byte[] payload = new byte[length];
+        Arrays.fill(payload, (byte) seed);
+        for (int i = 0; i < length; i += 7) {
+            payload[i] = (byte) i;
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.EndpointQualifier;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import static com.hazelcast.internal.nio.Packet.FLAG_SHARED_MEMORY_SWITCH;
+import static com.hazelcast.internal.nio.Packet.FLAG_URGENT;
+import static com.hazelcast.internal.server.tcp.SharedMemoryLane.CLOSED;
+import static com.hazelcast.internal.server.tcp.SharedMemoryLane.FULL;
+import static com.hazelcast.internal.server.tcp.SharedMemoryLane.OFFERED;
+import static com.hazelcast.internal.server.tcp.SharedMemoryTransport.SHARED_MEMORY_DIRECTORY;
+import static com.hazelcast.internal.server.tcp.SharedMemoryTransport.SHARED_MEMORY_ENABLED;
+import static com.hazelcast.internal.server.tcp.SharedMemoryTransport.SHARED_MEMORY_RING_CAPACITY_BYTES;
+import static com.hazelcast.test.Accessors.getNode;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class SharedMemoryTransportTest extends HazelcastTestSupport {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @After
+    public void cleanup() {
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testLane_roundTripsPacketsAcrossWrapAround() throws Exception {
+        SharedMemoryRing producer = SharedMemoryRing.create(tempFolder.getRoot().toPath(), 4096, 42);
+        SharedMemoryRing consumer = SharedMemoryRing.attach(producer.file(), 42);
+        assertFalse(producer.isAttached());
+        consumer.markAttached();
+        assertTrue(producer.isAttached());
+
+        List<Packet> received = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Packet packet = new Packet(newPayload(16 + i * 7, i), i).setPacketType(Packet.Type.OPERATION);
+            assertEquals(OFFERED, producer.normalLane().offer(packet));
+
+            assertEquals(1, consumer.normalLane().read(received::add, Integer.MAX_VALUE));
+            Packet read = received.get(i);
+            assertEquals(packet.getFlags(), read.getFlags());
+            assertEquals(i, read.getPartitionId());
+            assertArrayEquals(packet.toByteArray(), read.toByteArray());
+        }
+    }
+
+    @Test
+    public void testLane_whenFull_closesBehindOfferedPackets() throws Exception {
+        SharedMemoryRing producer = SharedMemoryRing.create(tempFolder.getRoot().toPath(), 4096, 1);
+        SharedMemoryRing consumer = SharedMemoryRing.attach(producer.file(), 1);
+        SharedMemoryLane lane = producer.normalLane();
+
+        int offered = 0;
+        while (lane.offer(new Packet(newPayload(100, offered))) == OFFERED) {
+            offered++;
+        }
+        assertTrue(lane.isClosed());
+        assertEquals(CLOSED, lane.offer(new Packet(newPayload(16, 0))));
+
+        List<Packet> received = new ArrayList<>();
+        assertEquals(offered, consumer.normalLane().read(received::add, Integer.MAX_VALUE));
+        for (int i = 0; i < offered; i++) {
+            assertArrayEquals(newPayload(100, i), received.get(i).toByteArray());
+        }
+        assertTrue(consumer.normalLane().isEndReached());
+        assertFalse(lane.isDrained());
+
+        consumer.normalLane().consumeEnd();
+        assertTrue(lane.isDrained());
+        lane.reopen();
+        assertEquals(OFFERED, lane.offer(new Packet(newPayload(100, 7))));
+        assertEquals(1, consumer.normalLane().read(received::add, Integer.MAX_VALUE));
+        assertArrayEquals(newPayload(100, 7), received.get(offered).toByteArray());
+    }
+
+    @Test
+    public void testLane_packetLargerThanHalfTheLane_closesLane() throws Exception {
+        SharedMemoryRing producer = SharedMemoryRing.create(tempFolder.getRoot().toPath(), 4096, 1);
+
+        assertEquals(FULL, producer.normalLane().offer(new Packet(new byte[2048])));
+        assertTrue(producer.normalLane().isClosed());
+    }
+
+    @Test
+    public void testLane_concurrentProducers_keepTheirOrder() throws Exception {
+        int producers = 4;
+        int packetsPerProducer = 10_000;
+        SharedMemoryRing producer = SharedMemoryRing.create(tempFolder.getRoot().toPath(), 2 * 1024 * 1024, 1);
+        SharedMemoryRing consumer = SharedMemoryRing.attach(producer.file(), 1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producerId = p;
+            futures.add(spawn(() -> {
+                for (int i = 0; i < packetsPerProducer; i++) {
+                    assertEquals(OFFERED, producer.normalLane().offer(new Packet(sequencePayload(i), producerId)));
+                }
+            }));
+        }
+
+        int[] expected = new int[producers];
+        int received = 0;
+        while (received < producers * packetsPerProducer) {
+            received += consumer.normalLane().read(packet -> {
+                int sequence = Bits.readIntB(packet.toByteArray(), 12);
+                assertEquals(expected[packet.getPartitionId()]++, sequence);
+            }, Integer.MAX_VALUE);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertArrayEquals(new int[]{packetsPerProducer, packetsPerProducer, packetsPerProducer, packetsPerProducer},
+                expected);
+    }
+
+    @Test
+    public void testRing_urgentPacketsUseUrgentLane() throws Exception {
+        SharedMemoryRing producer = SharedMemoryRing.create(tempFolder.getRoot().toPath(), 4096, 1);
+        SharedMemoryRing consumer = SharedMemoryRing.attach(producer.file(), 1);
+        Packet urgent = new Packet(newPayload(10, 1)).raiseFlags(FLAG_URGENT);
+
+        assertEquals(OFFERED, producer.laneOf(urgent).offer(urgent));
+        producer.normalLane().close();
+
+        List<Packet> received = new ArrayList<>();
+        assertEquals(0, consumer.normalLane().read(received::add, Integer.MAX_VALUE));
+        assertEquals(1, consumer.urgentLane().read(received::add, Integer.MAX_VALUE));
+        assertTrue(received.get(0).isUrgent());
+    }
+
+    @Test
+    public void testInbound_holdsTcpPacketsUntilRingIsRead() throws Exception {
+        SharedMemoryRing producer = SharedMemoryRing.create(tempFolder.getRoot().toPath(), 4096, 1);
+        SharedMemoryRing consumer = SharedMemoryRing.attach(producer.file(), 1);
+        SharedMemoryInbound inbound = new SharedMemoryInbound(mock(SharedMemoryTransport.class),
+                mock(TcpServerConnection.class), consumer);
+        List<Packet> received = new ArrayList<>();
+        inbound.activate(received::add);
+        Packet ringPacket = new Packet(newPayload(10, 1));
+        Packet tcpPacket = new Packet(newPayload(10, 2));
+
+        assertEquals(OFFERED, producer.normalLane().offer(ringPacket));
+        producer.closeLanes();
+        assertTrue(inbound.holdIfActive(tcpPacket));
+        assertEquals(2, inbound.poll());
+
+        assertEquals(2, received.size());
+        assertArrayEquals(ringPacket.toByteArray(), received.get(0).toByteArray());
+        assertSame(tcpPacket, received.get(1));
+        assertFalse(inbound.isActive());
+        assertFalse(inbound.holdIfActive(tcpPacket));
+        assertTrue(producer.isDrained());
+    }
+
+    @Test
+    public void testOutbound_fallsBackToTcpWhenFull_andSwitchesBack() throws Exception {
+        SharedMemoryRing producer = SharedMemoryRing.create(tempFolder.getRoot().toPath(), 4096, 1);
+        SharedMemoryRing consumer = SharedMemoryRing.attach(producer.file(), 1);
+        Channel channel = mock(Channel.class);
+        when(channel.write(any())).thenReturn(true);
+        TcpServerConnection connection = mock(TcpServerConnection.class);
+        when(connection.getChannel()).thenReturn(channel);
+        SharedMemoryOutbound outbound = new SharedMemoryOutbound(connection, producer, 1, Logger.getLogger(getClass()));
+        List<Packet> received = new ArrayList<>();
+        SharedMemoryInbound inbound = new SharedMemoryInbound(mock(SharedMemoryTransport.class),
+                mock(TcpServerConnection.class), consumer);
+
+        consumer.markAttached();
+        assertTrue(outbound.write(new Packet(newPayload(100, 0))));
+        assertTrue(outbound.isActive());
+        verify(channel).write(argThat((Packet packet) -> packet.isFlagRaised(FLAG_SHARED_MEMORY_SWITCH)));
+        assertTrue(outbound.write(new Packet(new byte[4096])));
+        assertFalse(outbound.isActive());
+        assertEquals(1, outbound.fallbackCount());
+        verify(channel).write(argThat((Packet packet) -> packet.totalSize() == 4096));
+
+        inbound.activate(received::add);
+        assertEquals(1, inbound.poll());
+        assertTrue(outbound.write(new Packet(newPayload(100, 1))));
+
+        assertTrue(outbound.isActive());
+        verify(channel, times(2)).write(argThat((Packet packet) -> packet.isFlagRaised(FLAG_SHARED_MEMORY_SWITCH)));
+        inbound.activate(received::add);
+        assertEquals(1, inbound.poll());
+        assertEquals(2, outbound.packetsWritten());
+        assertArrayEquals(newPayload(100, 1), received.get(1).toByteArray());
+    }
+
+    @Test(expected = IOException.class)
+    public void testRing_attachWithWrongToken_fails() throws Exception {
+        SharedMemoryRing producer = SharedMemoryRing.create(tempFolder.getRoot().toPath(), 64, 1);
+        SharedMemoryRing.attach(producer.file(), 2);
+    }
+
+    @Test
+    public void testIsLocal() throws Exception {
+        assertTrue(SharedMemoryTransport.isLocal(InetAddress.getLoopbackAddress()));
+        assertFalse(SharedMemoryTransport.isLocal(InetAddress.getByName("192.0.2.1")));
+        assertFalse(SharedMemoryTransport.isLocal(null));
+    }
+
+    @Test
+    public void testMembersOnSameHost_exchangePacketsOverSharedMemory() {
+        Config config = smallInstanceConfig()
+                .setClusterName(randomName())
+                .setProperty(SHARED_MEMORY_ENABLED.getName(), "true")
+                .setProperty(SHARED_MEMORY_RING_CAPACITY_BYTES.getName(), String.valueOf(64 * 1024))
+                .setProperty(SHARED_MEMORY_DIRECTORY.getName(), tempFolder.getRoot().getAbsolutePath());
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(config);
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(config);
+        assertClusterSizeEventually(2, hz1, hz2);
+
+        IMap<Integer, byte[]> map = hz1.getMap(randomMapName());
+        for (int i = 0; i < 1000; i++) {
+            // some of the values don't fit in the ring and are sent over TCP
+            map.put(i, newPayload(i % 100 == 0 ? 200 * 1024 : 100, i));
+        }
+
+        IMap<Integer, byte[]> remoteMap = hz2.getMap(map.getName());
+        for (int i = 0; i < 1000; i++) {
+            assertArrayEquals(newPayload(i % 100 == 0 ? 200 * 1024 : 100, i), remoteMap.get(i));
+        }
+        assertTrueEventually(() -> {
+            // the members switch back to the ring with the next packet once it is drained
+            map.put(-1, newPayload(100, -1));
+            assertSharedMemoryActive(hz1);
+            assertSharedMemoryActive(hz2);
+        });
+        SharedMemoryOutbound outbound = sharedMemoryOutbounds(hz1).get(0);
+        assertTrue(outbound.fallbackCount() > 0);
+        assertTrue(outbound.packetsWritten() > 0);
+        // the ring files are removed once both sides mapped them
+        assertEquals(0, tempFolder.getRoot().list().length);
+    }
+
+    private static void assertSharedMemoryActive(HazelcastInstance hz) {
+        List<SharedMemoryOutbound> outbounds = sharedMemoryOutbounds(hz);
+        assertFalse(outbounds.isEmpty());
+        for (SharedMemoryOutbound outbound : outbounds) {
+            assertTrue(outbound.isActive());
+        }
+    }
+
+    private static List<SharedMemoryOutbound> sharedMemoryOutbounds(HazelcastInstance hz) {
+        List<SharedMemoryOutbound> outbounds = new ArrayList<>();
+        for (ServerConnection connection : getNode(hz).getServer().getConnectionManager(EndpointQualifier.MEMBER)
+                .getConnections()) {
+            SharedMemoryOutbound outbound = ((TcpServerConnection) connection).getSharedMemoryOutbound();
+            assertNotNull(outbound);
+            outbounds.add(outbound);
+        }
+        return outbounds;
+    }
+
+    private static byte[] sequencePayload(int sequence) {
+        byte[] payload = new byte[16];
+        Bits.writeIntB(payload, 12, sequence);
+        return payload;
+    }
+
+    private static byte[] newPayload(int length, int seed) {
+        byte[] payload = new byte[length];
+        for (int i = 0; i < length; i++) {
+            payload[i] = (byte) (seed + i);
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.version.MemberVersion;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.test.TestClusterUpgradeUtils.assertClusterVersion;
+import static com.hazelcast.test.TestClusterUpgradeUtils.newHazelcastInstance;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapDeleteAllTest extends HazelcastTestSupport {
+
+    private static final int MAP_SIZE = 1000;
+    private static final int NODE_COUNT = 3;
+
+    private HazelcastInstance member;
+    private HazelcastInstance[] instances;
+
+    @Before
+    public void setUp() throws Exception {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(NODE_COUNT);
+        instances = factory.newInstances(getConfig());
+        member = instances[1];
+    }
+
+    @Override
+    protected Config getConfig() {
+        Config config = super.getConfig();
+        config.getMapConfig("nearCached*").setNearCacheConfig(new NearCacheConfig().setCacheLocalEntries(true));
+        return config;
+    }
+
+    @Test
+    public void throws_exception_whenKeysNull() {
+        IMap<Integer, Integer> map = member.getMap("test");
+        assertThatThrownBy(() -> map.deleteAll(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void throws_exception_whenKeysContainNull() {
+        IMap<Integer, Integer> map = member.getMap("test");
+        Set<Integer> keys = new HashSet<>();
+        keys.add(1);
+        keys.add(null);
+        assertThatThrownBy(() -> map.deleteAll(keys))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void removes_nothing_whenKeysEmpty() {
+        IMap<Integer, Integer> map = populatedMap("test");
+
+        map.deleteAll(Collections.emptySet());
+
+        assertEquals(MAP_SIZE, map.size());
+    }
+
+    @Test
+    public void removes_given_keys_only() {
+        IMap<Integer, Integer> map = populatedMap("test");
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < MAP_SIZE; i += 2) {
+            keys.add(i);
+        }
+        // keys which are not in the map are ignored
+        keys.add(MAP_SIZE + 1);
+
+        map.deleteAll(keys);
+
+        assertEquals(MAP_SIZE / 2, map.size());
+        for (int i = 0; i < MAP_SIZE; i++) {
+            assertEquals(i % 2 != 0, map.containsKey(i));
+        }
+    }
+
+    @Test
+    public void removes_same_number_of_entries_from_owner_and_backup() {
+        String mapName = "test";
+        IMap<Integer, Integer> map = populatedMap(mapName);
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 100; i < MAP_SIZE; i++) {
+            keys.add(i);
+        }
+
+        map.deleteAll(keys);
+
+        waitAllForSafeState(instances);
+
+        long totalOwnedEntryCount = 0;
+        long totalBackupEntryCount = 0;
+        for (HazelcastInstance instance : instances) {
+            LocalMapStats localMapStats = instance.getMap(mapName).getLocalMapStats();
+            totalOwnedEntryCount += localMapStats.getOwnedEntryCount();
+            totalBackupEntryCount += localMapStats.getBackupEntryCount();
+        }
+
+        assertEquals(100, totalOwnedEntryCount);
+        assertEquals(100, totalBackupEntryCount);
+    }
+
+    @Test
+    public void getAll_returns_remaining_entries_afterDeleteAll() {
+        IMap<Integer, Integer> map = populatedMap("test");
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < MAP_SIZE; i++) {
+            keys.add(i);
+        }
+        Set<Integer> deleted = new HashSet<>();
+        for (int i = 0; i < MAP_SIZE; i += 3) {
+            deleted.add(i);
+        }
+
+        map.deleteAll(deleted);
+        Map<Integer, Integer> entries = map.getAll(keys);
+
+        assertEquals(MAP_SIZE - deleted.size(), entries.size());
+        for (int i = 0; i < MAP_SIZE; i++) {
+            if (deleted.contains(i)) {
+                assertFalse(entries.containsKey(i));
+            } else {
+                assertTrue(entries.containsKey(i));
+                assertEquals(i, (int) entries.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void invalidates_nearCache() {
+        IMap<Integer, Integer> map = populatedMap("nearCached");
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < MAP_SIZE; i++) {
+            assertEquals(i, (int) map.get(i));
+            if (i % 2 == 0) {
+                keys.add(i);
+            }
+        }
+
+        map.deleteAll(keys);
+
+        for (int i = 0; i < MAP_SIZE; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get(i));
+        }
+    }
+
+    @Test
+    public void removes_given_keys_whenClusterVersionIsPrevious() {
+        // rolling member upgrades need Enterprise, so the cluster is a single member
+        TestHazelcastInstanceFactory factory = new TestHazelcastInstanceFactory(1);
+        try {
+            HazelcastInstance previousInstance = newHazelcastInstance(factory, MemberVersion.of(5, 5, 0), getConfig());
+            assertClusterVersion(new HazelcastInstance[]{previousInstance}, Versions.V5_5);
+            IMap<Integer, Integer> map = previousInstance.getMap("test");
+            Set<Integer> keys = new HashSet<>();
+            for (int i = 0; i < MAP_SIZE; i++) {
+                map.put(i, i);
+                keys.add(i);
+            }
+            Set<Integer> deleted = new HashSet<>();
+            for (int i = 0; i < MAP_SIZE; i += 2) {
+                deleted.add(i);
+            }
+
+            map.deleteAll(deleted);
+
+            assertEquals(MAP_SIZE / 2, map.getAll(keys).size());
+            for (int i = 0; i < MAP_SIZE; i++) {
+                assertEquals(i % 2 != 0, map.containsKey(i));
+            }
+        } finally {
+            factory.terminateAll();
+        }
+    }
+
+    private IMap<Integer, Integer> populatedMap(String mapName) {
+        IMap<Integer, Integer> map = member.getMap(mapName);
+        for (int i = 0; i < MAP_SIZE; i++) {
+            map.put(i, i);
+        }
+        return map;
+    }
+}
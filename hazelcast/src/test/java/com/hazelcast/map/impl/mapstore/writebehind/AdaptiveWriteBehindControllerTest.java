@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapStoreAdapter;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.mapstore.MapStoreContext;
+import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntries;
+import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.map.impl.mapstore.writebehind.AdaptiveWriteBehindController.DEFAULT_RUN_DELAY_MILLIS;
+import static com.hazelcast.map.impl.mapstore.writebehind.AdaptiveWriteBehindController.MAX_RUN_DELAY_MILLIS;
+import static com.hazelcast.map.impl.mapstore.writebehind.AdaptiveWriteBehindController.MIN_RUN_DELAY_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.MAP_WRITE_BEHIND_ADAPTIVE_ENABLED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class AdaptiveWriteBehindControllerTest extends HazelcastTestSupport {
+
+    private static final long TARGET_NANOS = MILLISECONDS.toNanos(100);
+
+    @Test
+    public void testInitialBatchSize_isClampedToMax() {
+        assertEquals(1, new AdaptiveWriteBehindController(0, 100, TARGET_NANOS).batchSize());
+        assertEquals(100, new AdaptiveWriteBehindController(500, 100, TARGET_NANOS).batchSize());
+        assertEquals(DEFAULT_RUN_DELAY_MILLIS, new AdaptiveWriteBehindController(1, 100, TARGET_NANOS).runDelayMillis());
+    }
+
+    @Test
+    public void testFastStore_growsBatchAndShortensInterval() {
+        AdaptiveWriteBehindController controller = new AdaptiveWriteBehindController(1, 100, TARGET_NANOS);
+
+        for (int i = 0; i < 10; i++) {
+            controller.onBatchProcessed(MILLISECONDS.toNanos(1), false);
+        }
+
+        assertEquals(100, controller.batchSize());
+        assertEquals(MIN_RUN_DELAY_MILLIS, controller.runDelayMillis());
+    }
+
+    @Test
+    public void testSlowStore_shrinksBatchAndBacksOff() {
+        AdaptiveWriteBehindController controller = new AdaptiveWriteBehindController(64, 100, TARGET_NANOS);
+
+        for (int i = 0; i < 10; i++) {
+            controller.onBatchProcessed(MILLISECONDS.toNanos(500), false);
+        }
+
+        assertEquals(1, controller.batchSize());
+        assertEquals(MAX_RUN_DELAY_MILLIS, controller.runDelayMillis());
+    }
+
+    @Test
+    public void testFailedBatch_backsOff() {
+        AdaptiveWriteBehindController controller = new AdaptiveWriteBehindController(64, 100, TARGET_NANOS);
+
+        controller.onBatchProcessed(MILLISECONDS.toNanos(1), true);
+
+        assertEquals(32, controller.batchSize());
+        assertEquals(2 * DEFAULT_RUN_DELAY_MILLIS, controller.runDelayMillis());
+    }
+
+    @Test
+    public void testLatencyNearTarget_keepsCurrentSettings() {
+        AdaptiveWriteBehindController controller = new AdaptiveWriteBehindController(64, 100, TARGET_NANOS);
+
+        controller.onBatchProcessed(MILLISECONDS.toNanos(80), false);
+
+        assertEquals(64, controller.batchSize());
+        assertEquals(DEFAULT_RUN_DELAY_MILLIS, controller.runDelayMillis());
+    }
+
+    @Test
+    public void testAdaptiveMode_storesAllEntries() {
+        MapStoreWithCounter<Integer, Integer> mapStore = new MapStoreWithCounter<>();
+        Config config = getConfig()
+                .setProperty(MAP_WRITE_BEHIND_ADAPTIVE_ENABLED.getName(), "true");
+        config.getMapConfig("default").setMapStoreConfig(new MapStoreConfig()
+                .setImplementation(mapStore)
+                .setWriteDelaySeconds(1)
+                .setWriteBatchSize(1));
+        IMap<Integer, Integer> map = createHazelcastInstance(config).getMap(randomMapName());
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        assertTrueEventually(() -> assertEquals(1000, mapStore.size()));
+    }
+
+    @Test
+    public void testRetryWait_isNotCountedAsStoreLatency() {
+        FailingOnceMapStore mapStore = new FailingOnceMapStore();
+        Config config = getConfig();
+        config.getMapConfig("default").setMapStoreConfig(new MapStoreConfig()
+                .setImplementation(mapStore)
+                .setWriteDelaySeconds(100));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        MapProxyImpl<Integer, Integer> map = (MapProxyImpl<Integer, Integer>) instance.<Integer, Integer>getMap(randomMapName());
+        MapService mapService = (MapService) map.getService();
+        MapStoreContext mapStoreContext = mapService.getMapServiceContext()
+                .getMapContainer(map.getName()).getMapStoreContext();
+        AdaptiveWriteBehindController controller = new AdaptiveWriteBehindController(64, 100, TARGET_NANOS);
+        WriteBehindProcessor processor = WriteBehindProcessors.createWriteBehindProcessor(mapStoreContext, controller);
+        SerializationService ss = mapStoreContext.getSerializationService();
+        DelayedEntry<Data, Object> entry = DelayedEntries.newAddedDelayedEntry(ss.toData(1), ss.toData(1),
+                Long.MAX_VALUE, 0, 0, null);
+
+        List<DelayedEntry> entries = new ArrayList<>(List.of(entry));
+        assertTrue(processor.process(entries).isEmpty());
+
+        // the failed first attempt is retried after a one second wait,
+        // which would exceed the target latency if it was measured
+        assertEquals(2, mapStore.storeCalls.get());
+        assertEquals(100, controller.batchSize());
+    }
+
+    private static class FailingOnceMapStore extends MapStoreAdapter<Integer, Integer> {
+
+        private final AtomicInteger storeCalls = new AtomicInteger();
+
+        @Override
+        public void store(Integer key, Integer value) {
+            if (storeCalls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Expected failure");
+            }
+        }
+    }
+}
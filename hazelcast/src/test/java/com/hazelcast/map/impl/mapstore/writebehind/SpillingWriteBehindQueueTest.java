@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapStoreAdapter;
+import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntries;
+import com.hazelcast.map.impl.mapstore.writebehind.entry.DelayedEntry;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.hazelcast.map.impl.mapstore.writebehind.WriteBehindQueues.WRITE_BEHIND_QUEUE_SPILL_DIRECTORY;
+import static com.hazelcast.map.impl.mapstore.writebehind.WriteBehindQueues.WRITE_BEHIND_QUEUE_SPILL_THRESHOLD;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SpillingWriteBehindQueueTest extends HazelcastTestSupport {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final SerializationService ss = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testAddLast_spillsBeyondHeapThreshold() {
+        SpillingWriteBehindQueue queue = createQueue(10, 1024);
+        addEnd(100, queue);
+
+        assertEquals(100, queue.size());
+        assertEquals(90, queue.spilledCount());
+        assertTrue(spillFiles().length > 1);
+    }
+
+    @Test
+    public void testRemoveFirstOccurrence_replaysInInsertionOrder() {
+        SpillingWriteBehindQueue queue = createQueue(10, 1024);
+        addEnd(100, queue);
+
+        for (int i = 0; i < 100; i++) {
+            DelayedEntry head = queue.peek();
+            assertEquals(i, (int) ss.toObject(head.getValue()));
+            assertEquals(i + 1, head.getSequence());
+            assertTrue(queue.removeFirstOccurrence(head));
+        }
+        assertEquals(0, queue.size());
+        assertNull(queue.peek());
+        assertFalse(queue.removeFirstOccurrence(DelayedEntries.newNullEntry(ss.toData(0))));
+        assertEquals(0, spillFiles().length);
+    }
+
+    @Test
+    public void testFilter_continuesIntoSpilledEntries() {
+        SpillingWriteBehindQueue queue = createQueue(10, 1024);
+        addEnd(100, queue);
+
+        List<DelayedEntry> filtered = new ArrayList<>();
+        queue.filter(entry -> entry.getSequence() <= 50, filtered);
+
+        assertEquals(50, filtered.size());
+        for (int i = 0; i < filtered.size(); i++) {
+            assertEquals(i, (int) ss.toObject(filtered.get(i).getValue()));
+        }
+        assertEquals(100, queue.size());
+    }
+
+    @Test
+    public void testAddFirst_keepsReAddedEntriesAtHead() {
+        SpillingWriteBehindQueue queue = createQueue(10, 1024);
+        addEnd(30, queue);
+
+        DelayedEntry head = queue.peek();
+        queue.removeFirstOccurrence(head);
+        queue.addFirst(List.of(head));
+
+        assertEquals(30, queue.size());
+        assertEquals(head, queue.peek());
+    }
+
+    @Test
+    public void testDrainTo_returnsHeapAndSpilledEntries() {
+        SpillingWriteBehindQueue queue = createQueue(10, 1024);
+        addEnd(100, queue);
+
+        List<DelayedEntry> drained = new ArrayList<>();
+        assertEquals(100, queue.drainTo(drained));
+
+        assertEquals(100, drained.size());
+        assertEquals(99, (int) ss.toObject(drained.get(99).getValue()));
+        assertEquals(0, queue.size());
+        assertFalse(queue.contains(DelayedEntries.newNullEntry(ss.toData(99))));
+        assertEquals(0, spillFiles().length);
+    }
+
+    @Test
+    public void testContains_coversSpilledKeys() {
+        SpillingWriteBehindQueue queue = createQueue(10, 1024);
+        addEnd(100, queue);
+
+        assertTrue(queue.contains(DelayedEntries.newNullEntry(ss.toData(99))));
+        assertFalse(queue.contains(DelayedEntries.newNullEntry(ss.toData(100))));
+    }
+
+    @Test
+    public void testSpilledEntry_roundTripsAllFields() {
+        SpillingWriteBehindQueue queue = createQueue(1, 1024);
+        UUID txnId = UUID.randomUUID();
+        Data key = ss.toData("key");
+        queue.addLast(newEntry(0, 0), false);
+        DelayedEntry<Data, Object> deleted = DelayedEntries.newDeletedEntry(key, 42, 7, txnId);
+        deleted.setSequence(13);
+        queue.addLast(deleted, false);
+
+        DelayedEntry spilled = queue.asList().get(1);
+
+        assertEquals(key, spilled.getKey());
+        assertNull(spilled.getValue());
+        assertEquals(42, spilled.getStoreTime());
+        assertEquals(7, spilled.getPartitionId());
+        assertEquals(13, spilled.getSequence());
+        assertEquals(txnId, spilled.getTxnId());
+    }
+
+    @Test
+    public void testToStagedEntry_isValueLess_forSpilledEntries() {
+        SpillingWriteBehindQueue queue = createQueue(10, 1024);
+        addEnd(100, queue);
+
+        assertFalse(queue.toStagedEntry(newEntry(5, 6)) instanceof SpilledDelayedEntry);
+        DelayedEntry staged = queue.toStagedEntry(newEntry(50, 51));
+        assertInstanceOf(SpilledDelayedEntry.class, staged);
+        assertEquals(51, staged.getSequence());
+    }
+
+    @Test
+    public void testReadSpilled_followsEntryFromDiskToHeap() {
+        SpillingWriteBehindQueue queue = createQueue(10, 1024);
+        addEnd(100, queue);
+        SpilledDelayedEntry staged = (SpilledDelayedEntry) queue.toStagedEntry(newEntry(50, 51));
+
+        assertEquals(50, (int) ss.toObject(queue.readSpilled(staged).getValue()));
+
+        removeFirst(45, queue);
+        assertFalse(queue.toStagedEntry(newEntry(50, 51)) instanceof SpilledDelayedEntry);
+        assertEquals(50, (int) ss.toObject(queue.readSpilled(staged).getValue()));
+
+        removeFirst(6, queue);
+        assertNull(queue.readSpilled(staged));
+    }
+
+    @Test
+    public void testReadSpilled_returnsNull_forOverwrittenSequence() {
+        SpillingWriteBehindQueue queue = createQueue(1, 1024);
+        addEnd(2, queue);
+        SpilledDelayedEntry staged = (SpilledDelayedEntry) queue.toStagedEntry(newEntry(1, 2));
+        queue.clear();
+
+        assertNull(queue.readSpilled(staged));
+        assertEquals(0, spillFiles().length);
+    }
+
+    @Test
+    public void testLoad_readsEvictedValuesBackFromSpilledEntries() {
+        Config config = getConfig()
+                .setProperty(WRITE_BEHIND_QUEUE_SPILL_THRESHOLD.getName(), "5")
+                .setProperty(WRITE_BEHIND_QUEUE_SPILL_DIRECTORY.getName(), tempFolder.getRoot().getAbsolutePath());
+        config.getMapConfig("default").setMapStoreConfig(new MapStoreConfig()
+                .setImplementation(new OrderRecordingMapStore())
+                .setWriteDelaySeconds(100)
+                .setWriteCoalescing(false));
+        IMap<Integer, Integer> map = createHazelcastInstance(config).getMap(randomMapName());
+
+        for (int i = 0; i < 100; i++) {
+            map.put(i % 10, i);
+        }
+        map.evictAll();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(90 + i, (int) map.get(i));
+        }
+    }
+
+    @Test
+    public void testMapStore_receivesAllUpdatesInOrder_whenQueueSpills() {
+        OrderRecordingMapStore mapStore = new OrderRecordingMapStore();
+        Config config = getConfig()
+                .setProperty(WRITE_BEHIND_QUEUE_SPILL_THRESHOLD.getName(), "5")
+                .setProperty(WRITE_BEHIND_QUEUE_SPILL_DIRECTORY.getName(), tempFolder.getRoot().getAbsolutePath());
+        config.getMapConfig("default").setMapStoreConfig(new MapStoreConfig()
+                .setImplementation(mapStore)
+                .setWriteDelaySeconds(1)
+                .setWriteCoalescing(false));
+        IMap<Integer, Integer> map = createHazelcastInstance(config).getMap(randomMapName());
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(1, i);
+        }
+
+        assertTrueEventually(() -> assertEquals(1000, mapStore.values.size()));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) mapStore.values.get(i));
+        }
+    }
+
+    private void removeFirst(int numberOfEntriesToRemove, WriteBehindQueue<DelayedEntry> queue) {
+        for (int i = 0; i < numberOfEntriesToRemove; i++) {
+            queue.removeFirstOccurrence(queue.peek());
+        }
+    }
+
+    private SpillingWriteBehindQueue createQueue(int heapThreshold, int segmentSize) {
+        return new SpillingWriteBehindQueue(heapThreshold, segmentSize, tempFolder.getRoot().toPath(), ss);
+    }
+
+    private void addEnd(int numberOfEntriesToAdd, WriteBehindQueue<DelayedEntry> queue) {
+        for (int i = 0; i < numberOfEntriesToAdd; i++) {
+            queue.addLast(newEntry(i, i + 1), false);
+        }
+    }
+
+    private DelayedEntry newEntry(int i, long sequence) {
+        DelayedEntry<Data, Object> entry = DelayedEntries.newAddedDelayedEntry(ss.toData(i), ss.toData(i),
+                Long.MAX_VALUE, i, i, null);
+        entry.setSequence(sequence);
+        return entry;
+    }
+
+    private File[] spillFiles() {
+        return Objects.requireNonNull(tempFolder.getRoot().listFiles());
+    }
+
+    private static class OrderRecordingMapStore extends MapStoreAdapter<Integer, Integer> {
+
+        private final List<Integer> values = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void store(Integer key, Integer value) {
+            values.add(value);
+        }
+    }
+}
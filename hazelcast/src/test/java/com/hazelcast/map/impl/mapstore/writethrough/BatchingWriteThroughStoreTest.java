@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writethrough;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapStoreAdapter;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.mapstore.AbstractMapStoreTest;
+import com.hazelcast.map.impl.mapstore.MapDataStore;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.map.impl.mapstore.writethrough.BatchingWriteThroughStore.WRITE_THROUGH_BATCH_SIZE;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BatchingWriteThroughStoreTest extends AbstractMapStoreTest {
+
+    private static final int ENTRY_COUNT = 500;
+
+    @Test
+    public void testBatchingDisabled_byDefault() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig(new BatchRecordingMapStore(), 0));
+        IMap<Integer, Integer> map = instance.getMap("default");
+        map.put(1, 1);
+
+        assertEquals(WriteThroughStore.class, getMapDataStore(instance, map, 1).getClass());
+    }
+
+    @Test
+    public void testBatchingDisabled_whenOffloadDisabled() {
+        Config config = newConfig(new BatchRecordingMapStore(), 0);
+        config.setProperty(WRITE_THROUGH_BATCH_SIZE.getName(), "16");
+        config.getMapConfig("default").getMapStoreConfig().setOffload(false);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap("default");
+        map.put(1, 1);
+
+        assertEquals(WriteThroughStore.class, getMapDataStore(instance, map, 1).getClass());
+    }
+
+    @Test
+    public void testConcurrentPuts_areCoalescedIntoBatches() throws Exception {
+        BatchRecordingMapStore mapStore = new BatchRecordingMapStore();
+        IMap<Integer, Integer> map = newBatchingMap(mapStore);
+
+        List<CompletionStage<Integer>> futures = new ArrayList<>(ENTRY_COUNT);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(map.putAsync(i, i));
+        }
+        for (CompletionStage<Integer> future : futures) {
+            future.toCompletableFuture().get();
+        }
+
+        assertEquals(ENTRY_COUNT, mapStore.store.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) mapStore.store.get(i));
+        }
+        assertTrue("Expected stores to be batched, max batch size: " + mapStore.maxBatchSize.get(),
+                mapStore.maxBatchSize.get() > 1);
+        assertTrue(mapStore.maxBatchSize.get() <= 16);
+    }
+
+    @Test
+    public void testFailingEntry_failsOnlyItsOwnOperation() throws Exception {
+        BatchRecordingMapStore mapStore = new BatchRecordingMapStore();
+        mapStore.failingKey = 7;
+        IMap<Integer, Integer> map = newBatchingMap(mapStore);
+
+        List<CompletionStage<Integer>> futures = new ArrayList<>(ENTRY_COUNT);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(map.putAsync(i, i));
+        }
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            CompletionStage<Integer> future = futures.get(i);
+            if (i == mapStore.failingKey) {
+                assertThatThrownBy(() -> future.toCompletableFuture().get())
+                        .isInstanceOf(ExecutionException.class)
+                        .hasRootCauseInstanceOf(IllegalStateException.class);
+            } else {
+                future.toCompletableFuture().get();
+            }
+        }
+
+        assertEquals(ENTRY_COUNT - 1, mapStore.store.size());
+        assertEquals(ENTRY_COUNT - 1, map.size());
+    }
+
+    @Test
+    public void testPendingBatch_doesNotBlockOffloadingThreads() throws Exception {
+        BatchRecordingMapStore mapStore = new BatchRecordingMapStore();
+        HazelcastInstance instance = newBatchingInstance(mapStore);
+        IMap<Integer, Integer> map = newBatchingMap(instance, mapStore);
+        int loadedKey = -2;
+        int loadedKeyPartitionId = getPartitionId(instance, loadedKey);
+        mapStore.storeLatch = new CountDownLatch(1);
+
+        List<CompletionStage<Integer>> futures = new ArrayList<>(ENTRY_COUNT);
+        for (int i = 0; futures.size() < ENTRY_COUNT; i++) {
+            if (getPartitionId(instance, i) != loadedKeyPartitionId) {
+                futures.add(map.putAsync(i, i));
+            }
+        }
+
+        // loads are offloaded to the same executor as the stores
+        // and do not wait for the map store to accept the stores
+        assertEquals(loadedKey, (int) map.getAsync(loadedKey).toCompletableFuture()
+                .get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+        for (CompletionStage<Integer> future : futures) {
+            assertFalse(future.toCompletableFuture().isDone());
+        }
+
+        mapStore.storeLatch.countDown();
+        for (CompletionStage<Integer> future : futures) {
+            future.toCompletableFuture().get();
+        }
+        assertEquals(ENTRY_COUNT, mapStore.store.size());
+    }
+
+    private IMap<Integer, Integer> newBatchingMap(BatchRecordingMapStore mapStore) {
+        return newBatchingMap(newBatchingInstance(mapStore), mapStore);
+    }
+
+    private HazelcastInstance newBatchingInstance(BatchRecordingMapStore mapStore) {
+        Config config = newConfig(mapStore, 0);
+        config.setProperty(WRITE_THROUGH_BATCH_SIZE.getName(), "16");
+        return createHazelcastInstance(config);
+    }
+
+    private static IMap<Integer, Integer> newBatchingMap(HazelcastInstance instance, BatchRecordingMapStore mapStore) {
+        IMap<Integer, Integer> map = instance.getMap("default");
+        map.put(-1, -1);
+        assertEquals(BatchingWriteThroughStore.class, getMapDataStore(instance, map, -1).getClass());
+        mapStore.store.clear();
+        map.evictAll();
+        return map;
+    }
+
+    private static MapDataStore getMapDataStore(HazelcastInstance instance, IMap<Integer, Integer> map, int key) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        return mapServiceContext.getRecordStore(getPartitionId(instance, key), map.getName()).getMapDataStore();
+    }
+
+    private static int getPartitionId(HazelcastInstance instance, int key) {
+        return getNodeEngineImpl(instance).getPartitionService().getPartitionId(key);
+    }
+
+    private static class BatchRecordingMapStore extends MapStoreAdapter<Integer, Integer> {
+
+        private final Map<Integer, Integer> store = new ConcurrentHashMap<>();
+        private final AtomicInteger maxBatchSize = new AtomicInteger();
+        private volatile int failingKey = Integer.MIN_VALUE;
+        private volatile CountDownLatch storeLatch;
+
+        @Override
+        public Integer load(Integer key) {
+            // keys below -1 are only present in the store
+            return key < -1 ? key : null;
+        }
+
+        @Override
+        public void store(Integer key, Integer value) {
+            if (key == failingKey) {
+                throw new IllegalStateException("Failing store for key " + key);
+            }
+            awaitStoreLatch();
+            sleepMillis(1);
+            store.put(key, value);
+        }
+
+        @Override
+        public void storeAll(Map<Integer, Integer> map) {
+            maxBatchSize.accumulateAndGet(map.size(), Math::max);
+            if (map.containsKey(failingKey)) {
+                throw new IllegalStateException("Failing batch with key " + failingKey);
+            }
+            awaitStoreLatch();
+            sleepMillis(1);
+            store.putAll(map);
+        }
+
+        private void awaitStoreLatch() {
+            CountDownLatch latch = storeLatch;
+            if (latch != null) {
+                assertOpenEventually(latch);
+            }
+        }
+    }
+}
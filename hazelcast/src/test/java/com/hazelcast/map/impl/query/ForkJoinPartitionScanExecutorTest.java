@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.util.IterationType;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.QueryException;
+import com.hazelcast.spi.exception.RetryableHazelcastException;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.test.starter.ReflectionUtils;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.map.impl.query.ForkJoinQuerySupport.QUERY_FORK_JOIN_PARALLELISM;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ForkJoinPartitionScanExecutorTest extends HazelcastTestSupport {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private ForkJoinPartitionScanExecutor executor(PartitionScanRunner runner) throws Exception {
+        return executor(runner, 60000);
+    }
+
+    private ForkJoinPartitionScanExecutor executor(PartitionScanRunner runner, int timeoutMillis) throws Exception {
+        IPartitionService partitionService = mock(IPartitionService.class);
+        when(partitionService.getPartitionCount()).thenReturn(271);
+        ReflectionUtils.setFieldValueReflectively(runner, "partitionService", partitionService);
+        return new ForkJoinPartitionScanExecutor(runner, pool, timeoutMillis);
+    }
+
+    @Test
+    public void execute_success() throws Exception {
+        PartitionScanRunner runner = mock(PartitionScanRunner.class);
+        ForkJoinPartitionScanExecutor executor = executor(runner);
+        Predicate<Object, Object> predicate = Predicates.equal("attribute", 1);
+        QueryResult queryResult = new QueryResult(IterationType.ENTRY, null, null, Long.MAX_VALUE, false);
+        doAnswer(invocation -> {
+            QueryResult result = invocation.getArgument(3);
+            result.addRow(new QueryResultRow(null, null));
+            return null;
+        }).when(runner).run(anyString(), eq(predicate), anyInt(), isA(QueryResult.class));
+
+        List<Integer> partitions = IntStream.range(0, 271).boxed().collect(toList());
+        executor.execute("Map", predicate, partitions, queryResult);
+
+        assertEquals(271, queryResult.getRows().size());
+        assertEquals(271, queryResult.getPartitionIds().size());
+    }
+
+    @Test
+    public void execute_fail() throws Exception {
+        PartitionScanRunner runner = mock(PartitionScanRunner.class);
+        ForkJoinPartitionScanExecutor executor = executor(runner);
+        Predicate<Object, Object> predicate = Predicates.equal("attribute", 1);
+        QueryResult queryResult = new QueryResult(IterationType.ENTRY, null, null, Long.MAX_VALUE, false);
+
+        doThrow(new QueryException()).when(runner).run(anyString(), eq(predicate), anyInt(), isA(QueryResult.class));
+
+        List<Integer> list = asList(1, 2, 3);
+        assertThatThrownBy(() -> executor.execute("Map", predicate, list, queryResult))
+                .isInstanceOf(QueryException.class);
+    }
+
+    @Test
+    public void execute_fail_retryable() throws Exception {
+        PartitionScanRunner runner = mock(PartitionScanRunner.class);
+        ForkJoinPartitionScanExecutor executor = executor(runner);
+        Predicate<Object, Object> predicate = Predicates.equal("attribute", 1);
+        QueryResult queryResult = new QueryResult(IterationType.ENTRY, null, null, Long.MAX_VALUE, false);
+
+        doThrow(new RetryableHazelcastException()).when(runner).run(anyString(), eq(predicate), anyInt(), isA(QueryResult.class));
+
+        List<Integer> list = asList(1, 2, 3);
+        assertThatThrownBy(() -> executor.execute("Map", predicate, list, queryResult))
+                .isInstanceOf(RetryableHazelcastException.class);
+    }
+
+    @Test
+    public void execute_timeout_stopsScanningRemainingPartitions() throws Exception {
+        PartitionScanRunner runner = mock(PartitionScanRunner.class);
+        ForkJoinPartitionScanExecutor executor = executor(runner, 100);
+        Predicate<Object, Object> predicate = Predicates.equal("attribute", 1);
+        QueryResult queryResult = new QueryResult(IterationType.ENTRY, null, null, Long.MAX_VALUE, false);
+        AtomicInteger scannedPartitions = new AtomicInteger();
+        doAnswer(invocation -> {
+            scannedPartitions.incrementAndGet();
+            sleepMillis(50);
+            return null;
+        }).when(runner).run(anyString(), eq(predicate), anyInt(), isA(QueryResult.class));
+
+        List<Integer> partitions = IntStream.range(0, 271).boxed().collect(toList());
+        assertThatThrownBy(() -> executor.execute("Map", predicate, partitions, queryResult))
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        // partitions which were being scanned at the time of the timeout complete, no new ones are started
+        sleepMillis(200);
+        int scannedAfterTimeout = scannedPartitions.get();
+        assertTrueAllTheTime(() -> assertEquals(scannedAfterTimeout, scannedPartitions.get()), 1);
+        assertTrue(scannedAfterTimeout < partitions.size());
+    }
+
+    @Test
+    public void queryAndAggregate_withForkJoinEngine() {
+        Config config = smallInstanceConfig().setProperty(QUERY_FORK_JOIN_PARALLELISM.getName(), "4");
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        IMap<Integer, Integer> indexedMap = instance.getMap(randomMapName());
+        indexedMap.addIndex(IndexType.SORTED, "this");
+        int entryCount = 10_000;
+        for (int i = 0; i < entryCount; i++) {
+            map.put(i, i);
+            indexedMap.put(i, i);
+        }
+        long expectedSum = (long) entryCount * (entryCount - 1) / 2;
+
+        assertEquals(entryCount / 2, map.values(Predicates.lessThan("this", entryCount / 2)).size());
+        assertEquals(Long.valueOf(expectedSum), map.aggregate(Aggregators.integerSum()));
+        assertEquals(Long.valueOf(expectedSum), indexedMap.aggregate(Aggregators.integerSum(),
+                Predicates.greaterEqual("this", 0)));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.AttributeConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.extractor.ValueCollector;
+import com.hazelcast.query.extractor.ValueExtractor;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NumericColumnAccumulatorTest extends HazelcastTestSupport {
+
+    // spans several columns per partition on a single member
+    private static final int ENTRY_COUNT = 3 * NumericColumnAccumulator.COLUMN_SIZE + 17;
+
+    private HazelcastInstance instance;
+    private IMap<Integer, Sample> map;
+
+    @Before
+    public void setUp() {
+        Config config = getConfig();
+        config.getMapConfig("counted").addAttributeConfig(
+                new AttributeConfig("counted", CountingExtractor.class.getName()));
+        instance = createHazelcastInstance(config);
+        map = instance.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Sample(i));
+        }
+    }
+
+    @Test
+    public void testIntegerColumns() {
+        long sum = (long) ENTRY_COUNT * (ENTRY_COUNT - 1) / 2;
+
+        assertEquals(Long.valueOf(sum), map.aggregate(Aggregators.integerSum("intValue")));
+        assertEquals((double) sum / ENTRY_COUNT, map.aggregate(Aggregators.integerAvg("intValue")), 0);
+        assertEquals(Integer.valueOf(0), map.aggregate(Aggregators.integerMin("intValue")));
+        assertEquals(Integer.valueOf(ENTRY_COUNT - 1), map.aggregate(Aggregators.integerMax("intValue")));
+        assertEquals(Long.valueOf(ENTRY_COUNT), map.aggregate(Aggregators.count("intValue")));
+    }
+
+    @Test
+    public void testLongColumns_withMixedIntegerAndLongValues() {
+        long sum = (long) ENTRY_COUNT * (ENTRY_COUNT - 1) / 2;
+
+        assertEquals(Long.valueOf(sum), map.aggregate(Aggregators.longSum("mixedValue")));
+        assertEquals((double) sum / ENTRY_COUNT, map.aggregate(Aggregators.longAvg("mixedValue")), 0);
+        assertEquals(0L, ((Number) map.aggregate(Aggregators.longMin("mixedValue"))).longValue());
+        assertEquals(ENTRY_COUNT - 1L, ((Number) map.aggregate(Aggregators.longMax("mixedValue"))).longValue());
+    }
+
+    @Test
+    public void testDoubleColumns() {
+        double sum = 0;
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            sum += i / 4d;
+        }
+
+        assertEquals(sum, map.aggregate(Aggregators.doubleSum("doubleValue")), 1e-6);
+        assertEquals(sum / ENTRY_COUNT, map.aggregate(Aggregators.doubleAvg("doubleValue")), 1e-6);
+        assertEquals(0d, map.aggregate(Aggregators.doubleMin("doubleValue")), 0);
+    }
+
+    @Test
+    public void testNullValues_areAccumulatedOneByOne() {
+        // every third entry has a null attribute which is counted, but is not a candidate for max
+        assertEquals(Long.valueOf(ENTRY_COUNT), map.aggregate(Aggregators.count("nullableValue")));
+        assertEquals(Long.valueOf(ENTRY_COUNT - 1), map.aggregate(Aggregators.longMax("nullableValue")));
+    }
+
+    @Test
+    public void testNonColumnarValues_areExtractedOnce() {
+        IMap<Integer, Sample> countedMap = instance.getMap("counted");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            countedMap.put(i, new Sample(i));
+        }
+        CountingExtractor.EXTRACTIONS.set(0);
+
+        assertEquals(Long.valueOf(ENTRY_COUNT), countedMap.aggregate(Aggregators.count("counted")));
+        assertEquals(ENTRY_COUNT, CountingExtractor.EXTRACTIONS.get());
+    }
+
+    public static class CountingExtractor implements ValueExtractor<Sample, Object> {
+
+        static final AtomicInteger EXTRACTIONS = new AtomicInteger();
+
+        @Override
+        public void extract(Sample target, Object argument, ValueCollector<Object> collector) {
+            EXTRACTIONS.incrementAndGet();
+            // not a Number, hence never put into a column
+            collector.addObject(String.valueOf(target.intValue));
+        }
+    }
+
+    public static class Sample implements Serializable {
+
+        public int intValue;
+        public Number mixedValue;
+        public double doubleValue;
+        public Long nullableValue;
+
+        public Sample(int i) {
+            this.intValue = i;
+            this.mixedValue = i % 2 == 0 ? (Number) i : (Number) (long) i;
+            this.doubleValue = i / 4d;
+            this.nullableValue = i % 3 == 0 ? null : (long) i;
+        }
+    }
+}
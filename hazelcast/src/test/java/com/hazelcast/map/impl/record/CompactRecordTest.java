@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.eviction.Evictor;
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadataImpl;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.map.impl.record.Record.NOT_CACHED;
+import static com.hazelcast.map.impl.record.Record.UNSET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactRecordTest {
+
+    private final SerializationService ss = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void test_isEnabledFor() {
+        assertFalse(CompactRecord.isEnabledFor(new MapConfig()));
+        assertTrue(CompactRecord.isEnabledFor(new MapConfig().setTimeToLiveSeconds(1)));
+        assertTrue(CompactRecord.isEnabledFor(new MapConfig().setMaxIdleSeconds(1)));
+    }
+
+    @Test
+    public void test_dataRecordFactory_createsCompactRecords() {
+        assertEquals(CompactRecord.class,
+                newDataRecord(false, EvictionPolicy.NONE, CacheDeserializedValues.NEVER).getClass());
+        assertEquals(CompactRecord.class,
+                newDataRecord(false, EvictionPolicy.RANDOM, CacheDeserializedValues.ALWAYS).getClass());
+        assertEquals(CompactRecordWithEvictionStats.class,
+                newDataRecord(false, EvictionPolicy.LRU, CacheDeserializedValues.NEVER).getClass());
+        assertEquals(CompactRecordWithEvictionStats.class,
+                newDataRecord(false, EvictionPolicy.LFU, CacheDeserializedValues.NEVER).getClass());
+        assertEquals(CompactRecordWithStats.class,
+                newDataRecord(true, EvictionPolicy.NONE, CacheDeserializedValues.NEVER).getClass());
+    }
+
+    @Test
+    public void test_objectRecordFactory_createsCompactRecords() {
+        MapContainer mapContainer = createMapContainer(true, EvictionPolicy.NONE, CacheDeserializedValues.NEVER);
+        Record<Object> record = new ObjectRecordFactory(mapContainer, ss).newRecord(ss.toData(1), "value");
+
+        assertEquals(CompactRecordWithStats.class, record.getClass());
+        assertEquals("value", record.getValue());
+        assertEquals(0, record.getCost());
+    }
+
+    @Test
+    public void test_statsNone_tracksVersionOnly() {
+        Record<Data> record = newDataRecord(false, EvictionPolicy.NONE, CacheDeserializedValues.NEVER);
+
+        record.onAccess(System.currentTimeMillis());
+        record.onUpdate(System.currentTimeMillis());
+        record.setHits(5);
+
+        assertEquals(1, record.getVersion());
+        assertEquals(UNSET, record.getHits());
+        assertEquals(UNSET, record.getLastAccessTime());
+        assertEquals(UNSET, record.getRawLastUpdateTime());
+        assertEquals(RecordReaderWriter.SIMPLE_DATA_RECORD_READER_WRITER, record.getMatchingRecordReaderWriter());
+    }
+
+    @Test
+    public void test_statsLru_tracksLastAccessTime() {
+        Record<Data> record = newDataRecord(false, EvictionPolicy.LRU, CacheDeserializedValues.NEVER);
+        long now = System.currentTimeMillis();
+
+        record.onAccess(now);
+
+        assertEquals(now / 1000, record.getLastAccessTime() / 1000);
+        assertEquals(UNSET, record.getHits());
+        assertEquals(RecordReaderWriter.SIMPLE_DATA_RECORD_WITH_LRU_EVICTION_READER_WRITER,
+                record.getMatchingRecordReaderWriter());
+    }
+
+    @Test
+    public void test_statsLfu_tracksHits() {
+        Record<Data> record = newDataRecord(false, EvictionPolicy.LFU, CacheDeserializedValues.NEVER);
+
+        record.onAccess(System.currentTimeMillis());
+        record.onAccess(System.currentTimeMillis());
+
+        assertEquals(2, record.getHits());
+        assertEquals(UNSET, record.getLastAccessTime());
+        assertEquals(RecordReaderWriter.SIMPLE_DATA_RECORD_WITH_LFU_EVICTION_READER_WRITER,
+                record.getMatchingRecordReaderWriter());
+    }
+
+    @Test
+    public void test_statsAll_tracksEverything() {
+        Record<Data> record = newDataRecord(true, EvictionPolicy.NONE, CacheDeserializedValues.NEVER);
+        long now = System.currentTimeMillis();
+
+        record.setCreationTime(now);
+        record.onAccess(now);
+        record.onUpdate(now);
+        record.onStore();
+
+        assertEquals(1, record.getHits());
+        assertEquals(1, record.getVersion());
+        assertEquals(now / 1000, record.getCreationTime() / 1000);
+        assertEquals(now / 1000, record.getLastAccessTime() / 1000);
+        assertEquals(now / 1000, record.getLastUpdateTime() / 1000);
+        assertTrue(record.getLastStoredTime() > 0);
+        assertEquals(RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER, record.getMatchingRecordReaderWriter());
+    }
+
+    @Test
+    public void test_cachedValue() {
+        Record<Data> cached = newDataRecord(false, EvictionPolicy.NONE, CacheDeserializedValues.ALWAYS);
+        Record<Data> notCached = newDataRecord(false, EvictionPolicy.NONE, CacheDeserializedValues.NEVER);
+
+        assertNull(cached.getCachedValueUnsafe());
+        assertTrue(cached.casCachedValue(null, "value"));
+        assertEquals("value", cached.getCachedValueUnsafe());
+        cached.setValue(ss.toData("other"));
+        assertNull(cached.getCachedValueUnsafe());
+
+        assertEquals(NOT_CACHED, notCached.getCachedValueUnsafe());
+    }
+
+    @Test
+    public void test_expiryMetadata() {
+        CompactRecord<Data> record = (CompactRecord<Data>) newDataRecord(false, EvictionPolicy.NONE,
+                CacheDeserializedValues.NEVER);
+        long now = System.currentTimeMillis();
+        assertFalse(record.hasExpiryMetadata());
+
+        record.setExpiryMetadata(new ExpiryMetadataImpl(10_000, 20_000, now + 10_000, now));
+        assertTrue(record.hasExpiryMetadata());
+
+        ExpiryMetadata view = record.getExpiryMetadata();
+        assertEquals(10_000, view.getTtl());
+        assertEquals(20_000, view.getMaxIdle());
+        assertEquals((now + 10_000) / 1000, view.getExpirationTime() / 1000);
+        assertEquals(now / 1000, view.getLastUpdateTime() / 1000);
+
+        view.setTtl(30_000);
+        assertEquals(30_000, record.getExpiryMetadata().getTtl());
+
+        record.clearExpiryMetadata();
+        assertFalse(record.hasExpiryMetadata());
+    }
+
+    @Test
+    public void test_costAndEquality() {
+        Record<Data> record = newDataRecord(false, EvictionPolicy.NONE, CacheDeserializedValues.NEVER);
+        Record<Data> same = newDataRecord(false, EvictionPolicy.NONE, CacheDeserializedValues.NEVER);
+        Record<Data> withStats = newDataRecord(true, EvictionPolicy.NONE, CacheDeserializedValues.NEVER);
+
+        assertTrue(record.getCost() > 0);
+        assertTrue(withStats.getCost() > record.getCost());
+        assertEquals(record, same);
+        assertEquals(record.hashCode(), same.hashCode());
+
+        same.setVersion(1);
+        assertNotEquals(record, same);
+    }
+
+    private Record<Data> newDataRecord(boolean perEntryStatsEnabled, EvictionPolicy evictionPolicy,
+                                       CacheDeserializedValues cacheDeserializedValues) {
+        MapContainer mapContainer = createMapContainer(perEntryStatsEnabled, evictionPolicy, cacheDeserializedValues);
+        return new DataRecordFactory(mapContainer, ss).newRecord(ss.toData(1), "value");
+    }
+
+    private static MapContainer createMapContainer(boolean perEntryStatsEnabled, EvictionPolicy evictionPolicy,
+                                                   CacheDeserializedValues cacheDeserializedValues) {
+        MapConfig mapConfig = new MapConfig()
+                .setTimeToLiveSeconds(60)
+                .setPerEntryStatsEnabled(perEntryStatsEnabled)
+                .setCacheDeserializedValues(cacheDeserializedValues);
+        mapConfig.getEvictionConfig().setEvictionPolicy(evictionPolicy);
+
+        MapContainer mapContainer = mock(MapContainer.class);
+        when(mapContainer.getMapConfig()).thenReturn(mapConfig);
+        when(mapContainer.getEvictor()).thenReturn(evictionPolicy == EvictionPolicy.NONE
+                ? Evictor.NULL_EVICTOR : mock(Evictor.class));
+        return mapContainer;
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.DataRecordFactory;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapStorageTest extends HazelcastTestSupport {
+
+    private SerializationService ss;
+    private DataRecordFactory recordFactory;
+    private OffHeapStorage storage;
+
+    @Before
+    public void setUp() {
+        assumeTrue(OffHeapStorage.isSupported());
+        ss = new DefaultSerializationServiceBuilder().build();
+        MapConfig mapConfig = new MapConfig().setPerEntryStatsEnabled(true);
+        MapContainer mapContainer = mock(MapContainer.class);
+        when(mapContainer.getMapConfig()).thenReturn(mapConfig);
+        recordFactory = new DataRecordFactory(mapContainer, ss);
+        storage = new OffHeapStorage(mock(ExpirySystem.class), ss);
+    }
+
+    @After
+    public void tearDown() {
+        if (storage != null) {
+            storage.destroy(false);
+            assertEquals(0, storage.getUsedNativeMemory());
+        }
+    }
+
+    @Test
+    public void testPutGet() {
+        Data key = ss.toData("key");
+        Record stored = put(key, "value");
+
+        assertInstanceOf(OffHeapRecord.class, stored);
+        assertEquals("value", ss.toObject(storage.get(key).getValue()));
+        assertEquals(1, storage.size());
+        assertTrue(storage.containsKey(key));
+        assertFalse(storage.containsKey(ss.toData("other")));
+        assertNull(storage.get(ss.toData("other")));
+    }
+
+    @Test
+    public void testMetadataIsCopiedOnPut() {
+        Data key = ss.toData(1);
+        Record record = recordFactory.newRecord(key, "value");
+        record.setVersion(3);
+        record.setHits(5);
+        record.setCreationTime(System.currentTimeMillis());
+
+        Record stored = storage.putAndGet(key, record);
+
+        assertEquals(3, stored.getVersion());
+        assertEquals(5, stored.getHits());
+        assertEquals(record.getRawCreationTime(), stored.getRawCreationTime());
+    }
+
+    @Test
+    public void testMutationsAreVisibleToLaterLookups() {
+        Data key = ss.toData(1);
+        Record stored = put(key, "value");
+
+        stored.onUpdate(System.currentTimeMillis());
+        stored.incrementHits();
+
+        Record lookedUp = storage.get(key);
+        assertEquals(1, lookedUp.getVersion());
+        assertEquals(1, lookedUp.getHits());
+    }
+
+    @Test
+    public void testUpdateRecordValue_growsAndShrinksValueBlock() {
+        Data key = ss.toData(1);
+        Record stored = put(key, "a");
+        String large = "x".repeat(1024);
+
+        storage.updateRecordValue(key, stored, large);
+        assertEquals(large, ss.toObject(storage.get(key).getValue()));
+
+        storage.updateRecordValue(key, stored, "b");
+        assertEquals("b", ss.toObject(storage.get(key).getValue()));
+    }
+
+    @Test
+    public void testUpdateRecordValue_beforePut_updatesGivenRecord() {
+        Data key = ss.toData(1);
+        Record record = recordFactory.newRecord(key, "a");
+
+        Record updated = storage.updateRecordValue(key, record, "b");
+
+        assertEquals(record, updated);
+        assertEquals("b", ss.toObject(record.getValue()));
+        assertEquals(0, storage.size());
+    }
+
+    @Test
+    public void testPut_existingKey_overwritesEntry() {
+        Data key = ss.toData(1);
+        put(key, "a");
+        put(key, "b");
+
+        assertEquals(1, storage.size());
+        assertEquals("b", ss.toObject(storage.get(key).getValue()));
+    }
+
+    @Test
+    public void testRemoveRecord_detachesGivenRecord() {
+        Data key = ss.toData(1);
+        Record stored = put(key, "value");
+        stored.setVersion(7);
+
+        storage.removeRecord(key, stored);
+
+        assertEquals(0, storage.size());
+        assertNull(storage.get(key));
+        assertEquals("value", ss.toObject(stored.getValue()));
+        assertEquals(7, stored.getVersion());
+    }
+
+    @Test
+    public void testRemoveRecord_duringOperation_defersFreeUntilOperationEnds() {
+        Data key = ss.toData(1);
+        put(key, "value");
+        long usedMemory = storage.getUsedNativeMemory();
+
+        storage.beforeOperation();
+        Record removed = storage.get(key);
+        Record other = storage.get(key);
+        storage.removeRecord(key, removed);
+
+        // the flyweight still points to the retired entry
+        assertEquals("value", ss.toObject(other.getValue()));
+        assertEquals(usedMemory, storage.getUsedNativeMemory());
+
+        storage.afterOperation(-1);
+        assertTrue(storage.getUsedNativeMemory() < usedMemory);
+    }
+
+    @Test
+    public void testNestedOperations_freeWhenOutermostOperationEnds() {
+        Data key = ss.toData(1);
+        put(key, "a");
+        long usedMemory = storage.getUsedNativeMemory();
+
+        storage.beforeOperation();
+        Record stored = storage.get(key);
+        storage.beforeOperation();
+        storage.updateRecordValue(key, stored, "x".repeat(1024));
+        storage.removeRecord(key, storage.get(key));
+        storage.afterOperation(-1);
+        assertTrue(storage.getUsedNativeMemory() > usedMemory);
+
+        storage.afterOperation(-1);
+        assertTrue(storage.getUsedNativeMemory() < usedMemory);
+    }
+
+    @Test
+    public void testResize() {
+        int count = OffHeapStorage.INITIAL_CAPACITY * 4;
+        for (int i = 0; i < count; i++) {
+            put(ss.toData(i), i);
+        }
+
+        assertEquals(count, storage.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, (int) ss.toObject(storage.get(ss.toData(i)).getValue()));
+        }
+    }
+
+    @Test
+    public void testClear_freesEntries() {
+        long emptyMemory = 0;
+        for (int i = 0; i < 100; i++) {
+            put(ss.toData(i), i);
+            if (i == 0) {
+                storage.clear(false);
+                emptyMemory = storage.getUsedNativeMemory();
+                put(ss.toData(i), i);
+            }
+        }
+
+        storage.clear(false);
+
+        assertEquals(0, storage.size());
+        assertEquals(emptyMemory, storage.getUsedNativeMemory());
+        assertEquals(emptyMemory, storage.getEntryCostEstimator().getEstimate());
+    }
+
+    @Test
+    public void testMutationTolerantIterator_toleratesRemovals() {
+        int count = 1000;
+        for (int i = 0; i < count; i++) {
+            put(ss.toData(i), i);
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Data, Record> entry = iterator.next();
+            seen.add(ss.toObject(entry.getKey()));
+            storage.removeRecord(entry.getKey(), entry.getValue());
+        }
+
+        assertEquals(count, seen.size());
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    public void testGetRandomSamples() {
+        for (int i = 0; i < 100; i++) {
+            put(ss.toData(i), i);
+        }
+
+        int sampleCount = 0;
+        for (EntryView sample : storage.getRandomSamples(15)) {
+            Data key = storage.extractDataKeyFromLazy(sample);
+            assertTrue(storage.containsKey(key));
+            sampleCount++;
+        }
+        assertEquals(15, sampleCount);
+    }
+
+    @Test
+    public void testFetchKeysAndEntries_seeEveryEntryOnceAcrossResize() {
+        int initialCount = 100;
+        for (int i = 0; i < initialCount; i++) {
+            put(ss.toData(i), i);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        MapKeysWithCursor keysWithCursor = storage.fetchKeys(pointers, 10);
+        keysWithCursor.getBatch().forEach(key -> assertTrue(keys.add(ss.toObject(key))));
+
+        // force a resize in the middle of the iteration
+        for (int i = initialCount; i < OffHeapStorage.INITIAL_CAPACITY * 2; i++) {
+            put(ss.toData(i), i);
+        }
+        pointers = keysWithCursor.getIterationPointers();
+        while (pointers[pointers.length - 1].getIndex() >= 0) {
+            MapEntriesWithCursor entriesWithCursor = storage.fetchEntries(pointers, 10);
+            for (Map.Entry<Data, Data> entry : entriesWithCursor.getBatch()) {
+                assertEquals((Object) ss.toObject(entry.getKey()), ss.toObject(entry.getValue()));
+                keys.add(ss.toObject(entry.getKey()));
+            }
+            pointers = entriesWithCursor.getIterationPointers();
+        }
+
+        for (int i = 0; i < initialCount; i++) {
+            assertTrue(keys.contains(i));
+        }
+    }
+
+    @Test
+    public void testMapOperations_withOffHeapStorage() {
+        Config config = smallInstanceConfig()
+                .setProperty(OffHeapStorage.OFF_HEAP_STORAGE_MAPS.getName(), "offheap*");
+        config.getMapConfig("offheap*").setReadBackupData(true);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, String> map = instance.getMap("offheap-map");
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "value-" + i);
+        }
+        map.set(1, "updated");
+        map.remove(2);
+        map.executeOnKey(3, entry -> entry.setValue("processed"));
+
+        assertEquals(999, map.size());
+        assertEquals("updated", map.get(1));
+        assertNull(map.get(2));
+        assertEquals("processed", map.get(3));
+        assertEquals(999, map.keySet().size());
+        assertEquals(110, map.values(Predicates.sql("this like 'value-1%'")).size());
+        assertEquals(1, map.entrySet(Predicates.equal("this", "processed")).size());
+        assertEquals(1, map.getEntryView(1).getVersion());
+        assertTrue(map.getLocalMapStats().getOwnedEntryMemoryCost() > 0);
+
+        map.clear();
+        assertEquals(0, map.size());
+    }
+
+    private Record put(Data key, Object value) {
+        return storage.putAndGet(key, recordFactory.newRecord(key, value));
+    }
+}
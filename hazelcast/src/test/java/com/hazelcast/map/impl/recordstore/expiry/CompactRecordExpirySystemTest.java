@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore.expiry;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.record.CompactRecord;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static com.hazelcast.test.Accessors.getSerializationService;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactRecordExpirySystemTest extends HazelcastTestSupport {
+
+    @Test
+    public void testExpiryMetadataIsKeptInRecords() {
+        String mapName = randomMapName();
+        HazelcastInstance instance = createInstance(mapName, 60);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        map.put(1, 1);
+        map.put(2, 2, 30, SECONDS);
+
+        RecordStore recordStore = getRecordStore(instance, mapName, 1);
+        Data key = toData(instance, 1);
+        assertInstanceOf(CompactRecordExpirySystem.class, recordStore.getExpirySystem());
+        assertInstanceOf(CompactRecord.class, recordStore.getRecord(key));
+        assertTrue(((CompactRecord) recordStore.getRecord(key)).hasExpiryMetadata());
+        assertEquals(SECONDS.toMillis(60), recordStore.getExpirySystem().getExpiryMetadata(key).getTtl());
+
+        EntryView<Integer, Integer> entryView = map.getEntryView(2);
+        assertEquals(SECONDS.toMillis(30), entryView.getTtl());
+    }
+
+    @Test
+    public void testRemove_clearsExpiryMetadata() {
+        String mapName = randomMapName();
+        HazelcastInstance instance = createInstance(mapName, 60);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        map.put(1, 1);
+        RecordStore recordStore = getRecordStore(instance, mapName, 1);
+        assertTrue(recordStore.isExpirable());
+
+        map.remove(1);
+        assertFalse(recordStore.isExpirable());
+        assertEquals(ExpiryMetadata.NULL, recordStore.getExpirySystem().getExpiryMetadata(toData(instance, 1)));
+    }
+
+    @Test
+    public void testEntriesExpire() {
+        String mapName = randomMapName();
+        HazelcastInstance instance = createInstance(mapName, 1);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        assertTrueEventually(() -> assertEquals(0, map.size()));
+    }
+
+    private HazelcastInstance createInstance(String mapName, int ttlSeconds) {
+        Config config = smallInstanceConfig();
+        config.getMapConfig(mapName).setTimeToLiveSeconds(ttlSeconds);
+        return createHazelcastInstance(config);
+    }
+
+    private static RecordStore getRecordStore(HazelcastInstance instance, String mapName, Object key) {
+        NodeEngineImpl nodeEngine = getNodeEngineImpl(instance);
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        int partitionId = getPartitionService(instance).getPartitionId(key);
+        return mapServiceContext.getRecordStore(partitionId, mapName);
+    }
+
+    private static Data toData(HazelcastInstance instance, Object object) {
+        return getSerializationService(instance).toData(object);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+
+import static com.hazelcast.query.impl.BTreeIndexStore.SORTED_INDEX_BTREE_ENABLED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BTreeIndexStoreTest extends HazelcastTestSupport {
+
+    private final BTreeIndexStore store = new BTreeIndexStore(IndexCopyBehavior.COPY_ON_WRITE, 4);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_rejectsTinyNodes() {
+        new BTreeIndexStore(IndexCopyBehavior.COPY_ON_WRITE, 2);
+    }
+
+    @Test
+    public void testInsert_splitsNodes() {
+        insert(0, 100, i -> i % 3);
+
+        assertTrue(store.height() > 2);
+        assertEquals(keys(0, 3, 6), keys(store.getSqlRecordIterator(0)).subList(0, 3));
+        assertEquals(34, store.getRecords(0).size());
+    }
+
+    @Test
+    public void testInsert_replacesExistingRecord() {
+        DummyEntry first = new DummyEntry(1, 5);
+        DummyEntry second = new DummyEntry(1, 5);
+
+        assertNull(store.insertInternal(5, first));
+        assertEquals(first, store.insertInternal(5, second));
+        assertEquals(1, store.getRecords(5).size());
+    }
+
+    @Test
+    public void testRemove_collapsesTree() {
+        insert(0, 100, i -> i);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, ((QueryableEntry) store.removeInternal(i, keyData(i))).getKey());
+        }
+
+        assertNull(store.removeInternal(0, keyData(0)));
+        assertEquals(1, store.height());
+        assertTrue(store.getRecords(Comparison.GREATER_OR_EQUAL, 0).isEmpty());
+    }
+
+    @Test
+    public void testRangeIteration() {
+        insert(0, 9, i -> i % 3);
+
+        assertEquals(keys(7, 4, 1, 6, 3, 0), keys(store.getSqlRecordIteratorBatch(0, true, 1, true, true)));
+        assertEquals(keys(1, 4, 7), keys(store.getSqlRecordIteratorBatch(0, false, 2, false, false)));
+        assertEquals(keys(6, 3, 0), keys(store.getSqlRecordIteratorBatch(0, true, 1, false, true)));
+        assertEquals(keys(1, 4, 7, 2, 5, 8), keys(store.getSqlRecordIteratorBatch(Comparison.GREATER, 0, false)));
+        assertEquals(keys(8, 5, 2, 7, 4, 1, 6, 3, 0), keys(store.getSqlRecordIteratorBatch(true)));
+    }
+
+    @Test
+    public void testCursorIteration() {
+        insert(0, 9, i -> i % 3);
+
+        assertEquals(keys(6, 1, 4, 7), keys(store.getSqlRecordIteratorBatch(0, true, 1, true, false, keyData(3))));
+        assertEquals(keys(1), keys(store.getSqlRecordIteratorBatch(0, false, 1, true, true, keyData(4))));
+        assertEquals(keys(4, 1), keys(store.getSqlRecordIteratorBatch(1, true, keyData(7))));
+        assertEquals(keys(3, 0), keys(store.getSqlRecordIteratorBatch(Comparison.LESS_OR_EQUAL, 0, true, keyData(6))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCursorIteration_requiresInclusiveStart() {
+        store.getSqlRecordIteratorBatch(0, false, 1, false, true, keyData(0));
+    }
+
+    @Test
+    public void testRandomOperations_matchOrderedIndexStore() {
+        OrderedIndexStore expected = new OrderedIndexStore(IndexCopyBehavior.COPY_ON_WRITE);
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(1000);
+            int value = random.nextInt(50);
+            if (random.nextInt(3) == 0) {
+                store.removeInternal(value, keyData(key));
+                expected.removeInternal(value, keyData(key));
+            } else {
+                store.insertInternal(value, new DummyEntry(key, value));
+                expected.insertInternal(value, new DummyEntry(key, value));
+            }
+        }
+
+        for (boolean descending : new boolean[]{false, true}) {
+            assertEquals(keys(expected.getSqlRecordIteratorBatch(descending)), keys(store.getSqlRecordIteratorBatch(descending)));
+            assertEquals(keys(expected.getSqlRecordIteratorBatch(10, false, 20, true, descending)),
+                    keys(store.getSqlRecordIteratorBatch(10, false, 20, true, descending)));
+            assertEquals(keys(expected.getSqlRecordIteratorBatch(Comparison.LESS, 25, descending)),
+                    keys(store.getSqlRecordIteratorBatch(Comparison.LESS, 25, descending)));
+        }
+        assertEquals(keySet(expected.getRecords(Comparison.GREATER, 30)), keySet(store.getRecords(Comparison.GREATER, 30)));
+        assertEquals(keySet(expected.getRecords(Set.of(1, 7, 49))), keySet(store.getRecords(Set.of(1, 7, 49))));
+    }
+
+    @Test
+    public void testMapQueries_useBTreeIndex() {
+        Config config = smallInstanceConfig().setProperty(SORTED_INDEX_BTREE_ENABLED.getName(), "true");
+        IMap<Integer, Integer> map = createHazelcastInstance(config).getMap(randomMapName());
+        map.addIndex(IndexType.SORTED, "this");
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i % 100);
+        }
+
+        assertEquals(100, map.keySet(Predicates.between("this", 10, 19)).size());
+        assertEquals(50, map.keySet(Predicates.lessThan("this", 5)).size());
+        assertEquals(20, map.keySet(Predicates.in("this", 3, 97)).size());
+    }
+
+    private void insert(int from, int to, IntUnaryOperator valueOf) {
+        for (int i = from; i < to; i++) {
+            store.insertInternal(valueOf.applyAsInt(i), new DummyEntry(i, valueOf.applyAsInt(i)));
+        }
+    }
+
+    private static List<Object> keys(Object... keys) {
+        return List.of(keys);
+    }
+
+    private static List<Object> keys(Iterator<?> iterator) {
+        List<Object> keys = new ArrayList<>();
+        while (iterator.hasNext()) {
+            Object next = iterator.next();
+            if (next instanceof IndexKeyEntries entries) {
+                entries.getEntries().forEachRemaining(entry -> keys.add(entry.getKey()));
+            } else {
+                keys.add(((QueryableEntry) next).getKey());
+            }
+        }
+        return keys;
+    }
+
+    private static Set<Object> keySet(Set<QueryableEntry> entries) {
+        return entries.stream().map(QueryableEntry::getKey).collect(Collectors.toSet());
+    }
+
+    private static Data keyData(int key) {
+        // the key goes to the payload, behind the 8 byte header, so that keys are distinct hash map keys
+        return new HeapData(ByteBuffer.allocate(12).putInt(8, key).array());
+    }
+
+    private static class DummyEntry extends QueryEntry {
+        private final Integer key;
+        private final Integer value;
+        private final Data keyData;
+
+        DummyEntry(int key, int value) {
+            this.key = key;
+            this.value = value;
+            this.keyData = keyData(key);
+        }
+
+        @Override
+        public Data getKeyData() {
+            return keyData;
+        }
+
+        @Override
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.query.impl.IndexValueStatistics.Collector;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.BTreeIndexStore.SORTED_INDEX_BTREE_ENABLED;
+import static com.hazelcast.query.impl.TypeConverters.INTEGER_CONVERTER;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class IndexValueStatisticsTest extends HazelcastTestSupport {
+
+    private static final double DELTA = 0.02d;
+    private static final double SKEWED_DELTA = 0.05d;
+
+    @Test
+    public void testCollector_countsEntriesAndNulls() {
+        Collector collector = new Collector(false, 4);
+        collector.add(NULL, 3);
+        collector.add(1, 2);
+        collector.add(2, 5);
+        collector.add(3, 0);
+
+        IndexValueStatistics statistics = collector.build(INTEGER_CONVERTER);
+
+        assertEquals(10, statistics.getEntryCount());
+        assertEquals(3, statistics.getNullCount());
+        assertEquals(3, statistics.getDistinctCount());
+        assertEquals(0, statistics.getBucketCount());
+        assertNull(statistics.estimateRangeSelectivity(1, true, 2, true));
+    }
+
+    @Test
+    public void testCollector_mergesBuckets() {
+        Collector collector = new Collector(true, 4);
+        for (int i = 0; i < 1000; i++) {
+            collector.add(i, 1);
+        }
+
+        IndexValueStatistics statistics = collector.build(INTEGER_CONVERTER);
+
+        assertEquals(1000, statistics.getDistinctCount());
+        assertTrue(statistics.getBucketCount() >= 4 && statistics.getBucketCount() <= 8);
+    }
+
+    @Test
+    public void testRangeSelectivity_uniformValues() {
+        Collector collector = new Collector(true, 32);
+        collector.add(NULL, 1000);
+        for (int i = 0; i < 1000; i++) {
+            collector.add(i, 1);
+        }
+
+        IndexValueStatistics statistics = collector.build(INTEGER_CONVERTER);
+
+        assertEquals(0.05d, statistics.estimateRangeSelectivity(0, true, 99, true), DELTA);
+        assertEquals(0.25d, statistics.estimateRangeSelectivity(500, true, null, false), DELTA);
+        assertEquals(0.5d, statistics.estimateRangeSelectivity(null, false, null, false), DELTA);
+        assertEquals(0d, statistics.estimateRangeSelectivity(2000, false, null, false), DELTA);
+        assertEquals(0d, statistics.estimateRangeSelectivity(null, false, -1, false), DELTA);
+        assertEquals(0.05d, statistics.estimateRangeSelectivity("0", true, "99", true), DELTA);
+        assertNull(statistics.estimateRangeSelectivity("foo", true, null, false));
+    }
+
+    @Test
+    public void testRangeSelectivity_skewedValues() {
+        Collector collector = new Collector(true, 32);
+        for (int i = 0; i < 1000; i++) {
+            collector.add(i, i < 100 ? 100 : 1);
+        }
+
+        IndexValueStatistics statistics = collector.build(INTEGER_CONVERTER);
+
+        assertEquals(10000d / 10900, statistics.estimateRangeSelectivity(null, false, 100, false), SKEWED_DELTA);
+        assertEquals(500d / 10900, statistics.estimateRangeSelectivity(500, true, null, false), SKEWED_DELTA);
+    }
+
+    @Test
+    public void testEstimateDistinctCount() {
+        Collector unique = new Collector(false, 0);
+        Collector repeated = new Collector(false, 0);
+        for (int i = 0; i < 100; i++) {
+            unique.add(i, 1);
+        }
+        for (int i = 0; i < 5; i++) {
+            repeated.add(i, 20);
+        }
+
+        assertEquals(1000d, unique.build(INTEGER_CONVERTER).estimateDistinctCount(1000), 0d);
+        assertEquals(100d, unique.build(INTEGER_CONVERTER).estimateDistinctCount(50), 0d);
+        assertEquals(5d, repeated.build(INTEGER_CONVERTER).estimateDistinctCount(1000), 0d);
+        assertEquals(1d, new Collector(false, 0).build(INTEGER_CONVERTER).estimateDistinctCount(1000), 0d);
+    }
+
+    @Test
+    public void testIndexes_provideValueStatistics() {
+        HazelcastInstance instance = createHazelcastInstance(smallInstanceConfig());
+
+        assertValueStatistics(instance, IndexType.SORTED);
+        assertValueStatistics(instance, IndexType.HASH);
+        assertNull(fill(instance, IndexType.BITMAP).getValueStatistics());
+    }
+
+    @Test
+    public void testBTreeIndex_providesValueStatistics() {
+        Config config = smallInstanceConfig().setProperty(SORTED_INDEX_BTREE_ENABLED.getName(), "true");
+
+        assertValueStatistics(createHazelcastInstance(config), IndexType.SORTED);
+    }
+
+    @Test
+    public void testValueStatistics_areRefreshedAfterModifications() {
+        HazelcastInstance instance = createHazelcastInstance(smallInstanceConfig());
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        map.addIndex(IndexType.SORTED, "this");
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        InternalIndex index = index(instance, map.getName());
+        IndexValueStatistics statistics = index.getValueStatistics();
+
+        for (int i = 0; i < 50; i++) {
+            map.put(i, -i);
+        }
+        assertSame(statistics, index.getValueStatistics());
+
+        for (int i = 1000; i < 1200; i++) {
+            map.put(i, i);
+        }
+        assertNotSame(statistics, index.getValueStatistics());
+        assertEquals(1200, index.getValueStatistics().getEntryCount());
+    }
+
+    private static void assertValueStatistics(HazelcastInstance instance, IndexType type) {
+        IndexValueStatistics statistics = fill(instance, type).getValueStatistics();
+
+        assertEquals(1000, statistics.getEntryCount());
+        assertEquals(100, statistics.getNullCount());
+        assertEquals(91, statistics.getDistinctCount());
+        if (type == IndexType.SORTED) {
+            assertTrue(statistics.getBucketCount() > 0);
+            assertEquals(0.5d, statistics.estimateRangeSelectivity(0, true, 49, true), DELTA);
+        } else {
+            assertEquals(0, statistics.getBucketCount());
+        }
+    }
+
+    private static InternalIndex fill(HazelcastInstance instance, IndexType type) {
+        IMap<Integer, Value> map = instance.getMap(randomMapName());
+        map.addIndex(type, "field");
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, new Value(i % 100 < 90 ? i % 100 : null));
+        }
+        return index(instance, map.getName());
+    }
+
+    private static InternalIndex index(HazelcastInstance instance, String mapName) {
+        MapService service = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        return service.getMapServiceContext().getMapContainer(mapName).getGlobalIndexRegistry().getIndexes()[0];
+    }
+
+    private static class Value implements Serializable {
+
+        private final Integer field;
+
+        Value(Integer field) {
+            this.field = field;
+        }
+    }
+}
@@ -24,10 +24,12 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -139,6 +141,33 @@ public class BitmapAlgorithmsTest {
         verifyOr();
     }
 
+    @Test
+    public void testAndNot() {
+        long seed = System.nanoTime();
+        System.out.println(getClass().getSimpleName() + ".testAndNot seed: " + seed);
+
+        generate(0, 75000, 1);
+        generate(100, 40000, 2);
+        verifyAndNot();
+
+        generate(200, 30000, 3);
+        verifyAndNot();
+
+        actual.add(new SparseBitSet());
+        expected.add(new TreeSet<>());
+        verifyAndNot();
+
+        generate(2000000, 30000, 3);
+        generateRandom(seed, 10000, 50000);
+        verifyAndNot();
+
+        actual.clear();
+        expected.clear();
+        generateRandom(seed, 500000, -1);
+        generateRandom(seed + 1, 100000, -1);
+        verifyAndNot();
+    }
+
     @Test
     public void testNot() {
         long seed = System.nanoTime();
@@ -227,6 +256,9 @@ public class BitmapAlgorithmsTest {
         verifyAdvanceAtLeastTo(BitmapAlgorithms.and(actualIterators()), expectedResult, Integer.MAX_VALUE);
         verifyAdvanceAtLeastTo(BitmapAlgorithms.and(actualIterators()), expectedResult, Long.MAX_VALUE / 2);
         verifyAdvanceAtLeastTo(BitmapAlgorithms.and(actualIterators()), expectedResult, Long.MAX_VALUE);
+
+        verifyAll(() -> BitmapAlgorithms.members(BitmapAlgorithms.and(actualBlockIterators(), new AscendingBlockIterator[0])),
+                expectedResult);
     }
 
     private void verifyOr() {
@@ -250,6 +282,31 @@ public class BitmapAlgorithmsTest {
         verifyAdvanceAtLeastTo(BitmapAlgorithms.or(actualIterators()), expectedResult, Integer.MAX_VALUE);
         verifyAdvanceAtLeastTo(BitmapAlgorithms.or(actualIterators()), expectedResult, Long.MAX_VALUE / 2);
         verifyAdvanceAtLeastTo(BitmapAlgorithms.or(actualIterators()), expectedResult, Long.MAX_VALUE);
+
+        verifyAll(() -> BitmapAlgorithms.members(BitmapAlgorithms.or(actualBlockIterators())), expectedResult);
+    }
+
+    private void verifyAndNot() {
+        assert actual.size() > 1;
+
+        TreeSet<Long> expectedResult = new TreeSet<>(expected.get(0));
+        for (int i = 1; i < expected.size(); ++i) {
+            expectedResult.removeAll(expected.get(i));
+        }
+
+        verifyAll(() -> {
+            AscendingBlockIterator[] blockIterators = actualBlockIterators();
+            AscendingBlockIterator[] included = {blockIterators[0]};
+            AscendingBlockIterator[] excluded = Arrays.copyOfRange(blockIterators, 1, blockIterators.length);
+            return BitmapAlgorithms.members(BitmapAlgorithms.and(included, excluded));
+        }, expectedResult);
+    }
+
+    private void verifyAll(Supplier<AscendingLongIterator> actual, TreeSet<Long> expected) {
+        verify(actual.get(), expected);
+        for (long step : new long[]{1, 2, 5, 63, 64, 4097, Short.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE / 2, Long.MAX_VALUE}) {
+            verifyAdvanceAtLeastTo(actual.get(), expected, step);
+        }
     }
 
     private void verifyNotAndThenClear() {
@@ -283,6 +340,14 @@ public class BitmapAlgorithmsTest {
         expectedUniverse.clear();
     }
 
+    private AscendingBlockIterator[] actualBlockIterators() {
+        AscendingBlockIterator[] actualIterators = new AscendingBlockIterator[actual.size()];
+        for (int i = 0; i < actual.size(); ++i) {
+            actualIterators[i] = actual.get(i).blockIterator();
+        }
+        return actualIterators;
+    }
+
     private AscendingLongIterator[] actualIterators() {
         AscendingLongIterator[] actualIterators = new AscendingLongIterator[actual.size()];
         for (int i = 0; i < actual.size(); ++i) {
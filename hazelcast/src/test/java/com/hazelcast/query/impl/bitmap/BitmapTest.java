@@ -145,11 +145,36 @@ public class BitmapTest {
         clear();
     }
 
+    @Test
+    public void testEstimateCardinality() {
+        for (long i = 0; i < COUNT; ++i) {
+            insert(i, i);
+        }
+
+        assertEquals(COUNT / 2, bitmap.estimateCardinality(equal("a", 1), INTEGER_CONVERTER));
+        assertEquals(0, bitmap.estimateCardinality(equal("a", 63), INTEGER_CONVERTER));
+        // an upper bound: entries having both values are counted twice
+        assertEquals(count(3) + count(4), bitmap.estimateCardinality(in("a", 3, 4), INTEGER_CONVERTER));
+        assertEquals(count(1) + count(2), bitmap.estimateCardinality(or(equal("a", 1), equal("a", 2)), INTEGER_CONVERTER));
+        assertEquals(COUNT / 2, bitmap.estimateCardinality(and(equal("a", 1), notEqual("a", 2)), INTEGER_CONVERTER));
+        assertEquals(Long.MAX_VALUE, bitmap.estimateCardinality(not(equal("a", 1)), INTEGER_CONVERTER));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testUnexpectedPredicate() {
         bitmap.evaluate(Predicates.like("a", "b"), INTEGER_CONVERTER);
     }
 
+    private static long count(int bit) {
+        long count = 0;
+        for (long i = 0; i < COUNT; ++i) {
+            if (bit(bit, i)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
     private void insert(long key, long value) {
         bitmap.insert(values(value), key, Long.toString(key), operationStats);
         for (ExpectedQuery expectedQuery : expectedQueries) {
@@ -31,6 +31,7 @@ import static com.hazelcast.query.impl.bitmap.SparseBitSet.ARRAY_STORAGE_16_MAX_
 import static com.hazelcast.query.impl.bitmap.SparseBitSet.ARRAY_STORAGE_32_MAX_SIZE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -458,6 +459,64 @@ public class SparseBitSetTest {
         }
     }
 
+    @Test
+    public void testCardinalityAndBlocks() {
+        verifyCardinalityAndBlocks();
+
+        // array storages
+        for (long i = 0; i < ARRAY_STORAGE_32_MAX_SIZE; i += 2) {
+            set(i);
+        }
+        verifyCardinalityAndBlocks();
+
+        // upgrade to the prefix storage with array and bit set storages
+        for (long i = 100000; i < 100000 + ARRAY_STORAGE_16_MAX_SIZE + 10; ++i) {
+            set(i);
+        }
+        verifyCardinalityAndBlocks();
+
+        // another 32-bit prefix
+        set(Long.MAX_VALUE);
+        set(Long.MAX_VALUE - AscendingBlockIterator.BLOCK_SIZE);
+        verifyCardinalityAndBlocks();
+
+        // downgrade back
+        for (long i = 100000; i < 100000 + ARRAY_STORAGE_16_MAX_SIZE + 10; i += 3) {
+            clear(i);
+        }
+        verifyCardinalityAndBlocks();
+    }
+
+    private void verifyCardinalityAndBlocks() {
+        assertEquals(expected.size(), actual.cardinality());
+
+        TreeSet<Long> expectedBlocks = new TreeSet<>();
+        for (long member : expected) {
+            expectedBlocks.add(member >>> AscendingBlockIterator.BLOCK_SHIFT);
+        }
+
+        AscendingBlockIterator iterator = actual.blockIterator();
+        long[] words = new long[AscendingBlockIterator.BLOCK_LONGS];
+        for (long expectedBlock : expectedBlocks) {
+            assertEquals(expectedBlock, iterator.getBlock());
+
+            iterator.fill(words);
+            long base = expectedBlock << AscendingBlockIterator.BLOCK_SHIFT;
+            SortedSet<Long> expectedMembers = expected.subSet(base, true, base + AscendingBlockIterator.BLOCK_SIZE - 1, true);
+            int count = 0;
+            for (int i = 0; i < words.length; ++i) {
+                for (long bits = words[i]; bits != 0; bits &= bits - 1) {
+                    assertTrue(expectedMembers.contains(base + i * Long.SIZE + Long.numberOfTrailingZeros(bits)));
+                    ++count;
+                }
+            }
+            assertEquals(expectedMembers.size(), count);
+
+            iterator.advanceAtLeastTo(expectedBlock + 1);
+        }
+        assertEquals(AscendingBlockIterator.END, iterator.getBlock());
+    }
+
     private void set(long index) {
         expected.add(index);
         actual.add(index);
@@ -17,6 +17,8 @@
 package com.hazelcast.spi.impl.operationservice.impl;
 
 import com.hazelcast.config.Config;
+import com.hazelcast.internal.server.ConnectionCredits;
+import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.util.ConcurrencyDetection;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
@@ -36,12 +38,16 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_SYNCWINDOW;
+import static com.hazelcast.spi.properties.ClusterProperty.FLOW_CONTROL_ENABLED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -193,6 +199,99 @@ public class BackpressureRegulatorTest extends HazelcastTestSupport {
         }
     }
 
+    // ========================== waitForCredit =================
+
+    @Test
+    public void waitForCredit_whenFlowControlDisabled() {
+        BackpressureRegulator regulator = newDisabledBackPressureService();
+        ServerConnection connection = newConnection(0);
+
+        assertTrue(regulator.waitForCredit(new GenericOperation(), false, false, connection));
+    }
+
+    @Test
+    public void waitForCredit_whenNoGrantReceived() {
+        BackpressureRegulator regulator = newFlowControlService();
+        ServerConnection connection = newConnection(-1);
+
+        for (int k = 0; k < 1000; k++) {
+            connection.getCredits().consume();
+            assertTrue(regulator.waitForCredit(new GenericOperation(), false, true, connection));
+        }
+    }
+
+    @Test
+    public void waitForCredit_whenCreditsLeft() {
+        BackpressureRegulator regulator = newFlowControlService();
+        ServerConnection connection = newConnection(1);
+
+        assertTrue(regulator.waitForCredit(new GenericOperation(), false, true, connection));
+        assertTrue(regulator.waitForCredit(new GenericOperation(), false, false, connection));
+    }
+
+    @Test
+    public void waitForCredit_asyncInvocation_failsFast() {
+        BackpressureRegulator regulator = newFlowControlService();
+        ServerConnection connection = newConnection(0);
+
+        long startNanos = System.nanoTime();
+        assertFalse(regulator.waitForCredit(new GenericOperation(), false, true, connection));
+        // the backoff timeout is a second
+        assertTrue(System.nanoTime() - startNanos < MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    public void waitForCredit_syncInvocation_timesOut() {
+        BackpressureRegulator regulator = newFlowControlService();
+        ServerConnection connection = newConnection(0);
+
+        assertFalse(regulator.waitForCredit(new GenericOperation(), false, false, connection));
+    }
+
+    @Test
+    public void waitForCredit_syncInvocation_resumesWhenCreditsGranted() {
+        BackpressureRegulator regulator = newFlowControlService();
+        ServerConnection connection = newConnection(0);
+
+        spawn(() -> {
+            sleepMillis(10);
+            connection.getCredits().grant(1);
+        });
+
+        assertTrue(regulator.waitForCredit(new GenericOperation(), false, false, connection));
+    }
+
+    @Test
+    public void waitForCredit_urgentOperationsAndRetries_neverWait() {
+        BackpressureRegulator regulator = newFlowControlService();
+        ServerConnection connection = newConnection(0);
+
+        assertTrue(regulator.waitForCredit(new UrgentOperation(), false, true, connection));
+        assertTrue(regulator.waitForCredit(new GenericOperation(), true, true, connection));
+    }
+
+    private BackpressureRegulator newFlowControlService() {
+        Config config = new Config();
+        config.setProperty(FLOW_CONTROL_ENABLED.getName(), "true");
+        config.setProperty(BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS.getName(), "1000");
+        HazelcastProperties hazelcastProperties = new HazelcastProperties(config);
+        return new BackpressureRegulator(hazelcastProperties, logger);
+    }
+
+    /**
+     * @param credits the granted credits, or a negative value if no credits were granted
+     */
+    private static ServerConnection newConnection(int credits) {
+        ConnectionCredits connectionCredits = new ConnectionCredits();
+        if (credits >= 0) {
+            connectionCredits.grant(credits);
+        }
+        ServerConnection connection = mock(ServerConnection.class);
+        when(connection.getCredits()).thenReturn(connectionCredits);
+        when(connection.isAlive()).thenReturn(true);
+        return connection;
+    }
+
     private void assertValidSyncDelay(int synDelay) {
         assertTrue("syncDelayCounter is " + synDelay, synDelay >= (1 - BackpressureRegulator.RANGE) * SYNC_WINDOW);
         assertTrue("syncDelayCounter is " + synDelay, synDelay <= (1 + BackpressureRegulator.RANGE) * SYNC_WINDOW);
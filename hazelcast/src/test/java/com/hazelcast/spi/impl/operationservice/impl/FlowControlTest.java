@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastOverloadException;
+import com.hazelcast.internal.server.ServerConnection;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.instance.EndpointQualifier.MEMBER;
+import static com.hazelcast.test.Accessors.getNode;
+import static com.hazelcast.spi.properties.ClusterProperty.FLOW_CONTROL_CREDIT_PERIOD_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.FLOW_CONTROL_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.FLOW_CONTROL_WINDOW;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class FlowControlTest extends HazelcastTestSupport {
+
+    private static final int WINDOW = 100;
+    private static volatile CountDownLatch releaseReceiver = new CountDownLatch(0);
+
+    @After
+    public void cleanup() {
+        releaseReceiver.countDown();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testProcessedOperations_areGrantedBack() {
+        // only the operations processed by the receiver replenish the credits, not the periodic task
+        HazelcastInstance[] instances = newCluster("60000");
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+
+        for (int i = 0; i < 50 * WINDOW; i += 10) {
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int k = i; k < i + 10; k++) {
+                futures.add(map.putAsync(k, k).toCompletableFuture());
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+
+        assertEquals(50 * WINDOW, instances[1].getMap(map.getName()).size());
+        int limitedConnections = 0;
+        for (ServerConnection connection : connections(instances[0])) {
+            limitedConnections += connection.getCredits().isLimited() ? 1 : 0;
+        }
+        assertTrue(limitedConnections > 0);
+    }
+
+    @Test
+    public void testSlowReceiver_throttlesSender() {
+        HazelcastInstance[] instances = newCluster("10");
+        IMap<String, Integer> map = instances[0].getMap(randomMapName());
+        String key = generateKeyOwnedBy(instances[1]);
+        map.put(key, 0);
+        assertTrueEventually(() -> {
+            for (ServerConnection connection : connections(instances[0])) {
+                assertTrue(connection.getCredits().isLimited());
+            }
+        });
+
+        releaseReceiver = new CountDownLatch(1);
+        // blocks the partition thread of the key, so the operations queued behind it are not processed
+        CompletableFuture<Object> blocked = map.submitToKey(key, new AwaitReleaseProcessor()).toCompletableFuture();
+        List<CompletableFuture<Integer>> accepted = new ArrayList<>();
+        int rejected = 0;
+        for (int i = 0; i < 10 * WINDOW; i++) {
+            CompletableFuture<Integer> future = map.putAsync(key, i).toCompletableFuture();
+            if (future.isCompletedExceptionally()) {
+                assertOverloaded(future);
+                rejected++;
+            } else {
+                accepted.add(future);
+            }
+        }
+
+        assertTrue("accepted: " + accepted.size(), accepted.size() <= WINDOW);
+        assertEquals(10 * WINDOW, accepted.size() + rejected);
+
+        releaseReceiver.countDown();
+        blocked.join();
+        CompletableFuture.allOf(accepted.toArray(new CompletableFuture[0])).join();
+        // the processed operations are granted back, so the sender can resume
+        assertTrueEventually(() -> assertTrue(map.putAsync(key, -1).toCompletableFuture().handle((v, t) -> t == null).join()));
+    }
+
+    private HazelcastInstance[] newCluster(String creditPeriodMillis) {
+        Config config = smallInstanceConfig()
+                .setClusterName(randomName())
+                .setProperty(FLOW_CONTROL_ENABLED.getName(), "true")
+                .setProperty(FLOW_CONTROL_WINDOW.getName(), String.valueOf(WINDOW))
+                .setProperty(FLOW_CONTROL_CREDIT_PERIOD_MILLIS.getName(), creditPeriodMillis);
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(config);
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(config);
+        assertClusterSizeEventually(2, hz1, hz2);
+        return new HazelcastInstance[]{hz1, hz2};
+    }
+
+    private static Iterable<ServerConnection> connections(HazelcastInstance instance) {
+        return getNode(instance).getServer().getConnectionManager(MEMBER).getConnections();
+    }
+
+    private static void assertOverloaded(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause().toString(), e.getCause() instanceof HazelcastOverloadException);
+        }
+    }
+
+    private static class AwaitReleaseProcessor implements EntryProcessor<String, Integer, Object> {
+        @Override
+        public Object process(Map.Entry<String, Integer> entry) {
+            assertOpenEventually(releaseReceiver);
+            return null;
+        }
+    }
+}